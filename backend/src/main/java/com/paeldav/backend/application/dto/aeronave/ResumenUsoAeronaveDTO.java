@@ -0,0 +1,92 @@
+package com.paeldav.backend.application.dto.aeronave;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO con los totales de uso de una aeronave, sin las listas de detalle.
+ * Los totales se calculan en la base de datos con una consulta agregada por tabla.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumenUsoAeronaveDTO {
+
+    /**
+     * ID de la aeronave.
+     */
+    private Long aeronaveId;
+
+    /**
+     * Total de vuelos del período.
+     */
+    private Integer totalVuelos;
+
+    /**
+     * Total de vuelos completados exitosamente.
+     */
+    private Integer vuelosCompletados;
+
+    /**
+     * Total de vuelos cancelados.
+     */
+    private Integer vuelosCancelados;
+
+    /**
+     * Horas entre la salida y la llegada reales, acumuladas.
+     */
+    private Double totalHorasVuelo;
+
+    /**
+     * Total de mantenimientos del período.
+     */
+    private Integer totalMantenimientos;
+
+    /**
+     * Total de mantenimientos preventivos.
+     */
+    private Integer mantenimientosPreventivos;
+
+    /**
+     * Total de mantenimientos correctivos.
+     */
+    private Integer mantenimientosCorrectivos;
+
+    /**
+     * Costo total de mantenimientos.
+     */
+    private Double costoTotalMantenimientos;
+
+    /**
+     * Total de repostajes del período.
+     */
+    private Integer totalRepostajes;
+
+    /**
+     * Total de litros de combustible cargados.
+     */
+    private Double totalLitrosCombustible;
+
+    /**
+     * Costo total de combustible.
+     */
+    private Double costoTotalCombustible;
+
+    /**
+     * Fecha de inicio del período consultado (null si es historial completo).
+     */
+    private LocalDateTime fechaDesde;
+
+    /**
+     * Fecha de fin del período consultado (null si es historial completo).
+     */
+    private LocalDateTime fechaHasta;
+
+    /**
+     * Fecha y hora de generación del resumen.
+     */
+    private LocalDateTime fechaGeneracion;
+}
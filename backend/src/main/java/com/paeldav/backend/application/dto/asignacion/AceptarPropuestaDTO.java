@@ -0,0 +1,22 @@
+package com.paeldav.backend.application.dto.asignacion;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO para aceptar en bloque las asignaciones de una propuesta.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AceptarPropuestaDTO {
+
+    @Valid
+    @NotEmpty(message = "Debe incluir al menos una asignación")
+    private List<AsignacionPropuestaDTO> asignaciones;
+}
@@ -0,0 +1,45 @@
+package com.paeldav.backend.application.dto.asignacion;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO con la asignación propuesta por el motor de asignación automática para un vuelo.
+ * Se usa tanto en la propuesta como al aceptarla; aeronaveId o tripulanteIds son null
+ * cuando el vuelo ya tenía ese recurso asignado.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AsignacionPropuestaDTO {
+
+    @NotNull(message = "El ID del vuelo es obligatorio")
+    private Long vueloId;
+
+    private String origen;
+    private String destino;
+    private LocalDateTime fechaSalida;
+    private LocalDateTime fechaLlegada;
+    private Long aeronaveId;
+    private List<Long> tripulanteIds;
+
+    /**
+     * Minutos que la aeronave queda sin uso antes de este vuelo (null si no tenía compromisos previos).
+     */
+    private Long minutosOciososAeronave;
+
+    /**
+     * Indica si la asignación fue aplicada (null en modo simulación).
+     */
+    private Boolean aplicada;
+
+    /**
+     * Motivo por el que no se pudo proponer o aplicar la asignación.
+     */
+    private String motivo;
+}
@@ -0,0 +1,26 @@
+package com.paeldav.backend.application.dto.asignacion;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO con el resultado del motor de asignación automática:
+ * las asignaciones propuestas (o aplicadas), los vuelos que no se pudieron asignar
+ * y el reporte de tiempos de ejecución.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PropuestaAsignacionDTO {
+
+    private boolean simulacion;
+    private LocalDateTime desde;
+    private LocalDateTime hasta;
+    private List<AsignacionPropuestaDTO> asignaciones;
+    private List<AsignacionPropuestaDTO> sinAsignar;
+    private ReporteTiemposAsignacionDTO reporte;
+}
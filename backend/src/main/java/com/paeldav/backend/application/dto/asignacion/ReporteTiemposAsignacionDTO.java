@@ -0,0 +1,26 @@
+package com.paeldav.backend.application.dto.asignacion;
+
+import lombok.*;
+
+/**
+ * DTO con las métricas de ejecución del motor de asignación automática.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReporteTiemposAsignacionDTO {
+
+    private int vuelosEvaluados;
+    private int vuelosAsignados;
+    private int aeronavesCandidatas;
+    private int tripulantesCandidatos;
+    private int paralelismo;
+    private long minutosOciososTotales;
+    private long msCarga;
+    private long msCandidatos;
+    private long msAsignacion;
+    private long msAplicacion;
+    private long msTotal;
+}
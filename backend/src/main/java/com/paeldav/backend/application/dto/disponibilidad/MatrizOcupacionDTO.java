@@ -0,0 +1,27 @@
+package com.paeldav.backend.application.dto.disponibilidad;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO con la matriz de ocupación de la flota (y opcionalmente de la tripulación)
+ * para un rango de fechas dividido en franjas de tamaño fijo.
+ * La franja i cubre [fechaInicio + i * minutosPorFranja, fechaInicio + (i + 1) * minutosPorFranja).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatrizOcupacionDTO {
+
+    private LocalDateTime fechaInicio;
+    private LocalDateTime fechaFin;
+    private int minutosPorFranja;
+    private int totalFranjas;
+    private String codificacion;
+    private List<OcupacionRecursoDTO> aeronaves;
+    private List<OcupacionRecursoDTO> tripulantes;
+}
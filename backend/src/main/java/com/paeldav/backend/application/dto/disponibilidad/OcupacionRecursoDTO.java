@@ -0,0 +1,23 @@
+package com.paeldav.backend.application.dto.disponibilidad;
+
+import lombok.*;
+
+/**
+ * DTO con la ocupación por franjas horarias de un recurso (aeronave o tripulante).
+ * La ocupación se codifica como un bitset en Base64: el bit i (orden little-endian,
+ * bit menos significativo del primer byte) indica si la franja i está ocupada.
+ * Los bytes finales en cero se omiten.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OcupacionRecursoDTO {
+
+    private Long recursoId;
+    private String etiqueta;
+    private String estado;
+    private int franjasOcupadas;
+    private String ocupacion;
+}
@@ -0,0 +1,30 @@
+package com.paeldav.backend.application.dto.disponibilidad;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO que representa una retención temporal de recursos para un vuelo aprobado pendiente de pago.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RetencionDTO {
+
+    private Long vueloId;
+    private String origen;
+    private String destino;
+    private Long aeronaveId;
+    private List<Long> tripulanteIds;
+    private LocalDateTime fechaInicio;
+    private LocalDateTime fechaFin;
+
+    /**
+     * Momento en que la retención vence y los recursos se liberan automáticamente.
+     */
+    private LocalDateTime expiraEn;
+}
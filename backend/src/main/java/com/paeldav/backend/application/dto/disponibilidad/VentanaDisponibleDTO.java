@@ -0,0 +1,25 @@
+package com.paeldav.backend.application.dto.disponibilidad;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO que representa una ventana de tiempo en la que hay al menos una aeronave
+ * y una tripulación completa (con al menos un piloto) libres.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VentanaDisponibleDTO {
+
+    private LocalDateTime inicio;
+    private LocalDateTime fin;
+    private List<Long> aeronaveIds;
+    private List<Long> tripulanteIdsPropuestos;
+    private int pilotosDisponibles;
+    private int tripulantesDisponibles;
+}
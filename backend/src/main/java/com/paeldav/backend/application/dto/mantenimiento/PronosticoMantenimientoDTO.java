@@ -0,0 +1,94 @@
+package com.paeldav.backend.application.dto.mantenimiento;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO con el pronóstico de la próxima inspección de una aeronave, proyectando sus horas de vuelo
+ * con los vuelos confirmados pendientes.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PronosticoMantenimientoDTO {
+
+    /**
+     * ID de la aeronave.
+     */
+    private Long aeronaveId;
+
+    /**
+     * Matrícula de la aeronave.
+     */
+    private String matricula;
+
+    /**
+     * Modelo de la aeronave, determina el intervalo de inspección.
+     */
+    private String modelo;
+
+    /**
+     * Horas de vuelo totales registradas.
+     */
+    private Double horasActuales;
+
+    /**
+     * Horas de vuelo de la aeronave en su última inspección completada (0 si no tiene).
+     */
+    private Double horasUltimaInspeccion;
+
+    /**
+     * Horas de vuelo permitidas entre inspecciones para el modelo.
+     */
+    private Double intervaloHoras;
+
+    /**
+     * Horas de vuelo totales en las que vence la próxima inspección.
+     */
+    private Double horasUmbral;
+
+    /**
+     * Horas que faltan para el umbral con las horas actuales (negativo si ya se superó).
+     */
+    private Double horasRestantes;
+
+    /**
+     * Horas programadas en los vuelos confirmados y en curso de la aeronave.
+     */
+    private Double horasProgramadas;
+
+    /**
+     * Horas totales al terminar los vuelos programados.
+     */
+    private Double horasProyectadas;
+
+    /**
+     * Indica si la aeronave ya superó el umbral de inspección.
+     */
+    private Boolean inspeccionVencida;
+
+    /**
+     * Momento estimado en que los vuelos programados alcanzan el umbral
+     * (null si no lo alcanzan o si ya está vencida).
+     */
+    private LocalDateTime fechaEstimadaUmbral;
+
+    /**
+     * ID del vuelo durante el cual se alcanza el umbral (null si ningún vuelo lo alcanza).
+     */
+    private Long vueloQueAlcanzaUmbralId;
+
+    /**
+     * IDs de los vuelos programados que terminan con la aeronave por encima del umbral, en orden de salida.
+     */
+    private List<Long> vuelosQueExcedenLimite;
+
+    /**
+     * Momento en que se calculó el pronóstico.
+     */
+    private LocalDateTime calculadoEn;
+}
@@ -28,4 +28,14 @@ public class PagoDTO {
     private String emailCliente;
     private String observaciones;
     private String urlPago;
+
+    /**
+     * Constructor usado por las consultas de proyección; la URL de pago no se persiste.
+     */
+    public PagoDTO(Long id, Long vueloId, Long usuarioId, String usuarioNombre, Double monto, EstadoPago estado,
+                   String referenciaMercadoPago, String numeroPreferencia, LocalDateTime fechaPago,
+                   LocalDateTime fechaCreacion, String metodoPago, String emailCliente, String observaciones) {
+        this(id, vueloId, usuarioId, usuarioNombre, monto, estado, referenciaMercadoPago, numeroPreferencia,
+                fechaPago, fechaCreacion, metodoPago, emailCliente, observaciones, null);
+    }
 }
@@ -0,0 +1,28 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import com.paeldav.backend.application.dto.incidencia.IncidenciaDTO;
+import com.paeldav.backend.application.dto.pago.PagoDTO;
+import com.paeldav.backend.application.dto.pasajerovuelo.PasajeroVueloDTO;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta con el detalle completo de un vuelo en una sola llamada.
+ * Las secciones que no respondieron a tiempo o fallaron quedan en nulo y se listan en
+ * {@code seccionesIncompletas}; el vuelo siempre está presente.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DetalleVueloDTO {
+    private VueloDTO vuelo;
+    private List<HistorialVueloDTO> historial;
+    private List<PagoDTO> pagos;
+    private Double totalPagosConfirmados;
+    private List<PasajeroVueloDTO> pasajeros;
+    private List<IncidenciaDTO> incidencias;
+    private List<String> seccionesIncompletas;
+}
@@ -0,0 +1,36 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO con los criterios opcionales de búsqueda y listado paginado de vuelos.
+ * Los campos nulos no filtran y los informados se combinan entre sí; el rango de fechas aplica
+ * sobre la salida programada (fin exclusivo) y los rangos de pasajeros y costo incluyen sus extremos.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FiltroVuelosDTO {
+    private EstadoVuelo estado;
+    private Long aeronaveId;
+    private Long usuarioId;
+    private String origen;
+    private String destino;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime desde;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime hasta;
+
+    private Integer pasajerosMinimo;
+    private Integer pasajerosMaximo;
+    private Double costoMinimo;
+    private Double costoMaximo;
+}
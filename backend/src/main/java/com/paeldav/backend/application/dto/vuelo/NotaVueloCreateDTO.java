@@ -0,0 +1,23 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * DTO para agregar una nota a un vuelo.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotaVueloCreateDTO {
+
+    /**
+     * Texto de la nota.
+     */
+    @NotBlank(message = "El texto de la nota es obligatorio")
+    @Size(max = 4000, message = "La nota no puede superar 4000 caracteres")
+    private String texto;
+}
@@ -0,0 +1,23 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import com.paeldav.backend.domain.enums.TipoNotaVuelo;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta para una nota de vuelo.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotaVueloDTO {
+    private Long id;
+    private Long vueloId;
+    private LocalDateTime fecha;
+    private TipoNotaVuelo tipo;
+    private String autor;
+    private String texto;
+}
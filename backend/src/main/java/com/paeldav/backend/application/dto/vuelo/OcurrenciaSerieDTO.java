@@ -0,0 +1,25 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import com.paeldav.backend.application.dto.disponibilidad.ConflictoAgendaDTO;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO con el resultado de una ocurrencia de una serie de vuelos.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OcurrenciaSerieDTO {
+    private LocalDateTime fechaSalida;
+    private LocalDateTime fechaLlegada;
+    /**
+     * ID del vuelo creado, nulo si la ocurrencia no se creó.
+     */
+    private Long vueloId;
+    private List<ConflictoAgendaDTO> conflictos;
+}
@@ -0,0 +1,20 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta del listado paginado de notas de un vuelo, de la más reciente a la más antigua.
+ * Para obtener la página siguiente se envía {@code siguienteCursor} como parámetro {@code cursor}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaNotasVueloDTO {
+    private List<NotaVueloDTO> notas;
+    private Long siguienteCursor;
+    private boolean hayMas;
+}
@@ -0,0 +1,20 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta del listado paginado de vuelos, ordenado por salida programada e ID.
+ * Para obtener la página siguiente se envía {@code siguienteCursor} como parámetro {@code cursor}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaVuelosDTO {
+    private List<VueloDTO> vuelos;
+    private String siguienteCursor;
+    private boolean hayMas;
+}
@@ -0,0 +1,24 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de la creación de una serie de vuelos.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultadoSerieVuelosDTO {
+    /**
+     * Identificador de la serie, nulo si no se creó ningún vuelo.
+     */
+    private String serieId;
+    private int totalOcurrencias;
+    private int creadas;
+    private int conConflicto;
+    private List<OcurrenciaSerieDTO> ocurrencias;
+}
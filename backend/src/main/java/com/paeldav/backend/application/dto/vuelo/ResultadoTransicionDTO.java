@@ -0,0 +1,24 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import lombok.*;
+
+/**
+ * DTO con el resultado de la transición de estado de un vuelo dentro de una operación masiva.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultadoTransicionDTO {
+    private Long vueloId;
+    private EstadoVuelo estadoAnterior;
+    private EstadoVuelo estadoNuevo;
+    private boolean aplicada;
+
+    /**
+     * Motivo por el que no se aplicó la transición (null si se aplicó).
+     */
+    private String error;
+}
@@ -0,0 +1,22 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de una transición masiva de estado, con el resultado de cada vuelo.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultadoTransicionMasivaDTO {
+    private int total;
+    private int aplicadas;
+    private int fallidas;
+    private int lotes;
+    private long msTotal;
+    private List<ResultadoTransicionDTO> resultados;
+}
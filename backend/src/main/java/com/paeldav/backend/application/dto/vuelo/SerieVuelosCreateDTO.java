@@ -0,0 +1,90 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DTO para crear una serie de vuelos recurrentes de una misma ruta.
+ * Se genera un vuelo por cada día de la semana indicado entre las fechas de inicio y fin,
+ * repitiendo cada {@code intervaloSemanas} semanas.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SerieVuelosCreateDTO {
+
+    @NotNull(message = "El usuario solicitante es obligatorio")
+    private Long usuarioId;
+
+    @NotBlank(message = "El origen es obligatorio")
+    private String origen;
+
+    @NotBlank(message = "El destino es obligatorio")
+    private String destino;
+
+    @Positive(message = "El número de pasajeros debe ser positivo")
+    private Integer numeroPasajeros;
+
+    private String proposito;
+
+    /**
+     * Costo estimado de cada ocurrencia (opcional). Si se omite queda pendiente, como en una
+     * solicitud individual, y se asigna al aprobar cada vuelo.
+     */
+    @PositiveOrZero(message = "El costo estimado no puede ser negativo")
+    private Double costoEstimado;
+
+    // ==================== REGLA DE RECURRENCIA ====================
+
+    @NotNull(message = "La fecha de inicio es obligatoria")
+    private LocalDate fechaInicio;
+
+    @NotNull(message = "La fecha de fin es obligatoria")
+    private LocalDate fechaFin;
+
+    @NotEmpty(message = "Debe indicar al menos un día de la semana")
+    private Set<DayOfWeek> diasSemana;
+
+    @NotNull(message = "La hora de salida es obligatoria")
+    private LocalTime horaSalida;
+
+    @NotNull(message = "La duración es obligatoria")
+    @Positive(message = "La duración debe ser positiva")
+    private Integer duracionMinutos;
+
+    /**
+     * Cada cuántas semanas se repite la serie (por defecto 1, semanal).
+     */
+    @Positive(message = "El intervalo de semanas debe ser positivo")
+    private Integer intervaloSemanas;
+
+    // ==================== RECURSOS PREFERIDOS ====================
+
+    /**
+     * Aeronave a asignar en todas las ocurrencias (opcional).
+     */
+    private Long aeronaveId;
+
+    /**
+     * Tripulación a asignar en todas las ocurrencias (opcional). Debe incluir al menos un piloto.
+     */
+    private List<Long> tripulanteIds;
+
+    /**
+     * Si es verdadero se crean las ocurrencias sin conflictos y se omiten las demás;
+     * si es falso (por defecto) un solo conflicto impide crear la serie.
+     */
+    private Boolean omitirConflictos;
+}
@@ -2,6 +2,8 @@ package com.paeldav.backend.application.dto.vuelo;
 
 import lombok.*;
 
+import java.util.List;
+
 /**
  * DTO para aprobar una solicitud de vuelo.
  */
@@ -21,4 +23,14 @@ public class SolicitudAprobacionDTO {
      * Costo estimado del vuelo (opcional, puede asignarse al aprobar).
      */
     private Double costoEstimado;
+
+    /**
+     * Aeronave a retener temporalmente mientras el cliente completa el pago (opcional).
+     */
+    private Long aeronaveId;
+
+    /**
+     * Tripulantes a retener temporalmente mientras el cliente completa el pago (opcional).
+     */
+    private List<Long> tripulanteIds;
 }
@@ -0,0 +1,33 @@
+package com.paeldav.backend.application.dto.vuelo;
+
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO para cambiar en bloque el estado de varios vuelos.
+ * Pasar de SOLICITADO a CONFIRMADO equivale a aprobar y de SOLICITADO a CANCELADO a rechazar.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransicionMasivaDTO {
+
+    @NotEmpty(message = "Debe incluir al menos un vuelo")
+    @Size(max = 5000, message = "No se pueden procesar más de 5000 vuelos por solicitud")
+    private List<Long> vueloIds;
+
+    @NotNull(message = "El nuevo estado es obligatorio")
+    private EstadoVuelo nuevoEstado;
+
+    /**
+     * Motivo registrado en el historial; obligatorio para rechazar solicitudes.
+     */
+    private String motivo;
+}
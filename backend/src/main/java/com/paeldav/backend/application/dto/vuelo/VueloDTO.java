@@ -33,4 +33,18 @@ public class VueloDTO {
     private String observaciones;
     private LocalDateTime fechaSolicitud;
     private Double costoEstimado;
+
+    /**
+     * Constructor usado por las consultas de proyección; la tripulación se carga aparte en lote.
+     * Los listados no leen la columna de observaciones, solo el detalle del vuelo.
+     */
+    public VueloDTO(Long id, Long usuarioId, String usuarioNombre, Long aeronaveId, String aeronaveMatricula,
+                    String origen, String destino, LocalDateTime fechaSalidaProgramada,
+                    LocalDateTime fechaLlegadaProgramada, LocalDateTime fechaSalidaReal,
+                    LocalDateTime fechaLlegadaReal, Integer numeroPasajeros, EstadoVuelo estado, String proposito,
+                    LocalDateTime fechaSolicitud, Double costoEstimado) {
+        this(id, usuarioId, usuarioNombre, aeronaveId, aeronaveMatricula, null, origen, destino,
+                fechaSalidaProgramada, fechaLlegadaProgramada, fechaSalidaReal, fechaLlegadaReal, numeroPasajeros,
+                estado, proposito, null, fechaSolicitud, costoEstimado);
+    }
 }
@@ -38,6 +38,7 @@ public interface VueloMapper {
     @Mapping(target = "pasajeros", ignore = true)
     @Mapping(target = "registrosHoras", ignore = true)
     @Mapping(target = "repostajes", ignore = true)
+    @Mapping(target = "serieId", ignore = true)
     Vuelo toEntity(VueloCreateDTO dto);
 
     @Mapping(target = "id", ignore = true)
@@ -49,6 +50,7 @@ public interface VueloMapper {
     @Mapping(target = "pasajeros", ignore = true)
     @Mapping(target = "registrosHoras", ignore = true)
     @Mapping(target = "repostajes", ignore = true)
+    @Mapping(target = "serieId", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDTO(VueloUpdateDTO dto, @MappingTarget Vuelo entity);
 
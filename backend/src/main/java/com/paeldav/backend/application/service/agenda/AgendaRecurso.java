@@ -0,0 +1,110 @@
+package com.paeldav.backend.application.service.agenda;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Agenda de ocupación de un recurso (aeronave o tripulante) dentro de un horizonte de búsqueda.
+ * Acumula intervalos ocupados semiabiertos [inicio, fin), los ordena y fusiona una sola vez,
+ * y responde consultas de disponibilidad mediante un cursor que avanza en un único barrido.
+ * Las consultas a {@link #estaLibre(LocalDateTime, LocalDateTime)} deben hacerse con inicios no decrecientes.
+ * No es thread-safe.
+ */
+public class AgendaRecurso {
+
+    private final Long recursoId;
+    private final List<Tramo> ocupados = new ArrayList<>();
+    private boolean preparada = false;
+    private int cursor = 0;
+
+    public AgendaRecurso(Long recursoId) {
+        this.recursoId = recursoId;
+    }
+
+    public Long getRecursoId() {
+        return recursoId;
+    }
+
+    /**
+     * Registra un intervalo ocupado [inicio, fin).
+     */
+    public void ocupar(LocalDateTime inicio, LocalDateTime fin) {
+        if (!fin.isAfter(inicio)) {
+            return;
+        }
+        ocupados.add(new Tramo(inicio, fin));
+        preparada = false;
+        cursor = 0;
+    }
+
+    /**
+     * Registra el recurso como ocupado desde el instante indicado en adelante.
+     */
+    public void ocuparDesde(LocalDateTime inicio) {
+        ocupar(inicio, LocalDateTime.MAX);
+    }
+
+    /**
+     * Obtiene los instantes en que el recurso vuelve a quedar libre, en orden ascendente.
+     * Son los únicos instantes, además del inicio del horizonte, en que puede abrirse una ventana.
+     */
+    public List<LocalDateTime> finesDeOcupacion() {
+        preparar();
+        List<LocalDateTime> fines = new ArrayList<>(ocupados.size());
+        for (Tramo tramo : ocupados) {
+            if (!LocalDateTime.MAX.equals(tramo.fin)) {
+                fines.add(tramo.fin);
+            }
+        }
+        return fines;
+    }
+
+    /**
+     * Verifica si el recurso está libre durante todo el intervalo [inicio, fin).
+     */
+    public boolean estaLibre(LocalDateTime inicio, LocalDateTime fin) {
+        preparar();
+        // Descartar los tramos que terminan antes del inicio consultado
+        while (cursor < ocupados.size() && !ocupados.get(cursor).fin.isAfter(inicio)) {
+            cursor++;
+        }
+        return cursor == ocupados.size() || !ocupados.get(cursor).inicio.isBefore(fin);
+    }
+
+    /**
+     * Ordena por inicio y fusiona los tramos solapados o contiguos.
+     */
+    private void preparar() {
+        if (preparada) {
+            return;
+        }
+        ocupados.sort(Comparator.comparing((Tramo t) -> t.inicio));
+        List<Tramo> fusionados = new ArrayList<>(ocupados.size());
+        for (Tramo tramo : ocupados) {
+            Tramo ultimo = fusionados.isEmpty() ? null : fusionados.get(fusionados.size() - 1);
+            if (ultimo != null && !tramo.inicio.isAfter(ultimo.fin)) {
+                if (tramo.fin.isAfter(ultimo.fin)) {
+                    fusionados.set(fusionados.size() - 1, new Tramo(ultimo.inicio, tramo.fin));
+                }
+            } else {
+                fusionados.add(tramo);
+            }
+        }
+        ocupados.clear();
+        ocupados.addAll(fusionados);
+        preparada = true;
+        cursor = 0;
+    }
+
+    private static final class Tramo {
+        private final LocalDateTime inicio;
+        private final LocalDateTime fin;
+
+        private Tramo(LocalDateTime inicio, LocalDateTime fin) {
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+    }
+}
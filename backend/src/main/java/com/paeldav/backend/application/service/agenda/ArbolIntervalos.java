@@ -0,0 +1,224 @@
+package com.paeldav.backend.application.service.agenda;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Árbol de intervalos aumentado (AVL) sobre minutos epoch.
+ * Cada nodo guarda el intervalo semiabierto [inicio, fin) de un vuelo y el fin máximo
+ * de su subárbol, lo que permite responder consultas de solapamiento en O(log n + k).
+ * No es thread-safe: la sincronización es responsabilidad del índice que lo contiene.
+ */
+class ArbolIntervalos {
+
+    static final long SIN_EXCLUSION = Long.MIN_VALUE;
+
+    private Nodo raiz;
+
+    /**
+     * Inicio registrado por vuelo, necesario para ubicar el nodo al eliminar.
+     */
+    private final Map<Long, Long> inicioPorVuelo = new HashMap<>();
+
+    /**
+     * Inserta (o reemplaza) el intervalo de un vuelo.
+     */
+    void insertar(long vueloId, long inicio, long fin) {
+        eliminar(vueloId);
+        raiz = insertar(raiz, new Nodo(vueloId, inicio, fin));
+        inicioPorVuelo.put(vueloId, inicio);
+    }
+
+    /**
+     * Elimina el intervalo de un vuelo.
+     *
+     * @return true si el vuelo estaba registrado
+     */
+    boolean eliminar(long vueloId) {
+        Long inicio = inicioPorVuelo.remove(vueloId);
+        if (inicio == null) {
+            return false;
+        }
+        raiz = eliminar(raiz, inicio, vueloId);
+        return true;
+    }
+
+    /**
+     * Indica si algún intervalo, distinto del vuelo excluido, se solapa con [inicio, fin).
+     */
+    boolean haySolapamiento(long inicio, long fin, long vueloExcluido) {
+        return existeSolapamiento(raiz, inicio, fin, vueloExcluido);
+    }
+
+    /**
+     * Obtiene los IDs de los vuelos cuyo intervalo se solapa con [inicio, fin).
+     */
+    List<Long> buscarSolapamientos(long inicio, long fin) {
+        List<Long> resultado = new ArrayList<>();
+        recolectarSolapamientos(raiz, inicio, fin, resultado);
+        return resultado;
+    }
+
+    int tamano() {
+        return inicioPorVuelo.size();
+    }
+
+    boolean estaVacio() {
+        return inicioPorVuelo.isEmpty();
+    }
+
+    // ==================== CONSULTAS ====================
+
+    private boolean existeSolapamiento(Nodo nodo, long inicio, long fin, long vueloExcluido) {
+        if (nodo == null || nodo.maxFin <= inicio) {
+            return false;
+        }
+        if (existeSolapamiento(nodo.izquierdo, inicio, fin, vueloExcluido)) {
+            return true;
+        }
+        // Todo el subárbol derecho empieza en o después de este nodo
+        if (nodo.inicio >= fin) {
+            return false;
+        }
+        if (nodo.fin > inicio && nodo.vueloId != vueloExcluido) {
+            return true;
+        }
+        return existeSolapamiento(nodo.derecho, inicio, fin, vueloExcluido);
+    }
+
+    private void recolectarSolapamientos(Nodo nodo, long inicio, long fin, List<Long> resultado) {
+        if (nodo == null || nodo.maxFin <= inicio) {
+            return;
+        }
+        recolectarSolapamientos(nodo.izquierdo, inicio, fin, resultado);
+        if (nodo.inicio >= fin) {
+            return;
+        }
+        if (nodo.fin > inicio) {
+            resultado.add(nodo.vueloId);
+        }
+        recolectarSolapamientos(nodo.derecho, inicio, fin, resultado);
+    }
+
+    // ==================== MANTENIMIENTO DEL AVL ====================
+
+    private Nodo insertar(Nodo nodo, Nodo nuevo) {
+        if (nodo == null) {
+            return nuevo;
+        }
+        if (comparar(nuevo.inicio, nuevo.vueloId, nodo) < 0) {
+            nodo.izquierdo = insertar(nodo.izquierdo, nuevo);
+        } else {
+            nodo.derecho = insertar(nodo.derecho, nuevo);
+        }
+        return balancear(nodo);
+    }
+
+    private Nodo eliminar(Nodo nodo, long inicio, long vueloId) {
+        if (nodo == null) {
+            return null;
+        }
+        int comparacion = comparar(inicio, vueloId, nodo);
+        if (comparacion < 0) {
+            nodo.izquierdo = eliminar(nodo.izquierdo, inicio, vueloId);
+        } else if (comparacion > 0) {
+            nodo.derecho = eliminar(nodo.derecho, inicio, vueloId);
+        } else {
+            if (nodo.izquierdo == null) {
+                return nodo.derecho;
+            }
+            if (nodo.derecho == null) {
+                return nodo.izquierdo;
+            }
+            Nodo sucesor = nodo.derecho;
+            while (sucesor.izquierdo != null) {
+                sucesor = sucesor.izquierdo;
+            }
+            nodo.copiarDe(sucesor);
+            nodo.derecho = eliminar(nodo.derecho, sucesor.inicio, sucesor.vueloId);
+        }
+        return balancear(nodo);
+    }
+
+    private static int comparar(long inicio, long vueloId, Nodo nodo) {
+        int porInicio = Long.compare(inicio, nodo.inicio);
+        return porInicio != 0 ? porInicio : Long.compare(vueloId, nodo.vueloId);
+    }
+
+    private static Nodo balancear(Nodo nodo) {
+        actualizar(nodo);
+        int factor = altura(nodo.izquierdo) - altura(nodo.derecho);
+        if (factor > 1) {
+            if (altura(nodo.izquierdo.izquierdo) < altura(nodo.izquierdo.derecho)) {
+                nodo.izquierdo = rotarIzquierda(nodo.izquierdo);
+            }
+            return rotarDerecha(nodo);
+        }
+        if (factor < -1) {
+            if (altura(nodo.derecho.derecho) < altura(nodo.derecho.izquierdo)) {
+                nodo.derecho = rotarDerecha(nodo.derecho);
+            }
+            return rotarIzquierda(nodo);
+        }
+        return nodo;
+    }
+
+    private static Nodo rotarDerecha(Nodo nodo) {
+        Nodo pivote = nodo.izquierdo;
+        nodo.izquierdo = pivote.derecho;
+        pivote.derecho = nodo;
+        actualizar(nodo);
+        actualizar(pivote);
+        return pivote;
+    }
+
+    private static Nodo rotarIzquierda(Nodo nodo) {
+        Nodo pivote = nodo.derecho;
+        nodo.derecho = pivote.izquierdo;
+        pivote.izquierdo = nodo;
+        actualizar(nodo);
+        actualizar(pivote);
+        return pivote;
+    }
+
+    private static void actualizar(Nodo nodo) {
+        nodo.altura = 1 + Math.max(altura(nodo.izquierdo), altura(nodo.derecho));
+        long maxFin = nodo.fin;
+        if (nodo.izquierdo != null) {
+            maxFin = Math.max(maxFin, nodo.izquierdo.maxFin);
+        }
+        if (nodo.derecho != null) {
+            maxFin = Math.max(maxFin, nodo.derecho.maxFin);
+        }
+        nodo.maxFin = maxFin;
+    }
+
+    private static int altura(Nodo nodo) {
+        return nodo == null ? 0 : nodo.altura;
+    }
+
+    private static final class Nodo {
+        long vueloId;
+        long inicio;
+        long fin;
+        long maxFin;
+        int altura = 1;
+        Nodo izquierdo;
+        Nodo derecho;
+
+        Nodo(long vueloId, long inicio, long fin) {
+            this.vueloId = vueloId;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.maxFin = fin;
+        }
+
+        void copiarDe(Nodo otro) {
+            this.vueloId = otro.vueloId;
+            this.inicio = otro.inicio;
+            this.fin = otro.fin;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.paeldav.backend.application.service.agenda;
+
+import com.paeldav.backend.application.service.transaccion.SincronizacionTransaccion;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice en memoria de la agenda de cada aeronave.
+ * Mantiene un árbol de intervalos por aeronave con los vuelos activos
+ * (SOLICITADO, CONFIRMADO, EN_CURSO) para responder consultas de solapamiento
+ * sin acceder a la base de datos.
+ *
+ * Cada vuelo ocupa la aeronave desde la salida hasta que termina la rotación posterior a la llegada,
+ * calculada al registrarlo según el modelo ({@link ReglasRotacion}). Junto al intervalo se guarda
+ * la ruta del vuelo para evaluar el reposicionamiento contra los vuelos vecinos.
+ *
+ * Los intervalos se guardan ampliados al minuto (salida hacia abajo, fin hacia arriba),
+ * por lo que el índice nunca omite un conflicto real pero puede reportar falsos positivos
+ * de menos de un minuto; los llamadores deben confirmarlos contra la base de datos.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndiceAgendaAeronaves {
+
+    private static final List<EstadoVuelo> ESTADOS_ACTIVOS = List.of(
+            EstadoVuelo.SOLICITADO, EstadoVuelo.CONFIRMADO, EstadoVuelo.EN_CURSO
+    );
+
+    private final VueloRepository vueloRepository;
+    private final ReglasRotacion reglasRotacion;
+
+    private final Map<Long, ArbolIntervalos> arbolesPorAeronave = new HashMap<>();
+    private final Map<Long, Long> aeronavePorVuelo = new HashMap<>();
+    private final Map<Long, TramoAgenda> tramoPorVuelo = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean cargado = false;
+
+    /**
+     * Carga el índice a partir de los vuelos activos con aeronave asignada.
+     * Si la carga falla, el índice queda deshabilitado y las consultas usan la base de datos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        try {
+            List<TramoVueloAeronave> intervalos = vueloRepository.findTramosAeronaveActivos(ESTADOS_ACTIVOS);
+
+            lock.writeLock().lock();
+            try {
+                arbolesPorAeronave.clear();
+                aeronavePorVuelo.clear();
+                tramoPorVuelo.clear();
+                for (TramoVueloAeronave intervalo : intervalos) {
+                    registrar(intervalo.getVueloId(), intervalo.getAeronaveId(), intervalo.getModelo(),
+                            new TramoAgenda(intervalo.getOrigen(), intervalo.getDestino(),
+                                    intervalo.getFechaSalida(), intervalo.getFechaLlegada()));
+                }
+                cargado = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("Índice de agenda de aeronaves cargado. Vuelos: {}, Aeronaves: {}",
+                    intervalos.size(), arbolesPorAeronave.size());
+        } catch (RuntimeException e) {
+            log.warn("No se pudo cargar el índice de agenda de aeronaves; se usará la base de datos", e);
+        }
+    }
+
+    /**
+     * Indica si el índice está cargado y puede usarse para responder consultas.
+     */
+    public boolean estaCargado() {
+        return cargado;
+    }
+
+    /**
+     * Verifica si la aeronave tiene algún vuelo activo, incluida su rotación posterior,
+     * que se solape con el rango.
+     *
+     * @param aeronaveId ID de la aeronave
+     * @param fechaInicio inicio del rango
+     * @param fechaFin fin del rango
+     * @param vueloExcluido ID de un vuelo a ignorar (el propio vuelo), puede ser null
+     * @return true si existe un posible solapamiento
+     */
+    public boolean haySolapamiento(Long aeronaveId, LocalDateTime fechaInicio, LocalDateTime fechaFin,
+                                   Long vueloExcluido) {
+        long excluido = vueloExcluido != null ? vueloExcluido : ArbolIntervalos.SIN_EXCLUSION;
+
+        lock.readLock().lock();
+        try {
+            ArbolIntervalos arbol = arbolesPorAeronave.get(aeronaveId);
+            return arbol != null && arbol.haySolapamiento(
+                    minutoInferior(fechaInicio), minutoSuperior(fechaFin), excluido);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Verifica si la aeronave puede encadenar el tramo indicado con sus vuelos activos, considerando
+     * la rotación tras cada vuelo y el reposicionamiento entre el destino de uno y el origen del siguiente.
+     * Solo se evalúan los vuelos que caen en la ventana alcanzable por el mayor reposicionamiento,
+     * por lo que la consulta cuesta O(log n + k).
+     *
+     * @param aeronaveId ID de la aeronave
+     * @param modelo modelo de la aeronave, determina la rotación del tramo consultado
+     * @param tramo horario y ruta del vuelo a programar
+     * @param vueloExcluido ID de un vuelo a ignorar (el propio vuelo), puede ser null
+     * @return true si existe un posible conflicto
+     */
+    public boolean hayConflictoOperativo(Long aeronaveId, String modelo, TramoAgenda tramo, Long vueloExcluido) {
+        LocalDateTime desde = tramo.getSalida().minus(reglasRotacion.reposicionamientoMaximo());
+        LocalDateTime hasta = reglasRotacion.liberadaEn(modelo, tramo.getLlegada())
+                .plus(reglasRotacion.reposicionamientoMaximo());
+
+        lock.readLock().lock();
+        try {
+            ArbolIntervalos arbol = arbolesPorAeronave.get(aeronaveId);
+            if (arbol == null) {
+                return false;
+            }
+            for (Long vecinoId : arbol.buscarSolapamientos(minutoInferior(desde), minutoSuperior(hasta))) {
+                if (vecinoId.equals(vueloExcluido)) {
+                    continue;
+                }
+                // Se compara con margen de un minuto, igual que los intervalos del árbol
+                TramoAgenda vecino = ampliarAlMinuto(tramoPorVuelo.get(vecinoId));
+                if (reglasRotacion.hayConflicto(modelo, ampliarAlMinuto(tramo), vecino)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sincroniza el índice con el estado actual de un vuelo.
+     * Si hay una transacción activa, el cambio se aplica solo cuando esta se confirma.
+     */
+    public void actualizarVuelo(Vuelo vuelo) {
+        if (vuelo == null || vuelo.getId() == null) {
+            return;
+        }
+
+        Long vueloId = vuelo.getId();
+        boolean activo = vuelo.getAeronave() != null
+                && ESTADOS_ACTIVOS.contains(vuelo.getEstado())
+                && vuelo.getFechaSalidaProgramada() != null
+                && vuelo.getFechaLlegadaProgramada() != null;
+        Long aeronaveId = activo ? vuelo.getAeronave().getId() : null;
+        String modelo = activo ? vuelo.getAeronave().getModelo() : null;
+        TramoAgenda tramo = activo ? TramoAgenda.de(vuelo) : null;
+
+        SincronizacionTransaccion.alConfirmar(() -> {
+            lock.writeLock().lock();
+            try {
+                quitar(vueloId);
+                if (activo) {
+                    registrar(vueloId, aeronaveId, modelo, tramo);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void registrar(Long vueloId, Long aeronaveId, String modelo, TramoAgenda tramo) {
+        // La rotación se precalcula al registrar: el árbol guarda hasta cuándo queda ocupada la aeronave
+        LocalDateTime liberada = reglasRotacion.liberadaEn(modelo, tramo.getLlegada());
+        arbolesPorAeronave.computeIfAbsent(aeronaveId, id -> new ArbolIntervalos())
+                .insertar(vueloId, minutoInferior(tramo.getSalida()), minutoSuperior(liberada));
+        aeronavePorVuelo.put(vueloId, aeronaveId);
+        tramoPorVuelo.put(vueloId, tramo);
+    }
+
+    private void quitar(Long vueloId) {
+        Long aeronaveAnterior = aeronavePorVuelo.remove(vueloId);
+        tramoPorVuelo.remove(vueloId);
+        if (aeronaveAnterior == null) {
+            return;
+        }
+        ArbolIntervalos arbol = arbolesPorAeronave.get(aeronaveAnterior);
+        if (arbol != null) {
+            arbol.eliminar(vueloId);
+            if (arbol.estaVacio()) {
+                arbolesPorAeronave.remove(aeronaveAnterior);
+            }
+        }
+    }
+
+    /**
+     * Amplía el tramo al minuto, con el mismo redondeo que los intervalos del árbol.
+     */
+    private static TramoAgenda ampliarAlMinuto(TramoAgenda tramo) {
+        return new TramoAgenda(tramo.getOrigen(), tramo.getDestino(),
+                aFecha(minutoInferior(tramo.getSalida())), aFecha(minutoSuperior(tramo.getLlegada())));
+    }
+
+    private static LocalDateTime aFecha(long minutoEpoch) {
+        return LocalDateTime.ofEpochSecond(minutoEpoch * 60, 0, ZoneOffset.UTC);
+    }
+
+
+    static long minutoInferior(LocalDateTime fecha) {
+        return Math.floorDiv(fecha.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    static long minutoSuperior(LocalDateTime fecha) {
+        long segundos = fecha.toEpochSecond(ZoneOffset.UTC);
+        long minuto = Math.floorDiv(segundos, 60);
+        return Math.floorMod(segundos, 60) == 0 && fecha.getNano() == 0 ? minuto : minuto + 1;
+    }
+}
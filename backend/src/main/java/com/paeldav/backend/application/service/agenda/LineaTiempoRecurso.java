@@ -0,0 +1,71 @@
+package com.paeldav.backend.application.service.agenda;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Línea de tiempo de ocupación de un recurso que admite consultas y reservas en cualquier orden.
+ * Los intervalos ocupados [inicio, fin) se mantienen fusionados y ordenados por inicio,
+ * por lo que cada operación cuesta O(log n).
+ * No es thread-safe.
+ */
+public class LineaTiempoRecurso {
+
+    private final TreeMap<LocalDateTime, LocalDateTime> ocupados = new TreeMap<>();
+
+    /**
+     * Verifica si el recurso está libre durante todo el intervalo [inicio, fin).
+     */
+    public boolean estaLibre(LocalDateTime inicio, LocalDateTime fin) {
+        // Basta revisar el último tramo que empieza antes del fin consultado
+        Map.Entry<LocalDateTime, LocalDateTime> anterior = ocupados.lowerEntry(fin);
+        return anterior == null || !anterior.getValue().isAfter(inicio);
+    }
+
+    /**
+     * Registra el intervalo [inicio, fin) como ocupado, fusionándolo con los tramos que toque.
+     */
+    public void ocupar(LocalDateTime inicio, LocalDateTime fin) {
+        if (!fin.isAfter(inicio)) {
+            return;
+        }
+        LocalDateTime nuevoInicio = inicio;
+        LocalDateTime nuevoFin = fin;
+
+        Map.Entry<LocalDateTime, LocalDateTime> anterior = ocupados.floorEntry(inicio);
+        if (anterior != null && !anterior.getValue().isBefore(inicio)) {
+            nuevoInicio = anterior.getKey();
+            if (anterior.getValue().isAfter(nuevoFin)) {
+                nuevoFin = anterior.getValue();
+            }
+        }
+
+        Map.Entry<LocalDateTime, LocalDateTime> siguiente = ocupados.ceilingEntry(nuevoInicio);
+        while (siguiente != null && !siguiente.getKey().isAfter(nuevoFin)) {
+            if (siguiente.getValue().isAfter(nuevoFin)) {
+                nuevoFin = siguiente.getValue();
+            }
+            ocupados.remove(siguiente.getKey());
+            siguiente = ocupados.higherEntry(siguiente.getKey());
+        }
+
+        ocupados.put(nuevoInicio, nuevoFin);
+    }
+
+    /**
+     * Calcula el tiempo ocioso entre el último compromiso del recurso y el instante indicado.
+     *
+     * @return tiempo ocioso, o null si el recurso no tiene compromisos anteriores
+     */
+    public Duration tiempoOciosoAntes(LocalDateTime instante) {
+        Map.Entry<LocalDateTime, LocalDateTime> anterior = ocupados.floorEntry(instante);
+        if (anterior == null) {
+            return null;
+        }
+        return anterior.getValue().isAfter(instante)
+                ? Duration.ZERO
+                : Duration.between(anterior.getValue(), instante);
+    }
+}
@@ -0,0 +1,179 @@
+package com.paeldav.backend.application.service.agenda;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tiempos operativos entre dos vuelos consecutivos de una misma aeronave.
+ *
+ * Tras aterrizar, la aeronave necesita un tiempo mínimo en tierra (rotación) que depende del modelo.
+ * Si el siguiente vuelo sale de una ciudad distinta al destino del anterior, además debe volar
+ * en vacío hasta allí (reposicionamiento), con un tiempo configurable por ruta.
+ *
+ * Formato de configuración:
+ * <ul>
+ *   <li>{@code agenda.rotacion.por-modelo}: {@code Modelo:minutos} separados por ';'</li>
+ *   <li>{@code agenda.reposicionamiento.por-ruta}: {@code Ciudad A/Ciudad B:minutos} separados por ';',
+ *       válido en ambos sentidos</li>
+ * </ul>
+ * Las ciudades se comparan sin distinguir mayúsculas ni tildes.
+ */
+@Component
+public class ReglasRotacion {
+
+    private final Duration rotacionDefecto;
+    private final Map<String, Duration> rotacionPorModelo;
+    private final Duration reposicionamientoDefecto;
+    private final Map<String, Duration> reposicionamientoPorRuta;
+    private final Duration reposicionamientoMaximo;
+    private final Duration rotacionMinima;
+    private final Duration rotacionMaxima;
+
+    public ReglasRotacion(
+            @Value("${agenda.rotacion.minutos:30}") long rotacionMinutos,
+            @Value("${agenda.rotacion.por-modelo:}") String rotacionPorModelo,
+            @Value("${agenda.reposicionamiento.minutos:120}") long reposicionamientoMinutos,
+            @Value("${agenda.reposicionamiento.por-ruta:}") String reposicionamientoPorRuta) {
+        if (rotacionMinutos < 0 || reposicionamientoMinutos < 0) {
+            throw new IllegalArgumentException("Los tiempos de rotación y reposicionamiento no pueden ser negativos");
+        }
+        this.rotacionDefecto = Duration.ofMinutes(rotacionMinutos);
+        this.rotacionPorModelo = parsear(rotacionPorModelo, false);
+        this.reposicionamientoDefecto = Duration.ofMinutes(reposicionamientoMinutos);
+        this.reposicionamientoPorRuta = parsear(reposicionamientoPorRuta, true);
+        this.reposicionamientoMaximo = maximo(reposicionamientoDefecto, this.reposicionamientoPorRuta);
+        this.rotacionMinima = this.rotacionPorModelo.values().stream()
+                .min(Duration::compareTo)
+                .filter(min -> min.compareTo(rotacionDefecto) < 0)
+                .orElse(rotacionDefecto);
+        this.rotacionMaxima = maximo(rotacionDefecto, this.rotacionPorModelo);
+    }
+
+    /**
+     * Tiempo mínimo en tierra tras cada vuelo para el modelo de aeronave indicado.
+     */
+    public Duration rotacion(String modelo) {
+        if (modelo == null) {
+            return rotacionDefecto;
+        }
+        return rotacionPorModelo.getOrDefault(normalizar(modelo), rotacionDefecto);
+    }
+
+    /**
+     * Tiempo de vuelo en vacío desde el destino de un vuelo hasta el origen del siguiente.
+     * Es cero si ambas ciudades coinciden.
+     */
+    public Duration reposicionamiento(String desde, String hacia) {
+        if (desde == null || hacia == null) {
+            return reposicionamientoDefecto;
+        }
+        String origen = normalizar(desde);
+        String destino = normalizar(hacia);
+        if (origen.equals(destino)) {
+            return Duration.ZERO;
+        }
+        return reposicionamientoPorRuta.getOrDefault(clave(origen, destino), reposicionamientoDefecto);
+    }
+
+    /**
+     * Mayor tiempo de reposicionamiento configurado; acota la búsqueda de vuelos vecinos.
+     */
+    public Duration reposicionamientoMaximo() {
+        return reposicionamientoMaximo;
+    }
+
+    /**
+     * Menor rotación configurada entre todos los modelos; la cumple cualquier aeronave de la flota.
+     */
+    public Duration rotacionMinima() {
+        return rotacionMinima;
+    }
+
+    /**
+     * Mayor rotación configurada entre todos los modelos; acota la búsqueda de vuelos previos a un rango.
+     */
+    public Duration rotacionMaxima() {
+        return rotacionMaxima;
+    }
+
+    /**
+     * Instante a partir del cual la aeronave vuelve a estar disponible en el destino del vuelo.
+     */
+    public LocalDateTime liberadaEn(String modelo, LocalDateTime llegada) {
+        return llegada.plus(rotacion(modelo));
+    }
+
+    /**
+     * Determina si dos vuelos de una misma aeronave son incompatibles: se solapan, o el segundo
+     * sale antes de que la aeronave complete la rotación y el reposicionamiento desde el primero.
+     */
+    public boolean hayConflicto(String modelo, TramoAgenda uno, TramoAgenda otro) {
+        TramoAgenda anterior = uno.getSalida().isAfter(otro.getSalida()) ? otro : uno;
+        TramoAgenda siguiente = anterior == uno ? otro : uno;
+        LocalDateTime disponible = liberadaEn(modelo, anterior.getLlegada())
+                .plus(reposicionamiento(anterior.getDestino(), siguiente.getOrigen()));
+        return disponible.isAfter(siguiente.getSalida());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static Map<String, Duration> parsear(String especificacion, boolean esRuta) {
+        if (especificacion == null || especificacion.isBlank()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Duration> resultado = new HashMap<>();
+        for (String entrada : especificacion.split(";")) {
+            if (entrada.isBlank()) {
+                continue;
+            }
+            int separador = entrada.lastIndexOf(':');
+            if (separador <= 0) {
+                throw new IllegalArgumentException("Entrada de tiempos operativos inválida: " + entrada);
+            }
+            String llave = entrada.substring(0, separador);
+            long minutos = Long.parseLong(entrada.substring(separador + 1).trim());
+            if (minutos < 0) {
+                throw new IllegalArgumentException("Entrada de tiempos operativos inválida: " + entrada);
+            }
+            if (esRuta) {
+                String[] ciudades = llave.split("/");
+                if (ciudades.length != 2) {
+                    throw new IllegalArgumentException("La ruta debe tener el formato Origen/Destino: " + llave);
+                }
+                llave = clave(normalizar(ciudades[0]), normalizar(ciudades[1]));
+            } else {
+                llave = normalizar(llave);
+            }
+            resultado.put(llave, Duration.ofMinutes(minutos));
+        }
+        return resultado;
+    }
+
+    private static Duration maximo(Duration defecto, Map<String, Duration> valores) {
+        return valores.values().stream()
+                .max(Duration::compareTo)
+                .filter(max -> max.compareTo(defecto) > 0)
+                .orElse(defecto);
+    }
+
+    /**
+     * Clave simétrica de una ruta: el orden de las ciudades no importa.
+     */
+    private static String clave(String ciudadA, String ciudadB) {
+        return ciudadA.compareTo(ciudadB) <= 0 ? ciudadA + "/" + ciudadB : ciudadB + "/" + ciudadA;
+    }
+
+    private static String normalizar(String texto) {
+        return Normalizer.normalize(texto.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,25 @@
+package com.paeldav.backend.application.service.agenda;
+
+import com.paeldav.backend.domain.entity.Vuelo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Horario y ruta de un vuelo, lo necesario para evaluar si una aeronave puede encadenarlo con otro.
+ */
+@Getter
+@AllArgsConstructor
+public class TramoAgenda {
+
+    private final String origen;
+    private final String destino;
+    private final LocalDateTime salida;
+    private final LocalDateTime llegada;
+
+    public static TramoAgenda de(Vuelo vuelo) {
+        return new TramoAgenda(vuelo.getOrigen(), vuelo.getDestino(),
+                vuelo.getFechaSalidaProgramada(), vuelo.getFechaLlegadaProgramada());
+    }
+}
@@ -4,6 +4,7 @@ import com.paeldav.backend.application.dto.aeronave.AeronaveCreateDTO;
 import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.application.dto.aeronave.AeronaveUpdateDTO;
 import com.paeldav.backend.application.dto.aeronave.HistorialUsoAeronaveDTO;
+import com.paeldav.backend.application.dto.aeronave.ResumenUsoAeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.ResumenDisponibilidadFlotaDTO;
 import com.paeldav.backend.domain.enums.EstadoAeronave;
 
@@ -158,6 +159,16 @@ public interface AeronaveService {
      */
     ResumenDisponibilidadFlotaDTO consultarResumenDisponibilidadFlota();
 
+    /**
+     * Consulta el resumen de disponibilidad de toda la flota.
+     * Los contadores por estado se leen de memoria; las listas de aeronaves, que requieren
+     * consultar la base de datos, pueden omitirse.
+     *
+     * @param incluirListas si se incluyen las listas de aeronaves disponibles y bloqueadas
+     * @return DTO con el resumen de disponibilidad de la flota
+     */
+    ResumenDisponibilidadFlotaDTO consultarResumenDisponibilidadFlota(boolean incluirListas);
+
     /**
      * Verifica si una transición de estado es válida.
      *
@@ -188,4 +199,16 @@ public interface AeronaveService {
      * @throws com.paeldav.backend.exception.AeronaveNoEncontradaException si no existe
      */
     HistorialUsoAeronaveDTO obtenerHistorialUso(Long aeronaveId, LocalDateTime fechaDesde, LocalDateTime fechaHasta);
+
+    /**
+     * Obtiene solo los totales de uso de una aeronave, sin las listas de vuelos, mantenimientos
+     * y repostajes. Si no se indican ambas fechas se considera el historial completo.
+     *
+     * @param aeronaveId ID de la aeronave
+     * @param fechaDesde fecha de inicio del período, puede ser null
+     * @param fechaHasta fecha de fin del período, puede ser null
+     * @return DTO con los totales de uso
+     * @throws com.paeldav.backend.exception.AeronaveNoEncontradaException si no existe
+     */
+    ResumenUsoAeronaveDTO obtenerResumenUso(Long aeronaveId, LocalDateTime fechaDesde, LocalDateTime fechaHasta);
 }
@@ -0,0 +1,40 @@
+package com.paeldav.backend.application.service.base;
+
+import com.paeldav.backend.application.dto.asignacion.AceptarPropuestaDTO;
+import com.paeldav.backend.application.dto.asignacion.PropuestaAsignacionDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Servicio de asignación automática de aeronaves y tripulación a los vuelos pendientes.
+ * Propone asignaciones que respetan capacidad, estado de la aeronave, vigencia de licencias,
+ * presencia de piloto y solapamientos de agenda, minimizando el tiempo ocioso de la flota.
+ */
+public interface AsignacionAutomaticaService {
+
+    /**
+     * Genera una propuesta de asignación para los vuelos SOLICITADO y CONFIRMADO sin aeronave
+     * o sin tripulación cuya salida esté en el rango indicado.
+     *
+     * @param desde inicio del rango de salidas
+     * @param hasta fin del rango de salidas
+     * @param tripulantesPorVuelo tripulantes a asignar por vuelo, incluido el piloto (null para el valor por defecto)
+     * @param simulacion si es true solo se calcula la propuesta; si es false se aplica de inmediato
+     * @return propuesta con las asignaciones, los vuelos sin asignar y el reporte de tiempos
+     */
+    PropuestaAsignacionDTO generarPropuesta(
+            LocalDateTime desde,
+            LocalDateTime hasta,
+            Integer tripulantesPorVuelo,
+            boolean simulacion);
+
+    /**
+     * Aplica en bloque las asignaciones aceptadas por el operador.
+     * Cada asignación se valida y confirma de forma independiente, por lo que un conflicto
+     * en un vuelo no impide aplicar el resto.
+     *
+     * @param dto asignaciones aceptadas
+     * @return resultado de la aplicación de cada asignación
+     */
+    PropuestaAsignacionDTO aceptarPropuesta(AceptarPropuestaDTO dto);
+}
@@ -0,0 +1,18 @@
+package com.paeldav.backend.application.service.base;
+
+import com.paeldav.backend.application.dto.vuelo.DetalleVueloDTO;
+
+/**
+ * Servicio que compone el detalle de un vuelo a partir de sus secciones.
+ */
+public interface DetalleVueloService {
+
+    /**
+     * Obtiene el vuelo con su historial, pagos, total confirmado, pasajeros e incidencias.
+     *
+     * @param vueloId ID del vuelo
+     * @return detalle del vuelo; las secciones que exceden el tiempo máximo quedan incompletas
+     * @throws com.paeldav.backend.exception.VueloNoEncontradoException si el vuelo no existe
+     */
+    DetalleVueloDTO obtenerDetalle(Long vueloId);
+}
@@ -3,7 +3,10 @@ package com.paeldav.backend.application.service.base;
 import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.DisponibilidadAeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.DisponibilidadTripulanteDTO;
+import com.paeldav.backend.application.dto.disponibilidad.MatrizOcupacionDTO;
 import com.paeldav.backend.application.dto.disponibilidad.ResultadoValidacionDTO;
+import com.paeldav.backend.application.dto.disponibilidad.RetencionDTO;
+import com.paeldav.backend.application.dto.disponibilidad.VentanaDisponibleDTO;
 import com.paeldav.backend.application.dto.tripulante.TripulanteDTO;
 
 import java.time.LocalDateTime;
@@ -98,4 +101,51 @@ public interface DisponibilidadOperativaService {
             List<Long> tripulantesIds,
             LocalDateTime fechaInicio,
             LocalDateTime fechaFin);
+
+    /**
+     * Construye la matriz de ocupación por franjas de toda la flota
+     * (y opcionalmente de toda la tripulación) para un rango de fechas.
+     *
+     * @param fechaInicio inicio del rango
+     * @param fechaFin fin del rango (máximo 31 días después del inicio)
+     * @param minutosPorFranja tamaño de la franja en minutos (15, 30 o 60)
+     * @param incluirTripulacion si es true, incluye la ocupación de cada tripulante
+     * @return matriz con un bitset codificado por recurso
+     * @throws IllegalArgumentException si el rango o el tamaño de franja no son válidos
+     */
+    MatrizOcupacionDTO consultarMatrizOcupacion(
+            LocalDateTime fechaInicio,
+            LocalDateTime fechaFin,
+            int minutosPorFranja,
+            boolean incluirTripulacion);
+
+    /**
+     * Busca las primeras ventanas de tiempo en las que hay una aeronave con la capacidad requerida
+     * y una tripulación completa (con al menos un piloto) libres durante toda la duración indicada.
+     * Las ventanas retornadas no se solapan entre sí.
+     *
+     * @param desde inicio del horizonte de búsqueda
+     * @param hasta fin del horizonte de búsqueda (máximo 31 días después del inicio)
+     * @param duracionMinutos duración requerida de la ventana en minutos
+     * @param capacidadMinima capacidad mínima de pasajeros (null para ignorar)
+     * @param tamanoTripulacion número de tripulantes requeridos, incluido el piloto (null para 1)
+     * @param maxResultados número máximo de ventanas a retornar
+     * @return ventanas ordenadas por inicio
+     * @throws IllegalArgumentException si los parámetros no son válidos
+     */
+    List<VentanaDisponibleDTO> buscarVentanasDisponibles(
+            LocalDateTime desde,
+            LocalDateTime hasta,
+            int duracionMinutos,
+            Integer capacidadMinima,
+            Integer tamanoTripulacion,
+            int maxResultados);
+
+    /**
+     * Obtiene las retenciones temporales de recursos vigentes, es decir, los vuelos aprobados
+     * cuyo pago aún no se ha completado y que bloquean aeronave y/o tripulación.
+     *
+     * @return retenciones vigentes
+     */
+    List<RetencionDTO> obtenerRetencionesVigentes();
 }
@@ -1,4 +1,30 @@
 package com.paeldav.backend.application.service.base;
 
+import com.paeldav.backend.application.dto.mantenimiento.PronosticoMantenimientoDTO;
+
+import java.util.List;
+
+/**
+ * Interfaz para la gestión del mantenimiento de la flota.
+ * Define el pronóstico de inspecciones a partir de las horas de vuelo y los vuelos programados.
+ */
 public interface MantenimientoService {
+
+    /**
+     * Obtiene el pronóstico de la próxima inspección de todas las aeronaves,
+     * de la más urgente (inspección vencida o umbral más próximo) a la menos urgente.
+     *
+     * @return lista de pronósticos de la flota
+     */
+    List<PronosticoMantenimientoDTO> obtenerPronosticoFlota();
+
+    /**
+     * Obtiene el pronóstico de la próxima inspección de una aeronave, incluyendo la fecha estimada
+     * en que se alcanza el umbral y los vuelos programados que lo exceden.
+     *
+     * @param aeronaveId ID de la aeronave
+     * @return pronóstico de la aeronave
+     * @throws com.paeldav.backend.exception.AeronaveNoEncontradaException si no existe
+     */
+    PronosticoMantenimientoDTO obtenerPronosticoAeronave(Long aeronaveId);
 }
@@ -4,7 +4,9 @@ import com.paeldav.backend.application.dto.pago.PagoCreateDTO;
 import com.paeldav.backend.application.dto.pago.PagoDTO;
 import com.paeldav.backend.domain.enums.EstadoPago;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interfaz de servicio para gestionar pagos de vuelos.
@@ -88,6 +90,14 @@ public interface PagoService {
      */
     Double obtenerTotalPagosConfirmados(Long vueloId);
 
+    /**
+     * Obtiene el total de pagos confirmados de varios vuelos con una sola consulta.
+     *
+     * @param vueloIds IDs de los vuelos
+     * @return total en moneda por vuelo; los vuelos sin pagos confirmados tienen total 0
+     */
+    Map<Long, Double> obtenerTotalesPagosConfirmados(Collection<Long> vueloIds);
+
     /**
      * Verifica si un vuelo tiene todos sus pagos confirmados.
      *
@@ -0,0 +1,22 @@
+package com.paeldav.backend.application.service.base;
+
+import com.paeldav.backend.application.dto.vuelo.ResultadoSerieVuelosDTO;
+import com.paeldav.backend.application.dto.vuelo.SerieVuelosCreateDTO;
+
+/**
+ * Servicio para la creación de series de vuelos recurrentes.
+ */
+public interface SerieVuelosService {
+
+    /**
+     * Genera todas las ocurrencias de la regla de recurrencia, las valida contra la agenda de los
+     * recursos preferidos y crea los vuelos en estado SOLICITADO.
+     *
+     * @param dto regla de recurrencia, datos del vuelo y recursos preferidos
+     * @return resultado por ocurrencia con el vuelo creado o los conflictos detectados
+     * @throws com.paeldav.backend.exception.UsuarioNoEncontradoException si no existe el usuario
+     * @throws com.paeldav.backend.exception.AeronaveNoEncontradaException si no existe la aeronave
+     * @throws com.paeldav.backend.exception.AsignacionInvalidaException si los recursos no pueden asignarse
+     */
+    ResultadoSerieVuelosDTO crearSerie(SerieVuelosCreateDTO dto);
+}
@@ -1,4 +1,17 @@
 package com.paeldav.backend.application.service.base;
 
+/**
+ * Interfaz para la gestión de tripulantes.
+ */
 public interface TripulanteService {
+
+    /**
+     * Incrementa las horas de vuelo de un tripulante, tanto el total como las del mes en curso.
+     * Se utiliza después de completar un vuelo.
+     *
+     * @param tripulanteId ID del tripulante
+     * @param horasVuelo horas de vuelo a agregar
+     * @throws com.paeldav.backend.exception.TripulanteNoEncontradoException si no existe
+     */
+    void incrementarHorasVuelo(Long tripulanteId, Double horasVuelo);
 }
@@ -31,11 +31,18 @@ public interface VueloService {
     VueloDTO obtenerVueloPorId(Long id);
 
     /**
-     * Obtiene todos los vuelos del sistema.
+     * Obtiene una página de vuelos que cumplen los filtros, ordenados por salida programada e ID.
+     * La paginación es por clave: el cursor identifica el último vuelo de la página anterior,
+     * de modo que el costo de cada página es constante sin importar el volumen histórico.
      *
-     * @return lista de DTOs de vuelos
+     * @param filtro criterios opcionales y combinables (estado, aeronave, usuario, origen, destino,
+     *               rango de salida, pasajeros y costo); puede ser null
+     * @param cursor cursor de la página anterior, o null para la primera página
+     * @param limite tamaño de la página (por defecto 50, máximo 200)
+     * @return página de vuelos con el cursor de la siguiente
+     * @throws IllegalArgumentException si el cursor, el límite o alguno de los rangos no son válidos
      */
-    List<VueloDTO> obtenerTodosVuelos();
+    PaginaVuelosDTO obtenerTodosVuelos(FiltroVuelosDTO filtro, String cursor, Integer limite);
 
     /**
      * Actualiza los datos de un vuelo existente.
@@ -58,6 +65,16 @@ public interface VueloService {
      */
     void cancelarVuelo(Long id);
 
+    /**
+     * Libera anticipadamente la retención temporal de recursos de un vuelo aprobado,
+     * por ejemplo cuando el cliente desiste antes de pagar.
+     *
+     * @param id ID del vuelo
+     * @return true si el vuelo tenía una retención vigente
+     * @throws com.paeldav.backend.exception.VueloNoEncontradoException si no existe el vuelo
+     */
+    boolean liberarRetencion(Long id);
+
     /**
      * Cambia el estado de un vuelo.
      * Valida transiciones de estado permitidas.
@@ -71,12 +88,14 @@ public interface VueloService {
     VueloDTO cambiarEstadoVuelo(Long id, EstadoVuelo nuevoEstado);
 
     /**
-     * Obtiene todos los vuelos en un estado específico.
+     * Obtiene una página de vuelos en un estado específico.
      *
      * @param estado estado de vuelo a filtrar
-     * @return lista de DTOs de vuelos en el estado especificado
+     * @param cursor cursor de la página anterior, o null para la primera página
+     * @param limite tamaño de la página (por defecto 50, máximo 200)
+     * @return página de vuelos en el estado especificado
      */
-    List<VueloDTO> obtenerVuelosPorEstado(EstadoVuelo estado);
+    PaginaVuelosDTO obtenerVuelosPorEstado(EstadoVuelo estado, String cursor, Integer limite);
 
     // ==================== APROBACIÓN Y RECHAZO ====================
 
@@ -104,6 +123,16 @@ public interface VueloService {
      */
     VueloDTO rechazarSolicitud(Long vueloId, SolicitudRechazoDTO dto);
 
+    /**
+     * Cambia en bloque el estado de varios vuelos (aprobaciones, rechazos y demás transiciones).
+     * Los vuelos se procesan en lotes, cada uno en su propia transacción; una transición inválida
+     * o un error en un vuelo no impide aplicar el resto. Cada cambio queda registrado en el historial.
+     *
+     * @param dto IDs de los vuelos, estado destino y motivo
+     * @return resultado de la transición de cada vuelo
+     */
+    ResultadoTransicionMasivaDTO aplicarTransicionMasiva(TransicionMasivaDTO dto);
+
     // ==================== ASIGNACIÓN DE RECURSOS ====================
 
     /**
@@ -144,10 +173,35 @@ public interface VueloService {
     List<HistorialVueloDTO> obtenerHistorialVuelo(Long vueloId);
 
     /**
-     * Obtiene todos los vuelos de un usuario específico.
+     * Obtiene una página de vuelos de un usuario específico.
      *
      * @param usuarioId ID del usuario
-     * @return lista de DTOs de vuelos del usuario
+     * @param cursor cursor de la página anterior, o null para la primera página
+     * @param limite tamaño de la página (por defecto 50, máximo 200)
+     * @return página de vuelos del usuario
+     */
+    PaginaVuelosDTO obtenerVuelosPorUsuario(Long usuarioId, String cursor, Integer limite);
+
+    // ==================== NOTAS ====================
+
+    /**
+     * Agrega una nota a un vuelo. Las notas no se modifican ni se eliminan.
+     *
+     * @param vueloId ID del vuelo
+     * @param dto texto de la nota
+     * @return la nota registrada
+     * @throws com.paeldav.backend.exception.VueloNoEncontradoException si no existe el vuelo
+     */
+    NotaVueloDTO agregarNota(Long vueloId, NotaVueloCreateDTO dto);
+
+    /**
+     * Obtiene una página de notas de un vuelo, de la más reciente a la más antigua.
+     *
+     * @param vueloId ID del vuelo
+     * @param cursor cursor de la página anterior, o null para la primera página
+     * @param limite tamaño de la página (por defecto 50, máximo 200)
+     * @return página de notas del vuelo
+     * @throws com.paeldav.backend.exception.VueloNoEncontradoException si no existe el vuelo
      */
-    List<VueloDTO> obtenerVuelosPorUsuario(Long usuarioId);
+    PaginaNotasVueloDTO obtenerNotas(Long vueloId, Long cursor, Integer limite);
 }
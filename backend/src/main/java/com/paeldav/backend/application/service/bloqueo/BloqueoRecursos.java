@@ -0,0 +1,26 @@
+package com.paeldav.backend.application.service.bloqueo;
+
+import java.util.Collection;
+
+/**
+ * Bloqueos por recurso (aeronave o tripulante) para serializar asignaciones concurrentes.
+ *
+ * Los bloqueos se toman dentro de la transacción actual y se liberan al terminar esta,
+ * de modo que la validación de conflictos y la escritura quedan protegidas hasta el commit.
+ * Todos los recursos de una transacción deben pedirse en una sola llamada: la implementación
+ * los adquiere en un orden global fijo, lo que evita interbloqueos entre asignaciones que
+ * comparten recursos. Asignaciones sobre recursos distintos no se bloquean entre sí.
+ */
+public interface BloqueoRecursos {
+
+    /**
+     * Bloquea las aeronaves y tripulantes indicados hasta el fin de la transacción actual.
+     *
+     * @param aeronaveIds IDs de aeronaves a bloquear, puede ser vacío
+     * @param tripulanteIds IDs de tripulantes a bloquear, puede ser vacío
+     * @throws com.paeldav.backend.exception.ConflictoDisponibilidadException si algún recurso
+     *         no se libera dentro del tiempo de espera configurado
+     * @throws IllegalStateException si no hay una transacción activa
+     */
+    void bloquear(Collection<Long> aeronaveIds, Collection<Long> tripulanteIds);
+}
@@ -0,0 +1,111 @@
+package com.paeldav.backend.application.service.bloqueo;
+
+import com.paeldav.backend.exception.ConflictoDisponibilidadException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bloqueo de recursos en memoria mediante lock striping, válido para un único nodo.
+ *
+ * Cada recurso se asigna por hash a una de N franjas (ReentrantLock). Dos recursos pueden compartir
+ * franja, lo que solo produce una espera innecesaria, nunca un error. Las franjas se adquieren en orden
+ * ascendente de índice y se liberan al completar la transacción, después de los callbacks afterCommit,
+ * de modo que la siguiente asignación del mismo recurso ya ve el estado confirmado.
+ */
+@Component
+@ConditionalOnProperty(name = "asignacion.bloqueo.modo", havingValue = "local", matchIfMissing = true)
+public class BloqueoRecursosLocal implements BloqueoRecursos {
+
+    private static final long SEMILLA_AERONAVE = 0x9E3779B97F4A7C15L;
+    private static final long SEMILLA_TRIPULANTE = 0xC2B2AE3D27D4EB4FL;
+
+    private final ReentrantLock[] franjas;
+    private final int mascara;
+    private final long esperaMs;
+
+    public BloqueoRecursosLocal(@Value("${asignacion.bloqueo.franjas:1024}") int franjasSolicitadas,
+                                @Value("${asignacion.bloqueo.espera-ms:5000}") long esperaMs) {
+        if (franjasSolicitadas < 1) {
+            throw new IllegalArgumentException("El número de franjas de bloqueo debe ser positivo");
+        }
+        // Potencia de dos para calcular la franja con una máscara
+        int cantidad = Integer.highestOneBit(franjasSolicitadas);
+        if (cantidad < franjasSolicitadas) {
+            cantidad <<= 1;
+        }
+        this.franjas = new ReentrantLock[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            franjas[i] = new ReentrantLock();
+        }
+        this.mascara = cantidad - 1;
+        this.esperaMs = esperaMs;
+    }
+
+    @Override
+    public void bloquear(Collection<Long> aeronaveIds, Collection<Long> tripulanteIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("El bloqueo de recursos requiere una transacción activa");
+        }
+
+        TreeSet<Integer> indices = new TreeSet<>();
+        aeronaveIds.forEach(id -> indices.add(franja(id, SEMILLA_AERONAVE)));
+        tripulanteIds.forEach(id -> indices.add(franja(id, SEMILLA_TRIPULANTE)));
+
+        int[] adquiridas = new int[indices.size()];
+        int total = 0;
+        try {
+            for (int indice : indices) {
+                if (!franjas[indice].tryLock(esperaMs, TimeUnit.MILLISECONDS)) {
+                    throw new ConflictoDisponibilidadException(
+                            "Los recursos están siendo asignados por otra operación, intente nuevamente");
+                }
+                adquiridas[total++] = indice;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            liberar(adquiridas, total);
+            throw new ConflictoDisponibilidadException("Asignación interrumpida mientras esperaba los recursos", e);
+        } catch (RuntimeException e) {
+            liberar(adquiridas, total);
+            throw e;
+        }
+
+        int cantidad = total;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                liberar(adquiridas, cantidad);
+            }
+        });
+    }
+
+    /**
+     * Cantidad de franjas efectiva (la solicitada redondeada a potencia de dos).
+     */
+    int cantidadFranjas() {
+        return franjas.length;
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private int franja(Long id, long semilla) {
+        long h = (id + semilla) * 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 31;
+        return (int) h & mascara;
+    }
+
+    private void liberar(int[] indices, int cantidad) {
+        // Liberación en orden inverso a la adquisición
+        for (int i = cantidad - 1; i >= 0; i--) {
+            franjas[indices[i]].unlock();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.paeldav.backend.application.service.bloqueo;
+
+import com.paeldav.backend.exception.ConflictoDisponibilidadException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * Bloqueo de recursos con advisory locks de PostgreSQL, válido para varios nodos.
+ *
+ * Usa {@code pg_advisory_xact_lock(clase, id)}, que la base de datos libera sola al terminar
+ * la transacción. Como la segunda clave es de 32 bits, los identificadores mayores se pliegan
+ * ({@code id ^ (id >>> 32)}); dos recursos que coincidan solo se serializan entre sí de más.
+ * Las claves se adquieren ordenadas por (clase, id) y la espera se limita con {@code SET LOCAL lock_timeout},
+ * que PostgreSQL restablece al terminar la transacción, también cuando se revierte por el tiempo agotado.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "asignacion.bloqueo.modo", havingValue = "postgres")
+public class BloqueoRecursosPostgres implements BloqueoRecursos {
+
+    static final int CLASE_AERONAVE = 1;
+    static final int CLASE_TRIPULANTE = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long esperaMs;
+
+    public BloqueoRecursosPostgres(JdbcTemplate jdbcTemplate,
+                                   @Value("${asignacion.bloqueo.espera-ms:5000}") long esperaMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.esperaMs = esperaMs;
+    }
+
+    @Override
+    public void bloquear(Collection<Long> aeronaveIds, Collection<Long> tripulanteIds) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("El bloqueo de recursos requiere una transacción activa");
+        }
+
+        // Clave compuesta (clase << 32 | id plegado) para ordenar globalmente
+        TreeSet<Long> claves = new TreeSet<>();
+        aeronaveIds.forEach(id -> claves.add(clave(CLASE_AERONAVE, id)));
+        tripulanteIds.forEach(id -> claves.add(clave(CLASE_TRIPULANTE, id)));
+        if (claves.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = " + esperaMs);
+            for (long clave : claves) {
+                jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?, ?)",
+                        (int) (clave >>> 32), (int) clave);
+            }
+        } catch (PessimisticLockingFailureException e) {
+            log.debug("Tiempo de espera agotado al bloquear recursos {}", claves);
+            throw new ConflictoDisponibilidadException(
+                    "Los recursos están siendo asignados por otra operación, intente nuevamente", e);
+        }
+    }
+
+    private static long clave(int clase, Long id) {
+        int plegado = (int) (id ^ (id >>> 32));
+        return ((long) clase << 32) | (plegado & 0xFFFFFFFFL);
+    }
+}
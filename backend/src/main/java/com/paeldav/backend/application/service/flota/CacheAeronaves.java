@@ -0,0 +1,231 @@
+package com.paeldav.backend.application.service.flota;
+
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
+import com.paeldav.backend.application.service.transaccion.SincronizacionTransaccion;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caché de lectura de aeronaves por ID y por matrícula, acotada y con desalojo LRU.
+ *
+ * Guarda copias de {@link AeronaveDTO}, nunca entidades administradas, y entrega siempre una copia,
+ * por lo que sirve a lecturas y validaciones pero no a caminos que necesitan la entidad para modificarla
+ * o asociarla. Una ausencia no se guarda.
+ *
+ * Cada camino que modifica una aeronave debe llamar a {@link #invalidar(Long)}: la entrada se descarta
+ * de inmediato y otra vez al terminar la transacción, y una carga iniciada antes de la invalidación no
+ * se guarda, de modo que no queda en caché un valor anterior al cambio ni uno que se revirtió.
+ *
+ * La invalidación solo alcanza a la instancia local. Para que un cambio hecho en otro nodo (o fuera de
+ * los servicios) no se sirva indefinidamente, cada entrada vence a los
+ * {@code flota.cache-aeronaves.expiracion-segundos} de haberse cargado y la siguiente lectura vuelve a
+ * la base de datos; ese intervalo es la antigüedad máxima de una lectura servida desde la caché.
+ *
+ * Aciertos, fallos, desalojos y tamaño se publican en Micrometer con los nombres estándar
+ * ({@code cache.gets}, {@code cache.evictions}, {@code cache.size}) y la etiqueta {@code cache=aeronaves}.
+ */
+@Component
+public class CacheAeronaves {
+
+    static final String NOMBRE = "aeronaves";
+
+    private final AeronaveRepository aeronaveRepository;
+
+    @Value("${flota.cache-aeronaves.habilitado:true}")
+    private boolean habilitado = true;
+
+    @Value("${flota.cache-aeronaves.capacidad:1000}")
+    private int capacidad = 1000;
+
+    @Value("${flota.cache-aeronaves.expiracion-segundos:30}")
+    private long expiracionSegundos = 30;
+
+    /**
+     * Fuente de tiempo para el vencimiento de las entradas, reemplazable en pruebas.
+     */
+    LongSupplier reloj = System::nanoTime;
+
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder desalojos = new LongAdder();
+
+    private final Object candado = new Object();
+    private final Map<String, Long> idPorMatricula = new HashMap<>();
+    private final Map<Long, Entrada> porId = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entrada> masAntigua) {
+            if (size() <= capacidad) {
+                return false;
+            }
+            idPorMatricula.remove(masAntigua.getValue().aeronave().getMatricula());
+            desalojos.increment();
+            return true;
+        }
+    };
+
+    /**
+     * Aumenta con cada invalidación; una carga solo se guarda si no cambió mientras se consultaba.
+     */
+    private long version = 0;
+
+    public CacheAeronaves(AeronaveRepository aeronaveRepository, MeterRegistry registro) {
+        this.aeronaveRepository = aeronaveRepository;
+        registrarMetricas(registro);
+    }
+
+    /**
+     * Busca una aeronave por ID, consultando la base de datos solo si no está en caché.
+     */
+    public Optional<AeronaveDTO> buscarPorId(Long id) {
+        if (!habilitado) {
+            return aeronaveRepository.findComoDTOById(id);
+        }
+        long versionLectura;
+        synchronized (candado) {
+            AeronaveDTO guardada = vigente(id);
+            if (guardada != null) {
+                aciertos.increment();
+                return Optional.of(copiar(guardada));
+            }
+            versionLectura = version;
+        }
+        fallos.increment();
+        Optional<AeronaveDTO> cargada = aeronaveRepository.findComoDTOById(id);
+        cargada.ifPresent(aeronave -> guardar(aeronave, versionLectura));
+        return cargada;
+    }
+
+    /**
+     * Busca una aeronave por matrícula, consultando la base de datos solo si no está en caché.
+     */
+    public Optional<AeronaveDTO> buscarPorMatricula(String matricula) {
+        if (!habilitado) {
+            return aeronaveRepository.findComoDTOByMatricula(matricula);
+        }
+        long versionLectura;
+        synchronized (candado) {
+            Long id = idPorMatricula.get(matricula);
+            AeronaveDTO guardada = id != null ? vigente(id) : null;
+            if (guardada != null) {
+                aciertos.increment();
+                return Optional.of(copiar(guardada));
+            }
+            versionLectura = version;
+        }
+        fallos.increment();
+        Optional<AeronaveDTO> cargada = aeronaveRepository.findComoDTOByMatricula(matricula);
+        cargada.ifPresent(aeronave -> guardar(aeronave, versionLectura));
+        return cargada;
+    }
+
+    /**
+     * Descarta la aeronave de la caché ahora y, si hay una transacción activa, otra vez al terminar
+     * (confirmada o revertida), para que ninguna lectura concurrente deje guardado el valor anterior.
+     */
+    public void invalidar(Long id) {
+        quitar(id);
+        SincronizacionTransaccion.alTerminar(() -> quitar(id));
+    }
+
+    /**
+     * Cantidad de aeronaves guardadas.
+     */
+    public int tamano() {
+        synchronized (candado) {
+            return porId.size();
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Retorna la aeronave guardada si no venció; una entrada vencida se descarta. Requiere el candado.
+     */
+    private AeronaveDTO vigente(Long id) {
+        Entrada entrada = porId.get(id);
+        if (entrada == null) {
+            return null;
+        }
+        if (reloj.getAsLong() - entrada.cargadaEn() >= TimeUnit.SECONDS.toNanos(expiracionSegundos)) {
+            porId.remove(id);
+            idPorMatricula.remove(entrada.aeronave().getMatricula());
+            return null;
+        }
+        return entrada.aeronave();
+    }
+
+    private void guardar(AeronaveDTO aeronave, long versionLectura) {
+        synchronized (candado) {
+            if (version != versionLectura) {
+                return;
+            }
+            Entrada anterior = porId.put(aeronave.getId(), new Entrada(copiar(aeronave), reloj.getAsLong()));
+            if (anterior != null && !anterior.aeronave().getMatricula().equals(aeronave.getMatricula())) {
+                idPorMatricula.remove(anterior.aeronave().getMatricula());
+            }
+            idPorMatricula.put(aeronave.getMatricula(), aeronave.getId());
+        }
+    }
+
+    private void quitar(Long id) {
+        synchronized (candado) {
+            version++;
+            Entrada quitada = porId.remove(id);
+            if (quitada != null) {
+                idPorMatricula.remove(quitada.aeronave().getMatricula());
+            }
+        }
+    }
+
+    private void registrarMetricas(MeterRegistry registro) {
+        FunctionCounter.builder("cache.gets", aciertos, LongAdder::doubleValue)
+                .tag("cache", NOMBRE).tag("result", "hit")
+                .description("Lecturas de aeronaves resueltas desde la caché")
+                .register(registro);
+        FunctionCounter.builder("cache.gets", fallos, LongAdder::doubleValue)
+                .tag("cache", NOMBRE).tag("result", "miss")
+                .description("Lecturas de aeronaves que consultaron la base de datos")
+                .register(registro);
+        FunctionCounter.builder("cache.evictions", desalojos, LongAdder::doubleValue)
+                .tag("cache", NOMBRE)
+                .description("Aeronaves desalojadas por superar la capacidad")
+                .register(registro);
+        Gauge.builder("cache.size", this, CacheAeronaves::tamano)
+                .tag("cache", NOMBRE)
+                .description("Aeronaves guardadas en la caché")
+                .register(registro);
+    }
+
+    private static AeronaveDTO copiar(AeronaveDTO aeronave) {
+        return AeronaveDTO.builder()
+                .id(aeronave.getId())
+                .matricula(aeronave.getMatricula())
+                .modelo(aeronave.getModelo())
+                .fabricante(aeronave.getFabricante())
+                .capacidadPasajeros(aeronave.getCapacidadPasajeros())
+                .capacidadTripulacion(aeronave.getCapacidadTripulacion())
+                .autonomiaKm(aeronave.getAutonomiaKm())
+                .velocidadCruceroKmh(aeronave.getVelocidadCruceroKmh())
+                .fechaFabricacion(aeronave.getFechaFabricacion())
+                .fechaUltimaRevision(aeronave.getFechaUltimaRevision())
+                .horasVueloTotales(aeronave.getHorasVueloTotales())
+                .estado(aeronave.getEstado())
+                .especificacionesTecnicas(aeronave.getEspecificacionesTecnicas())
+                .build();
+    }
+
+    private record Entrada(AeronaveDTO aeronave, long cargadaEn) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.paeldav.backend.application.service.flota;
+
+import com.paeldav.backend.application.service.transaccion.SincronizacionTransaccion;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.projection.ConteoEstadoAeronave;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores en memoria de aeronaves por estado, para responder el resumen de disponibilidad
+ * de la flota sin recorrer la tabla de aeronaves.
+ *
+ * Los servicios que registran aeronaves o cambian su estado notifican cada cambio; si hay una
+ * transacción activa, el contador se ajusta solo cuando esta se confirma. Una tarea programada
+ * reconcilia periódicamente los contadores con un conteo agrupado en la base de datos, lo que
+ * corrige cualquier desviación (cambios hechos fuera de los servicios, o un cambio confirmado
+ * mientras se reconciliaba).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContadorEstadosFlota {
+
+    private final AeronaveRepository aeronaveRepository;
+
+    private final Map<EstadoAeronave, LongAdder> contadores = crearContadores();
+
+    private volatile boolean cargado = false;
+
+    /**
+     * Carga los contadores al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        reconciliar();
+    }
+
+    /**
+     * Reemplaza los contadores por el conteo actual de la base de datos; se repite periódicamente.
+     * Si la consulta falla, se conservan los valores anteriores.
+     */
+    @Scheduled(initialDelayString = "${flota.contadores.reconciliacion-segundos:300}",
+            fixedDelayString = "${flota.contadores.reconciliacion-segundos:300}", timeUnit = TimeUnit.SECONDS)
+    public void reconciliar() {
+        try {
+            long[] conteos = new long[EstadoAeronave.values().length];
+            for (ConteoEstadoAeronave conteo : aeronaveRepository.contarPorEstado()) {
+                conteos[conteo.getEstado().ordinal()] = conteo.getCantidad();
+            }
+            for (EstadoAeronave estado : EstadoAeronave.values()) {
+                LongAdder contador = contadores.get(estado);
+                long desviacion = conteos[estado.ordinal()] - contador.sum();
+                if (desviacion != 0) {
+                    if (cargado) {
+                        log.warn("Contador de aeronaves {} corregido en {}", estado, desviacion);
+                    }
+                    contador.add(desviacion);
+                }
+            }
+            cargado = true;
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron reconciliar los contadores de estado de la flota", e);
+        }
+    }
+
+    /**
+     * Indica si los contadores se cargaron al menos una vez y pueden usarse para responder consultas.
+     */
+    public boolean estaCargado() {
+        return cargado;
+    }
+
+    /**
+     * Registra una aeronave nueva en el estado indicado.
+     */
+    public void registrarAlta(EstadoAeronave estado) {
+        registrarCambio(null, estado);
+    }
+
+    /**
+     * Registra que una aeronave pasó de un estado a otro. No hace nada si el estado no cambia.
+     *
+     * @param anterior estado anterior, null si la aeronave es nueva
+     * @param nuevo estado nuevo
+     */
+    public void registrarCambio(EstadoAeronave anterior, EstadoAeronave nuevo) {
+        if (anterior == nuevo) {
+            return;
+        }
+        SincronizacionTransaccion.alConfirmar(() -> {
+            if (anterior != null) {
+                contadores.get(anterior).decrement();
+            }
+            if (nuevo != null) {
+                contadores.get(nuevo).increment();
+            }
+        });
+    }
+
+    /**
+     * Cantidad de aeronaves en el estado indicado.
+     */
+    public long cantidad(EstadoAeronave estado) {
+        return Math.max(0, contadores.get(estado).sum());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static Map<EstadoAeronave, LongAdder> crearContadores() {
+        Map<EstadoAeronave, LongAdder> mapa = new EnumMap<>(EstadoAeronave.class);
+        for (EstadoAeronave estado : EstadoAeronave.values()) {
+            mapa.put(estado, new LongAdder());
+        }
+        return mapa;
+    }
+}
@@ -0,0 +1,209 @@
+package com.paeldav.backend.application.service.horas;
+
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
+import com.paeldav.backend.application.service.mantenimiento.PronosticoMantenimiento;
+import com.paeldav.backend.application.service.transaccion.SincronizacionTransaccion;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Acumulador con escritura diferida de las horas de vuelo de aeronaves y tripulantes.
+ *
+ * Los incrementos se suman en memoria, un {@link DoubleAdder} por recurso, y una tarea programada los
+ * escribe periódicamente con un UPDATE atómico ({@code horas = horas + ?}) por recurso, enviados en lotes JDBC.
+ * Muchos incrementos de un mismo recurso entre dos escrituras se convierten en una sola sentencia.
+ * Al detener la aplicación se escribe lo pendiente.
+ *
+ * Un incremento hecho dentro de una transacción se suma al acumulador solo cuando esa transacción se
+ * confirma, de modo que un vuelo revertido no deja horas pendientes de escribir.
+ *
+ * Si el lote falla, se reintenta fila por fila para que un recurso con datos inválidos no bloquee a los
+ * demás: ante una falla transitoria (conexión, tiempo de espera) el monto vuelve al acumulador para el
+ * siguiente ciclo; ante cualquier otra la fila se descarta y se registra con su monto en el log de errores.
+ * Mientras no se escriben, las horas pendientes no se ven en las consultas.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AcumuladorHorasVuelo {
+
+    static final String SQL_INCREMENTAR_AERONAVE =
+            "UPDATE aeronaves SET horas_vuelo_totales = COALESCE(horas_vuelo_totales, 0) + ? WHERE id = ?";
+    static final String SQL_INCREMENTAR_TRIPULANTE =
+            "UPDATE tripulantes SET horas_vuelo_totales = COALESCE(horas_vuelo_totales, 0) + ?, "
+                    + "horas_vuelo_mes = COALESCE(horas_vuelo_mes, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheAeronaves cacheAeronaves;
+    private final PronosticoMantenimiento pronosticoMantenimiento;
+
+    @Value("${flota.horas-vuelo.escritura-diferida.habilitado:false}")
+    private boolean habilitado = false;
+
+    @Value("${flota.horas-vuelo.escritura-diferida.tamano-lote:100}")
+    private int tamanoLote = 100;
+
+    private final Map<Long, DoubleAdder> pendientesAeronaves = new ConcurrentHashMap<>();
+    private final Map<Long, DoubleAdder> pendientesTripulantes = new ConcurrentHashMap<>();
+
+    /**
+     * Escribe periódicamente lo acumulado si la escritura diferida está habilitada.
+     */
+    @Scheduled(initialDelayString = "${flota.horas-vuelo.escritura-diferida.intervalo-ms:5000}",
+            fixedDelayString = "${flota.horas-vuelo.escritura-diferida.intervalo-ms:5000}")
+    public void escribirPeriodicamente() {
+        if (habilitado) {
+            vaciar();
+        }
+    }
+
+    /**
+     * Escribe lo pendiente al detener la aplicación. Si coincide con una escritura programada en curso,
+     * espera a que termine.
+     */
+    @PreDestroy
+    void detener() {
+        vaciar();
+    }
+
+    /**
+     * Indica si los servicios deben acumular los incrementos en lugar de escribirlos de inmediato.
+     */
+    public boolean estaHabilitado() {
+        return habilitado;
+    }
+
+    /**
+     * Suma horas de vuelo pendientes de escribir a una aeronave al confirmarse la transacción actual.
+     */
+    public void acumularAeronave(Long aeronaveId, double horas) {
+        SincronizacionTransaccion.alConfirmar(() -> sumar(pendientesAeronaves, aeronaveId, horas));
+    }
+
+    /**
+     * Suma horas de vuelo pendientes de escribir a un tripulante, tanto al total como al mes en curso,
+     * al confirmarse la transacción actual.
+     */
+    public void acumularTripulante(Long tripulanteId, double horas) {
+        SincronizacionTransaccion.alConfirmar(() -> sumar(pendientesTripulantes, tripulanteId, horas));
+    }
+
+    /**
+     * Horas acumuladas de una aeronave que aún no se escribieron.
+     */
+    public double pendientesAeronave(Long aeronaveId) {
+        DoubleAdder pendiente = pendientesAeronaves.get(aeronaveId);
+        return pendiente != null ? pendiente.sum() : 0.0;
+    }
+
+    /**
+     * Escribe en la base de datos todas las horas acumuladas.
+     *
+     * @return cantidad de recursos actualizados
+     */
+    public synchronized int vaciar() {
+        Map<Long, Double> aeronaves = extraer(pendientesAeronaves);
+        Map<Long, Double> tripulantes = extraer(pendientesTripulantes);
+        if (aeronaves.isEmpty() && tripulantes.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> filasAeronaves = new ArrayList<>(aeronaves.size());
+        aeronaves.forEach((id, horas) -> filasAeronaves.add(new Object[]{horas, id}));
+        List<Object[]> filasTripulantes = new ArrayList<>(tripulantes.size());
+        tripulantes.forEach((id, horas) -> filasTripulantes.add(new Object[]{horas, horas, id}));
+
+        Collection<Long> aeronavesEscritas = aeronaves.keySet();
+        Collection<Long> tripulantesEscritos = tripulantes.keySet();
+        try {
+            transactionTemplate.executeWithoutResult(estado -> {
+                escribirEnLotes(SQL_INCREMENTAR_AERONAVE, filasAeronaves);
+                escribirEnLotes(SQL_INCREMENTAR_TRIPULANTE, filasTripulantes);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Falló la escritura en lote de las horas de vuelo acumuladas; se reintenta fila por fila", e);
+            aeronavesEscritas = escribirPorFila("aeronave", SQL_INCREMENTAR_AERONAVE, filasAeronaves,
+                    pendientesAeronaves);
+            tripulantesEscritos = escribirPorFila("tripulante", SQL_INCREMENTAR_TRIPULANTE, filasTripulantes,
+                    pendientesTripulantes);
+        }
+        aeronavesEscritas.forEach(cacheAeronaves::invalidar);
+        aeronavesEscritas.forEach(pronosticoMantenimiento::actualizarAeronave);
+
+        log.debug("Horas de vuelo escritas. Aeronaves: {}, Tripulantes: {}",
+                aeronavesEscritas.size(), tripulantesEscritos.size());
+        return aeronavesEscritas.size() + tripulantesEscritos.size();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void escribirEnLotes(String sql, List<Object[]> filas) {
+        for (int desde = 0; desde < filas.size(); desde += tamanoLote) {
+            jdbcTemplate.batchUpdate(sql, filas.subList(desde, Math.min(desde + tamanoLote, filas.size())));
+        }
+    }
+
+    /**
+     * Escribe cada fila en su propia sentencia. Las fallas transitorias devuelven el monto al acumulador;
+     * las demás descartan la fila. El ID del recurso es el último parámetro y las horas el primero.
+     *
+     * @return IDs de los recursos escritos
+     */
+    private List<Long> escribirPorFila(String recurso, String sql, List<Object[]> filas,
+                                       Map<Long, DoubleAdder> pendientes) {
+        List<Long> escritos = new ArrayList<>(filas.size());
+        for (Object[] fila : filas) {
+            Long id = (Long) fila[fila.length - 1];
+            double horas = (Double) fila[0];
+            try {
+                jdbcTemplate.update(sql, fila);
+                escritos.add(id);
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException e) {
+                log.warn("No se pudieron escribir {} horas de vuelo de {} {}; se reintentará", horas, recurso, id, e);
+                sumar(pendientes, id, horas);
+            } catch (RuntimeException e) {
+                log.error("Se descartan {} horas de vuelo de {} {}: la escritura falló de forma permanente",
+                        horas, recurso, id, e);
+            }
+        }
+        return escritos;
+    }
+
+    private static void sumar(Map<Long, DoubleAdder> pendientes, Long id, double horas) {
+        pendientes.computeIfAbsent(id, clave -> new DoubleAdder()).add(horas);
+    }
+
+    /**
+     * Toma y pone en cero lo acumulado por cada recurso. Cada suma pendiente se reinicia de forma atómica,
+     * por lo que un incremento concurrente queda en este vaciado o en el siguiente, nunca se pierde.
+     */
+    private static Map<Long, Double> extraer(Map<Long, DoubleAdder> pendientes) {
+        Map<Long, Double> extraidos = new HashMap<>();
+        pendientes.forEach((id, acumulado) -> {
+            double horas = acumulado.sumThenReset();
+            if (horas != 0.0) {
+                extraidos.put(id, horas);
+            }
+        });
+        return extraidos;
+    }
+}
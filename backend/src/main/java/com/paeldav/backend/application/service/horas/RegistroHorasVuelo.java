@@ -0,0 +1,59 @@
+package com.paeldav.backend.application.service.horas;
+
+import com.paeldav.backend.application.service.base.AeronaveService;
+import com.paeldav.backend.application.service.base.TripulanteService;
+import com.paeldav.backend.domain.entity.Tripulante;
+import com.paeldav.backend.domain.entity.Vuelo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Suma las horas de un vuelo completado a su aeronave y a su tripulación.
+ *
+ * Es el único punto donde un vuelo completado aporta horas: tanto el motor de estados como el cambio de
+ * estado manual lo invocan en la misma transacción que pasa el vuelo a COMPLETADO. Así el pronóstico de
+ * mantenimiento, que proyecta solo los vuelos CONFIRMADO y EN_CURSO, deja de contar el vuelo cuando sus
+ * horas ya forman parte de las horas de la aeronave (con escritura diferida, al escribirse lo acumulado).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegistroHorasVuelo {
+
+    private final AeronaveService aeronaveService;
+    private final TripulanteService tripulanteService;
+
+    /**
+     * Registra las horas del vuelo: la duración real si se registraron salida y llegada reales, si no la
+     * programada. Un vuelo sin duración positiva no aporta horas.
+     */
+    public void registrarVueloCompletado(Vuelo vuelo) {
+        double horas = horasVuelo(vuelo);
+        if (horas <= 0) {
+            log.warn("Vuelo {} completado sin duración positiva; no se registran horas", vuelo.getId());
+            return;
+        }
+        if (vuelo.getAeronave() != null) {
+            aeronaveService.incrementarHorasVuelo(vuelo.getAeronave().getId(), horas);
+        }
+        if (vuelo.getTripulacion() != null) {
+            for (Tripulante tripulante : vuelo.getTripulacion()) {
+                tripulanteService.incrementarHorasVuelo(tripulante.getId(), horas);
+            }
+        }
+    }
+
+    static double horasVuelo(Vuelo vuelo) {
+        boolean real = vuelo.getFechaSalidaReal() != null && vuelo.getFechaLlegadaReal() != null;
+        LocalDateTime salida = real ? vuelo.getFechaSalidaReal() : vuelo.getFechaSalidaProgramada();
+        LocalDateTime llegada = real ? vuelo.getFechaLlegadaReal() : vuelo.getFechaLlegadaProgramada();
+        if (salida == null || llegada == null) {
+            return 0;
+        }
+        return Duration.between(salida, llegada).toMinutes() / 60.0;
+    }
+}
@@ -4,6 +4,7 @@ import com.paeldav.backend.application.dto.aeronave.AeronaveCreateDTO;
 import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.application.dto.aeronave.AeronaveUpdateDTO;
 import com.paeldav.backend.application.dto.aeronave.HistorialUsoAeronaveDTO;
+import com.paeldav.backend.application.dto.aeronave.ResumenUsoAeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.ResumenDisponibilidadFlotaDTO;
 import com.paeldav.backend.application.dto.mantenimiento.MantenimientoDTO;
 import com.paeldav.backend.application.dto.repostaje.RepostajeDTO;
@@ -13,26 +14,31 @@ import com.paeldav.backend.application.mapper.MantenimientoMapper;
 import com.paeldav.backend.application.mapper.RepostajeMapper;
 import com.paeldav.backend.application.mapper.VueloMapper;
 import com.paeldav.backend.application.service.base.AeronaveService;
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
+import com.paeldav.backend.application.service.flota.ContadorEstadosFlota;
+import com.paeldav.backend.application.service.horas.AcumuladorHorasVuelo;
+import com.paeldav.backend.application.service.mantenimiento.PronosticoMantenimiento;
+import com.paeldav.backend.application.service.tiemporeal.EventoCambioEstado;
 import com.paeldav.backend.domain.entity.Aeronave;
-import com.paeldav.backend.domain.entity.Mantenimiento;
-import com.paeldav.backend.domain.entity.Repostaje;
-import com.paeldav.backend.domain.entity.Vuelo;
 import com.paeldav.backend.domain.enums.EstadoAeronave;
-import com.paeldav.backend.domain.enums.EstadoVuelo;
-import com.paeldav.backend.domain.enums.TipoMantenimiento;
 import com.paeldav.backend.exception.*;
 import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
 import com.paeldav.backend.infraestructure.repository.MantenimientoRepository;
 import com.paeldav.backend.infraestructure.repository.RepostajeRepository;
 import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.ConteoEstadoAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesMantenimientosAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesRepostajesAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesVuelosAeronave;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Implementación del servicio de gestión integral de aeronaves.
@@ -52,6 +58,11 @@ public class AeronaveServiceImpl implements AeronaveService {
     private final VueloMapper vueloMapper;
     private final MantenimientoMapper mantenimientoMapper;
     private final RepostajeMapper repostajeMapper;
+    private final ApplicationEventPublisher eventos;
+    private final ContadorEstadosFlota contadorEstados;
+    private final AcumuladorHorasVuelo acumuladorHoras;
+    private final CacheAeronaves cacheAeronaves;
+    private final PronosticoMantenimiento pronosticoMantenimiento;
 
     @Override
     public AeronaveDTO registrarAeronave(AeronaveCreateDTO aeronaveCreateDTO) {
@@ -75,6 +86,8 @@ public class AeronaveServiceImpl implements AeronaveService {
 
         // Guardar en la base de datos
         Aeronave aeronaveGuardada = aeronaveRepository.save(aeronave);
+        contadorEstados.registrarAlta(aeronaveGuardada.getEstado());
+        pronosticoMantenimiento.actualizarAeronave(aeronaveGuardada.getId());
         log.info("Aeronave registrada exitosamente con ID: {}", aeronaveGuardada.getId());
 
         return aeronaveMapper.toDTO(aeronaveGuardada);
@@ -85,13 +98,11 @@ public class AeronaveServiceImpl implements AeronaveService {
     public AeronaveDTO obtenerAeronavePorId(Long id) {
         log.debug("Buscando aeronave con ID: {}", id);
 
-        Aeronave aeronave = aeronaveRepository.findById(id)
+        return cacheAeronaves.buscarPorId(id)
                 .orElseThrow(() -> {
                     log.warn("Aeronave no encontrada con ID: {}", id);
                     return new AeronaveNoEncontradaException("Aeronave no encontrada con ID: " + id);
                 });
-
-        return aeronaveMapper.toDTO(aeronave);
     }
 
     @Override
@@ -99,13 +110,11 @@ public class AeronaveServiceImpl implements AeronaveService {
     public AeronaveDTO obtenerAeronavePorMatricula(String matricula) {
         log.debug("Buscando aeronave con matrícula: {}", matricula);
 
-        Aeronave aeronave = aeronaveRepository.findByMatricula(matricula)
+        return cacheAeronaves.buscarPorMatricula(matricula)
                 .orElseThrow(() -> {
                     log.warn("Aeronave no encontrada con matrícula: {}", matricula);
                     return new AeronaveNoEncontradaException("Aeronave no encontrada con matrícula: " + matricula);
                 });
-
-        return aeronaveMapper.toDTO(aeronave);
     }
 
     @Override
@@ -113,8 +122,7 @@ public class AeronaveServiceImpl implements AeronaveService {
     public List<AeronaveDTO> obtenerTodasAeronaves() {
         log.debug("Obteniendo todas las aeronaves");
 
-        List<Aeronave> aeronaves = aeronaveRepository.findAll();
-        return aeronaveMapper.toDTOList(aeronaves);
+        return aeronaveRepository.findAllComoDTO();
     }
 
     @Override
@@ -122,8 +130,7 @@ public class AeronaveServiceImpl implements AeronaveService {
     public List<AeronaveDTO> obtenerAerronavesPorEstado(EstadoAeronave estado) {
         log.debug("Obteniendo aeronaves con estado: {}", estado);
 
-        List<Aeronave> aeronaves = aeronaveRepository.findByEstado(estado);
-        return aeronaveMapper.toDTOList(aeronaves);
+        return aeronaveRepository.findComoDTOByEstado(estado);
     }
 
     @Override
@@ -131,8 +138,7 @@ public class AeronaveServiceImpl implements AeronaveService {
     public List<AeronaveDTO> obtenerAerronavesPorModelo(String modelo) {
         log.debug("Obteniendo aeronaves con modelo: {}", modelo);
 
-        List<Aeronave> aeronaves = aeronaveRepository.findByModelo(modelo);
-        return aeronaveMapper.toDTOList(aeronaves);
+        return aeronaveRepository.findComoDTOByModelo(modelo);
     }
 
     @Override
@@ -140,8 +146,7 @@ public class AeronaveServiceImpl implements AeronaveService {
     public List<AeronaveDTO> obtenerAerronavesPorCapacidad(Integer capacidad) {
         log.debug("Obteniendo aeronaves con capacidad >= {}", capacidad);
 
-        List<Aeronave> aeronaves = aeronaveRepository.findByCapacidadPasajerosGreaterThanEqual(capacidad);
-        return aeronaveMapper.toDTOList(aeronaves);
+        return aeronaveRepository.findComoDTOByCapacidadMinima(capacidad);
     }
 
     @Override
@@ -155,11 +160,15 @@ public class AeronaveServiceImpl implements AeronaveService {
                     return new AeronaveNoEncontradaException("Aeronave no encontrada con ID: " + id);
                 });
 
+        EstadoAeronave estadoAnterior = aeronave.getEstado();
+
         // Aplicar cambios (sin modificar matrícula ni modelo)
         aeronaveMapper.updateEntityFromUpdateDTO(aeronaveUpdateDTO, aeronave);
 
         // Guardar cambios
         Aeronave aeronaveActualizada = aeronaveRepository.save(aeronave);
+        contadorEstados.registrarCambio(estadoAnterior, aeronaveActualizada.getEstado());
+        cacheAeronaves.invalidar(id);
         log.info("Aeronave actualizada exitosamente con ID: {}", id);
 
         return aeronaveMapper.toDTO(aeronaveActualizada);
@@ -195,6 +204,9 @@ public class AeronaveServiceImpl implements AeronaveService {
         aeronave.setEstado(nuevoEstado);
 
         Aeronave aeronaveActualizada = aeronaveRepository.save(aeronave);
+        contadorEstados.registrarCambio(estadoActual, nuevoEstado);
+        cacheAeronaves.invalidar(id);
+        eventos.publishEvent(EventoCambioEstado.aeronave(id, nuevoEstado));
         log.info("Estado de aeronave cambiado exitosamente. ID: {}, Nuevo estado: {}", id, nuevoEstado);
 
         return aeronaveMapper.toDTO(aeronaveActualizada);
@@ -221,6 +233,9 @@ public class AeronaveServiceImpl implements AeronaveService {
         // Cambiar a estado FUERA_DE_SERVICIO (borrado lógico)
         aeronave.setEstado(EstadoAeronave.FUERA_DE_SERVICIO);
         aeronaveRepository.save(aeronave);
+        contadorEstados.registrarCambio(EstadoAeronave.DISPONIBLE, EstadoAeronave.FUERA_DE_SERVICIO);
+        cacheAeronaves.invalidar(id);
+        eventos.publishEvent(EventoCambioEstado.aeronave(id, EstadoAeronave.FUERA_DE_SERVICIO));
 
         log.info("Aeronave eliminada (fuera de servicio) con ID: {}", id);
     }
@@ -231,7 +246,7 @@ public class AeronaveServiceImpl implements AeronaveService {
         log.debug("Validando capacidad operativa para aeronave ID: {}. Pasajeros: {}, Tripulación: {}",
                 aeronaveId, numeroPasajeros, numeroTripulantes);
 
-        Aeronave aeronave = aeronaveRepository.findById(aeronaveId)
+        AeronaveDTO aeronave = cacheAeronaves.buscarPorId(aeronaveId)
                 .orElseThrow(() -> {
                     log.warn("Aeronave no encontrada para validar capacidad. ID: {}", aeronaveId);
                     return new AeronaveNoEncontradaException("Aeronave no encontrada con ID: " + aeronaveId);
@@ -264,25 +279,29 @@ public class AeronaveServiceImpl implements AeronaveService {
     public void incrementarHorasVuelo(Long aeronaveId, Double horasVuelo) {
         log.info("Incrementando horas de vuelo para aeronave ID: {}. Horas a agregar: {}", aeronaveId, horasVuelo);
 
-        Aeronave aeronave = aeronaveRepository.findById(aeronaveId)
-                .orElseThrow(() -> {
-                    log.warn("Aeronave no encontrada para incrementar horas. ID: {}", aeronaveId);
-                    return new AeronaveNoEncontradaException("Aeronave no encontrada con ID: " + aeronaveId);
-                });
-
         // Validar que las horas a agregar sean positivas
         if (horasVuelo == null || horasVuelo <= 0) {
             log.warn("Intento de agregar horas de vuelo inválidas. Aeronave ID: {}, Horas: {}", aeronaveId, horasVuelo);
             throw new IllegalArgumentException("Las horas de vuelo a agregar deben ser positivas");
         }
 
-        // Incrementar horas
-        Double horasActuales = aeronave.getHorasVueloTotales() != null ? aeronave.getHorasVueloTotales() : 0.0;
-        aeronave.setHorasVueloTotales(horasActuales + horasVuelo);
+        // Con escritura diferida el incremento se acumula en memoria; si no, se aplica con un UPDATE atómico
+        boolean existe = acumuladorHoras.estaHabilitado()
+                ? aeronaveRepository.existsById(aeronaveId)
+                : aeronaveRepository.incrementarHorasVuelo(aeronaveId, horasVuelo) > 0;
+        if (!existe) {
+            log.warn("Aeronave no encontrada para incrementar horas. ID: {}", aeronaveId);
+            throw new AeronaveNoEncontradaException("Aeronave no encontrada con ID: " + aeronaveId);
+        }
+        // Con escritura diferida la caché y el pronóstico se actualizan al escribir lo acumulado
+        if (acumuladorHoras.estaHabilitado()) {
+            acumuladorHoras.acumularAeronave(aeronaveId, horasVuelo);
+        } else {
+            cacheAeronaves.invalidar(aeronaveId);
+            pronosticoMantenimiento.actualizarAeronave(aeronaveId);
+        }
 
-        aeronaveRepository.save(aeronave);
-        log.info("Horas de vuelo incrementadas exitosamente. Aeronave ID: {}, Nuevas horas totales: {}",
-                aeronaveId, aeronave.getHorasVueloTotales());
+        log.info("Horas de vuelo incrementadas exitosamente. Aeronave ID: {}", aeronaveId);
     }
 
     @Override
@@ -309,10 +328,15 @@ public class AeronaveServiceImpl implements AeronaveService {
             return aeronaveMapper.toDTO(aeronave);
         }
 
+        EstadoAeronave estadoAnterior = aeronave.getEstado();
+
         // Cambiar a estado FUERA_DE_SERVICIO
         aeronave.setEstado(EstadoAeronave.FUERA_DE_SERVICIO);
 
         Aeronave aeronaveBloqueada = aeronaveRepository.save(aeronave);
+        contadorEstados.registrarCambio(estadoAnterior, EstadoAeronave.FUERA_DE_SERVICIO);
+        cacheAeronaves.invalidar(id);
+        eventos.publishEvent(EventoCambioEstado.aeronave(id, EstadoAeronave.FUERA_DE_SERVICIO));
         log.info("Aeronave bloqueada exitosamente. ID: {}, Motivo: {}", id, motivo);
 
         return aeronaveMapper.toDTO(aeronaveBloqueada);
@@ -340,58 +364,56 @@ public class AeronaveServiceImpl implements AeronaveService {
         aeronave.setEstado(EstadoAeronave.DISPONIBLE);
 
         Aeronave aeronaveDesbloqueada = aeronaveRepository.save(aeronave);
+        contadorEstados.registrarCambio(EstadoAeronave.FUERA_DE_SERVICIO, EstadoAeronave.DISPONIBLE);
+        cacheAeronaves.invalidar(id);
+        eventos.publishEvent(EventoCambioEstado.aeronave(id, EstadoAeronave.DISPONIBLE));
         log.info("Aeronave desbloqueada exitosamente. ID: {}", id);
 
         return aeronaveMapper.toDTO(aeronaveDesbloqueada);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public ResumenDisponibilidadFlotaDTO consultarResumenDisponibilidadFlota() {
-        log.debug("Consultando resumen de disponibilidad de flota");
+        return consultarResumenDisponibilidadFlota(true);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public ResumenDisponibilidadFlotaDTO consultarResumenDisponibilidadFlota(boolean incluirListas) {
+        log.debug("Consultando resumen de disponibilidad de flota. Incluir listas: {}", incluirListas);
 
-        List<Aeronave> todasAeronaves = aeronaveRepository.findAll();
+        // Los contadores en memoria evitan recorrer la flota; si aún no están cargados se cuenta en la base de datos
+        long[] conteos = contarPorEstado();
 
-        // Contar por estado
         Map<String, Integer> contadorPorEstado = new HashMap<>();
-        int disponibles = 0;
-        int enVuelo = 0;
-        int enMantenimiento = 0;
-        int fueraDeServicio = 0;
-
-        for (Aeronave aeronave : todasAeronaves) {
-            String estado = aeronave.getEstado().name();
-            contadorPorEstado.merge(estado, 1, Integer::sum);
-
-            switch (aeronave.getEstado()) {
-                case DISPONIBLE -> disponibles++;
-                case EN_VUELO -> enVuelo++;
-                case EN_MANTENIMIENTO -> enMantenimiento++;
-                case FUERA_DE_SERVICIO -> fueraDeServicio++;
+        int total = 0;
+        for (EstadoAeronave estado : EstadoAeronave.values()) {
+            int cantidad = (int) conteos[estado.ordinal()];
+            if (cantidad > 0) {
+                contadorPorEstado.put(estado.name(), cantidad);
             }
+            total += cantidad;
         }
+        int disponibles = (int) conteos[EstadoAeronave.DISPONIBLE.ordinal()];
 
-        // Obtener listas de aeronaves disponibles y bloqueadas
-        List<AeronaveDTO> aeronavesDisponiblesList = aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE)
-                .stream()
-                .map(aeronaveMapper::toDTO)
-                .collect(Collectors.toList());
-
-        List<AeronaveDTO> aeronavesBloqueadasList = aeronaveRepository.findByEstado(EstadoAeronave.FUERA_DE_SERVICIO)
-                .stream()
-                .map(aeronaveMapper::toDTO)
-                .collect(Collectors.toList());
+        // Las listas se proyectan directamente a DTO, sin cargar entidades
+        List<AeronaveDTO> aeronavesDisponiblesList = incluirListas
+                ? aeronaveRepository.findComoDTOByEstado(EstadoAeronave.DISPONIBLE)
+                : List.of();
+        List<AeronaveDTO> aeronavesBloqueadasList = incluirListas
+                ? aeronaveRepository.findComoDTOByEstado(EstadoAeronave.FUERA_DE_SERVICIO)
+                : List.of();
 
         // Calcular porcentaje de disponibilidad
-        int total = todasAeronaves.size();
         double porcentajeDisponibilidad = total > 0 ? (disponibles * 100.0) / total : 0.0;
 
         return ResumenDisponibilidadFlotaDTO.builder()
                 .totalAeronaves(total)
                 .aeronavesDisponibles(disponibles)
-                .aeronavesEnVuelo(enVuelo)
-                .aeronavesEnMantenimiento(enMantenimiento)
-                .aeronavesFueraDeServicio(fueraDeServicio)
+                .aeronavesEnVuelo((int) conteos[EstadoAeronave.EN_VUELO.ordinal()])
+                .aeronavesEnMantenimiento((int) conteos[EstadoAeronave.EN_MANTENIMIENTO.ordinal()])
+                .aeronavesFueraDeServicio((int) conteos[EstadoAeronave.FUERA_DE_SERVICIO.ordinal()])
                 .contadorPorEstado(contadorPorEstado)
                 .listaAeronavesDisponibles(aeronavesDisponiblesList)
                 .listaAerronavesBloqueadas(aeronavesBloqueadasList)
@@ -435,8 +457,24 @@ public class AeronaveServiceImpl implements AeronaveService {
         return obtenerHistorialUsoInterno(aeronaveId, fechaDesde, fechaHasta);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResumenUsoAeronaveDTO obtenerResumenUso(Long aeronaveId, LocalDateTime fechaDesde, LocalDateTime fechaHasta) {
+        log.debug("Calculando resumen de uso para aeronave ID: {} desde {} hasta {}", aeronaveId, fechaDesde, fechaHasta);
+
+        if (!aeronaveRepository.existsById(aeronaveId)) {
+            log.warn("Aeronave no encontrada con ID: {}", aeronaveId);
+            throw new AeronaveNoEncontradaException("Aeronave no encontrada con ID: " + aeronaveId);
+        }
+
+        // El rango solo se aplica si se indican ambas fechas
+        boolean conRango = fechaDesde != null && fechaHasta != null;
+        return calcularResumenUso(aeronaveId, conRango ? fechaDesde : null, conRango ? fechaHasta : null);
+    }
+
     /**
      * Método interno que construye el historial de uso de una aeronave.
+     * Las listas se filtran por fecha en la base de datos y los totales se calculan con consultas agregadas.
      */
     private HistorialUsoAeronaveDTO obtenerHistorialUsoInterno(Long aeronaveId, LocalDateTime fechaDesde, LocalDateTime fechaHasta) {
         // Obtener la aeronave
@@ -448,103 +486,93 @@ public class AeronaveServiceImpl implements AeronaveService {
 
         AeronaveDTO aeronaveDTO = aeronaveMapper.toDTO(aeronave);
 
-        // Obtener vuelos
-        List<Vuelo> vuelos = vueloRepository.findByAeronaveId(aeronaveId);
-        if (fechaDesde != null && fechaHasta != null) {
-            vuelos = vuelos.stream()
-                    .filter(v -> v.getFechaSalidaProgramada() != null &&
-                            !v.getFechaSalidaProgramada().isBefore(fechaDesde) &&
-                            !v.getFechaSalidaProgramada().isAfter(fechaHasta))
-                    .collect(Collectors.toList());
-        }
-        List<VueloDTO> vuelosDTO = vueloMapper.toDTOList(vuelos);
-
-        // Obtener mantenimientos
-        List<Mantenimiento> mantenimientos = mantenimientoRepository.findByAeronaveId(aeronaveId);
-        if (fechaDesde != null && fechaHasta != null) {
-            mantenimientos = mantenimientos.stream()
-                    .filter(m -> m.getFechaInicio() != null &&
-                            !m.getFechaInicio().isBefore(fechaDesde) &&
-                            !m.getFechaInicio().isAfter(fechaHasta))
-                    .collect(Collectors.toList());
-        }
-        List<MantenimientoDTO> mantenimientosDTO = mantenimientoMapper.toDTOList(mantenimientos);
-
-        // Obtener repostajes
-        List<Repostaje> repostajes = repostajeRepository.findByAeronaveId(aeronaveId);
-        if (fechaDesde != null && fechaHasta != null) {
-            repostajes = repostajes.stream()
-                    .filter(r -> r.getFechaRepostaje() != null &&
-                            !r.getFechaRepostaje().isBefore(fechaDesde) &&
-                            !r.getFechaRepostaje().isAfter(fechaHasta))
-                    .collect(Collectors.toList());
-        }
-        List<RepostajeDTO> repostajesDTO = repostajeMapper.toDTOList(repostajes);
-
-        // Calcular estadísticas de vuelos
-        int totalVuelos = vuelos.size();
-        int vuelosCompletados = (int) vuelos.stream()
-                .filter(v -> v.getEstado() == EstadoVuelo.COMPLETADO)
-                .count();
-        int vuelosCancelados = (int) vuelos.stream()
-                .filter(v -> v.getEstado() == EstadoVuelo.CANCELADO)
-                .count();
-
-        // Calcular horas de vuelo (diferencia entre salida y llegada real)
-        double totalHorasVuelo = vuelos.stream()
-                .filter(v -> v.getFechaSalidaReal() != null && v.getFechaLlegadaReal() != null)
-                .mapToDouble(v -> {
-                    long minutos = java.time.Duration.between(v.getFechaSalidaReal(), v.getFechaLlegadaReal()).toMinutes();
-                    return minutos / 60.0;
-                })
-                .sum();
-
-        // Calcular estadísticas de mantenimientos
-        int totalMantenimientos = mantenimientos.size();
-        int mantenimientosPreventivos = (int) mantenimientos.stream()
-                .filter(m -> m.getTipo() == TipoMantenimiento.PREVENTIVO)
-                .count();
-        int mantenimientosCorrectivos = (int) mantenimientos.stream()
-                .filter(m -> m.getTipo() == TipoMantenimiento.CORRECTIVO)
-                .count();
-        double costoTotalMantenimientos = mantenimientos.stream()
-                .filter(m -> m.getCosto() != null)
-                .mapToDouble(Mantenimiento::getCosto)
-                .sum();
-
-        // Calcular estadísticas de repostajes
-        int totalRepostajes = repostajes.size();
-        double totalLitrosCombustible = repostajes.stream()
-                .filter(r -> r.getCantidadLitros() != null)
-                .mapToDouble(Repostaje::getCantidadLitros)
-                .sum();
-        double costoTotalCombustible = repostajes.stream()
-                .filter(r -> r.getCostoTotal() != null)
-                .mapToDouble(Repostaje::getCostoTotal)
-                .sum();
+        // El rango solo se aplica si se indican ambas fechas
+        boolean conRango = fechaDesde != null && fechaHasta != null;
+        LocalDateTime desde = conRango ? fechaDesde : null;
+        LocalDateTime hasta = conRango ? fechaHasta : null;
+
+        List<VueloDTO> vuelosDTO = vueloMapper.toDTOList(
+                vueloRepository.findByAeronaveIdEnRango(aeronaveId, desde, hasta));
+        List<MantenimientoDTO> mantenimientosDTO = mantenimientoMapper.toDTOList(
+                mantenimientoRepository.findByAeronaveIdEnRango(aeronaveId, desde, hasta));
+        List<RepostajeDTO> repostajesDTO = repostajeMapper.toDTOList(
+                repostajeRepository.findByAeronaveIdEnRango(aeronaveId, desde, hasta));
+
+        ResumenUsoAeronaveDTO resumen = calcularResumenUso(aeronaveId, desde, hasta);
 
         log.info("Historial de uso generado para aeronave ID: {}. Vuelos: {}, Mantenimientos: {}, Repostajes: {}",
-                aeronaveId, totalVuelos, totalMantenimientos, totalRepostajes);
+                aeronaveId, resumen.getTotalVuelos(), resumen.getTotalMantenimientos(), resumen.getTotalRepostajes());
 
         return HistorialUsoAeronaveDTO.builder()
                 .aeronave(aeronaveDTO)
                 .vuelos(vuelosDTO)
                 .mantenimientos(mantenimientosDTO)
                 .repostajes(repostajesDTO)
-                .totalVuelos(totalVuelos)
-                .vuelosCompletados(vuelosCompletados)
-                .vuelosCancelados(vuelosCancelados)
-                .totalHorasVuelo(Math.round(totalHorasVuelo * 100.0) / 100.0)
-                .totalMantenimientos(totalMantenimientos)
-                .mantenimientosPreventivos(mantenimientosPreventivos)
-                .mantenimientosCorrectivos(mantenimientosCorrectivos)
-                .costoTotalMantenimientos(Math.round(costoTotalMantenimientos * 100.0) / 100.0)
-                .totalRepostajes(totalRepostajes)
-                .totalLitrosCombustible(Math.round(totalLitrosCombustible * 100.0) / 100.0)
-                .costoTotalCombustible(Math.round(costoTotalCombustible * 100.0) / 100.0)
+                .totalVuelos(resumen.getTotalVuelos())
+                .vuelosCompletados(resumen.getVuelosCompletados())
+                .vuelosCancelados(resumen.getVuelosCancelados())
+                .totalHorasVuelo(resumen.getTotalHorasVuelo())
+                .totalMantenimientos(resumen.getTotalMantenimientos())
+                .mantenimientosPreventivos(resumen.getMantenimientosPreventivos())
+                .mantenimientosCorrectivos(resumen.getMantenimientosCorrectivos())
+                .costoTotalMantenimientos(resumen.getCostoTotalMantenimientos())
+                .totalRepostajes(resumen.getTotalRepostajes())
+                .totalLitrosCombustible(resumen.getTotalLitrosCombustible())
+                .costoTotalCombustible(resumen.getCostoTotalCombustible())
                 .fechaDesde(fechaDesde)
                 .fechaHasta(fechaHasta)
+                .fechaGeneracion(resumen.getFechaGeneracion())
+                .build();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Calcula los totales de uso con una consulta agregada por tabla (vuelos, mantenimientos y repostajes).
+     */
+    private ResumenUsoAeronaveDTO calcularResumenUso(Long aeronaveId, LocalDateTime desde, LocalDateTime hasta) {
+        TotalesVuelosAeronave vuelos = vueloRepository.calcularTotalesPorAeronave(aeronaveId, desde, hasta);
+        TotalesMantenimientosAeronave mantenimientos =
+                mantenimientoRepository.calcularTotalesPorAeronave(aeronaveId, desde, hasta);
+        TotalesRepostajesAeronave repostajes = repostajeRepository.calcularTotalesPorAeronave(aeronaveId, desde, hasta);
+
+        return ResumenUsoAeronaveDTO.builder()
+                .aeronaveId(aeronaveId)
+                .totalVuelos((int) vuelos.getTotalVuelos())
+                .vuelosCompletados((int) vuelos.getVuelosCompletados())
+                .vuelosCancelados((int) vuelos.getVuelosCancelados())
+                .totalHorasVuelo(redondear(vuelos.getMinutosVuelo() / 60.0))
+                .totalMantenimientos((int) mantenimientos.getTotalMantenimientos())
+                .mantenimientosPreventivos((int) mantenimientos.getPreventivos())
+                .mantenimientosCorrectivos((int) mantenimientos.getCorrectivos())
+                .costoTotalMantenimientos(redondear(mantenimientos.getCostoTotal()))
+                .totalRepostajes((int) repostajes.getTotalRepostajes())
+                .totalLitrosCombustible(redondear(repostajes.getLitros()))
+                .costoTotalCombustible(redondear(repostajes.getCostoTotal()))
+                .fechaDesde(desde)
+                .fechaHasta(hasta)
                 .fechaGeneracion(LocalDateTime.now())
                 .build();
     }
+
+    private static double redondear(double valor) {
+        return Math.round(valor * 100.0) / 100.0;
+    }
+
+    /**
+     * Cantidad de aeronaves por estado, indexada por el ordinal del estado.
+     */
+    private long[] contarPorEstado() {
+        long[] conteos = new long[EstadoAeronave.values().length];
+        if (contadorEstados.estaCargado()) {
+            for (EstadoAeronave estado : EstadoAeronave.values()) {
+                conteos[estado.ordinal()] = contadorEstados.cantidad(estado);
+            }
+        } else {
+            for (ConteoEstadoAeronave conteo : aeronaveRepository.contarPorEstado()) {
+                conteos[conteo.getEstado().ordinal()] = conteo.getCantidad();
+            }
+        }
+        return conteos;
+    }
 }
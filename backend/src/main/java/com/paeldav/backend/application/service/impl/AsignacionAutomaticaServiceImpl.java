@@ -0,0 +1,507 @@
+package com.paeldav.backend.application.service.impl;
+
+import com.paeldav.backend.application.dto.asignacion.AceptarPropuestaDTO;
+import com.paeldav.backend.application.dto.asignacion.AsignacionPropuestaDTO;
+import com.paeldav.backend.application.dto.asignacion.PropuestaAsignacionDTO;
+import com.paeldav.backend.application.dto.asignacion.ReporteTiemposAsignacionDTO;
+import com.paeldav.backend.application.dto.vuelo.AsignacionAeronaveDTO;
+import com.paeldav.backend.application.dto.vuelo.AsignacionTripulacionDTO;
+import com.paeldav.backend.application.service.agenda.LineaTiempoRecurso;
+import com.paeldav.backend.application.service.agenda.ReglasRotacion;
+import com.paeldav.backend.application.service.agenda.TramoAgenda;
+import com.paeldav.backend.application.service.base.AsignacionAutomaticaService;
+import com.paeldav.backend.application.service.base.VueloService;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Tripulante;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoTripulante;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.IntervaloVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Implementación del motor de asignación automática de aeronaves y tripulación.
+ *
+ * Las consultas independientes (flota, tripulantes y agendas) se lanzan en paralelo sobre un pool
+ * fork-join. Con los datos cargados, el cálculo se divide en dos fases: primero se determinan en paralelo
+ * los recursos que cumplen las restricciones de cada vuelo (capacidad, estado, licencias, retenciones
+ * temporales y rotación frente a los vuelos existentes); luego se recorren los vuelos en orden de salida
+ * y se elige, entre los recursos libres en su horario, el que menos tiempo ocioso acumula antes del vuelo
+ * (best-fit). Las reservas se mantienen en memoria para que los vuelos de una misma propuesta no se
+ * solapen ni incumplan la rotación entre sí.
+ *
+ * La aeronave y la tripulación de cada vuelo se aplican en una misma transacción a través de
+ * {@link VueloService}, que vuelve a validar disponibilidad contra la base de datos: si falla la
+ * tripulación, la aeronave no queda asignada. Cada vuelo se confirma por separado.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsignacionAutomaticaServiceImpl implements AsignacionAutomaticaService {
+
+    private static final List<EstadoVuelo> ESTADOS_ACTIVOS = List.of(
+            EstadoVuelo.SOLICITADO, EstadoVuelo.CONFIRMADO, EstadoVuelo.EN_CURSO
+    );
+
+    private static final List<EstadoVuelo> ESTADOS_PENDIENTES = List.of(
+            EstadoVuelo.SOLICITADO, EstadoVuelo.CONFIRMADO
+    );
+
+    private static final int TRIPULANTES_POR_VUELO_DEFECTO = 2;
+
+    /**
+     * Margen alrededor del rango para considerar compromisos existentes al calcular el tiempo ocioso.
+     */
+    private static final Duration MARGEN_OCUPACION = Duration.ofDays(2);
+
+    private static final String OBSERVACION_ASIGNACION = "Asignación automática";
+
+    private final VueloRepository vueloRepository;
+    private final AeronaveRepository aeronaveRepository;
+    private final TripulanteRepository tripulanteRepository;
+    private final VueloService vueloService;
+    private final ReglasRotacion reglasRotacion;
+    private final RegistroRetenciones registroRetenciones;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool poolAsignacion;
+
+    @Override
+    public PropuestaAsignacionDTO generarPropuesta(
+            LocalDateTime desde,
+            LocalDateTime hasta,
+            Integer tripulantesPorVuelo,
+            boolean simulacion) {
+
+        if (desde == null || hasta == null || !hasta.isAfter(desde)) {
+            throw new IllegalArgumentException("La fecha de fin debe ser posterior a la fecha de inicio");
+        }
+        int tamanoTripulacion = tripulantesPorVuelo != null ? tripulantesPorVuelo : TRIPULANTES_POR_VUELO_DEFECTO;
+        if (tamanoTripulacion < 1) {
+            throw new IllegalArgumentException("La tripulación debe tener al menos un integrante");
+        }
+
+        long inicio = System.nanoTime();
+
+        // ==================== CARGA ====================
+        CompletableFuture<List<Aeronave>> cargaAeronaves = CompletableFuture.supplyAsync(
+                () -> aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE), poolAsignacion);
+        CompletableFuture<List<Tripulante>> cargaTripulantes = CompletableFuture.supplyAsync(
+                () -> tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE), poolAsignacion);
+        List<Vuelo> pendientes = vueloRepository.findPendientesDeAsignacion(ESTADOS_PENDIENTES, desde, hasta);
+
+        LocalDateTime finOcupacion = pendientes.stream()
+                .map(Vuelo::getFechaLlegadaProgramada)
+                .max(Comparator.naturalOrder())
+                .filter(llegada -> llegada.isAfter(hasta))
+                .orElse(hasta)
+                .plus(MARGEN_OCUPACION);
+        LocalDateTime inicioOcupacion = desde.minus(MARGEN_OCUPACION);
+
+        CompletableFuture<List<TramoVueloAeronave>> cargaTramos = CompletableFuture.supplyAsync(
+                () -> vueloRepository.findTramosAeronavesEnRango(inicioOcupacion, finOcupacion, ESTADOS_ACTIVOS),
+                poolAsignacion);
+        List<IntervaloVuelo> ocupacionTripulantes =
+                vueloRepository.findIntervalosTripulacionEnRango(inicioOcupacion, finOcupacion, ESTADOS_ACTIVOS);
+        List<Aeronave> aeronaves = esperar(cargaAeronaves);
+        List<Tripulante> tripulantes = esperar(cargaTripulantes);
+        List<TramoVueloAeronave> tramos = esperar(cargaTramos);
+
+        Map<Long, LineaTiempoRecurso> lineasAeronaves = construirLineas(
+                aeronaves.stream().map(Aeronave::getId).toList(),
+                tramos.stream()
+                        .map(t -> new IntervaloVuelo(t.getVueloId(), t.getAeronaveId(),
+                                t.getFechaSalida(), t.getFechaLlegada()))
+                        .toList());
+        Map<Long, LineaTiempoRecurso> lineasTripulantes = construirLineas(
+                tripulantes.stream().map(Tripulante::getId).toList(), ocupacionTripulantes);
+        Map<Long, List<TramoAgenda>> agendaAeronaves = new HashMap<>();
+        for (TramoVueloAeronave tramo : tramos) {
+            agendaAeronaves.computeIfAbsent(tramo.getAeronaveId(), id -> new ArrayList<>())
+                    .add(new TramoAgenda(tramo.getOrigen(), tramo.getDestino(),
+                            tramo.getFechaSalida(), tramo.getFechaLlegada()));
+        }
+        long finCarga = System.nanoTime();
+
+        // ==================== CANDIDATOS (PARALELO) ====================
+        List<CandidatosVuelo> candidatos = poolAsignacion.submit(() -> pendientes.parallelStream()
+                        .map(vuelo -> calcularCandidatos(vuelo, aeronaves, tripulantes, agendaAeronaves))
+                        .toList())
+                .join();
+        long finCandidatos = System.nanoTime();
+
+        // ==================== ASIGNACIÓN (BEST-FIT) ====================
+        List<AsignacionPropuestaDTO> asignaciones = new ArrayList<>();
+        List<AsignacionPropuestaDTO> sinAsignar = new ArrayList<>();
+        Map<Long, List<TramoAgenda>> reservasAeronaves = new HashMap<>();
+        long minutosOciosos = 0;
+
+        for (CandidatosVuelo candidato : candidatos) {
+            AsignacionPropuestaDTO propuesta = asignar(
+                    candidato, lineasAeronaves, reservasAeronaves, lineasTripulantes, tamanoTripulacion);
+            if (propuesta.getMotivo() != null) {
+                sinAsignar.add(propuesta);
+            } else {
+                asignaciones.add(propuesta);
+                if (propuesta.getMinutosOciososAeronave() != null) {
+                    minutosOciosos += propuesta.getMinutosOciososAeronave();
+                }
+            }
+        }
+        long finAsignacion = System.nanoTime();
+
+        // ==================== APLICACIÓN ====================
+        if (!simulacion) {
+            aplicar(asignaciones);
+        }
+        long fin = System.nanoTime();
+
+        ReporteTiemposAsignacionDTO reporte = ReporteTiemposAsignacionDTO.builder()
+                .vuelosEvaluados(pendientes.size())
+                .vuelosAsignados((int) asignaciones.stream()
+                        .filter(a -> simulacion || Boolean.TRUE.equals(a.getAplicada()))
+                        .count())
+                .aeronavesCandidatas(aeronaves.size())
+                .tripulantesCandidatos(tripulantes.size())
+                .paralelismo(poolAsignacion.getParallelism())
+                .minutosOciososTotales(minutosOciosos)
+                .msCarga(milisegundos(inicio, finCarga))
+                .msCandidatos(milisegundos(finCarga, finCandidatos))
+                .msAsignacion(milisegundos(finCandidatos, finAsignacion))
+                .msAplicacion(milisegundos(finAsignacion, fin))
+                .msTotal(milisegundos(inicio, fin))
+                .build();
+
+        log.info("Asignación automática ({}): {} vuelos evaluados, {} asignados, {} sin asignar en {} ms",
+                simulacion ? "simulación" : "aplicada", reporte.getVuelosEvaluados(),
+                reporte.getVuelosAsignados(), sinAsignar.size(), reporte.getMsTotal());
+
+        return PropuestaAsignacionDTO.builder()
+                .simulacion(simulacion)
+                .desde(desde)
+                .hasta(hasta)
+                .asignaciones(asignaciones)
+                .sinAsignar(sinAsignar)
+                .reporte(reporte)
+                .build();
+    }
+
+    @Override
+    public PropuestaAsignacionDTO aceptarPropuesta(AceptarPropuestaDTO dto) {
+        long inicio = System.nanoTime();
+        aplicar(dto.getAsignaciones());
+        long fin = System.nanoTime();
+
+        List<AsignacionPropuestaDTO> aplicadas = dto.getAsignaciones().stream()
+                .filter(a -> Boolean.TRUE.equals(a.getAplicada()))
+                .toList();
+        List<AsignacionPropuestaDTO> rechazadas = dto.getAsignaciones().stream()
+                .filter(a -> !Boolean.TRUE.equals(a.getAplicada()))
+                .toList();
+
+        return PropuestaAsignacionDTO.builder()
+                .simulacion(false)
+                .asignaciones(aplicadas)
+                .sinAsignar(rechazadas)
+                .reporte(ReporteTiemposAsignacionDTO.builder()
+                        .vuelosEvaluados(dto.getAsignaciones().size())
+                        .vuelosAsignados(aplicadas.size())
+                        .msAplicacion(milisegundos(inicio, fin))
+                        .msTotal(milisegundos(inicio, fin))
+                        .build())
+                .build();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private Map<Long, LineaTiempoRecurso> construirLineas(List<Long> recursoIds, List<IntervaloVuelo> intervalos) {
+        Map<Long, LineaTiempoRecurso> lineas = new HashMap<>();
+        for (Long id : recursoIds) {
+            lineas.put(id, new LineaTiempoRecurso());
+        }
+        for (IntervaloVuelo intervalo : intervalos) {
+            LineaTiempoRecurso linea = lineas.get(intervalo.getRecursoId());
+            if (linea != null) {
+                linea.ocupar(intervalo.getFechaSalida(), intervalo.getFechaLlegada());
+            }
+        }
+        return lineas;
+    }
+
+    /**
+     * Filtra los recursos que cumplen las restricciones del vuelo sin depender de las demás asignaciones
+     * de la propuesta: capacidad, licencias, retenciones de otros vuelos y rotación frente a los vuelos
+     * existentes. No modifica estado compartido, por lo que se ejecuta en paralelo.
+     */
+    private CandidatosVuelo calcularCandidatos(Vuelo vuelo, List<Aeronave> aeronaves, List<Tripulante> tripulantes,
+                                               Map<Long, List<TramoAgenda>> agendaAeronaves) {
+        LocalDateTime salida = vuelo.getFechaSalidaProgramada();
+        LocalDateTime llegada = vuelo.getFechaLlegadaProgramada();
+
+        List<Aeronave> aeronavesCandidatas = List.of();
+        if (vuelo.getAeronave() == null) {
+            Integer pasajeros = vuelo.getNumeroPasajeros();
+            TramoAgenda tramo = TramoAgenda.de(vuelo);
+            // Ordenadas de menor a mayor capacidad sobrante
+            aeronavesCandidatas = aeronaves.stream()
+                    .filter(a -> pasajeros == null || a.getCapacidadPasajeros() >= pasajeros)
+                    .filter(a -> registroRetenciones.buscarPorAeronave(a.getId(), salida, llegada, vuelo.getId())
+                            .isEmpty())
+                    .filter(a -> !hayConflictoRotacion(agendaAeronaves.get(a.getId()), a.getModelo(), tramo))
+                    .sorted(Comparator.comparing(Aeronave::getCapacidadPasajeros))
+                    .toList();
+        }
+
+        List<Tripulante> pilotos = new ArrayList<>();
+        List<Tripulante> otros = new ArrayList<>();
+        if (vuelo.getTripulacion() == null || vuelo.getTripulacion().isEmpty()) {
+            LocalDate fechaVuelo = vuelo.getFechaLlegadaProgramada().toLocalDate();
+            for (Tripulante tripulante : tripulantes) {
+                LocalDate vencimiento = tripulante.getFechaVencimientoLicencia();
+                if (vencimiento != null && vencimiento.isBefore(fechaVuelo)) {
+                    continue;
+                }
+                if (!registroRetenciones.buscarPorTripulante(tripulante.getId(), salida, llegada, vuelo.getId())
+                        .isEmpty()) {
+                    continue;
+                }
+                if (Boolean.TRUE.equals(tripulante.getEsPiloto())) {
+                    pilotos.add(tripulante);
+                } else {
+                    otros.add(tripulante);
+                }
+            }
+        }
+
+        return new CandidatosVuelo(vuelo, aeronavesCandidatas, pilotos, otros);
+    }
+
+    /**
+     * Elige para el vuelo la aeronave y la tripulación libres con menor tiempo ocioso previo
+     * y las reserva en las líneas de tiempo. Si algún recurso falta, no reserva nada.
+     */
+    private AsignacionPropuestaDTO asignar(CandidatosVuelo candidato,
+                                           Map<Long, LineaTiempoRecurso> lineasAeronaves,
+                                           Map<Long, List<TramoAgenda>> reservasAeronaves,
+                                           Map<Long, LineaTiempoRecurso> lineasTripulantes,
+                                           int tamanoTripulacion) {
+        Vuelo vuelo = candidato.vuelo;
+        LocalDateTime salida = vuelo.getFechaSalidaProgramada();
+        LocalDateTime llegada = vuelo.getFechaLlegadaProgramada();
+
+        AsignacionPropuestaDTO propuesta = AsignacionPropuestaDTO.builder()
+                .vueloId(vuelo.getId())
+                .origen(vuelo.getOrigen())
+                .destino(vuelo.getDestino())
+                .fechaSalida(salida)
+                .fechaLlegada(llegada)
+                .build();
+
+        // Aeronave
+        Aeronave aeronave = vuelo.getAeronave();
+        TramoAgenda tramo = TramoAgenda.de(vuelo);
+        if (aeronave == null) {
+            // La rotación frente a los vuelos existentes ya se filtró; falta la de las reservas de la propuesta
+            List<Aeronave> compatibles = candidato.aeronaves.stream()
+                    .filter(a -> !hayConflictoRotacion(reservasAeronaves.get(a.getId()), a.getModelo(), tramo))
+                    .toList();
+            List<Aeronave> libres = ordenarPorTiempoOcioso(
+                    compatibles, Aeronave::getId, lineasAeronaves, salida, llegada);
+            if (libres.isEmpty()) {
+                propuesta.setMotivo("No hay aeronaves disponibles con capacidad suficiente en el horario del vuelo");
+                return propuesta;
+            }
+            aeronave = libres.get(0);
+            propuesta.setAeronaveId(aeronave.getId());
+            Duration ocio = lineasAeronaves.get(aeronave.getId()).tiempoOciosoAntes(salida);
+            propuesta.setMinutosOciososAeronave(ocio != null ? ocio.toMinutes() : null);
+        }
+
+        // Tripulación
+        List<Tripulante> seleccion = new ArrayList<>();
+        if (vuelo.getTripulacion() == null || vuelo.getTripulacion().isEmpty()) {
+            int requeridos = aeronave.getCapacidadTripulacion() != null
+                    ? Math.max(1, Math.min(tamanoTripulacion, aeronave.getCapacidadTripulacion()))
+                    : tamanoTripulacion;
+
+            List<Tripulante> pilotosLibres = ordenarPorTiempoOcioso(
+                    candidato.pilotos, Tripulante::getId, lineasTripulantes, salida, llegada);
+            if (pilotosLibres.isEmpty()) {
+                propuesta.setAeronaveId(null);
+                propuesta.setMinutosOciososAeronave(null);
+                propuesta.setMotivo("No hay pilotos con licencia vigente disponibles en el horario del vuelo");
+                return propuesta;
+            }
+            List<Tripulante> otrosLibres = ordenarPorTiempoOcioso(
+                    candidato.otros, Tripulante::getId, lineasTripulantes, salida, llegada);
+
+            seleccion.add(pilotosLibres.get(0));
+            for (Tripulante tripulante : otrosLibres) {
+                if (seleccion.size() >= requeridos) {
+                    break;
+                }
+                seleccion.add(tripulante);
+            }
+            for (int i = 1; i < pilotosLibres.size() && seleccion.size() < requeridos; i++) {
+                seleccion.add(pilotosLibres.get(i));
+            }
+
+            if (seleccion.size() < requeridos) {
+                propuesta.setAeronaveId(null);
+                propuesta.setMinutosOciososAeronave(null);
+                propuesta.setMotivo(String.format(
+                        "Tripulación insuficiente en el horario del vuelo: se requieren %d y hay %d disponibles",
+                        requeridos, seleccion.size()));
+                return propuesta;
+            }
+            propuesta.setTripulanteIds(seleccion.stream().map(Tripulante::getId).toList());
+        }
+
+        // Reservar los recursos elegidos para los siguientes vuelos de la propuesta
+        if (propuesta.getAeronaveId() != null) {
+            lineasAeronaves.get(propuesta.getAeronaveId()).ocupar(salida, llegada);
+            List<TramoAgenda> reservas = reservasAeronaves.computeIfAbsent(
+                    propuesta.getAeronaveId(), id -> new ArrayList<>());
+            reservas.add(tramo);
+            reservas.sort(Comparator.comparing(TramoAgenda::getSalida));
+        }
+        for (Tripulante tripulante : seleccion) {
+            lineasTripulantes.get(tripulante.getId()).ocupar(salida, llegada);
+        }
+
+        return propuesta;
+    }
+
+    /**
+     * Retorna los recursos libres en [salida, llegada) ordenados por tiempo ocioso previo ascendente.
+     * Los recursos sin compromisos previos van al final; el orden de entrada desempata.
+     */
+    private <T> List<T> ordenarPorTiempoOcioso(List<T> recursos,
+                                               Function<T, Long> obtenerId,
+                                               Map<Long, LineaTiempoRecurso> lineas,
+                                               LocalDateTime salida,
+                                               LocalDateTime llegada) {
+        Map<T, Duration> ocioPorRecurso = new HashMap<>();
+        List<T> libres = new ArrayList<>();
+        for (T recurso : recursos) {
+            LineaTiempoRecurso linea = lineas.get(obtenerId.apply(recurso));
+            if (linea != null && linea.estaLibre(salida, llegada)) {
+                libres.add(recurso);
+                ocioPorRecurso.put(recurso, linea.tiempoOciosoAntes(salida));
+            }
+        }
+        libres.sort(Comparator.comparing(ocioPorRecurso::get, Comparator.nullsLast(Comparator.naturalOrder())));
+        return libres;
+    }
+
+    /**
+     * Determina si el tramo incumple la rotación o el reposicionamiento con alguno de los tramos
+     * de la aeronave, ordenados por salida. Los tramos que salen después de que la aeronave quedaría
+     * libre tras el nuevo vuelo no pueden entrar en conflicto, por lo que cortan el recorrido.
+     */
+    private boolean hayConflictoRotacion(List<TramoAgenda> agenda, String modelo, TramoAgenda tramo) {
+        if (agenda == null) {
+            return false;
+        }
+        LocalDateTime limite = reglasRotacion.liberadaEn(modelo, tramo.getLlegada())
+                .plus(reglasRotacion.reposicionamientoMaximo());
+        for (TramoAgenda existente : agenda) {
+            if (!existente.getSalida().isBefore(limite)) {
+                break;
+            }
+            if (reglasRotacion.hayConflicto(modelo, existente, tramo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Aplica cada asignación en su propia transacción, con aeronave y tripulación juntas,
+     * y registra el resultado en el propio DTO.
+     */
+    private void aplicar(List<AsignacionPropuestaDTO> asignaciones) {
+        for (AsignacionPropuestaDTO asignacion : asignaciones) {
+            try {
+                transactionTemplate.executeWithoutResult(estado -> {
+                    if (asignacion.getAeronaveId() != null) {
+                        vueloService.asignarAeronave(asignacion.getVueloId(), AsignacionAeronaveDTO.builder()
+                                .aeronaveId(asignacion.getAeronaveId())
+                                .observaciones(OBSERVACION_ASIGNACION)
+                                .build());
+                    }
+                    if (asignacion.getTripulanteIds() != null && !asignacion.getTripulanteIds().isEmpty()) {
+                        vueloService.asignarTripulacion(asignacion.getVueloId(), AsignacionTripulacionDTO.builder()
+                                .tripulanteIds(asignacion.getTripulanteIds())
+                                .observaciones(OBSERVACION_ASIGNACION)
+                                .build());
+                    }
+                });
+                asignacion.setAplicada(true);
+            } catch (RuntimeException e) {
+                log.warn("No se pudo aplicar la asignación automática del vuelo {}: {}",
+                        asignacion.getVueloId(), e.getMessage());
+                asignacion.setAplicada(false);
+                asignacion.setMotivo(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Espera una carga lanzada en paralelo y propaga su excepción original.
+     */
+    private static <T> T esperar(CompletableFuture<T> carga) {
+        try {
+            return carga.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private static long milisegundos(long desdeNanos, long hastaNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(hastaNanos - desdeNanos);
+    }
+
+    /**
+     * Recursos que cumplen las restricciones estáticas de un vuelo.
+     */
+    private static final class CandidatosVuelo {
+        private final Vuelo vuelo;
+        private final List<Aeronave> aeronaves;
+        private final List<Tripulante> pilotos;
+        private final List<Tripulante> otros;
+
+        private CandidatosVuelo(Vuelo vuelo, List<Aeronave> aeronaves,
+                                List<Tripulante> pilotos, List<Tripulante> otros) {
+            this.vuelo = vuelo;
+            this.aeronaves = aeronaves;
+            this.pilotos = pilotos;
+            this.otros = otros;
+        }
+    }
+}
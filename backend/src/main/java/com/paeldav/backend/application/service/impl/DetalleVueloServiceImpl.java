@@ -0,0 +1,205 @@
+package com.paeldav.backend.application.service.impl;
+
+import com.paeldav.backend.application.dto.incidencia.IncidenciaDTO;
+import com.paeldav.backend.application.dto.pago.PagoDTO;
+import com.paeldav.backend.application.dto.pasajerovuelo.PasajeroVueloDTO;
+import com.paeldav.backend.application.dto.vuelo.DetalleVueloDTO;
+import com.paeldav.backend.application.dto.vuelo.HistorialVueloDTO;
+import com.paeldav.backend.application.dto.vuelo.VueloDTO;
+import com.paeldav.backend.application.mapper.IncidenciaMapper;
+import com.paeldav.backend.application.mapper.PasajeroVueloMapper;
+import com.paeldav.backend.application.service.base.DetalleVueloService;
+import com.paeldav.backend.application.service.base.PagoService;
+import com.paeldav.backend.application.service.base.VueloService;
+import com.paeldav.backend.infraestructure.repository.IncidenciaRepository;
+import com.paeldav.backend.infraestructure.repository.PasajeroVueloRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Implementación del detalle compuesto de un vuelo.
+ *
+ * Cada sección se consulta en su propio hilo virtual y con su propia transacción de solo lectura,
+ * de modo que la respuesta tarda lo que la sección más lenta y no la suma de todas. Si el vuelo no
+ * existe se propaga la excepción.
+ *
+ * Cada sección tiene su propio plazo ({@code vuelo.detalle.tiempo-maximo-ms}), contado desde que se
+ * lanza, que cubre la espera por una conexión y la consulta: la transacción de la sección lleva ese
+ * mismo plazo como timeout, por lo que la base de datos cancela la sentencia aunque el hilo siga
+ * bloqueado, y la tarea se interrumpe al vencer. La sección que no termina a tiempo se informa como
+ * incompleta en lugar de retrasar la página.
+ *
+ * Los hilos virtuales no limitan la concurrencia: un semáforo compartido por todas las consultas de
+ * detalle, del tamaño del pool de conexiones, evita que varias páginas abiertas a la vez lo agoten.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DetalleVueloServiceImpl implements DetalleVueloService {
+
+    static final String SECCION_VUELO = "vuelo";
+    static final String SECCION_HISTORIAL = "historial";
+    static final String SECCION_PAGOS = "pagos";
+    static final String SECCION_TOTAL_PAGOS = "totalPagosConfirmados";
+    static final String SECCION_PASAJEROS = "pasajeros";
+    static final String SECCION_INCIDENCIAS = "incidencias";
+
+    private final VueloService vueloService;
+    private final PagoService pagoService;
+    private final PasajeroVueloRepository pasajeroVueloRepository;
+    private final IncidenciaRepository incidenciaRepository;
+    private final PasajeroVueloMapper pasajeroVueloMapper;
+    private final IncidenciaMapper incidenciaMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${vuelo.detalle.tiempo-maximo-ms:2000}")
+    private long tiempoMaximoMs = 2000;
+
+    @Value("${vuelo.detalle.consultas-concurrentes:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int consultasConcurrentes = 10;
+
+    /**
+     * Permisos de consulta compartidos por todos los detalles en curso.
+     */
+    private Semaphore conexiones;
+
+    @PostConstruct
+    void iniciar() {
+        conexiones = new Semaphore(Math.max(1, consultasConcurrentes));
+    }
+
+    @PreDestroy
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+
+    @Override
+    public DetalleVueloDTO obtenerDetalle(Long vueloId) {
+        Seccion<VueloDTO> vuelo = lanzar(SECCION_VUELO, () -> vueloService.obtenerVueloPorId(vueloId));
+        Seccion<List<HistorialVueloDTO>> historial = lanzar(SECCION_HISTORIAL,
+                () -> vueloService.obtenerHistorialVuelo(vueloId));
+        Seccion<List<PagoDTO>> pagos = lanzar(SECCION_PAGOS, () -> pagoService.obtenerPagosPorVuelo(vueloId));
+        Seccion<Double> total = lanzar(SECCION_TOTAL_PAGOS, () -> pagoService.obtenerTotalPagosConfirmados(vueloId));
+        Seccion<List<PasajeroVueloDTO>> pasajeros = lanzar(SECCION_PASAJEROS, () ->
+                pasajeroVueloMapper.toDTOList(pasajeroVueloRepository.findByVueloId(vueloId)));
+        Seccion<List<IncidenciaDTO>> incidencias = lanzar(SECCION_INCIDENCIAS, () -> incidenciaMapper.toDTOList(
+                incidenciaRepository.findConDetalleByVueloIdOrderByFechaReporteDesc(vueloId)));
+
+        List<String> incompletas = new ArrayList<>();
+        DetalleVueloDTO detalle = DetalleVueloDTO.builder()
+                .vuelo(obtenerVuelo(vuelo, List.of(historial, pagos, total, pasajeros, incidencias)))
+                .historial(esperar(historial, incompletas))
+                .pagos(esperar(pagos, incompletas))
+                .totalPagosConfirmados(esperar(total, incompletas))
+                .pasajeros(esperar(pasajeros, incompletas))
+                .incidencias(esperar(incidencias, incompletas))
+                .seccionesIncompletas(incompletas)
+                .build();
+        if (!incompletas.isEmpty()) {
+            log.warn("Detalle del vuelo {} con secciones incompletas: {}", vueloId, incompletas);
+        }
+        return detalle;
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Sección en curso con su plazo absoluto (en {@link System#nanoTime()}).
+     */
+    private record Seccion<T>(String nombre, Future<T> resultado, long limite) {
+    }
+
+    private <T> Seccion<T> lanzar(String nombre, Supplier<T> consulta) {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tiempoMaximoMs);
+        return new Seccion<>(nombre, ejecutor.submit(() -> consultar(consulta, limite)), limite);
+    }
+
+    /**
+     * Ejecuta la consulta con un permiso del semáforo y en una transacción de solo lectura cuyo
+     * timeout es el tiempo que le queda a la sección.
+     */
+    private <T> T consultar(Supplier<T> consulta, long limite) throws InterruptedException, TimeoutException {
+        if (!conexiones.tryAcquire(restante(limite), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException("Sin conexión disponible dentro del plazo de la sección");
+        }
+        try {
+            TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+            transaccion.setReadOnly(true);
+            transaccion.setTimeout((int) Math.max(1, Math.ceilDiv(restante(limite), TimeUnit.SECONDS.toNanos(1))));
+            return transaccion.execute(estado -> consulta.get());
+        } finally {
+            conexiones.release();
+        }
+    }
+
+    /**
+     * El vuelo es la única sección obligatoria: si no existe o no responde a tiempo se descarta el resto.
+     */
+    private VueloDTO obtenerVuelo(Seccion<VueloDTO> vuelo, List<Seccion<?>> resto) {
+        try {
+            return vuelo.resultado().get(restante(vuelo.limite()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            cancelar(resto);
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException("No fue posible obtener el vuelo", e.getCause());
+        } catch (TimeoutException e) {
+            cancelar(resto);
+            vuelo.resultado().cancel(true);
+            throw new IllegalStateException("El vuelo no respondió en " + tiempoMaximoMs + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelar(resto);
+            vuelo.resultado().cancel(true);
+            throw new IllegalStateException("Consulta del detalle del vuelo interrumpida");
+        }
+    }
+
+    private <T> T esperar(Seccion<T> seccion, List<String> incompletas) {
+        try {
+            return seccion.resultado().get(restante(seccion.limite()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            seccion.resultado().cancel(true);
+            log.warn("La sección {} del detalle de vuelo excedió {} ms", seccion.nombre(), tiempoMaximoMs);
+        } catch (ExecutionException e) {
+            log.error("Error obteniendo la sección {} del detalle de vuelo", seccion.nombre(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            seccion.resultado().cancel(true);
+        }
+        incompletas.add(seccion.nombre());
+        return null;
+    }
+
+    /**
+     * Interrumpe las tareas de las secciones que aún no terminaron.
+     */
+    private static void cancelar(List<Seccion<?>> secciones) {
+        secciones.forEach(seccion -> seccion.resultado().cancel(true));
+    }
+
+    private static long restante(long limite) {
+        return Math.max(0, limite - System.nanoTime());
+    }
+}
@@ -3,10 +3,13 @@ package com.paeldav.backend.application.service.impl;
 import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.*;
 import com.paeldav.backend.application.dto.tripulante.TripulanteDTO;
-import com.paeldav.backend.application.mapper.AeronaveMapper;
-import com.paeldav.backend.application.mapper.TripulanteMapper;
+import com.paeldav.backend.application.service.agenda.AgendaRecurso;
+import com.paeldav.backend.application.service.agenda.IndiceAgendaAeronaves;
+import com.paeldav.backend.application.service.agenda.ReglasRotacion;
 import com.paeldav.backend.application.service.base.DisponibilidadOperativaService;
-import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
+import com.paeldav.backend.application.service.retencion.Retencion;
 import com.paeldav.backend.domain.entity.Tripulante;
 import com.paeldav.backend.domain.entity.Vuelo;
 import com.paeldav.backend.domain.enums.EstadoAeronave;
@@ -16,18 +19,37 @@ import com.paeldav.backend.exception.ConflictoDisponibilidadException;
 import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
 import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
 import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.ConflictoTripulanteVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.IntervaloVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
  * Implementación del servicio de disponibilidad operativa.
  * Gestiona la consulta de disponibilidad y validación de conflictos de agenda.
+ *
+ * Una aeronave se considera ocupada desde la salida de cada vuelo hasta que completa la rotación en tierra
+ * de su modelo ({@link ReglasRotacion}). Las consultas por rango no conocen la ruta del vuelo a programar,
+ * por lo que el reposicionamiento entre ciudades solo se valida al asignar la aeronave.
  */
 @Service
 @RequiredArgsConstructor
@@ -36,8 +58,10 @@ public class DisponibilidadOperativaServiceImpl implements DisponibilidadOperati
     private final VueloRepository vueloRepository;
     private final AeronaveRepository aeronaveRepository;
     private final TripulanteRepository tripulanteRepository;
-    private final AeronaveMapper aeronaveMapper;
-    private final TripulanteMapper tripulanteMapper;
+    private final IndiceAgendaAeronaves indiceAgenda;
+    private final RegistroRetenciones registroRetenciones;
+    private final CacheAeronaves cacheAeronaves;
+    private final ReglasRotacion reglasRotacion;
 
     /**
      * Estados de vuelo que se consideran activos y pueden generar conflictos.
@@ -48,6 +72,23 @@ public class DisponibilidadOperativaServiceImpl implements DisponibilidadOperati
             EstadoVuelo.EN_CURSO
     );
 
+    /**
+     * Tamaños de franja admitidos para la matriz de ocupación, en minutos.
+     */
+    private static final Set<Integer> MINUTOS_POR_FRANJA_PERMITIDOS = Set.of(15, 30, 60);
+
+    /**
+     * Rango máximo admitido para la matriz de ocupación y la búsqueda de ventanas.
+     */
+    private static final Duration RANGO_MAXIMO_CONSULTA = Duration.ofDays(31);
+
+    /**
+     * Número máximo de ventanas que puede retornar una búsqueda.
+     */
+    private static final int MAX_VENTANAS = 50;
+
+    private static final String CODIFICACION_MATRIZ = "base64-bitset-le";
+
     @Override
     @Transactional(readOnly = true)
     public DisponibilidadAeronaveDTO consultarDisponibilidadAeronave(
@@ -55,19 +96,22 @@ public class DisponibilidadOperativaServiceImpl implements DisponibilidadOperati
             LocalDateTime fechaInicio,
             LocalDateTime fechaFin) {
 
-        Aeronave aeronave = aeronaveRepository.findById(aeronaveId)
+        AeronaveDTO aeronave = cacheAeronaves.buscarPorId(aeronaveId)
                 .orElseThrow(() -> new IllegalArgumentException("Aeronave no encontrada con ID: " + aeronaveId));
 
         // Verificar estado base de la aeronave
         boolean estadoPermiteOperacion = aeronave.getEstado() == EstadoAeronave.DISPONIBLE;
 
         // Buscar vuelos que se solapan con el rango
-        List<Vuelo> vuelosEnConflicto = vueloRepository.findVuelosEnRangoPorAeronave(
-                aeronaveId, fechaInicio, fechaFin, ESTADOS_VUELO_ACTIVOS);
+        List<Vuelo> vuelosEnConflicto = buscarVuelosEnConflictoAeronave(
+                aeronaveId, aeronave.getModelo(), fechaInicio, fechaFin);
 
         List<ConflictoAgendaDTO> conflictos = vuelosEnConflicto.stream()
                 .map(this::convertirVueloAConflicto)
                 .collect(Collectors.toList());
+        registroRetenciones.buscarPorAeronave(aeronaveId, fechaInicio, fechaFin, null).stream()
+                .map(this::convertirRetencionAConflicto)
+                .forEach(conflictos::add);
 
         String motivoNoDisponible = null;
         if (!estadoPermiteOperacion) {
@@ -109,6 +153,9 @@ public class DisponibilidadOperativaServiceImpl implements DisponibilidadOperati
         List<ConflictoAgendaDTO> conflictos = vuelosEnConflicto.stream()
                 .map(this::convertirVueloAConflicto)
                 .collect(Collectors.toList());
+        registroRetenciones.buscarPorTripulante(tripulanteId, fechaInicio, fechaFin, null).stream()
+                .map(this::convertirRetencionAConflicto)
+                .forEach(conflictos::add);
 
         String nombreCompleto = tripulante.getUsuario() != null
                 ? tripulante.getUsuario().getNombre() + " " + tripulante.getUsuario().getApellido()
@@ -142,18 +189,22 @@ public class DisponibilidadOperativaServiceImpl implements DisponibilidadOperati
             LocalDateTime fechaFin,
             Integer capacidadMinima) {
 
-        // Obtener IDs de aeronaves que tienen vuelos en el rango
-        List<Long> aeronaveIdsOcupadas = vueloRepository.findAeronaveIdsConVuelosEnRango(
+        // Estado, capacidad y ausencia de vuelos en el rango se filtran en una sola consulta
+        List<AeronaveDTO> disponibles = aeronaveRepository.findDisponiblesSinVuelosEnRango(
+                EstadoAeronave.DISPONIBLE,
+                capacidadMinima != null ? capacidadMinima : 0,
                 fechaInicio, fechaFin, ESTADOS_VUELO_ACTIVOS);
 
-        // Obtener todas las aeronaves disponibles por estado
-        List<Aeronave> aeronavesDisponibles = aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE);
-
-        // Filtrar las que no tienen conflictos y cumplen capacidad mínima
-        return aeronavesDisponibles.stream()
-                .filter(a -> !aeronaveIdsOcupadas.contains(a.getId()))
-                .filter(a -> capacidadMinima == null || a.getCapacidadPasajeros() >= capacidadMinima)
-                .map(aeronaveMapper::toDTO)
+        // Las retenciones temporales viven en memoria y se descartan aparte, igual que las aeronaves
+        // que no completan la rotación en tierra entre sus vuelos y el rango
+        Set<Long> descartadas = new HashSet<>(
+                recursosRetenidos(registroRetenciones.intervalosAeronaves(fechaInicio, fechaFin)));
+        descartadas.addAll(aeronavesEnRotacion(fechaInicio, fechaFin));
+        if (descartadas.isEmpty()) {
+            return disponibles;
+        }
+        return disponibles.stream()
+                .filter(a -> !descartadas.contains(a.getId()))
                 .collect(Collectors.toList());
     }
 
@@ -164,18 +215,19 @@ public class DisponibilidadOperativaServiceImpl implements DisponibilidadOperati
             LocalDateTime fechaFin,
             Boolean soloPilotos) {
 
-        // Obtener IDs de tripulantes que tienen vuelos en el rango
-        List<Long> tripulanteIdsOcupados = vueloRepository.findTripulanteIdsConVuelosEnRango(
+        // Estado, rol y ausencia de vuelos en el rango se filtran en una sola consulta
+        List<TripulanteDTO> disponibles = tripulanteRepository.findDisponiblesSinVuelosEnRango(
+                EstadoTripulante.DISPONIBLE,
+                Boolean.TRUE.equals(soloPilotos),
                 fechaInicio, fechaFin, ESTADOS_VUELO_ACTIVOS);
 
-        // Obtener todos los tripulantes disponibles por estado
-        List<Tripulante> tripulantesDisponibles = tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE);
-
-        // Filtrar los que no tienen conflictos
-        return tripulantesDisponibles.stream()
-                .filter(t -> !tripulanteIdsOcupados.contains(t.getId()))
-                .filter(t -> soloPilotos == null || !soloPilotos || (t.getEsPiloto() != null && t.getEsPiloto()))
-                .map(tripulanteMapper::toDTO)
+        // Las retenciones temporales viven en memoria y se descartan aparte
+        Set<Long> retenidos = recursosRetenidos(registroRetenciones.intervalosTripulantes(fechaInicio, fechaFin));
+        if (retenidos.isEmpty()) {
+            return disponibles;
+        }
+        return disponibles.stream()
+                .filter(t -> !retenidos.contains(t.getId()))
                 .collect(Collectors.toList());
     }
 
@@ -192,27 +244,45 @@ public class DisponibilidadOperativaServiceImpl implements DisponibilidadOperati
 
         // Validar conflictos de aeronave si se proporciona
         if (aeronaveId != null) {
-            List<Vuelo> vuelosAeronave = vueloRepository.findVuelosEnRangoPorAeronave(
-                    aeronaveId, fechaInicio, fechaFin, ESTADOS_VUELO_ACTIVOS);
+            String modelo = cacheAeronaves.buscarPorId(aeronaveId).map(AeronaveDTO::getModelo).orElse(null);
+            List<Vuelo> vuelosAeronave = buscarVuelosEnConflictoAeronave(aeronaveId, modelo, fechaInicio, fechaFin);
             conflictosAeronave = vuelosAeronave.stream()
                     .map(v -> convertirVueloAConflictoConDescripcion(v, "Aeronave"))
                     .collect(Collectors.toList());
+            registroRetenciones.buscarPorAeronave(aeronaveId, fechaInicio, fechaFin, null).stream()
+                    .map(this::convertirRetencionAConflicto)
+                    .forEach(conflictosAeronave::add);
         }
 
-        // Validar conflictos de cada tripulante
+        // Validar conflictos de toda la tripulación en una sola consulta
         if (tripulantesIds != null && !tripulantesIds.isEmpty()) {
-            for (Long tripulanteId : tripulantesIds) {
-                List<Vuelo> vuelosTripulante = vueloRepository.findVuelosEnRangoPorTripulante(
-                        tripulanteId, fechaInicio, fechaFin, ESTADOS_VUELO_ACTIVOS);
-
-                for (Vuelo vuelo : vuelosTripulante) {
-                    Tripulante tripulante = tripulanteRepository.findById(tripulanteId).orElse(null);
+            List<ConflictoTripulanteVuelo> solapamientos = vueloRepository.findConflictosTripulantesEnRango(
+                    tripulantesIds, fechaInicio, fechaFin, ESTADOS_VUELO_ACTIVOS);
+
+            if (!solapamientos.isEmpty()) {
+                // Cargar los nombres de los tripulantes en conflicto en un solo lote
+                List<Long> idsEnConflicto = solapamientos.stream()
+                        .map(ConflictoTripulanteVuelo::getTripulanteId)
+                        .distinct()
+                        .toList();
+                Map<Long, Tripulante> tripulantesPorId = tripulanteRepository.findAllConUsuarioByIdIn(idsEnConflicto)
+                        .stream()
+                        .collect(Collectors.toMap(Tripulante::getId, t -> t));
+
+                for (ConflictoTripulanteVuelo solapamiento : solapamientos) {
+                    Tripulante tripulante = tripulantesPorId.get(solapamiento.getTripulanteId());
                     String nombreTripulante = tripulante != null && tripulante.getUsuario() != null
                             ? tripulante.getUsuario().getNombre() + " " + tripulante.getUsuario().getApellido()
-                            : "Tripulante ID: " + tripulanteId;
-                    conflictosTripulacion.add(convertirVueloAConflictoConDescripcion(vuelo, nombreTripulante));
+                            : "Tripulante ID: " + solapamiento.getTripulanteId();
+                    conflictosTripulacion.add(convertirSolapamientoAConflicto(solapamiento, nombreTripulante));
                 }
             }
+
+            for (Long tripulanteId : tripulantesIds) {
+                registroRetenciones.buscarPorTripulante(tripulanteId, fechaInicio, fechaFin, null).stream()
+                        .map(this::convertirRetencionAConflicto)
+                        .forEach(conflictosTripulacion::add);
+            }
         }
 
         boolean disponible = conflictosAeronave.isEmpty() && conflictosTripulacion.isEmpty();
@@ -252,6 +322,348 @@ public class DisponibilidadOperativaServiceImpl implements DisponibilidadOperati
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MatrizOcupacionDTO consultarMatrizOcupacion(
+            LocalDateTime fechaInicio,
+            LocalDateTime fechaFin,
+            int minutosPorFranja,
+            boolean incluirTripulacion) {
+
+        if (!MINUTOS_POR_FRANJA_PERMITIDOS.contains(minutosPorFranja)) {
+            throw new IllegalArgumentException(
+                    "El tamaño de franja debe ser 15, 30 o 60 minutos: " + minutosPorFranja);
+        }
+        if (fechaInicio == null || fechaFin == null || !fechaFin.isAfter(fechaInicio)) {
+            throw new IllegalArgumentException("La fecha de fin debe ser posterior a la fecha de inicio");
+        }
+        Duration rango = Duration.between(fechaInicio, fechaFin);
+        if (rango.compareTo(RANGO_MAXIMO_CONSULTA) > 0) {
+            throw new IllegalArgumentException(
+                    "El rango de la matriz de ocupación no puede superar " + RANGO_MAXIMO_CONSULTA.toDays() + " días");
+        }
+
+        long segundosPorFranja = minutosPorFranja * 60L;
+        int totalFranjas = (int) Math.ceilDiv(rango.getSeconds(), segundosPorFranja);
+
+        // Ocupación de la flota: una consulta de tramos y un bitset por aeronave. Se incluyen los vuelos
+        // que aterrizan antes del inicio pero siguen en rotación dentro del rango
+        List<TramoVueloAeronave> tramosAeronaves = vueloRepository.findTramosAeronavesEnRango(
+                fechaInicio.minus(reglasRotacion.rotacionMaxima()), fechaFin, ESTADOS_VUELO_ACTIVOS);
+        Map<Long, BitSet> ocupacionAeronaves = construirBitsets(
+                ocupacionConRotacion(tramosAeronaves, false),
+                fechaInicio, segundosPorFranja, totalFranjas);
+        marcarFranjas(ocupacionAeronaves, registroRetenciones.intervalosAeronaves(fechaInicio, fechaFin),
+                fechaInicio, segundosPorFranja, totalFranjas);
+
+        List<OcupacionRecursoDTO> aeronaves = aeronaveRepository.findAll(Sort.by("matricula")).stream()
+                .map(a -> convertirOcupacion(a.getId(), a.getMatricula(), a.getEstado().name(),
+                        ocupacionAeronaves.get(a.getId())))
+                .collect(Collectors.toList());
+
+        List<OcupacionRecursoDTO> tripulantes = null;
+        if (incluirTripulacion) {
+            Map<Long, BitSet> ocupacionTripulantes = construirBitsets(
+                    vueloRepository.findIntervalosTripulacionEnRango(fechaInicio, fechaFin, ESTADOS_VUELO_ACTIVOS),
+                    fechaInicio, segundosPorFranja, totalFranjas);
+            marcarFranjas(ocupacionTripulantes, registroRetenciones.intervalosTripulantes(fechaInicio, fechaFin),
+                    fechaInicio, segundosPorFranja, totalFranjas);
+
+            tripulantes = tripulanteRepository.findAllConUsuario().stream()
+                    .map(t -> convertirOcupacion(t.getId(), etiquetaTripulante(t), t.getEstado().name(),
+                            ocupacionTripulantes.get(t.getId())))
+                    .collect(Collectors.toList());
+        }
+
+        return MatrizOcupacionDTO.builder()
+                .fechaInicio(fechaInicio)
+                .fechaFin(fechaFin)
+                .minutosPorFranja(minutosPorFranja)
+                .totalFranjas(totalFranjas)
+                .codificacion(CODIFICACION_MATRIZ)
+                .aeronaves(aeronaves)
+                .tripulantes(tripulantes)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VentanaDisponibleDTO> buscarVentanasDisponibles(
+            LocalDateTime desde,
+            LocalDateTime hasta,
+            int duracionMinutos,
+            Integer capacidadMinima,
+            Integer tamanoTripulacion,
+            int maxResultados) {
+
+        if (desde == null || hasta == null || !hasta.isAfter(desde)) {
+            throw new IllegalArgumentException("El fin del horizonte debe ser posterior a su inicio");
+        }
+        if (Duration.between(desde, hasta).compareTo(RANGO_MAXIMO_CONSULTA) > 0) {
+            throw new IllegalArgumentException(
+                    "El horizonte de búsqueda no puede superar " + RANGO_MAXIMO_CONSULTA.toDays() + " días");
+        }
+        if (duracionMinutos <= 0) {
+            throw new IllegalArgumentException("La duración debe ser mayor a cero minutos");
+        }
+        if (maxResultados < 1 || maxResultados > MAX_VENTANAS) {
+            throw new IllegalArgumentException("El número de ventanas debe estar entre 1 y " + MAX_VENTANAS);
+        }
+        int tripulantesRequeridos = tamanoTripulacion != null ? tamanoTripulacion : 1;
+        if (tripulantesRequeridos < 1) {
+            throw new IllegalArgumentException("La tripulación debe tener al menos un integrante");
+        }
+
+        Duration duracion = Duration.ofMinutes(duracionMinutos);
+        int capacidad = capacidadMinima != null ? capacidadMinima : 0;
+
+        // Aeronaves candidatas y su ocupación en el horizonte
+        Map<Long, AgendaRecurso> agendasAeronaves = new HashMap<>();
+        aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE).stream()
+                .filter(a -> a.getCapacidadPasajeros() >= capacidad)
+                .filter(a -> a.getCapacidadTripulacion() == null || a.getCapacidadTripulacion() >= tripulantesRequeridos)
+                .forEach(a -> agendasAeronaves.put(a.getId(), new AgendaRecurso(a.getId())));
+        // La rotación se aplica a ambos lados: tras los vuelos existentes y tras la ventana buscada
+        Duration rotacionMaxima = reglasRotacion.rotacionMaxima();
+        List<TramoVueloAeronave> tramosAeronaves = vueloRepository.findTramosAeronavesEnRango(
+                desde.minus(rotacionMaxima), hasta.plus(rotacionMaxima), ESTADOS_VUELO_ACTIVOS);
+        registrarOcupacion(agendasAeronaves, ocupacionConRotacion(tramosAeronaves, true));
+        registrarOcupacion(agendasAeronaves, registroRetenciones.intervalosAeronaves(desde, hasta));
+
+        // Tripulantes candidatos; la licencia vencida se trata como ocupación indefinida
+        Map<Long, AgendaRecurso> agendasTripulantes = new HashMap<>();
+        Set<Long> pilotos = new HashSet<>();
+        for (Tripulante tripulante : tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE)) {
+            AgendaRecurso agenda = new AgendaRecurso(tripulante.getId());
+            LocalDate vencimiento = tripulante.getFechaVencimientoLicencia();
+            if (vencimiento != null) {
+                agenda.ocuparDesde(vencimiento.plusDays(1).atStartOfDay());
+            }
+            agendasTripulantes.put(tripulante.getId(), agenda);
+            if (Boolean.TRUE.equals(tripulante.getEsPiloto())) {
+                pilotos.add(tripulante.getId());
+            }
+        }
+        registrarOcupacion(agendasTripulantes,
+                vueloRepository.findIntervalosTripulacionEnRango(desde, hasta, ESTADOS_VUELO_ACTIVOS));
+        registrarOcupacion(agendasTripulantes, registroRetenciones.intervalosTripulantes(desde, hasta));
+
+        if (agendasAeronaves.isEmpty() || pilotos.isEmpty() || agendasTripulantes.size() < tripulantesRequeridos) {
+            return Collections.emptyList();
+        }
+
+        // Una ventana solo puede abrirse al inicio del horizonte, cuando algún recurso queda libre
+        // o al terminar la ventana anterior
+        TreeSet<LocalDateTime> iniciosCandidatos = new TreeSet<>();
+        iniciosCandidatos.add(desde);
+        agendasAeronaves.values().forEach(a -> iniciosCandidatos.addAll(a.finesDeOcupacion()));
+        agendasTripulantes.values().forEach(a -> iniciosCandidatos.addAll(a.finesDeOcupacion()));
+
+        List<AgendaRecurso> aeronavesOrdenadas = ordenarPorId(agendasAeronaves);
+        List<AgendaRecurso> tripulantesOrdenados = ordenarPorId(agendasTripulantes);
+        List<VentanaDisponibleDTO> ventanas = new ArrayList<>();
+        LocalDateTime finUltimaVentana = desde;
+
+        // Barrido en orden cronológico: cada agenda avanza su cursor de forma monótona
+        for (LocalDateTime inicio = iniciosCandidatos.first(); inicio != null;
+             inicio = iniciosCandidatos.higher(inicio)) {
+            LocalDateTime fin = inicio.plus(duracion);
+            if (fin.isAfter(hasta) || ventanas.size() >= maxResultados) {
+                break;
+            }
+            // Las ventanas retornadas no se solapan entre sí
+            if (inicio.isBefore(finUltimaVentana)) {
+                continue;
+            }
+
+            List<Long> aeronavesLibres = new ArrayList<>();
+            for (AgendaRecurso agenda : aeronavesOrdenadas) {
+                if (agenda.estaLibre(inicio, fin)) {
+                    aeronavesLibres.add(agenda.getRecursoId());
+                }
+            }
+
+            List<Long> pilotosLibres = new ArrayList<>();
+            List<Long> otrosLibres = new ArrayList<>();
+            for (AgendaRecurso agenda : tripulantesOrdenados) {
+                if (!agenda.estaLibre(inicio, fin)) {
+                    continue;
+                }
+                if (pilotos.contains(agenda.getRecursoId())) {
+                    pilotosLibres.add(agenda.getRecursoId());
+                } else {
+                    otrosLibres.add(agenda.getRecursoId());
+                }
+            }
+
+            if (aeronavesLibres.isEmpty() || pilotosLibres.isEmpty()
+                    || pilotosLibres.size() + otrosLibres.size() < tripulantesRequeridos) {
+                continue;
+            }
+
+            ventanas.add(VentanaDisponibleDTO.builder()
+                    .inicio(inicio)
+                    .fin(fin)
+                    .aeronaveIds(aeronavesLibres)
+                    .tripulanteIdsPropuestos(proponerTripulacion(pilotosLibres, otrosLibres, tripulantesRequeridos))
+                    .pilotosDisponibles(pilotosLibres.size())
+                    .tripulantesDisponibles(pilotosLibres.size() + otrosLibres.size())
+                    .build());
+            finUltimaVentana = fin;
+            iniciosCandidatos.add(fin);
+        }
+
+        return ventanas;
+    }
+
+    @Override
+    public List<RetencionDTO> obtenerRetencionesVigentes() {
+        return registroRetenciones.vigentes().stream()
+                .sorted(Comparator.comparing(Retencion::getExpiraEn))
+                .map(r -> RetencionDTO.builder()
+                        .vueloId(r.getVueloId())
+                        .origen(r.getOrigen())
+                        .destino(r.getDestino())
+                        .aeronaveId(r.getAeronaveId())
+                        .tripulanteIds(r.getTripulanteIds())
+                        .fechaInicio(r.getFechaInicio())
+                        .fechaFin(r.getFechaFin())
+                        .expiraEn(r.getExpiraEn())
+                        .build())
+                .toList();
+    }
+
+    private void registrarOcupacion(Map<Long, AgendaRecurso> agendas, List<IntervaloVuelo> intervalos) {
+        for (IntervaloVuelo intervalo : intervalos) {
+            AgendaRecurso agenda = agendas.get(intervalo.getRecursoId());
+            if (agenda != null) {
+                agenda.ocupar(intervalo.getFechaSalida(), intervalo.getFechaLlegada());
+            }
+        }
+    }
+
+    private List<AgendaRecurso> ordenarPorId(Map<Long, AgendaRecurso> agendas) {
+        return agendas.values().stream()
+                .sorted(Comparator.comparing(AgendaRecurso::getRecursoId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Propone una tripulación con un piloto al frente, completada con el resto de tripulantes libres.
+     */
+    private List<Long> proponerTripulacion(List<Long> pilotosLibres, List<Long> otrosLibres, int tripulantesRequeridos) {
+        List<Long> propuesta = new ArrayList<>(tripulantesRequeridos);
+        propuesta.add(pilotosLibres.get(0));
+        for (Long id : otrosLibres) {
+            if (propuesta.size() >= tripulantesRequeridos) {
+                break;
+            }
+            propuesta.add(id);
+        }
+        for (int i = 1; i < pilotosLibres.size() && propuesta.size() < tripulantesRequeridos; i++) {
+            propuesta.add(pilotosLibres.get(i));
+        }
+        return propuesta;
+    }
+
+    /**
+     * Agrupa los intervalos por recurso y marca en un bitset las franjas que cada uno ocupa.
+     * Una franja se considera ocupada si el vuelo la cubre aunque sea parcialmente.
+     */
+    private Map<Long, BitSet> construirBitsets(List<IntervaloVuelo> intervalos, LocalDateTime fechaInicio,
+                                               long segundosPorFranja, int totalFranjas) {
+        Map<Long, BitSet> bitsets = new HashMap<>();
+        marcarFranjas(bitsets, intervalos, fechaInicio, segundosPorFranja, totalFranjas);
+        return bitsets;
+    }
+
+    private void marcarFranjas(Map<Long, BitSet> bitsets, List<IntervaloVuelo> intervalos, LocalDateTime fechaInicio,
+                               long segundosPorFranja, int totalFranjas) {
+        for (IntervaloVuelo intervalo : intervalos) {
+            long desde = Duration.between(fechaInicio, intervalo.getFechaSalida()).getSeconds();
+            long hasta = Duration.between(fechaInicio, intervalo.getFechaLlegada()).getSeconds();
+
+            int primeraFranja = (int) Math.max(0, Math.floorDiv(desde, segundosPorFranja));
+            int finFranjas = (int) Math.min(totalFranjas, Math.ceilDiv(hasta, segundosPorFranja));
+            if (primeraFranja < finFranjas) {
+                bitsets.computeIfAbsent(intervalo.getRecursoId(), id -> new BitSet(totalFranjas))
+                        .set(primeraFranja, finFranjas);
+            }
+        }
+    }
+
+    private OcupacionRecursoDTO convertirOcupacion(Long recursoId, String etiqueta, String estado, BitSet bitset) {
+        BitSet ocupacion = bitset != null ? bitset : new BitSet();
+        return OcupacionRecursoDTO.builder()
+                .recursoId(recursoId)
+                .etiqueta(etiqueta)
+                .estado(estado)
+                .franjasOcupadas(ocupacion.cardinality())
+                .ocupacion(Base64.getEncoder().encodeToString(ocupacion.toByteArray()))
+                .build();
+    }
+
+    private String etiquetaTripulante(Tripulante tripulante) {
+        return tripulante.getUsuario() != null
+                ? tripulante.getUsuario().getNombre() + " " + tripulante.getUsuario().getApellido()
+                : tripulante.getNumeroLicencia();
+    }
+
+    /**
+     * Obtiene los vuelos activos de una aeronave que no dejan la rotación del modelo respecto del rango:
+     * los que se solapan con él, los que aterrizan menos de una rotación antes del inicio y los que
+     * salen menos de una rotación después del fin.
+     * Si el índice de agenda descarta el solapamiento no se consulta la base de datos;
+     * en caso contrario la consulta confirma el conflicto y aporta el detalle de los vuelos.
+     */
+    private List<Vuelo> buscarVuelosEnConflictoAeronave(Long aeronaveId, String modelo,
+                                                        LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        Duration rotacion = reglasRotacion.rotacion(modelo);
+        // El índice ya guarda cada vuelo con su rotación posterior; falta la del rango consultado
+        if (indiceAgenda.estaCargado()
+                && !indiceAgenda.haySolapamiento(aeronaveId, fechaInicio, fechaFin.plus(rotacion), null)) {
+            return Collections.emptyList();
+        }
+        return vueloRepository.findVuelosEnRangoPorAeronave(
+                aeronaveId, fechaInicio.minus(rotacion), fechaFin.plus(rotacion), ESTADOS_VUELO_ACTIVOS);
+    }
+
+    /**
+     * Aeronaves con algún vuelo activo que, aun sin solaparse con el rango, no deja entre ambos
+     * la rotación de su modelo.
+     */
+    private Set<Long> aeronavesEnRotacion(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        Duration margen = reglasRotacion.rotacionMaxima();
+        if (margen.isZero()) {
+            return Collections.emptySet();
+        }
+        return vueloRepository.findTramosAeronavesEnRango(
+                        fechaInicio.minus(margen), fechaFin.plus(margen), ESTADOS_VUELO_ACTIVOS).stream()
+                .filter(t -> {
+                    Duration rotacion = reglasRotacion.rotacion(t.getModelo());
+                    return t.getFechaSalida().minus(rotacion).isBefore(fechaFin)
+                            && t.getFechaLlegada().plus(rotacion).isAfter(fechaInicio);
+                })
+                .map(TramoVueloAeronave::getAeronaveId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Convierte los tramos en intervalos de ocupación que se extienden hasta el fin de la rotación
+     * tras la llegada y, si se indica, desde una rotación antes de la salida, para que un vuelo nuevo
+     * de la misma aeronave también deje su propia rotación antes del siguiente.
+     */
+    private List<IntervaloVuelo> ocupacionConRotacion(List<TramoVueloAeronave> tramos, boolean rotacionPrevia) {
+        return tramos.stream()
+                .map(t -> {
+                    Duration rotacion = reglasRotacion.rotacion(t.getModelo());
+                    LocalDateTime desde = rotacionPrevia ? t.getFechaSalida().minus(rotacion) : t.getFechaSalida();
+                    return new IntervaloVuelo(t.getVueloId(), t.getAeronaveId(), desde,
+                            t.getFechaLlegada().plus(rotacion));
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * Convierte un vuelo en un DTO de conflicto de agenda.
      */
@@ -282,4 +694,44 @@ public class DisponibilidadOperativaServiceImpl implements DisponibilidadOperati
                         recursoAfectado, vuelo.getOrigen(), vuelo.getDestino()))
                 .build();
     }
+
+    /**
+     * Convierte una retención temporal en un DTO de conflicto; el recurso se trata como ocupado
+     * igual que si el vuelo estuviera confirmado.
+     */
+    private ConflictoAgendaDTO convertirRetencionAConflicto(Retencion retencion) {
+        return ConflictoAgendaDTO.builder()
+                .vueloId(retencion.getVueloId())
+                .origen(retencion.getOrigen())
+                .destino(retencion.getDestino())
+                .fechaSalida(retencion.getFechaInicio())
+                .fechaLlegada(retencion.getFechaFin())
+                .estadoVuelo(EstadoVuelo.CONFIRMADO)
+                .descripcion(String.format("Retención temporal hasta %s pendiente de pago (vuelo %s → %s)",
+                        retencion.getExpiraEn(), retencion.getOrigen(), retencion.getDestino()))
+                .build();
+    }
+
+    private Set<Long> recursosRetenidos(List<IntervaloVuelo> intervalos) {
+        return intervalos.stream()
+                .map(IntervaloVuelo::getRecursoId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Convierte un solapamiento de tripulante en un DTO de conflicto con descripción del recurso afectado.
+     */
+    private ConflictoAgendaDTO convertirSolapamientoAConflicto(ConflictoTripulanteVuelo solapamiento,
+                                                              String recursoAfectado) {
+        return ConflictoAgendaDTO.builder()
+                .vueloId(solapamiento.getVueloId())
+                .origen(solapamiento.getOrigen())
+                .destino(solapamiento.getDestino())
+                .fechaSalida(solapamiento.getFechaSalida())
+                .fechaLlegada(solapamiento.getFechaLlegada())
+                .estadoVuelo(solapamiento.getEstado())
+                .descripcion(String.format("%s asignado(a) a vuelo %s → %s",
+                        recursoAfectado, solapamiento.getOrigen(), solapamiento.getDestino()))
+                .build();
+    }
 }
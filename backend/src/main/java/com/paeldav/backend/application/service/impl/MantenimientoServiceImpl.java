@@ -1,4 +1,33 @@
 package com.paeldav.backend.application.service.impl;
 
-public class MantenimientoServiceImpl {
+import com.paeldav.backend.application.dto.mantenimiento.PronosticoMantenimientoDTO;
+import com.paeldav.backend.application.service.base.MantenimientoService;
+import com.paeldav.backend.application.service.mantenimiento.PronosticoMantenimiento;
+import com.paeldav.backend.exception.AeronaveNoEncontradaException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementación del servicio de mantenimiento.
+ * El pronóstico de inspecciones se mantiene en memoria y se actualiza solo para las aeronaves afectadas
+ * por cada cambio (ver {@link PronosticoMantenimiento}).
+ */
+@Service
+@RequiredArgsConstructor
+public class MantenimientoServiceImpl implements MantenimientoService {
+
+    private final PronosticoMantenimiento pronosticoMantenimiento;
+
+    @Override
+    public List<PronosticoMantenimientoDTO> obtenerPronosticoFlota() {
+        return pronosticoMantenimiento.obtenerFlota();
+    }
+
+    @Override
+    public PronosticoMantenimientoDTO obtenerPronosticoAeronave(Long aeronaveId) {
+        return pronosticoMantenimiento.obtener(aeronaveId)
+                .orElseThrow(() -> new AeronaveNoEncontradaException("Aeronave no encontrada con ID: " + aeronaveId));
+    }
 }
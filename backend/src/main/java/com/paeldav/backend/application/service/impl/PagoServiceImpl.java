@@ -5,6 +5,7 @@ import com.paeldav.backend.application.dto.pago.PagoDTO;
 import com.paeldav.backend.application.mapper.PagoMapper;
 import com.paeldav.backend.application.service.base.PagoService;
 import com.paeldav.backend.application.service.integration.MercadoPagoService;
+import com.paeldav.backend.application.service.tiemporeal.EventoCambioEstado;
 import com.paeldav.backend.domain.entity.Pago;
 import com.paeldav.backend.domain.entity.Usuario;
 import com.paeldav.backend.domain.entity.Vuelo;
@@ -17,11 +18,15 @@ import com.paeldav.backend.infraestructure.repository.UsuarioRepository;
 import com.paeldav.backend.infraestructure.repository.VueloRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementación del servicio de gestión de pagos.
@@ -37,6 +42,7 @@ public class PagoServiceImpl implements PagoService {
     private final UsuarioRepository usuarioRepository;
     private final MercadoPagoService mercadoPagoService;
     private final PagoMapper pagoMapper;
+    private final ApplicationEventPublisher eventos;
 
     @Override
     @Transactional
@@ -76,6 +82,7 @@ public class PagoServiceImpl implements PagoService {
                 .build();
 
         pago = pagoRepository.save(pago);
+        notificarCambio(pago);
         log.info("Pago creado exitosamente. ID: {}, Número Preferencia: {}", 
                  pago.getId(), preferencia.getNumeroPreferencia());
 
@@ -99,22 +106,19 @@ public class PagoServiceImpl implements PagoService {
     @Override
     @Transactional(readOnly = true)
     public List<PagoDTO> obtenerPagosPorVuelo(Long vueloId) {
-        List<Pago> pagos = pagoRepository.findByVueloId(vueloId);
-        return pagoMapper.toDTOList(pagos);
+        return pagoRepository.findComoDTOByVueloId(vueloId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PagoDTO> obtenerPagosPorUsuario(Long usuarioId) {
-        List<Pago> pagos = pagoRepository.findByUsuarioId(usuarioId);
-        return pagoMapper.toDTOList(pagos);
+        return pagoRepository.findComoDTOByUsuarioId(usuarioId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PagoDTO> obtenerPagosPorEstado(EstadoPago estado) {
-        List<Pago> pagos = pagoRepository.findByEstado(estado);
-        return pagoMapper.toDTOList(pagos);
+        return pagoRepository.findComoDTOByEstado(estado);
     }
 
     @Override
@@ -141,6 +145,7 @@ public class PagoServiceImpl implements PagoService {
         pago.setObservaciones("Pago confirmado. Referencia MP: " + referenciaMercadoPago);
 
         pago = pagoRepository.save(pago);
+        notificarCambio(pago);
         log.info("Pago confirmado exitosamente. ID: {}", pagoId);
 
         return pagoMapper.toDTO(pago);
@@ -167,6 +172,7 @@ public class PagoServiceImpl implements PagoService {
         pago.setObservaciones("Pago rechazado. Motivo: " + motivo);
 
         pago = pagoRepository.save(pago);
+        notificarCambio(pago);
         log.info("Pago rechazado. ID: {}", pagoId);
 
         return pagoMapper.toDTO(pago);
@@ -191,6 +197,7 @@ public class PagoServiceImpl implements PagoService {
                             }
 
                             pagoRepository.save(pago);
+                            notificarCambio(pago);
                             log.info("Webhook procesado para pago ID: {}", pago.getId());
                         },
                         () -> log.warn("Pago no encontrado para referencia: {}", referenciaMercadoPago)
@@ -204,6 +211,19 @@ public class PagoServiceImpl implements PagoService {
         return total != null ? total : 0.0;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Double> obtenerTotalesPagosConfirmados(Collection<Long> vueloIds) {
+        Map<Long, Double> totales = new HashMap<>();
+        if (vueloIds.isEmpty()) {
+            return totales;
+        }
+        vueloIds.forEach(vueloId -> totales.put(vueloId, 0.0));
+        pagoRepository.sumarConfirmadosPorVuelos(vueloIds)
+                .forEach(total -> totales.put(total.getVueloId(), total.getTotal()));
+        return totales;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean tienePagoConfirmado(Long vueloId, Double montoRequerido) {
@@ -258,8 +278,17 @@ public class PagoServiceImpl implements PagoService {
         pago.setObservaciones("Pago reembolsado. Motivo: " + motivo);
 
         pago = pagoRepository.save(pago);
+        notificarCambio(pago);
         log.info("Pago reembolsado exitosamente. ID: {}", pagoId);
 
         return pagoMapper.toDTO(pago);
     }
+
+    /**
+     * Publica el estado actual del pago para su difusión en tiempo real tras confirmar la transacción.
+     */
+    private void notificarCambio(Pago pago) {
+        Long vueloId = pago.getVuelo() != null ? pago.getVuelo().getId() : null;
+        eventos.publishEvent(EventoCambioEstado.pago(pago.getId(), vueloId, pago.getEstado()));
+    }
 }
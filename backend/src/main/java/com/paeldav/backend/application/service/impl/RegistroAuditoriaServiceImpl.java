@@ -15,6 +15,7 @@ import java.util.List;
 
 /**
  * Implementación del servicio de gestión de registros de auditoría.
+ * Las consultas de solo lectura se proyectan directamente a DTO; el mapper solo se usa al registrar.
  */
 @Service
 @RequiredArgsConstructor
@@ -44,22 +45,19 @@ public class RegistroAuditoriaServiceImpl implements RegistroAuditoriaService {
     @Override
     @Transactional(readOnly = true)
     public List<RegistroAuditoriaDTO> obtenerAuditoriaPorUsuario(Long usuarioId) {
-        List<RegistroAuditoria> registros = registroAuditoriaRepository.findByUsuarioId(usuarioId);
-        return registroAuditoriaMapper.toDTOList(registros);
+        return registroAuditoriaRepository.findComoDTOByUsuarioId(usuarioId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<RegistroAuditoriaDTO> obtenerEventosPorTipo(TipoEventoAuditoria tipoEvento) {
-        List<RegistroAuditoria> registros = registroAuditoriaRepository.findByTipoEvento(tipoEvento);
-        return registroAuditoriaMapper.toDTOList(registros);
+        return registroAuditoriaRepository.findComoDTOByTipoEvento(tipoEvento);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<RegistroAuditoriaDTO> obtenerEventosPorFecha(LocalDateTime inicio, LocalDateTime fin) {
-        List<RegistroAuditoria> registros = registroAuditoriaRepository.findByTimestampBetween(inicio, fin);
-        return registroAuditoriaMapper.toDTOList(registros);
+        return registroAuditoriaRepository.findComoDTOByTimestampBetween(inicio, fin);
     }
 
     @Override
@@ -67,30 +65,24 @@ public class RegistroAuditoriaServiceImpl implements RegistroAuditoriaService {
     public List<RegistroAuditoriaDTO> obtenerEventosPorUsuarioYFecha(Long usuarioId,
                                                                       LocalDateTime inicio,
                                                                       LocalDateTime fin) {
-        List<RegistroAuditoria> registros = registroAuditoriaRepository
-                .findByUsuarioIdAndTimestampBetween(usuarioId, inicio, fin);
-        return registroAuditoriaMapper.toDTOList(registros);
+        return registroAuditoriaRepository.findComoDTOByUsuarioIdAndTimestampBetween(usuarioId, inicio, fin);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<RegistroAuditoriaDTO> obtenerIntentosAccesoDenegados() {
-        List<RegistroAuditoria> registros = registroAuditoriaRepository.findByResultadoFalse();
-        return registroAuditoriaMapper.toDTOList(registros);
+        return registroAuditoriaRepository.findComoDTOByResultadoFalse();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<RegistroAuditoriaDTO> obtenerIntentosAccesoDenegadosPorTipo(TipoEventoAuditoria tipoEvento) {
-        List<RegistroAuditoria> registros = registroAuditoriaRepository
-                .findByTipoEventoAndResultadoFalse(tipoEvento);
-        return registroAuditoriaMapper.toDTOList(registros);
+        return registroAuditoriaRepository.findComoDTOByTipoEventoAndResultadoFalse(tipoEvento);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<RegistroAuditoriaDTO> obtenerTodosLosEventos() {
-        List<RegistroAuditoria> registros = registroAuditoriaRepository.findAll();
-        return registroAuditoriaMapper.toDTOList(registros);
+        return registroAuditoriaRepository.findAllComoDTO();
     }
 }
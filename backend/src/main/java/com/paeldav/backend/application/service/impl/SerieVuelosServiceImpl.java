@@ -0,0 +1,425 @@
+package com.paeldav.backend.application.service.impl;
+
+import com.paeldav.backend.application.dto.disponibilidad.ConflictoAgendaDTO;
+import com.paeldav.backend.application.dto.vuelo.OcurrenciaSerieDTO;
+import com.paeldav.backend.application.dto.vuelo.ResultadoSerieVuelosDTO;
+import com.paeldav.backend.application.dto.vuelo.SerieVuelosCreateDTO;
+import com.paeldav.backend.application.service.agenda.IndiceAgendaAeronaves;
+import com.paeldav.backend.application.service.agenda.ReglasRotacion;
+import com.paeldav.backend.application.service.agenda.TramoAgenda;
+import com.paeldav.backend.application.service.base.SerieVuelosService;
+import com.paeldav.backend.application.service.bloqueo.BloqueoRecursos;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
+import com.paeldav.backend.application.service.tiemporeal.EventoCambioEstado;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Tripulante;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoTripulante;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.exception.AeronaveNoEncontradaException;
+import com.paeldav.backend.exception.AsignacionInvalidaException;
+import com.paeldav.backend.exception.ConflictoDisponibilidadException;
+import com.paeldav.backend.exception.TripulanteNoEncontradoException;
+import com.paeldav.backend.exception.UsuarioNoEncontradoException;
+import com.paeldav.backend.infraestructure.config.RestriccionesAgenda;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
+import com.paeldav.backend.infraestructure.repository.UsuarioRepository;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.ConflictoTripulanteVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.IntervaloVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación de la creación de series de vuelos recurrentes.
+ *
+ * Todas las ocurrencias se validan en una sola pasada: una consulta trae la agenda de la aeronave
+ * y otra la de toda la tripulación para el rango completo de la serie, y cada ocurrencia se compara
+ * en memoria. Los vuelos se insertan con lotes JDBC, por lo que crear una serie de meses cuesta
+ * unas pocas sentencias en lugar de una llamada a {@code crearVuelo} por tramo.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SerieVuelosServiceImpl implements SerieVuelosService {
+
+    static final int MAXIMO_OCURRENCIAS = 366;
+
+    private static final List<EstadoVuelo> ESTADOS_ACTIVOS = List.of(
+            EstadoVuelo.SOLICITADO, EstadoVuelo.CONFIRMADO, EstadoVuelo.EN_CURSO
+    );
+
+    private static final String SQL_INSERTAR_VUELO =
+            "INSERT INTO vuelos (usuario_id, aeronave_id, origen, destino, fecha_salida_programada, "
+                    + "fecha_llegada_programada, numero_pasajeros, estado, proposito, fecha_solicitud, costo_estimado, "
+                    + "serie_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERTAR_TRIPULACION =
+            "INSERT INTO vuelo_tripulacion (vuelo_id, tripulante_id) VALUES (?, ?)";
+
+    private final VueloRepository vueloRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final AeronaveRepository aeronaveRepository;
+    private final TripulanteRepository tripulanteRepository;
+    private final ReglasRotacion reglasRotacion;
+    private final BloqueoRecursos bloqueoRecursos;
+    private final RegistroRetenciones registroRetenciones;
+    private final IndiceAgendaAeronaves indiceAgenda;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventos;
+
+    @Override
+    @Transactional
+    public ResultadoSerieVuelosDTO crearSerie(SerieVuelosCreateDTO dto) {
+        if (!usuarioRepository.existsById(dto.getUsuarioId())) {
+            throw new UsuarioNoEncontradoException("Usuario no encontrado con ID: " + dto.getUsuarioId());
+        }
+        List<TramoAgenda> tramos = generarOcurrencias(dto);
+
+        Aeronave aeronave = dto.getAeronaveId() != null ? validarAeronave(dto) : null;
+        List<Tripulante> tripulantes = dto.getTripulanteIds() != null && !dto.getTripulanteIds().isEmpty()
+                ? validarTripulacion(dto.getTripulanteIds())
+                : List.of();
+        List<Long> tripulanteIds = tripulantes.stream().map(Tripulante::getId).toList();
+
+        // Serializar hasta el commit otras asignaciones concurrentes de los mismos recursos
+        bloqueoRecursos.bloquear(aeronave != null ? List.of(aeronave.getId()) : List.of(), tripulanteIds);
+
+        List<List<ConflictoAgendaDTO>> conflictos = new ArrayList<>();
+        tramos.forEach(tramo -> conflictos.add(new ArrayList<>()));
+        if (aeronave != null) {
+            detectarConflictosAeronave(aeronave, tramos, conflictos);
+        }
+        if (!tripulantes.isEmpty()) {
+            detectarConflictosTripulacion(tripulantes, tramos, conflictos);
+        }
+
+        boolean hayConflictos = conflictos.stream().anyMatch(lista -> !lista.isEmpty());
+        boolean crear = !hayConflictos || Boolean.TRUE.equals(dto.getOmitirConflictos());
+        List<TramoAgenda> aCrear = new ArrayList<>();
+        for (int i = 0; i < tramos.size(); i++) {
+            if (crear && conflictos.get(i).isEmpty()) {
+                aCrear.add(tramos.get(i));
+            }
+        }
+
+        String serieId = aCrear.isEmpty() ? null : UUID.randomUUID().toString();
+        List<Long> vueloIds = aCrear.isEmpty()
+                ? List.of()
+                : insertarVuelos(serieId, dto, aeronave, tripulanteIds, aCrear);
+
+        List<OcurrenciaSerieDTO> ocurrencias = new ArrayList<>(tramos.size());
+        int creada = 0;
+        for (int i = 0; i < tramos.size(); i++) {
+            TramoAgenda tramo = tramos.get(i);
+            boolean seCreo = creada < aCrear.size() && aCrear.get(creada) == tramo;
+            ocurrencias.add(OcurrenciaSerieDTO.builder()
+                    .fechaSalida(tramo.getSalida())
+                    .fechaLlegada(tramo.getLlegada())
+                    .vueloId(seCreo ? vueloIds.get(creada++) : null)
+                    .conflictos(conflictos.get(i))
+                    .build());
+        }
+
+        int conConflicto = (int) conflictos.stream().filter(lista -> !lista.isEmpty()).count();
+        log.info("Serie de vuelos {} {} → {}: {} ocurrencias, {} creadas, {} con conflicto",
+                serieId, dto.getOrigen(), dto.getDestino(), tramos.size(), vueloIds.size(), conConflicto);
+        return ResultadoSerieVuelosDTO.builder()
+                .serieId(serieId)
+                .totalOcurrencias(tramos.size())
+                .creadas(vueloIds.size())
+                .conConflicto(conConflicto)
+                .ocurrencias(ocurrencias)
+                .build();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Genera las ocurrencias en orden de salida. Las semanas se cuentan desde el lunes de la fecha de inicio.
+     */
+    List<TramoAgenda> generarOcurrencias(SerieVuelosCreateDTO dto) {
+        if (dto.getFechaFin().isBefore(dto.getFechaInicio())) {
+            throw new IllegalArgumentException("La fecha de fin no puede ser anterior a la fecha de inicio");
+        }
+        int intervalo = dto.getIntervaloSemanas() != null ? dto.getIntervaloSemanas() : 1;
+        if (intervalo < 1) {
+            throw new IllegalArgumentException("El intervalo de semanas debe ser positivo");
+        }
+        Duration duracion = Duration.ofMinutes(dto.getDuracionMinutos());
+        String origen = dto.getOrigen().trim();
+        String destino = dto.getDestino().trim();
+
+        LocalDate lunesInicial = dto.getFechaInicio().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        List<TramoAgenda> tramos = new ArrayList<>();
+        for (LocalDate fecha = dto.getFechaInicio(); !fecha.isAfter(dto.getFechaFin()); fecha = fecha.plusDays(1)) {
+            long semana = ChronoUnit.DAYS.between(lunesInicial, fecha) / 7;
+            if (semana % intervalo != 0 || !dto.getDiasSemana().contains(fecha.getDayOfWeek())) {
+                continue;
+            }
+            if (tramos.size() == MAXIMO_OCURRENCIAS) {
+                throw new IllegalArgumentException(
+                        "La serie no puede tener más de " + MAXIMO_OCURRENCIAS + " ocurrencias");
+            }
+            LocalDateTime salida = fecha.atTime(dto.getHoraSalida());
+            TramoAgenda tramo = new TramoAgenda(origen, destino, salida, salida.plus(duracion));
+            if (!tramos.isEmpty() && tramos.get(tramos.size() - 1).getLlegada().isAfter(salida)) {
+                throw new IllegalArgumentException("Las ocurrencias de la serie se solapan entre sí");
+            }
+            tramos.add(tramo);
+        }
+        if (tramos.isEmpty()) {
+            throw new IllegalArgumentException("La regla de recurrencia no genera ninguna ocurrencia");
+        }
+        return tramos;
+    }
+
+    private Aeronave validarAeronave(SerieVuelosCreateDTO dto) {
+        Aeronave aeronave = aeronaveRepository.findById(dto.getAeronaveId())
+                .orElseThrow(() -> new AeronaveNoEncontradaException(
+                        "Aeronave no encontrada con ID: " + dto.getAeronaveId()
+                ));
+        if (aeronave.getEstado() != EstadoAeronave.DISPONIBLE) {
+            throw new AsignacionInvalidaException(
+                    "La aeronave no está disponible. Estado actual: " + aeronave.getEstado()
+            );
+        }
+        if (dto.getNumeroPasajeros() != null && aeronave.getCapacidadPasajeros() != null
+                && dto.getNumeroPasajeros() > aeronave.getCapacidadPasajeros()) {
+            throw new AsignacionInvalidaException(
+                    String.format("La aeronave tiene capacidad para %d pasajeros, pero el vuelo requiere %d",
+                            aeronave.getCapacidadPasajeros(), dto.getNumeroPasajeros())
+            );
+        }
+        return aeronave;
+    }
+
+    private List<Tripulante> validarTripulacion(List<Long> ids) {
+        List<Long> tripulanteIds = ids.stream().distinct().toList();
+        Map<Long, Tripulante> tripulantesPorId = tripulanteRepository.findAllConUsuarioByIdIn(tripulanteIds)
+                .stream()
+                .collect(Collectors.toMap(Tripulante::getId, Function.identity()));
+
+        List<Tripulante> tripulantes = new ArrayList<>();
+        boolean tienePiloto = false;
+        for (Long tripulanteId : tripulanteIds) {
+            Tripulante tripulante = tripulantesPorId.get(tripulanteId);
+            if (tripulante == null) {
+                throw new TripulanteNoEncontradoException("Tripulante no encontrado con ID: " + tripulanteId);
+            }
+            if (tripulante.getEstado() != EstadoTripulante.DISPONIBLE) {
+                throw new AsignacionInvalidaException(
+                        String.format("El tripulante %s no está disponible. Estado: %s",
+                                tripulante.getNumeroLicencia(), tripulante.getEstado())
+                );
+            }
+            if (tripulante.getFechaVencimientoLicencia() != null &&
+                tripulante.getFechaVencimientoLicencia().isBefore(LocalDate.now())) {
+                throw new AsignacionInvalidaException(
+                        String.format("El tripulante %s tiene la licencia vencida", tripulante.getNumeroLicencia())
+                );
+            }
+            tienePiloto |= Boolean.TRUE.equals(tripulante.getEsPiloto());
+            tripulantes.add(tripulante);
+        }
+        if (!tienePiloto) {
+            throw new AsignacionInvalidaException("La tripulación debe incluir al menos un piloto");
+        }
+        return tripulantes;
+    }
+
+    /**
+     * Compara las ocurrencias con la agenda de la aeronave (incluida rotación y reposicionamiento),
+     * entre sí y con las retenciones vigentes, usando una sola consulta para todo el rango de la serie.
+     */
+    private void detectarConflictosAeronave(Aeronave aeronave, List<TramoAgenda> tramos,
+                                            List<List<ConflictoAgendaDTO>> conflictos) {
+        String modelo = aeronave.getModelo();
+        Duration margen = reglasRotacion.rotacion(modelo).plus(reglasRotacion.reposicionamientoMaximo());
+        LocalDateTime inicio = tramos.get(0).getSalida();
+        LocalDateTime fin = tramos.get(tramos.size() - 1).getLlegada();
+
+        List<TramoVueloAeronave> agenda = vueloRepository.findTramosAeronaveEnRango(
+                aeronave.getId(), inicio.minus(margen), fin.plus(margen), ESTADOS_ACTIVOS);
+        List<IntervaloVuelo> retenciones = registroRetenciones.intervalosAeronaves(inicio, fin).stream()
+                .filter(intervalo -> aeronave.getId().equals(intervalo.getRecursoId()))
+                .toList();
+
+        for (int i = 0; i < tramos.size(); i++) {
+            TramoAgenda tramo = tramos.get(i);
+            LocalDateTime desde = tramo.getSalida().minus(margen);
+            LocalDateTime hasta = tramo.getLlegada().plus(margen);
+            for (TramoVueloAeronave existente : agenda) {
+                if (!existente.getFechaSalida().isBefore(hasta)) {
+                    break;
+                }
+                if (!existente.getFechaLlegada().isAfter(desde)) {
+                    continue;
+                }
+                TramoAgenda otro = new TramoAgenda(existente.getOrigen(), existente.getDestino(),
+                        existente.getFechaSalida(), existente.getFechaLlegada());
+                if (reglasRotacion.hayConflicto(modelo, tramo, otro)) {
+                    conflictos.get(i).add(ConflictoAgendaDTO.builder()
+                            .vueloId(existente.getVueloId())
+                            .origen(existente.getOrigen())
+                            .destino(existente.getDestino())
+                            .fechaSalida(existente.getFechaSalida())
+                            .fechaLlegada(existente.getFechaLlegada())
+                            .descripcion("La aeronave " + aeronave.getMatricula()
+                                    + " tiene otro vuelo sin tiempo de rotación")
+                            .build());
+                }
+            }
+            if (i > 0 && reglasRotacion.hayConflicto(modelo, tramos.get(i - 1), tramo)) {
+                conflictos.get(i).add(ConflictoAgendaDTO.builder()
+                        .origen(tramo.getOrigen())
+                        .destino(tramo.getDestino())
+                        .fechaSalida(tramos.get(i - 1).getSalida())
+                        .fechaLlegada(tramos.get(i - 1).getLlegada())
+                        .descripcion("No hay tiempo de rotación desde la ocurrencia anterior de la serie")
+                        .build());
+            }
+            agregarRetenciones(retenciones, tramo, conflictos.get(i),
+                    "La aeronave está retenida temporalmente para otro vuelo pendiente de pago");
+        }
+    }
+
+    /**
+     * Compara las ocurrencias con la agenda y las retenciones de toda la tripulación,
+     * usando una sola consulta para todo el rango de la serie.
+     */
+    private void detectarConflictosTripulacion(List<Tripulante> tripulantes, List<TramoAgenda> tramos,
+                                               List<List<ConflictoAgendaDTO>> conflictos) {
+        List<Long> tripulanteIds = tripulantes.stream().map(Tripulante::getId).toList();
+        Map<Long, String> licencias = tripulantes.stream()
+                .collect(Collectors.toMap(Tripulante::getId, Tripulante::getNumeroLicencia));
+        LocalDateTime inicio = tramos.get(0).getSalida();
+        LocalDateTime fin = tramos.get(tramos.size() - 1).getLlegada();
+
+        List<ConflictoTripulanteVuelo> agenda = vueloRepository.findConflictosTripulantesEnRango(
+                tripulanteIds, inicio, fin, ESTADOS_ACTIVOS);
+        List<IntervaloVuelo> retenciones = registroRetenciones.intervalosTripulantes(inicio, fin).stream()
+                .filter(intervalo -> licencias.containsKey(intervalo.getRecursoId()))
+                .toList();
+
+        for (int i = 0; i < tramos.size(); i++) {
+            TramoAgenda tramo = tramos.get(i);
+            for (ConflictoTripulanteVuelo existente : agenda) {
+                if (existente.getFechaSalida().isBefore(tramo.getLlegada())
+                        && existente.getFechaLlegada().isAfter(tramo.getSalida())) {
+                    conflictos.get(i).add(ConflictoAgendaDTO.builder()
+                            .vueloId(existente.getVueloId())
+                            .origen(existente.getOrigen())
+                            .destino(existente.getDestino())
+                            .fechaSalida(existente.getFechaSalida())
+                            .fechaLlegada(existente.getFechaLlegada())
+                            .estadoVuelo(existente.getEstado())
+                            .descripcion("El tripulante " + licencias.get(existente.getTripulanteId())
+                                    + " tiene conflictos de horario")
+                            .build());
+                }
+            }
+            agregarRetenciones(retenciones, tramo, conflictos.get(i),
+                    "Un tripulante está retenido temporalmente para otro vuelo pendiente de pago");
+        }
+    }
+
+    private static void agregarRetenciones(List<IntervaloVuelo> retenciones, TramoAgenda tramo,
+                                           List<ConflictoAgendaDTO> conflictos, String descripcion) {
+        for (IntervaloVuelo retencion : retenciones) {
+            if (retencion.getFechaSalida().isBefore(tramo.getLlegada())
+                    && retencion.getFechaLlegada().isAfter(tramo.getSalida())) {
+                conflictos.add(ConflictoAgendaDTO.builder()
+                        .vueloId(retencion.getVueloId())
+                        .fechaSalida(retencion.getFechaSalida())
+                        .fechaLlegada(retencion.getFechaLlegada())
+                        .descripcion(descripcion)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Inserta los vuelos y su tripulación con lotes JDBC. Los IDs generados se recuperan por la serie,
+     * en el mismo orden de salida de las ocurrencias. Se escriben las mismas columnas que deja
+     * {@code crearVuelo}, incluido el costo estimado, para que las ocurrencias aparezcan en las
+     * búsquedas por costo igual que un vuelo individual.
+     */
+    private List<Long> insertarVuelos(String serieId, SerieVuelosCreateDTO dto, Aeronave aeronave,
+                                      List<Long> tripulanteIds, List<TramoAgenda> tramos) {
+        Long aeronaveId = aeronave != null ? aeronave.getId() : null;
+        LocalDateTime ahora = LocalDateTime.now();
+        List<Object[]> filas = new ArrayList<>(tramos.size());
+        for (TramoAgenda tramo : tramos) {
+            filas.add(new Object[]{dto.getUsuarioId(), aeronaveId, tramo.getOrigen(), tramo.getDestino(),
+                    tramo.getSalida(), tramo.getLlegada(), dto.getNumeroPasajeros(), EstadoVuelo.SOLICITADO.name(),
+                    dto.getProposito(), ahora, dto.getCostoEstimado(), serieId});
+        }
+        try {
+            jdbcTemplate.batchUpdate(SQL_INSERTAR_VUELO, filas);
+        } catch (DataIntegrityViolationException e) {
+            if (RestriccionesAgenda.esConflictoDeAgenda(e)) {
+                throw new ConflictoDisponibilidadException(
+                        "La serie genera conflictos de horario con la agenda de la aeronave", e);
+            }
+            throw e;
+        }
+
+        List<Long> vueloIds = vueloRepository.findIdsBySerieId(serieId);
+        if (!tripulanteIds.isEmpty()) {
+            List<Object[]> asignaciones = new ArrayList<>(vueloIds.size() * tripulanteIds.size());
+            for (Long vueloId : vueloIds) {
+                for (Long tripulanteId : tripulanteIds) {
+                    asignaciones.add(new Object[]{vueloId, tripulanteId});
+                }
+            }
+            try {
+                jdbcTemplate.batchUpdate(SQL_INSERTAR_TRIPULACION, asignaciones);
+            } catch (DataIntegrityViolationException e) {
+                if (RestriccionesAgenda.esConflictoDeAgenda(e)) {
+                    throw new ConflictoDisponibilidadException(
+                            "La serie genera conflictos de horario con la agenda de la tripulación", e);
+                }
+                throw e;
+            }
+        }
+
+        for (int i = 0; i < vueloIds.size(); i++) {
+            TramoAgenda tramo = tramos.get(i);
+            Vuelo vuelo = Vuelo.builder()
+                    .id(vueloIds.get(i))
+                    .aeronave(aeronave)
+                    .origen(tramo.getOrigen())
+                    .destino(tramo.getDestino())
+                    .fechaSalidaProgramada(tramo.getSalida())
+                    .fechaLlegadaProgramada(tramo.getLlegada())
+                    .estado(EstadoVuelo.SOLICITADO)
+                    .costoEstimado(dto.getCostoEstimado())
+                    .build();
+            indiceAgenda.actualizarVuelo(vuelo);
+            eventos.publishEvent(EventoCambioEstado.vuelo(vuelo.getId(), aeronaveId, EstadoVuelo.SOLICITADO));
+        }
+        return vueloIds;
+    }
+}
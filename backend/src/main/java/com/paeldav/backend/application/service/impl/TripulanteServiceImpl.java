@@ -1,4 +1,47 @@
 package com.paeldav.backend.application.service.impl;
 
-public class TripulanteServiceImpl {
+import com.paeldav.backend.application.service.base.TripulanteService;
+import com.paeldav.backend.application.service.horas.AcumuladorHorasVuelo;
+import com.paeldav.backend.exception.TripulanteNoEncontradoException;
+import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementación del servicio de gestión de tripulantes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class TripulanteServiceImpl implements TripulanteService {
+
+    private final TripulanteRepository tripulanteRepository;
+    private final AcumuladorHorasVuelo acumuladorHoras;
+
+    @Override
+    public void incrementarHorasVuelo(Long tripulanteId, Double horasVuelo) {
+        log.info("Incrementando horas de vuelo para tripulante ID: {}. Horas a agregar: {}", tripulanteId, horasVuelo);
+
+        if (horasVuelo == null || horasVuelo <= 0) {
+            log.warn("Intento de agregar horas de vuelo inválidas. Tripulante ID: {}, Horas: {}", tripulanteId, horasVuelo);
+            throw new IllegalArgumentException("Las horas de vuelo a agregar deben ser positivas");
+        }
+
+        // Con escritura diferida el incremento se acumula en memoria; si no, se aplica con un UPDATE atómico
+        boolean existe = acumuladorHoras.estaHabilitado()
+                ? tripulanteRepository.existsById(tripulanteId)
+                : tripulanteRepository.incrementarHorasVuelo(tripulanteId, horasVuelo) > 0;
+        if (!existe) {
+            log.warn("Tripulante no encontrado para incrementar horas. ID: {}", tripulanteId);
+            throw new TripulanteNoEncontradoException("Tripulante no encontrado con ID: " + tripulanteId);
+        }
+        if (acumuladorHoras.estaHabilitado()) {
+            acumuladorHoras.acumularTripulante(tripulanteId, horasVuelo);
+        }
+
+        log.info("Horas de vuelo incrementadas exitosamente. Tripulante ID: {}", tripulanteId);
+    }
 }
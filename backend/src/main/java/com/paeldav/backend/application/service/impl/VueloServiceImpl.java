@@ -1,24 +1,54 @@
 package com.paeldav.backend.application.service.impl;
 
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.application.dto.vuelo.*;
 import com.paeldav.backend.application.mapper.HistorialVueloMapper;
 import com.paeldav.backend.application.mapper.VueloMapper;
+import com.paeldav.backend.application.service.agenda.IndiceAgendaAeronaves;
+import com.paeldav.backend.application.service.agenda.ReglasRotacion;
+import com.paeldav.backend.application.service.agenda.TramoAgenda;
+import com.paeldav.backend.application.service.bloqueo.BloqueoRecursos;
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
+import com.paeldav.backend.application.service.horas.RegistroHorasVuelo;
+import com.paeldav.backend.application.service.mantenimiento.PronosticoMantenimiento;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
+import com.paeldav.backend.application.service.tiemporeal.EventoCambioEstado;
 import com.paeldav.backend.application.service.base.VueloService;
 import com.paeldav.backend.application.service.base.PagoService;
 import com.paeldav.backend.domain.entity.*;
 import com.paeldav.backend.domain.enums.EstadoAeronave;
 import com.paeldav.backend.domain.enums.EstadoTripulante;
 import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.domain.enums.TipoNotaVuelo;
 import com.paeldav.backend.exception.*;
+import com.paeldav.backend.infraestructure.config.RestriccionesAgenda;
 import com.paeldav.backend.infraestructure.repository.*;
+import com.paeldav.backend.infraestructure.repository.projection.ConflictoTripulanteVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.TripulanteVuelo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementación del servicio de gestión de agendamiento de vuelos.
@@ -36,11 +66,34 @@ public class VueloServiceImpl implements VueloService {
     private final PagoService pagoService;
     private final VueloMapper vueloMapper;
     private final HistorialVueloMapper historialVueloMapper;
+    private final NotaVueloRepository notaVueloRepository;
+    private final IndiceAgendaAeronaves indiceAgenda;
+    private final ReglasRotacion reglasRotacion;
+    private final RestriccionesAgenda restriccionesAgenda;
+    private final BloqueoRecursos bloqueoRecursos;
+    private final RegistroRetenciones registroRetenciones;
+    private final CacheAeronaves cacheAeronaves;
+    private final PronosticoMantenimiento pronosticoMantenimiento;
+    private final RegistroHorasVuelo registroHoras;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventos;
+
+    @Value("${vuelo.transicion-masiva.tamano-lote:200}")
+    private int tamanoLoteTransiciones = 200;
 
     private static final List<EstadoVuelo> ESTADOS_ACTIVOS = List.of(
             EstadoVuelo.SOLICITADO, EstadoVuelo.CONFIRMADO, EstadoVuelo.EN_CURSO
     );
 
+    private static final int LIMITE_PAGINA_DEFECTO = 50;
+    private static final int LIMITE_PAGINA_MAXIMO = 200;
+    private static final String SEPARADOR_CURSOR = "|";
+
+    private static final String SQL_INSERTAR_HISTORIAL =
+            "INSERT INTO historial_vuelos (vuelo_id, estado_anterior, estado_nuevo, tipo_accion, motivo, fecha_cambio) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
     @Override
     @Transactional
     public VueloDTO crearVuelo(VueloCreateDTO vueloCreateDTO) {
@@ -59,6 +112,9 @@ public class VueloServiceImpl implements VueloService {
 
         // Guardar en base de datos
         vuelo = vueloRepository.save(vuelo);
+        indiceAgenda.actualizarVuelo(vuelo);
+        pronosticoMantenimiento.actualizarVuelo(vuelo);
+        notificarCambio(vuelo);
 
         return vueloMapper.toDTO(vuelo);
     }
@@ -76,9 +132,54 @@ public class VueloServiceImpl implements VueloService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<VueloDTO> obtenerTodosVuelos() {
-        List<Vuelo> vuelos = vueloRepository.findAll();
-        return vueloMapper.toDTOList(vuelos);
+    public PaginaVuelosDTO obtenerTodosVuelos(FiltroVuelosDTO filtro, String cursor, Integer limite) {
+        FiltroVuelosDTO criterios = filtro != null ? filtro : new FiltroVuelosDTO();
+        if (criterios.getDesde() != null && criterios.getHasta() != null
+                && !criterios.getHasta().isAfter(criterios.getDesde())) {
+            throw new IllegalArgumentException("La fecha de fin debe ser posterior a la fecha de inicio");
+        }
+        if (criterios.getPasajerosMinimo() != null && criterios.getPasajerosMaximo() != null
+                && criterios.getPasajerosMinimo() > criterios.getPasajerosMaximo()) {
+            throw new IllegalArgumentException("El mínimo de pasajeros no puede superar el máximo");
+        }
+        if (criterios.getCostoMinimo() != null && criterios.getCostoMaximo() != null
+                && criterios.getCostoMinimo() > criterios.getCostoMaximo()) {
+            throw new IllegalArgumentException("El costo mínimo no puede superar el costo máximo");
+        }
+        criterios.setOrigen(normalizarCiudad(criterios.getOrigen()));
+        criterios.setDestino(normalizarCiudad(criterios.getDestino()));
+        int tamano = limite != null ? limite : LIMITE_PAGINA_DEFECTO;
+        if (tamano < 1 || tamano > LIMITE_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException(
+                    "El límite de la página debe estar entre 1 y " + LIMITE_PAGINA_MAXIMO);
+        }
+
+        LocalDateTime cursorSalida = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separador = valor.indexOf(SEPARADOR_CURSOR);
+                cursorSalida = LocalDateTime.parse(valor.substring(0, separador));
+                cursorId = Long.parseLong(valor.substring(separador + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Cursor de paginación inválido");
+            }
+        }
+
+        // Se pide un vuelo extra para saber si hay una página siguiente sin contar filas
+        List<VueloDTO> vuelos = vueloRepository.buscarPagina(criterios, cursorSalida, cursorId, tamano + 1);
+
+        boolean hayMas = vuelos.size() > tamano;
+        List<VueloDTO> pagina = hayMas ? vuelos.subList(0, tamano) : vuelos;
+        String siguienteCursor = hayMas ? codificarCursor(pagina.get(pagina.size() - 1)) : null;
+        asignarTripulacionIds(pagina);
+
+        return PaginaVuelosDTO.builder()
+                .vuelos(pagina)
+                .siguienteCursor(siguienteCursor)
+                .hayMas(hayMas)
+                .build();
     }
 
     @Override
@@ -93,6 +194,10 @@ public class VueloServiceImpl implements VueloService {
         vueloMapper.updateEntityFromDTO(vueloUpdateDTO, vuelo);
 
         vuelo = vueloRepository.save(vuelo);
+        confirmarAgenda("Los nuevos horarios del vuelo generan conflictos con la agenda de sus recursos asignados");
+        indiceAgenda.actualizarVuelo(vuelo);
+        pronosticoMantenimiento.actualizarVuelo(vuelo);
+        notificarCambio(vuelo);
 
         return vueloMapper.toDTO(vuelo);
     }
@@ -121,6 +226,19 @@ public class VueloServiceImpl implements VueloService {
         // Cambiar estado a cancelado
         vuelo.setEstado(EstadoVuelo.CANCELADO);
         vueloRepository.save(vuelo);
+        indiceAgenda.actualizarVuelo(vuelo);
+        pronosticoMantenimiento.actualizarVuelo(vuelo);
+        notificarCambio(vuelo);
+        registroRetenciones.liberar(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean liberarRetencion(Long id) {
+        if (!vueloRepository.existsById(id)) {
+            throw new VueloNoEncontradoException("Vuelo no encontrado con ID: " + id);
+        }
+        return registroRetenciones.liberar(id);
     }
 
     @Override
@@ -135,28 +253,20 @@ public class VueloServiceImpl implements VueloService {
         validarTransicionEstado(vuelo.getEstado(), nuevoEstado);
 
         // Validar que el vuelo tiene pago confirmado antes de pasar a EN_CURSO
-        if (nuevoEstado == EstadoVuelo.EN_CURSO && vuelo.getCostoEstimado() != null) {
-            if (!pagoService.tienePagoConfirmado(vuelo.getId(), vuelo.getCostoEstimado())) {
-                throw new IllegalStateException(
-                        "No se puede iniciar un vuelo sin pagos confirmados. " +
-                        "Costo estimado: " + vuelo.getCostoEstimado() + 
-                        ", Pagos confirmados: " + pagoService.obtenerTotalPagosConfirmados(vuelo.getId())
-                );
-            }
-        }
+        validarPagoParaIniciar(vuelo, nuevoEstado);
 
         // Cambiar estado
         vuelo.setEstado(nuevoEstado);
         vuelo = vueloRepository.save(vuelo);
+        aplicarEfectosTransicion(vuelo);
 
         return vueloMapper.toDTO(vuelo);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<VueloDTO> obtenerVuelosPorEstado(EstadoVuelo estado) {
-        List<Vuelo> vuelos = vueloRepository.findByEstado(estado);
-        return vueloMapper.toDTOList(vuelos);
+    public PaginaVuelosDTO obtenerVuelosPorEstado(EstadoVuelo estado, String cursor, Integer limite) {
+        return obtenerTodosVuelos(FiltroVuelosDTO.builder().estado(estado).build(), cursor, limite);
     }
 
     /**
@@ -221,6 +331,12 @@ public class VueloServiceImpl implements VueloService {
 
         EstadoVuelo estadoAnterior = vuelo.getEstado();
 
+        // Retener los recursos propuestos mientras el cliente completa el pago
+        if (dto != null && (dto.getAeronaveId() != null
+                || (dto.getTripulanteIds() != null && !dto.getTripulanteIds().isEmpty()))) {
+            retenerRecursos(vuelo, dto.getAeronaveId(), dto.getTripulanteIds());
+        }
+
         // Cambiar estado a CONFIRMADO
         vuelo.setEstado(EstadoVuelo.CONFIRMADO);
 
@@ -230,6 +346,9 @@ public class VueloServiceImpl implements VueloService {
         }
 
         vuelo = vueloRepository.save(vuelo);
+        indiceAgenda.actualizarVuelo(vuelo);
+        pronosticoMantenimiento.actualizarVuelo(vuelo);
+        notificarCambio(vuelo);
 
         // Registrar en historial
         registrarHistorial(vuelo, estadoAnterior, EstadoVuelo.CONFIRMADO, "APROBACION",
@@ -258,6 +377,9 @@ public class VueloServiceImpl implements VueloService {
         // Cambiar estado a CANCELADO
         vuelo.setEstado(EstadoVuelo.CANCELADO);
         vuelo = vueloRepository.save(vuelo);
+        indiceAgenda.actualizarVuelo(vuelo);
+        pronosticoMantenimiento.actualizarVuelo(vuelo);
+        notificarCambio(vuelo);
 
         // Registrar en historial con motivo obligatorio
         registrarHistorial(vuelo, estadoAnterior, EstadoVuelo.CANCELADO, "RECHAZO", dto.getMotivo());
@@ -265,6 +387,35 @@ public class VueloServiceImpl implements VueloService {
         return vueloMapper.toDTO(vuelo);
     }
 
+    @Override
+    public ResultadoTransicionMasivaDTO aplicarTransicionMasiva(TransicionMasivaDTO dto) {
+        if (dto.getNuevoEstado() == null) {
+            throw new IllegalArgumentException("El nuevo estado es obligatorio");
+        }
+        List<Long> vueloIds = dto.getVueloIds() == null ? List.of()
+                : dto.getVueloIds().stream().filter(Objects::nonNull).distinct().toList();
+        int tamanoLote = Math.max(1, tamanoLoteTransiciones);
+
+        long inicio = System.nanoTime();
+        List<ResultadoTransicionDTO> resultados = new ArrayList<>(vueloIds.size());
+        int lotes = 0;
+        for (int desde = 0; desde < vueloIds.size(); desde += tamanoLote) {
+            List<Long> lote = vueloIds.subList(desde, Math.min(desde + tamanoLote, vueloIds.size()));
+            resultados.addAll(aplicarLoteTransiciones(lote, dto.getNuevoEstado(), dto.getMotivo()));
+            lotes++;
+        }
+
+        int aplicadas = (int) resultados.stream().filter(ResultadoTransicionDTO::isAplicada).count();
+        return ResultadoTransicionMasivaDTO.builder()
+                .total(resultados.size())
+                .aplicadas(aplicadas)
+                .fallidas(resultados.size() - aplicadas)
+                .lotes(lotes)
+                .msTotal(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio))
+                .resultados(resultados)
+                .build();
+    }
+
     // ==================== ASIGNACIÓN DE RECURSOS ====================
 
     @Override
@@ -303,35 +454,38 @@ public class VueloServiceImpl implements VueloService {
             );
         }
 
-        // Validar conflictos de horario
-        List<Vuelo> vuelosConflicto = vueloRepository.findVuelosEnRangoPorAeronave(
-                aeronave.getId(),
-                vuelo.getFechaSalidaProgramada(),
-                vuelo.getFechaLlegadaProgramada(),
-                ESTADOS_ACTIVOS
-        );
-
-        // Excluir el vuelo actual si ya tenía esta aeronave asignada
-        vuelosConflicto = vuelosConflicto.stream()
-                .filter(v -> !v.getId().equals(vueloId))
-                .toList();
+        // Serializar las asignaciones concurrentes de la misma aeronave hasta el commit
+        bloqueoRecursos.bloquear(List.of(aeronave.getId()), List.of());
+        // Sin restricción de exclusión en la base de datos, el bloqueo de fila cubre también a los demás nodos
+        if (!restriccionesAgenda.aeronavesProtegidas()) {
+            aeronaveRepository.bloquearPorId(aeronave.getId());
+        }
 
-        if (!vuelosConflicto.isEmpty()) {
+        // Validar conflictos de horario
+        if (tieneConflictoHorarioAeronave(aeronave.getId(), aeronave.getModelo(), vuelo)) {
             throw new ConflictoDisponibilidadException(
                     "La aeronave tiene conflictos de horario con otros vuelos programados"
             );
         }
 
+        // Validar retenciones temporales de otros vuelos pendientes de pago
+        if (!registroRetenciones.buscarPorAeronave(aeronave.getId(), vuelo.getFechaSalidaProgramada(),
+                vuelo.getFechaLlegadaProgramada(), vuelo.getId()).isEmpty()) {
+            throw new ConflictoDisponibilidadException(
+                    "La aeronave está retenida temporalmente para otro vuelo pendiente de pago"
+            );
+        }
+
         // Asignar aeronave
         vuelo.setAeronave(aeronave);
 
-        // Agregar observaciones si se proporcionan
-        if (dto.getObservaciones() != null && !dto.getObservaciones().isBlank()) {
-            String obsActuales = vuelo.getObservaciones() != null ? vuelo.getObservaciones() + "\n" : "";
-            vuelo.setObservaciones(obsActuales + "[Asignación aeronave] " + dto.getObservaciones());
-        }
-
         vuelo = vueloRepository.save(vuelo);
+        registrarNota(vuelo, TipoNotaVuelo.ASIGNACION_AERONAVE, dto.getObservaciones());
+        confirmarAgenda("La aeronave tiene conflictos de horario con otros vuelos programados");
+        indiceAgenda.actualizarVuelo(vuelo);
+        pronosticoMantenimiento.actualizarVuelo(vuelo);
+        notificarCambio(vuelo);
+        registroRetenciones.consumir(vuelo.getId(), aeronave.getId(), List.of());
 
         // Registrar en historial
         registrarHistorial(vuelo, vuelo.getEstado(), vuelo.getEstado(), "ASIGNACION_AERONAVE",
@@ -355,14 +509,22 @@ public class VueloServiceImpl implements VueloService {
             );
         }
 
+        // Cargar toda la tripulación solicitada en una sola consulta
+        List<Long> tripulanteIds = dto.getTripulanteIds().stream().distinct().toList();
+        Map<Long, Tripulante> tripulantesPorId = tripulanteRepository.findAllConUsuarioByIdIn(tripulanteIds)
+                .stream()
+                .collect(Collectors.toMap(Tripulante::getId, t -> t));
+
         List<Tripulante> tripulantes = new ArrayList<>();
         boolean tienePiloto = false;
 
-        for (Long tripulanteId : dto.getTripulanteIds()) {
-            Tripulante tripulante = tripulanteRepository.findById(tripulanteId)
-                    .orElseThrow(() -> new TripulanteNoEncontradoException(
-                            "Tripulante no encontrado con ID: " + tripulanteId
-                    ));
+        for (Long tripulanteId : tripulanteIds) {
+            Tripulante tripulante = tripulantesPorId.get(tripulanteId);
+            if (tripulante == null) {
+                throw new TripulanteNoEncontradoException(
+                        "Tripulante no encontrado con ID: " + tripulanteId
+                );
+            }
 
             // Validar estado del tripulante
             if (tripulante.getEstado() != EstadoTripulante.DISPONIBLE) {
@@ -381,25 +543,6 @@ public class VueloServiceImpl implements VueloService {
                 );
             }
 
-            // Validar conflictos de horario
-            List<Vuelo> vuelosConflicto = vueloRepository.findVuelosEnRangoPorTripulante(
-                    tripulanteId,
-                    vuelo.getFechaSalidaProgramada(),
-                    vuelo.getFechaLlegadaProgramada(),
-                    ESTADOS_ACTIVOS
-            );
-
-            vuelosConflicto = vuelosConflicto.stream()
-                    .filter(v -> !v.getId().equals(vueloId))
-                    .toList();
-
-            if (!vuelosConflicto.isEmpty()) {
-                throw new ConflictoDisponibilidadException(
-                        String.format("El tripulante %s tiene conflictos de horario",
-                                tripulante.getNumeroLicencia())
-                );
-            }
-
             if (Boolean.TRUE.equals(tripulante.getEsPiloto())) {
                 tienePiloto = true;
             }
@@ -414,16 +557,49 @@ public class VueloServiceImpl implements VueloService {
             );
         }
 
-        // Asignar tripulación
-        vuelo.setTripulacion(tripulantes);
+        // Serializar las asignaciones concurrentes de estos tripulantes hasta el commit
+        bloqueoRecursos.bloquear(List.of(), tripulanteIds);
+        // Sin restricción de exclusión en la base de datos, el bloqueo de fila cubre también a los demás nodos
+        if (!restriccionesAgenda.tripulantesProtegidos()) {
+            tripulanteRepository.bloquearPorIds(tripulanteIds);
+        }
 
-        // Agregar observaciones si se proporcionan
-        if (dto.getObservaciones() != null && !dto.getObservaciones().isBlank()) {
-            String obsActuales = vuelo.getObservaciones() != null ? vuelo.getObservaciones() + "\n" : "";
-            vuelo.setObservaciones(obsActuales + "[Asignación tripulación] " + dto.getObservaciones());
+        // Validar conflictos de horario de toda la tripulación en una sola consulta
+        ConflictoTripulanteVuelo conflicto = vueloRepository.findConflictosTripulantesEnRango(
+                        tripulanteIds,
+                        vuelo.getFechaSalidaProgramada(),
+                        vuelo.getFechaLlegadaProgramada(),
+                        ESTADOS_ACTIVOS
+                ).stream()
+                .filter(c -> !c.getVueloId().equals(vueloId))
+                .findFirst()
+                .orElse(null);
+
+        if (conflicto != null) {
+            throw new ConflictoDisponibilidadException(
+                    String.format("El tripulante %s tiene conflictos de horario",
+                            tripulantesPorId.get(conflicto.getTripulanteId()).getNumeroLicencia())
+            );
+        }
+
+        // Validar retenciones temporales de otros vuelos pendientes de pago
+        for (Tripulante tripulante : tripulantes) {
+            if (!registroRetenciones.buscarPorTripulante(tripulante.getId(), vuelo.getFechaSalidaProgramada(),
+                    vuelo.getFechaLlegadaProgramada(), vueloId).isEmpty()) {
+                throw new ConflictoDisponibilidadException(
+                        String.format("El tripulante %s está retenido temporalmente para otro vuelo pendiente de pago",
+                                tripulante.getNumeroLicencia())
+                );
+            }
         }
 
+        // Asignar tripulación
+        vuelo.setTripulacion(tripulantes);
+
         vuelo = vueloRepository.save(vuelo);
+        registrarNota(vuelo, TipoNotaVuelo.ASIGNACION_TRIPULACION, dto.getObservaciones());
+        confirmarAgenda("La tripulación tiene conflictos de horario con otros vuelos programados");
+        registroRetenciones.consumir(vuelo.getId(), null, tripulanteIds);
 
         // Registrar en historial
         registrarHistorial(vuelo, vuelo.getEstado(), vuelo.getEstado(), "ASIGNACION_TRIPULACION",
@@ -448,13 +624,325 @@ public class VueloServiceImpl implements VueloService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<VueloDTO> obtenerVuelosPorUsuario(Long usuarioId) {
-        List<Vuelo> vuelos = vueloRepository.findByUsuarioId(usuarioId);
-        return vueloMapper.toDTOList(vuelos);
+    public PaginaVuelosDTO obtenerVuelosPorUsuario(Long usuarioId, String cursor, Integer limite) {
+        return obtenerTodosVuelos(FiltroVuelosDTO.builder().usuarioId(usuarioId).build(), cursor, limite);
+    }
+
+    // ==================== NOTAS ====================
+
+    @Override
+    @Transactional
+    public NotaVueloDTO agregarNota(Long vueloId, NotaVueloCreateDTO dto) {
+        if (dto.getTexto() == null || dto.getTexto().isBlank()) {
+            throw new IllegalArgumentException("El texto de la nota es obligatorio");
+        }
+        if (!vueloRepository.existsById(vueloId)) {
+            throw new VueloNoEncontradoException("Vuelo no encontrado con ID: " + vueloId);
+        }
+
+        NotaVuelo nota = registrarNota(vueloRepository.getReferenceById(vueloId), TipoNotaVuelo.GENERAL, dto.getTexto());
+        return NotaVueloDTO.builder()
+                .id(nota.getId())
+                .vueloId(vueloId)
+                .fecha(nota.getFecha())
+                .tipo(nota.getTipo())
+                .autor(nota.getAutor())
+                .texto(nota.getTexto())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaNotasVueloDTO obtenerNotas(Long vueloId, Long cursor, Integer limite) {
+        int tamano = limite != null ? limite : LIMITE_PAGINA_DEFECTO;
+        if (tamano < 1 || tamano > LIMITE_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException(
+                    "El límite de la página debe estar entre 1 y " + LIMITE_PAGINA_MAXIMO);
+        }
+        if (!vueloRepository.existsById(vueloId)) {
+            throw new VueloNoEncontradoException("Vuelo no encontrado con ID: " + vueloId);
+        }
+
+        // Se pide una nota extra para saber si hay una página siguiente sin contar filas
+        List<NotaVueloDTO> notas = notaVueloRepository.findPaginaByVueloId(
+                vueloId, cursor, PageRequest.of(0, tamano + 1));
+        boolean hayMas = notas.size() > tamano;
+        if (hayMas) {
+            notas = new ArrayList<>(notas.subList(0, tamano));
+        }
+        Long siguienteCursor = hayMas ? notas.get(notas.size() - 1).getId() : null;
+        return PaginaNotasVueloDTO.builder()
+                .notas(notas)
+                .siguienteCursor(siguienteCursor)
+                .hayMas(hayMas)
+                .build();
     }
 
     // ==================== MÉTODOS AUXILIARES ====================
 
+    /**
+     * Agrega una nota al vuelo si el texto no está vacío. Las observaciones de las asignaciones
+     * se guardan como notas en lugar de concatenarse sobre el vuelo.
+     */
+    private NotaVuelo registrarNota(Vuelo vuelo, TipoNotaVuelo tipo, String texto) {
+        if (texto == null || texto.isBlank()) {
+            return null;
+        }
+        Authentication autenticacion = SecurityContextHolder.getContext().getAuthentication();
+        NotaVuelo nota = NotaVuelo.builder()
+                .vuelo(vuelo)
+                .tipo(tipo)
+                .autor(autenticacion != null ? autenticacion.getName() : null)
+                .texto(texto.trim())
+                .fecha(LocalDateTime.now())
+                .build();
+        return notaVueloRepository.save(nota);
+    }
+
+    /**
+     * Verifica si la aeronave tiene otros vuelos activos incompatibles con el vuelo: que se solapen
+     * o que no dejen entre ambos el tiempo de rotación del modelo más el reposicionamiento entre ciudades.
+     * Usa el índice de agenda en memoria y solo consulta la base de datos cuando el índice
+     * no está cargado o reporta un posible solapamiento que debe confirmarse.
+     * El índice se actualiza tras el commit, así que solo se confía en él cuando la restricción
+     * de exclusión de la base de datos cubre la ventana entre dos asignaciones concurrentes.
+     */
+    private boolean tieneConflictoHorarioAeronave(Long aeronaveId, String modelo, Vuelo vuelo) {
+        TramoAgenda tramo = TramoAgenda.de(vuelo);
+        boolean indiceConfiable = restriccionesAgenda.aeronavesProtegidas() && indiceAgenda.estaCargado();
+        if (indiceConfiable && !indiceAgenda.hayConflictoOperativo(aeronaveId, modelo, tramo, vuelo.getId())) {
+            return false;
+        }
+
+        // Ampliar el rango para alcanzar los vuelos vecinos que no dejan tiempo de rotación o reposicionamiento
+        Duration margen = reglasRotacion.rotacion(modelo).plus(reglasRotacion.reposicionamientoMaximo());
+        List<Vuelo> vuelosCercanos = vueloRepository.findVuelosEnRangoPorAeronave(
+                aeronaveId,
+                vuelo.getFechaSalidaProgramada().minus(margen),
+                vuelo.getFechaLlegadaProgramada().plus(margen),
+                ESTADOS_ACTIVOS
+        );
+
+        // Excluir el vuelo actual si ya tenía esta aeronave asignada
+        return vuelosCercanos.stream()
+                .filter(v -> !v.getId().equals(vuelo.getId()))
+                .anyMatch(v -> reglasRotacion.hayConflicto(modelo, TramoAgenda.de(v), tramo));
+    }
+
+    /**
+     * Valida que los recursos propuestos estén libres en el horario del vuelo y los retiene
+     * temporalmente. La retención vence sola si no se asignan en firme a tiempo.
+     */
+    private void retenerRecursos(Vuelo vuelo, Long aeronaveId, List<Long> tripulanteIds) {
+        if (aeronaveId != null) {
+            AeronaveDTO aeronave = cacheAeronaves.buscarPorId(aeronaveId)
+                    .orElseThrow(() -> new AeronaveNoEncontradaException(
+                            "Aeronave no encontrada con ID: " + aeronaveId
+                    ));
+            if (tieneConflictoHorarioAeronave(aeronaveId, aeronave.getModelo(), vuelo)) {
+                throw new ConflictoDisponibilidadException(
+                        "La aeronave a retener tiene conflictos de horario con otros vuelos programados"
+                );
+            }
+        }
+        if (tripulanteIds != null && !tripulanteIds.isEmpty()) {
+            boolean hayConflicto = vueloRepository.findConflictosTripulantesEnRango(
+                            tripulanteIds,
+                            vuelo.getFechaSalidaProgramada(),
+                            vuelo.getFechaLlegadaProgramada(),
+                            ESTADOS_ACTIVOS
+                    ).stream()
+                    .anyMatch(c -> !c.getVueloId().equals(vuelo.getId()));
+            if (hayConflicto) {
+                throw new ConflictoDisponibilidadException(
+                        "Algún tripulante a retener tiene conflictos de horario con otros vuelos programados"
+                );
+            }
+        }
+
+        registroRetenciones.retener(vuelo.getId(), vuelo.getOrigen(), vuelo.getDestino(), aeronaveId,
+                tripulanteIds, vuelo.getFechaSalidaProgramada(), vuelo.getFechaLlegadaProgramada());
+    }
+
+    /**
+     * Impide iniciar un vuelo con costo estimado si sus pagos confirmados no lo cubren.
+     */
+    private void validarPagoParaIniciar(Vuelo vuelo, EstadoVuelo nuevoEstado) {
+        if (nuevoEstado == EstadoVuelo.EN_CURSO && vuelo.getCostoEstimado() != null) {
+            if (!pagoService.tienePagoConfirmado(vuelo.getId(), vuelo.getCostoEstimado())) {
+                throw new IllegalStateException(
+                        "No se puede iniciar un vuelo sin pagos confirmados. " +
+                        "Costo estimado: " + vuelo.getCostoEstimado() +
+                        ", Pagos confirmados: " + pagoService.obtenerTotalPagosConfirmados(vuelo.getId())
+                );
+            }
+        }
+    }
+
+    /**
+     * Aplica la transición a un lote de vuelos en una transacción. Si el lote falla al confirmarse,
+     * se reintenta vuelo por vuelo para aislar el que provoca el error.
+     */
+    private List<ResultadoTransicionDTO> aplicarLoteTransiciones(List<Long> lote, EstadoVuelo nuevoEstado,
+                                                                 String motivo) {
+        try {
+            return transactionTemplate.execute(estado -> transicionarLote(lote, nuevoEstado, motivo));
+        } catch (RuntimeException e) {
+            if (lote.size() == 1) {
+                return List.of(transicionFallida(lote.get(0), null, nuevoEstado, e.getMessage()));
+            }
+            List<ResultadoTransicionDTO> individuales = new ArrayList<>(lote.size());
+            for (Long vueloId : lote) {
+                individuales.addAll(aplicarLoteTransiciones(List.of(vueloId), nuevoEstado, motivo));
+            }
+            return individuales;
+        }
+    }
+
+    /**
+     * Valida y cambia el estado de los vuelos del lote dentro de la transacción actual.
+     * Las actualizaciones se envían en lote al hacer flush y el historial se inserta con un batch JDBC.
+     */
+    private List<ResultadoTransicionDTO> transicionarLote(List<Long> lote, EstadoVuelo nuevoEstado, String motivo) {
+        Map<Long, Vuelo> vuelos = vueloRepository.findConAeronaveByIdIn(lote).stream()
+                .collect(Collectors.toMap(Vuelo::getId, Function.identity()));
+        List<ResultadoTransicionDTO> resultados = new ArrayList<>(lote.size());
+        List<Object[]> historial = new ArrayList<>(lote.size());
+        LocalDateTime ahora = LocalDateTime.now();
+
+        for (Long vueloId : lote) {
+            Vuelo vuelo = vuelos.get(vueloId);
+            if (vuelo == null) {
+                resultados.add(transicionFallida(vueloId, null, nuevoEstado, "Vuelo no encontrado con ID: " + vueloId));
+                continue;
+            }
+            EstadoVuelo estadoAnterior = vuelo.getEstado();
+            String tipoAccion = tipoAccionTransicion(estadoAnterior, nuevoEstado);
+            try {
+                validarTransicionEstado(estadoAnterior, nuevoEstado);
+                if ("RECHAZO".equals(tipoAccion) && (motivo == null || motivo.isBlank())) {
+                    throw new IllegalArgumentException("El motivo del rechazo es obligatorio");
+                }
+                validarPagoParaIniciar(vuelo, nuevoEstado);
+            } catch (RuntimeException e) {
+                resultados.add(transicionFallida(vueloId, estadoAnterior, nuevoEstado, e.getMessage()));
+                continue;
+            }
+
+            vuelo.setEstado(nuevoEstado);
+            aplicarEfectosTransicion(vuelo);
+            String motivoHistorial = motivo == null && "APROBACION".equals(tipoAccion) ? "Solicitud aprobada" : motivo;
+            historial.add(new Object[]{vueloId, estadoAnterior.name(), nuevoEstado.name(), tipoAccion, motivoHistorial, ahora});
+            resultados.add(ResultadoTransicionDTO.builder()
+                    .vueloId(vueloId)
+                    .estadoAnterior(estadoAnterior)
+                    .estadoNuevo(nuevoEstado)
+                    .aplicada(true)
+                    .build());
+        }
+
+        if (!historial.isEmpty()) {
+            confirmarAgenda("El cambio de estado genera un conflicto de agenda");
+            jdbcTemplate.batchUpdate(SQL_INSERTAR_HISTORIAL, historial);
+        }
+        return resultados;
+    }
+
+    /**
+     * Efectos de un cambio de estado ya aplicado al vuelo, comunes al cambio individual y al masivo.
+     * Índice, pronóstico, horas y retenciones se actualizan al confirmarse la transacción actual.
+     */
+    private void aplicarEfectosTransicion(Vuelo vuelo) {
+        indiceAgenda.actualizarVuelo(vuelo);
+        pronosticoMantenimiento.actualizarVuelo(vuelo);
+        if (vuelo.getEstado() == EstadoVuelo.COMPLETADO) {
+            registroHoras.registrarVueloCompletado(vuelo);
+        }
+        notificarCambio(vuelo);
+        // Fuera de CONFIRMADO ya no tiene sentido retener recursos a la espera del pago
+        if (vuelo.getEstado() != EstadoVuelo.CONFIRMADO) {
+            registroRetenciones.liberar(vuelo.getId());
+        }
+    }
+
+    /**
+     * Tipo de acción registrado en el historial: aprobar y rechazar conservan el nombre de sus operaciones.
+     */
+    private static String tipoAccionTransicion(EstadoVuelo estadoAnterior, EstadoVuelo nuevoEstado) {
+        if (estadoAnterior == EstadoVuelo.SOLICITADO && nuevoEstado == EstadoVuelo.CONFIRMADO) {
+            return "APROBACION";
+        }
+        if (estadoAnterior == EstadoVuelo.SOLICITADO && nuevoEstado == EstadoVuelo.CANCELADO) {
+            return "RECHAZO";
+        }
+        return "CAMBIO_ESTADO";
+    }
+
+    private static ResultadoTransicionDTO transicionFallida(Long vueloId, EstadoVuelo estadoAnterior,
+                                                            EstadoVuelo nuevoEstado, String error) {
+        return ResultadoTransicionDTO.builder()
+                .vueloId(vueloId)
+                .estadoAnterior(estadoAnterior)
+                .estadoNuevo(nuevoEstado)
+                .aplicada(false)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * Envía los cambios pendientes a la base de datos para que las restricciones de exclusión
+     * de agenda se evalúen dentro del método y no al confirmar la transacción.
+     *
+     * @param mensajeConflicto mensaje de la excepción si la base de datos rechaza un solapamiento
+     */
+    private void confirmarAgenda(String mensajeConflicto) {
+        try {
+            vueloRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (RestriccionesAgenda.esConflictoDeAgenda(e)) {
+                throw new ConflictoDisponibilidadException(mensajeConflicto, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Completa los IDs de la tripulación de los vuelos con una sola consulta para toda la página.
+     */
+    private void asignarTripulacionIds(List<VueloDTO> vuelos) {
+        if (vuelos.isEmpty()) {
+            return;
+        }
+        List<Long> vueloIds = vuelos.stream().map(VueloDTO::getId).toList();
+        Map<Long, List<Long>> tripulacionPorVuelo = vueloRepository.findTripulacionIdsByVueloIdIn(vueloIds).stream()
+                .collect(Collectors.groupingBy(TripulanteVuelo::getVueloId,
+                        Collectors.mapping(TripulanteVuelo::getTripulanteId, Collectors.toList())));
+        vuelos.forEach(vuelo -> vuelo.setTripulacionIds(tripulacionPorVuelo.getOrDefault(vuelo.getId(), List.of())));
+    }
+
+    /**
+     * Quita los espacios sobrantes de una ciudad de búsqueda; vacía equivale a no filtrar.
+     */
+    private static String normalizarCiudad(String ciudad) {
+        return ciudad == null || ciudad.isBlank() ? null : ciudad.trim();
+    }
+
+    /**
+     * Codifica la clave de ordenamiento del vuelo como cursor opaco para la página siguiente.
+     */
+    private static String codificarCursor(VueloDTO vuelo) {
+        String valor = vuelo.getFechaSalidaProgramada() + SEPARADOR_CURSOR + vuelo.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Publica el estado actual del vuelo para su difusión en tiempo real tras confirmar la transacción.
+     */
+    private void notificarCambio(Vuelo vuelo) {
+        Long aeronaveId = vuelo.getAeronave() != null ? vuelo.getAeronave().getId() : null;
+        eventos.publishEvent(EventoCambioEstado.vuelo(vuelo.getId(), aeronaveId, vuelo.getEstado()));
+    }
+
     /**
      * Registra un cambio en el historial del vuelo.
      */
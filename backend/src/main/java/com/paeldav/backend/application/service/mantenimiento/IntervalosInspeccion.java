@@ -0,0 +1,74 @@
+package com.paeldav.backend.application.service.mantenimiento;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Horas de vuelo permitidas entre inspecciones, por modelo de aeronave.
+ *
+ * Formato de configuración de {@code mantenimiento.pronostico.intervalo-por-modelo}:
+ * {@code Modelo:horas} separados por ';'. Los modelos se comparan sin distinguir mayúsculas ni tildes;
+ * los que no aparecen usan el intervalo por defecto.
+ */
+@Component
+public class IntervalosInspeccion {
+
+    private final double intervaloDefecto;
+    private final Map<String, Double> intervaloPorModelo;
+
+    public IntervalosInspeccion(
+            @Value("${mantenimiento.pronostico.intervalo-horas:100}") double intervaloHoras,
+            @Value("${mantenimiento.pronostico.intervalo-por-modelo:}") String intervaloPorModelo) {
+        if (intervaloHoras <= 0) {
+            throw new IllegalArgumentException("El intervalo de inspección debe ser positivo");
+        }
+        this.intervaloDefecto = intervaloHoras;
+        this.intervaloPorModelo = parsear(intervaloPorModelo);
+    }
+
+    /**
+     * Horas de vuelo permitidas entre inspecciones para el modelo indicado.
+     */
+    public double intervalo(String modelo) {
+        if (modelo == null) {
+            return intervaloDefecto;
+        }
+        return intervaloPorModelo.getOrDefault(normalizar(modelo), intervaloDefecto);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static Map<String, Double> parsear(String especificacion) {
+        if (especificacion == null || especificacion.isBlank()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Double> resultado = new HashMap<>();
+        for (String entrada : especificacion.split(";")) {
+            if (entrada.isBlank()) {
+                continue;
+            }
+            int separador = entrada.lastIndexOf(':');
+            if (separador <= 0) {
+                throw new IllegalArgumentException("Entrada de intervalo de inspección inválida: " + entrada);
+            }
+            double horas = Double.parseDouble(entrada.substring(separador + 1).trim());
+            if (horas <= 0) {
+                throw new IllegalArgumentException("Entrada de intervalo de inspección inválida: " + entrada);
+            }
+            resultado.put(normalizar(entrada.substring(0, separador)), horas);
+        }
+        return resultado;
+    }
+
+    private static String normalizar(String texto) {
+        return Normalizer.normalize(texto.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,273 @@
+package com.paeldav.backend.application.service.mantenimiento;
+
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
+import com.paeldav.backend.application.dto.mantenimiento.PronosticoMantenimientoDTO;
+import com.paeldav.backend.application.service.transaccion.SincronizacionTransaccion;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.domain.enums.TipoMantenimiento;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.MantenimientoRepository;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.HorasInspeccionAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Pronóstico en memoria de la próxima inspección de cada aeronave de la flota.
+ *
+ * El umbral de una aeronave son las horas de su última inspección completada (PREVENTIVO o INSPECCION)
+ * más el intervalo de su modelo ({@link IntervalosInspeccion}). Las horas actuales se proyectan sumando,
+ * en orden de salida, la duración programada de sus vuelos CONFIRMADO y EN_CURSO; así se estima cuándo
+ * se alcanza el umbral y qué vuelos terminarían con la aeronave por encima de él. Al completarse, un vuelo
+ * suma sus horas a la aeronave ({@link com.paeldav.backend.application.service.horas.RegistroHorasVuelo}) en
+ * la misma transacción, así que sale de la proyección sin perderse; con escritura diferida de horas, queda
+ * sin contar solo hasta la siguiente escritura del acumulador, que vuelve a marcar la aeronave.
+ *
+ * El cálculo es incremental: los servicios notifican cada cambio de un vuelo o de las horas de una
+ * aeronave (si hay una transacción activa, al confirmarse) y solo las aeronaves afectadas se marcan como
+ * pendientes; las consultas recalculan las pendientes, en lote, antes de responder. Una tarea programada
+ * recalcula periódicamente toda la flota, lo que incorpora los cambios hechos fuera de los servicios
+ * (por ejemplo, mantenimientos registrados directamente).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PronosticoMantenimiento {
+
+    static final List<EstadoVuelo> ESTADOS_PROGRAMADOS = List.of(EstadoVuelo.CONFIRMADO, EstadoVuelo.EN_CURSO);
+    static final List<TipoMantenimiento> TIPOS_INSPECCION =
+            List.of(TipoMantenimiento.PREVENTIVO, TipoMantenimiento.INSPECCION);
+
+    /**
+     * Vencidas primero, luego por fecha estimada de umbral y por horas restantes.
+     */
+    private static final Comparator<PronosticoMantenimientoDTO> POR_URGENCIA = Comparator
+            .comparing((PronosticoMantenimientoDTO p) -> !p.getInspeccionVencida())
+            .thenComparing(PronosticoMantenimientoDTO::getFechaEstimadaUmbral,
+                    Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(PronosticoMantenimientoDTO::getHorasRestantes);
+
+    private final AeronaveRepository aeronaveRepository;
+    private final MantenimientoRepository mantenimientoRepository;
+    private final VueloRepository vueloRepository;
+    private final IntervalosInspeccion intervalos;
+
+    private final Map<Long, PronosticoMantenimientoDTO> pronosticos = new ConcurrentHashMap<>();
+    private final Map<Long, Long> aeronavePorVuelo = new ConcurrentHashMap<>();
+    private final Set<Long> pendientes = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean cargado = false;
+
+    /**
+     * Calcula el pronóstico de toda la flota al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        recalcularTodo();
+    }
+
+    /**
+     * Recalcula el pronóstico de toda la flota; se repite periódicamente. Si la consulta falla, se
+     * conservan los valores anteriores.
+     */
+    @Scheduled(initialDelayString = "${mantenimiento.pronostico.recalculo-completo-minutos:60}",
+            fixedDelayString = "${mantenimiento.pronostico.recalculo-completo-minutos:60}", timeUnit = TimeUnit.MINUTES)
+    public synchronized void recalcularTodo() {
+        try {
+            List<AeronaveDTO> aeronaves = aeronaveRepository.findAllComoDTO();
+            Map<Long, PronosticoMantenimientoDTO> calculados = calcular(aeronaves, true);
+            pronosticos.keySet().retainAll(calculados.keySet());
+            pronosticos.putAll(calculados);
+            cargado = true;
+            log.debug("Pronóstico de mantenimiento recalculado. Aeronaves: {}", calculados.size());
+        } catch (RuntimeException e) {
+            log.warn("No se pudo recalcular el pronóstico de mantenimiento de la flota", e);
+        }
+    }
+
+    /**
+     * Pronóstico de toda la flota, de la aeronave más urgente a la menos urgente.
+     */
+    public List<PronosticoMantenimientoDTO> obtenerFlota() {
+        aplicarPendientes();
+        return pronosticos.values().stream().sorted(POR_URGENCIA).toList();
+    }
+
+    /**
+     * Pronóstico de una aeronave; vacío si la aeronave no existe.
+     */
+    public Optional<PronosticoMantenimientoDTO> obtener(Long aeronaveId) {
+        if (!pronosticos.containsKey(aeronaveId)) {
+            pendientes.add(aeronaveId);
+        }
+        aplicarPendientes();
+        return Optional.ofNullable(pronosticos.get(aeronaveId));
+    }
+
+    /**
+     * Registra un cambio en un vuelo (alta, reprogramación, asignación de aeronave o cambio de estado).
+     * Se marcan como pendientes la aeronave actual del vuelo y la que tenía antes, si cambió.
+     */
+    public void actualizarVuelo(Vuelo vuelo) {
+        if (vuelo == null || vuelo.getId() == null) {
+            return;
+        }
+        Long vueloId = vuelo.getId();
+        Long aeronaveId = vuelo.getAeronave() != null && ESTADOS_PROGRAMADOS.contains(vuelo.getEstado())
+                ? vuelo.getAeronave().getId()
+                : null;
+        SincronizacionTransaccion.alConfirmar(() -> {
+            Long anterior = aeronaveId != null
+                    ? aeronavePorVuelo.put(vueloId, aeronaveId)
+                    : aeronavePorVuelo.remove(vueloId);
+            if (anterior != null) {
+                pendientes.add(anterior);
+            }
+            if (aeronaveId != null) {
+                pendientes.add(aeronaveId);
+            }
+        });
+    }
+
+    /**
+     * Registra un cambio en los datos de una aeronave que afectan su pronóstico (alta u horas de vuelo).
+     */
+    public void actualizarAeronave(Long aeronaveId) {
+        SincronizacionTransaccion.alConfirmar(() -> pendientes.add(aeronaveId));
+    }
+
+    /**
+     * Proyecta las horas de una aeronave con sus vuelos programados, ordenados por salida.
+     */
+    static PronosticoMantenimientoDTO proyectar(AeronaveDTO aeronave, double horasUltimaInspeccion,
+                                                double intervalo, List<TramoVueloAeronave> vuelos,
+                                                LocalDateTime ahora) {
+        double actuales = aeronave.getHorasVueloTotales() != null ? aeronave.getHorasVueloTotales() : 0.0;
+        double umbral = horasUltimaInspeccion + intervalo;
+        boolean vencida = actuales >= umbral;
+
+        double acumuladas = actuales;
+        LocalDateTime fechaUmbral = null;
+        Long vueloUmbral = null;
+        List<Long> exceden = new ArrayList<>();
+        for (TramoVueloAeronave vuelo : vuelos) {
+            double duracion = Math.max(0, Duration.between(vuelo.getFechaSalida(), vuelo.getFechaLlegada())
+                    .toMinutes()) / 60.0;
+            double alTerminar = acumuladas + duracion;
+            if (!vencida && vueloUmbral == null && alTerminar >= umbral) {
+                // El umbral se alcanza durante este vuelo: se interpola dentro de su duración
+                vueloUmbral = vuelo.getVueloId();
+                fechaUmbral = vuelo.getFechaSalida().plusSeconds(Math.round((umbral - acumuladas) * 3600));
+            }
+            if (alTerminar > umbral) {
+                exceden.add(vuelo.getVueloId());
+            }
+            acumuladas = alTerminar;
+        }
+
+        return PronosticoMantenimientoDTO.builder()
+                .aeronaveId(aeronave.getId())
+                .matricula(aeronave.getMatricula())
+                .modelo(aeronave.getModelo())
+                .horasActuales(redondear(actuales))
+                .horasUltimaInspeccion(redondear(horasUltimaInspeccion))
+                .intervaloHoras(redondear(intervalo))
+                .horasUmbral(redondear(umbral))
+                .horasRestantes(redondear(umbral - actuales))
+                .horasProgramadas(redondear(acumuladas - actuales))
+                .horasProyectadas(redondear(acumuladas))
+                .inspeccionVencida(vencida)
+                .fechaEstimadaUmbral(fechaUmbral)
+                .vueloQueAlcanzaUmbralId(vueloUmbral)
+                .vuelosQueExcedenLimite(exceden)
+                .calculadoEn(ahora)
+                .build();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Recalcula solo las aeronaves pendientes. Si el cálculo falla, quedan pendientes para la próxima
+     * consulta y se responde con los valores anteriores.
+     */
+    private synchronized void aplicarPendientes() {
+        if (!cargado) {
+            recalcularTodo();
+        }
+        if (pendientes.isEmpty()) {
+            return;
+        }
+        List<Long> lote = new ArrayList<>();
+        for (Long aeronaveId : pendientes) {
+            if (pendientes.remove(aeronaveId)) {
+                lote.add(aeronaveId);
+            }
+        }
+        try {
+            Map<Long, PronosticoMantenimientoDTO> calculados =
+                    calcular(aeronaveRepository.findComoDTOByIdIn(lote), false);
+            lote.stream().filter(id -> !calculados.containsKey(id)).forEach(pronosticos::remove);
+            pronosticos.putAll(calculados);
+            log.debug("Pronóstico de mantenimiento actualizado. Aeronaves: {}", lote);
+        } catch (RuntimeException e) {
+            pendientes.addAll(lote);
+            log.warn("No se pudo actualizar el pronóstico de mantenimiento de las aeronaves {}", lote, e);
+        }
+    }
+
+    /**
+     * Calcula el pronóstico de un grupo de aeronaves con una consulta de inspecciones y una de vuelos.
+     * En el cálculo de toda la flota también se reconstruye la relación vuelo-aeronave.
+     */
+    private Map<Long, PronosticoMantenimientoDTO> calcular(List<AeronaveDTO> aeronaves, boolean flotaCompleta) {
+        if (aeronaves.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = aeronaves.stream().map(AeronaveDTO::getId).toList();
+        Map<Long, Double> horasInspeccion = mantenimientoRepository.findHorasUltimaInspeccion(ids, TIPOS_INSPECCION)
+                .stream()
+                .collect(Collectors.toMap(HorasInspeccionAeronave::getAeronaveId, HorasInspeccionAeronave::getHoras));
+        List<TramoVueloAeronave> tramos = vueloRepository.findTramosPorAeronaves(ids, ESTADOS_PROGRAMADOS);
+        Map<Long, List<TramoVueloAeronave>> vuelosPorAeronave = tramos.stream()
+                .collect(Collectors.groupingBy(TramoVueloAeronave::getAeronaveId));
+        if (flotaCompleta) {
+            aeronavePorVuelo.clear();
+            tramos.forEach(tramo -> aeronavePorVuelo.put(tramo.getVueloId(), tramo.getAeronaveId()));
+        }
+
+        LocalDateTime ahora = LocalDateTime.now();
+        Map<Long, PronosticoMantenimientoDTO> resultado = new HashMap<>();
+        for (AeronaveDTO aeronave : aeronaves) {
+            resultado.put(aeronave.getId(), proyectar(
+                    aeronave,
+                    horasInspeccion.getOrDefault(aeronave.getId(), 0.0),
+                    intervalos.intervalo(aeronave.getModelo()),
+                    vuelosPorAeronave.getOrDefault(aeronave.getId(), List.of()),
+                    ahora));
+        }
+        return resultado;
+    }
+
+    private static double redondear(double valor) {
+        return Math.round(valor * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,351 @@
+package com.paeldav.backend.application.service.motor;
+
+import com.paeldav.backend.application.service.agenda.IndiceAgendaAeronaves;
+import com.paeldav.backend.application.service.base.PagoService;
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
+import com.paeldav.backend.application.service.horas.RegistroHorasVuelo;
+import com.paeldav.backend.application.service.mantenimiento.PronosticoMantenimiento;
+import com.paeldav.backend.application.service.flota.ContadorEstadosFlota;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
+import com.paeldav.backend.application.service.tiemporeal.EventoCambioEstado;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.HistorialVuelo;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoTripulante;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.HistorialVueloRepository;
+import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Motor que avanza automáticamente el estado de los vuelos según sus horarios.
+ *
+ * <ul>
+ *   <li>CONFIRMADO → EN_CURSO al llegar la salida programada, si el pago cubre el costo estimado y la
+ *       salida real registrada (si existe) no es posterior. La aeronave y la tripulación pasan a EN_VUELO.</li>
+ *   <li>EN_CURSO → COMPLETADO al llegar la llegada programada, salvo que la llegada real registrada sea
+ *       posterior. La aeronave y la tripulación vuelven a DISPONIBLE y suman las horas del vuelo.</li>
+ * </ul>
+ *
+ * La cola de trabajo es la propia tabla ordenada por los índices (estado, salida, id) y
+ * (estado, llegada, id): cada ciclo lee solo los vuelos vencidos, en lotes por clave, cada lote en
+ * su propia transacción y con las filas bloqueadas (omitiendo las bloqueadas por otro nodo). Los ciclos
+ * corren en el programador compartido de la aplicación: cada uno se programa para el próximo vencimiento,
+ * con una espera máxima configurable para detectar vuelos creados o reprogramados mientras tanto.
+ *
+ * Los pagos de un lote se verifican con una sola consulta agrupada. Un vuelo vencido sin pago suficiente
+ * se reporta una vez y su pago no se vuelve a consultar hasta pasados
+ * {@code vuelo.motor-estados.reintento-pago-segundos}; un pago confirmado entretanto lo inicia en el
+ * primer ciclo posterior a ese plazo.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MotorEstadosVuelo {
+
+    static final String TIPO_ACCION = "TRANSICION_AUTOMATICA";
+    private static final long ESPERA_MINIMA_MS = 100;
+
+    private final VueloRepository vueloRepository;
+    private final AeronaveRepository aeronaveRepository;
+    private final TripulanteRepository tripulanteRepository;
+    private final HistorialVueloRepository historialVueloRepository;
+    private final PagoService pagoService;
+    private final IndiceAgendaAeronaves indiceAgenda;
+    private final RegistroRetenciones registroRetenciones;
+    private final ContadorEstadosFlota contadorEstados;
+    private final CacheAeronaves cacheAeronaves;
+    private final PronosticoMantenimiento pronosticoMantenimiento;
+    private final RegistroHorasVuelo registroHoras;
+    private final ApplicationEventPublisher eventos;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler programador;
+
+    @Value("${vuelo.motor-estados.habilitado:true}")
+    private boolean habilitado = true;
+
+    @Value("${vuelo.motor-estados.tamano-lote:100}")
+    private int tamanoLote = 100;
+
+    @Value("${vuelo.motor-estados.espera-maxima-segundos:60}")
+    private long esperaMaximaSegundos = 60;
+
+    @Value("${vuelo.motor-estados.reintento-pago-segundos:300}")
+    private long reintentoPagoSegundos = 300;
+
+    /**
+     * Vuelos vencidos sin pago suficiente y el instante desde el cual se vuelve a consultar su pago.
+     */
+    private final Map<Long, LocalDateTime> pagosPendientes = new ConcurrentHashMap<>();
+
+    /**
+     * Milisegundos entre el fin de un ciclo y el inicio del siguiente, calculados por cada ciclo.
+     */
+    private volatile long esperaMs;
+
+    private ScheduledFuture<?> tarea;
+
+    /**
+     * Inicia el motor una vez cargados el índice de agenda y las restricciones de la base de datos.
+     * El primer ciclo corre de inmediato.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!habilitado) {
+            log.info("Motor de estados de vuelo deshabilitado");
+            return;
+        }
+        tarea = programador.schedule(this::ejecutar, contexto -> contexto.lastCompletion() == null
+                ? Instant.now()
+                : contexto.lastCompletion().plusMillis(esperaMs));
+    }
+
+    @PreDestroy
+    void detener() {
+        if (tarea != null) {
+            tarea.cancel(false);
+        }
+    }
+
+    /**
+     * Aplica todas las transiciones vencidas a la fecha indicada.
+     *
+     * @param ahora instante de referencia
+     * @return cantidad de vuelos que cambiaron de estado
+     */
+    public int procesarVencidos(LocalDateTime ahora) {
+        int iniciados = procesar(EstadoVuelo.CONFIRMADO, EstadoVuelo.EN_CURSO, ahora);
+        int completados = procesar(EstadoVuelo.EN_CURSO, EstadoVuelo.COMPLETADO, ahora);
+        if (iniciados + completados > 0) {
+            log.info("Transiciones automáticas aplicadas. Iniciados: {}, Completados: {}", iniciados, completados);
+        }
+        return iniciados + completados;
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Un ciclo del motor: aplica las transiciones vencidas y fija la espera hasta el siguiente.
+     */
+    private void ejecutar() {
+        try {
+            LocalDateTime ahora = LocalDateTime.now();
+            procesarVencidos(ahora);
+            esperaMs = calcularEspera(ahora);
+        } catch (RuntimeException e) {
+            log.error("Error aplicando transiciones automáticas de vuelos", e);
+            esperaMs = Duration.ofSeconds(esperaMaximaSegundos).toMillis();
+        }
+    }
+
+    /**
+     * Recorre por lotes los vuelos vencidos en el estado de origen. Los vuelos que no pueden avanzar
+     * (pago pendiente o demora registrada) se saltan con el cursor y se reintentan en el próximo ciclo.
+     */
+    private int procesar(EstadoVuelo origen, EstadoVuelo destino, LocalDateTime ahora) {
+        int aplicadas = 0;
+        Set<Long> sinIniciar = new HashSet<>();
+        LocalDateTime cursorFecha = null;
+        Long cursorId = null;
+        while (true) {
+            LocalDateTime desdeFecha = cursorFecha;
+            Long desdeId = cursorId;
+            List<Vuelo> lote = transactionTemplate.execute(estado ->
+                    transicionarLote(origen, destino, ahora, desdeFecha, desdeId));
+            if (lote == null || lote.isEmpty()) {
+                break;
+            }
+
+            for (Vuelo vuelo : lote) {
+                if (vuelo.getEstado() == destino) {
+                    aplicadas++;
+                    // Ya no tiene sentido retener recursos a la espera del pago
+                    registroRetenciones.liberar(vuelo.getId());
+                } else {
+                    sinIniciar.add(vuelo.getId());
+                }
+            }
+            if (lote.size() < tamanoLote) {
+                break;
+            }
+            Vuelo ultimo = lote.get(lote.size() - 1);
+            cursorFecha = origen == EstadoVuelo.CONFIRMADO
+                    ? ultimo.getFechaSalidaProgramada()
+                    : ultimo.getFechaLlegadaProgramada();
+            cursorId = ultimo.getId();
+        }
+        // Olvidar los vuelos pendientes de pago que ya no están vencidos en CONFIRMADO (iniciados o cancelados)
+        if (origen == EstadoVuelo.CONFIRMADO) {
+            pagosPendientes.keySet().retainAll(sinIniciar);
+        }
+        return aplicadas;
+    }
+
+    private List<Vuelo> transicionarLote(EstadoVuelo origen, EstadoVuelo destino, LocalDateTime ahora,
+                                         LocalDateTime cursorFecha, Long cursorId) {
+        PageRequest pagina = PageRequest.of(0, tamanoLote);
+        List<Vuelo> lote = origen == EstadoVuelo.CONFIRMADO
+                ? vueloRepository.findConSalidaVencida(origen, ahora, cursorFecha, cursorId, pagina)
+                : vueloRepository.findConLlegadaVencida(origen, ahora, cursorFecha, cursorId, pagina);
+
+        Set<Long> sinPago = destino == EstadoVuelo.EN_CURSO ? buscarSinPago(lote, ahora) : Set.of();
+        List<Vuelo> transicionados = new ArrayList<>();
+        for (Vuelo vuelo : lote) {
+            boolean puedeAvanzar = destino == EstadoVuelo.EN_CURSO
+                    ? puedeIniciar(vuelo, ahora, sinPago)
+                    : puedeCompletar(vuelo, ahora);
+            if (puedeAvanzar) {
+                vuelo.setEstado(destino);
+                transicionados.add(vuelo);
+            }
+        }
+        if (transicionados.isEmpty()) {
+            return lote;
+        }
+
+        boolean inicio = destino == EstadoVuelo.EN_CURSO;
+        sincronizarRecursos(transicionados,
+                inicio ? EstadoAeronave.DISPONIBLE : EstadoAeronave.EN_VUELO,
+                inicio ? EstadoAeronave.EN_VUELO : EstadoAeronave.DISPONIBLE,
+                inicio ? EstadoTripulante.DISPONIBLE : EstadoTripulante.EN_VUELO,
+                inicio ? EstadoTripulante.EN_VUELO : EstadoTripulante.DISPONIBLE);
+
+        String motivo = inicio ? "Salida programada alcanzada" : "Llegada programada alcanzada";
+        List<HistorialVuelo> historial = new ArrayList<>(transicionados.size());
+        for (Vuelo vuelo : transicionados) {
+            indiceAgenda.actualizarVuelo(vuelo);
+            pronosticoMantenimiento.actualizarVuelo(vuelo);
+            if (!inicio) {
+                registroHoras.registrarVueloCompletado(vuelo);
+            }
+            Long aeronaveId = vuelo.getAeronave() != null ? vuelo.getAeronave().getId() : null;
+            eventos.publishEvent(EventoCambioEstado.vuelo(vuelo.getId(), aeronaveId, destino));
+            historial.add(HistorialVuelo.builder()
+                    .vuelo(vuelo)
+                    .estadoAnterior(origen)
+                    .estadoNuevo(destino)
+                    .tipoAccion(TIPO_ACCION)
+                    .motivo(motivo)
+                    .fechaCambio(ahora)
+                    .build());
+        }
+        historialVueloRepository.saveAll(historial);
+        return lote;
+    }
+
+    private boolean puedeIniciar(Vuelo vuelo, LocalDateTime ahora, Set<Long> sinPago) {
+        if (vuelo.getFechaSalidaReal() != null && vuelo.getFechaSalidaReal().isAfter(ahora)) {
+            return false;
+        }
+        // Misma regla que el cambio de estado manual: no se inicia un vuelo sin pagos que cubran el costo
+        return !sinPago.contains(vuelo.getId());
+    }
+
+    /**
+     * IDs de los vuelos del lote cuyos pagos confirmados no cubren el costo estimado, consultando en una
+     * sola sentencia solo los que no están esperando su próximo reintento.
+     */
+    private Set<Long> buscarSinPago(List<Vuelo> lote, LocalDateTime ahora) {
+        Set<Long> sinPago = new HashSet<>();
+        List<Vuelo> aConsultar = new ArrayList<>();
+        for (Vuelo vuelo : lote) {
+            if (vuelo.getCostoEstimado() == null) {
+                continue;
+            }
+            LocalDateTime reintento = pagosPendientes.get(vuelo.getId());
+            if (reintento != null && ahora.isBefore(reintento)) {
+                sinPago.add(vuelo.getId());
+            } else {
+                aConsultar.add(vuelo);
+            }
+        }
+        if (aConsultar.isEmpty()) {
+            return sinPago;
+        }
+
+        Map<Long, Double> totales = pagoService.obtenerTotalesPagosConfirmados(
+                aConsultar.stream().map(Vuelo::getId).toList());
+        for (Vuelo vuelo : aConsultar) {
+            if (totales.getOrDefault(vuelo.getId(), 0.0) >= vuelo.getCostoEstimado()) {
+                pagosPendientes.remove(vuelo.getId());
+                continue;
+            }
+            sinPago.add(vuelo.getId());
+            if (pagosPendientes.put(vuelo.getId(), ahora.plusSeconds(reintentoPagoSegundos)) == null) {
+                log.warn("Vuelo {} con salida vencida sin pagos confirmados; permanece CONFIRMADO", vuelo.getId());
+            }
+        }
+        return sinPago;
+    }
+
+    private boolean puedeCompletar(Vuelo vuelo, LocalDateTime ahora) {
+        return vuelo.getFechaLlegadaReal() == null || !vuelo.getFechaLlegadaReal().isAfter(ahora);
+    }
+
+    /**
+     * Cambia el estado de las aeronaves (una consulta) y de la tripulación (una sentencia) de los vuelos,
+     * solo para los recursos que están en el estado esperado.
+     */
+    private void sincronizarRecursos(List<Vuelo> vuelos, EstadoAeronave aeronaveAntes, EstadoAeronave aeronaveDespues,
+                                     EstadoTripulante tripulanteAntes, EstadoTripulante tripulanteDespues) {
+        Set<Long> aeronaveIds = vuelos.stream()
+                .map(Vuelo::getAeronave)
+                .filter(Objects::nonNull)
+                .map(Aeronave::getId)
+                .collect(Collectors.toSet());
+        if (!aeronaveIds.isEmpty()) {
+            for (Aeronave aeronave : aeronaveRepository.findAllById(aeronaveIds)) {
+                if (aeronave.getEstado() == aeronaveAntes) {
+                    aeronave.setEstado(aeronaveDespues);
+                    contadorEstados.registrarCambio(aeronaveAntes, aeronaveDespues);
+                    cacheAeronaves.invalidar(aeronave.getId());
+                    eventos.publishEvent(EventoCambioEstado.aeronave(aeronave.getId(), aeronaveDespues));
+                }
+            }
+        }
+        List<Long> vueloIds = vuelos.stream().map(Vuelo::getId).toList();
+        tripulanteRepository.actualizarEstadoPorVuelos(vueloIds, tripulanteAntes, tripulanteDespues);
+    }
+
+    /**
+     * Milisegundos hasta la próxima salida o llegada pendiente, acotados por la espera máxima.
+     */
+    private long calcularEspera(LocalDateTime ahora) {
+        long maxima = Duration.ofSeconds(esperaMaximaSegundos).toMillis();
+        LocalDateTime proximaSalida = vueloRepository.findProximaSalida(EstadoVuelo.CONFIRMADO, ahora);
+        LocalDateTime proximaLlegada = vueloRepository.findProximaLlegada(EstadoVuelo.EN_CURSO, ahora);
+        LocalDateTime proxima = proximaSalida == null ? proximaLlegada
+                : proximaLlegada == null || proximaSalida.isBefore(proximaLlegada) ? proximaSalida : proximaLlegada;
+        if (proxima == null) {
+            return maxima;
+        }
+        long hastaProxima = Duration.between(LocalDateTime.now(), proxima).toMillis();
+        return Math.max(ESPERA_MINIMA_MS, Math.min(hastaProxima, maxima));
+    }
+}
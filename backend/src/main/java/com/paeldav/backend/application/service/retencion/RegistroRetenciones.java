@@ -0,0 +1,336 @@
+package com.paeldav.backend.application.service.retencion;
+
+import com.paeldav.backend.application.service.transaccion.SincronizacionTransaccion;
+import com.paeldav.backend.exception.ConflictoDisponibilidadException;
+import com.paeldav.backend.infraestructure.repository.projection.IntervaloVuelo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro en memoria de las retenciones temporales de recursos.
+ *
+ * Las retenciones se indexan por vuelo y por recurso, de modo que crear, liberar o consultar una
+ * retención cuesta O(retenciones del recurso) sin acceder a la base de datos. El vencimiento lo
+ * atiende un hilo que espera sobre una {@link DelayQueue}: solo se despierta cuando vence la próxima
+ * retención, sin barridos periódicos. Las lecturas no se bloquean; las escrituras se serializan
+ * para que la verificación de solapamientos y el registro sean atómicos.
+ *
+ * Dentro de una transacción, la retención se registra de inmediato para que otra operación concurrente
+ * no tome los mismos recursos, pero se deshace si la transacción se revierte. Liberar y consumir se
+ * aplican al confirmarse la transacción, de modo que una reversión conserva la retención.
+ */
+@Slf4j
+@Component
+public class RegistroRetenciones {
+
+    private final Duration ttl;
+
+    private final Map<Long, Retencion> porVuelo = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Retencion>> porAeronave = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Retencion>> porTripulante = new ConcurrentHashMap<>();
+    private final DelayQueue<Retencion> colaExpiracion = new DelayQueue<>();
+    private final AtomicLong expiradas = new AtomicLong();
+
+    private Thread barredor;
+
+    public RegistroRetenciones(@Value("${retencion.ttl-minutos:30}") long ttlMinutos) {
+        if (ttlMinutos <= 0) {
+            throw new IllegalArgumentException("El tiempo de retención debe ser mayor a cero minutos");
+        }
+        this.ttl = Duration.ofMinutes(ttlMinutos);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        barredor = Thread.ofPlatform()
+                .name("retenciones-expiracion")
+                .daemon(true)
+                .start(this::atenderVencimientos);
+    }
+
+    @PreDestroy
+    void detener() {
+        if (barredor != null) {
+            barredor.interrupt();
+        }
+    }
+
+    /**
+     * Retiene recursos para el horario de un vuelo durante el tiempo de retención por defecto.
+     */
+    public Retencion retener(Long vueloId, String origen, String destino, Long aeronaveId,
+                             Collection<Long> tripulanteIds, LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        return retener(vueloId, origen, destino, aeronaveId, tripulanteIds, fechaInicio, fechaFin, ttl);
+    }
+
+    /**
+     * Retiene recursos para el horario de un vuelo, reemplazando la retención previa del mismo vuelo.
+     *
+     * @throws ConflictoDisponibilidadException si otro vuelo retiene alguno de los recursos en el horario
+     */
+    public Retencion retener(Long vueloId, String origen, String destino, Long aeronaveId,
+                             Collection<Long> tripulanteIds, LocalDateTime fechaInicio, LocalDateTime fechaFin,
+                             Duration duracion) {
+        if (!fechaFin.isAfter(fechaInicio)) {
+            throw new IllegalArgumentException("La fecha de fin debe ser posterior a la fecha de inicio");
+        }
+        List<Long> tripulantes = tripulanteIds != null ? List.copyOf(new HashSet<>(tripulanteIds)) : List.of();
+        if (aeronaveId == null && tripulantes.isEmpty()) {
+            throw new IllegalArgumentException("La retención debe incluir una aeronave o al menos un tripulante");
+        }
+
+        Retencion retencion = new Retencion(vueloId, origen, destino, aeronaveId, tripulantes,
+                fechaInicio, fechaFin, LocalDateTime.now().plus(duracion), System.nanoTime() + duracion.toNanos());
+
+        Retencion anterior;
+        synchronized (this) {
+            if (aeronaveId != null && !buscar(porAeronave, aeronaveId, fechaInicio, fechaFin, vueloId).isEmpty()) {
+                throw new ConflictoDisponibilidadException(
+                        "La aeronave está retenida temporalmente para otro vuelo en ese horario");
+            }
+            for (Long tripulanteId : tripulantes) {
+                if (!buscar(porTripulante, tripulanteId, fechaInicio, fechaFin, vueloId).isEmpty()) {
+                    throw new ConflictoDisponibilidadException(String.format(
+                            "El tripulante %d está retenido temporalmente para otro vuelo en ese horario",
+                            tripulanteId));
+                }
+            }
+
+            anterior = porVuelo.get(vueloId);
+            quitar(anterior);
+            registrar(retencion);
+        }
+        // La retención reemplazada queda en la cola y se descarta al vencer
+        colaExpiracion.add(retencion);
+        SincronizacionTransaccion.alRevertir(() -> deshacer(retencion, anterior));
+        return retencion;
+    }
+
+    /**
+     * Libera la retención de un vuelo, si existe. Dentro de una transacción se libera al confirmarse.
+     *
+     * @return true si el vuelo tenía una retención vigente
+     */
+    public boolean liberar(Long vueloId) {
+        boolean existia = porVuelo.containsKey(vueloId);
+        SincronizacionTransaccion.alConfirmar(() -> quitarDeVuelo(vueloId));
+        return existia;
+    }
+
+    /**
+     * Descuenta de la retención de un vuelo los recursos que ya le fueron asignados en firme.
+     * Si no queda ningún recurso retenido, la retención se libera; si quedan, conserva su vencimiento.
+     * Dentro de una transacción el descuento se aplica al confirmarse.
+     */
+    public void consumir(Long vueloId, Long aeronaveAsignada, Collection<Long> tripulantesAsignados) {
+        SincronizacionTransaccion.alConfirmar(() -> descontar(vueloId, aeronaveAsignada, tripulantesAsignados));
+    }
+
+    /**
+     * Obtiene la retención vigente de un vuelo, o null si no tiene.
+     */
+    public Retencion obtener(Long vueloId) {
+        Retencion retencion = porVuelo.get(vueloId);
+        return retencion != null && !retencion.estaVencida() ? retencion : null;
+    }
+
+    /**
+     * Retenciones vigentes de otros vuelos sobre la aeronave que se solapan con el rango.
+     */
+    public List<Retencion> buscarPorAeronave(Long aeronaveId, LocalDateTime fechaInicio, LocalDateTime fechaFin,
+                                             Long vueloExcluido) {
+        return buscar(porAeronave, aeronaveId, fechaInicio, fechaFin, vueloExcluido);
+    }
+
+    /**
+     * Retenciones vigentes de otros vuelos sobre el tripulante que se solapan con el rango.
+     */
+    public List<Retencion> buscarPorTripulante(Long tripulanteId, LocalDateTime fechaInicio, LocalDateTime fechaFin,
+                                               Long vueloExcluido) {
+        return buscar(porTripulante, tripulanteId, fechaInicio, fechaFin, vueloExcluido);
+    }
+
+    /**
+     * Intervalos retenidos por aeronave que se solapan con el rango, en el mismo formato que la agenda de vuelos.
+     */
+    public List<IntervaloVuelo> intervalosAeronaves(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        return intervalos(porAeronave, fechaInicio, fechaFin);
+    }
+
+    /**
+     * Intervalos retenidos por tripulante que se solapan con el rango, en el mismo formato que la agenda de vuelos.
+     */
+    public List<IntervaloVuelo> intervalosTripulantes(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        return intervalos(porTripulante, fechaInicio, fechaFin);
+    }
+
+    /**
+     * Obtiene todas las retenciones vigentes.
+     */
+    public List<Retencion> vigentes() {
+        return porVuelo.values().stream()
+                .filter(r -> !r.estaVencida())
+                .toList();
+    }
+
+    /**
+     * Cantidad de retenciones liberadas por vencimiento desde el arranque.
+     */
+    public long getExpiradas() {
+        return expiradas.get();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void quitarDeVuelo(Long vueloId) {
+        synchronized (this) {
+            quitar(porVuelo.remove(vueloId));
+        }
+    }
+
+    private void descontar(Long vueloId, Long aeronaveAsignada, Collection<Long> tripulantesAsignados) {
+        synchronized (this) {
+            Retencion actual = porVuelo.get(vueloId);
+            if (actual == null) {
+                return;
+            }
+            Long aeronave = Objects.equals(actual.getAeronaveId(), aeronaveAsignada) ? null : actual.getAeronaveId();
+            List<Long> tripulantes = actual.getTripulanteIds().stream()
+                    .filter(id -> tripulantesAsignados == null || !tripulantesAsignados.contains(id))
+                    .toList();
+            if (Objects.equals(aeronave, actual.getAeronaveId())
+                    && tripulantes.size() == actual.getTripulanteIds().size()) {
+                return;
+            }
+
+            porVuelo.remove(vueloId);
+            quitar(actual);
+            if (aeronave == null && tripulantes.isEmpty()) {
+                return;
+            }
+
+            Retencion restante = new Retencion(vueloId, actual.getOrigen(), actual.getDestino(), aeronave,
+                    tripulantes, actual.getFechaInicio(), actual.getFechaFin(), actual.getExpiraEn(),
+                    actual.getVencimientoNanos());
+            registrar(restante);
+            colaExpiracion.add(restante);
+        }
+    }
+
+    /**
+     * Deshace una retención cuya transacción se revirtió y restaura la que reemplazó, si sigue vigente.
+     */
+    private void deshacer(Retencion retencion, Retencion anterior) {
+        synchronized (this) {
+            if (!porVuelo.remove(retencion.getVueloId(), retencion)) {
+                return;
+            }
+            quitar(retencion);
+            if (anterior != null && !anterior.estaVencida()) {
+                registrar(anterior);
+            }
+        }
+    }
+
+    private static List<Retencion> buscar(Map<Long, Set<Retencion>> indice, Long recursoId,
+                                          LocalDateTime fechaInicio, LocalDateTime fechaFin, Long vueloExcluido) {
+        Set<Retencion> retenciones = indice.get(recursoId);
+        if (retenciones == null) {
+            return Collections.emptyList();
+        }
+        List<Retencion> resultado = new ArrayList<>();
+        for (Retencion retencion : retenciones) {
+            if (!retencion.getVueloId().equals(vueloExcluido)
+                    && !retencion.estaVencida()
+                    && retencion.seSolapaCon(fechaInicio, fechaFin)) {
+                resultado.add(retencion);
+            }
+        }
+        return resultado;
+    }
+
+    private static List<IntervaloVuelo> intervalos(Map<Long, Set<Retencion>> indice,
+                                                   LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        List<IntervaloVuelo> resultado = new ArrayList<>();
+        indice.forEach((recursoId, retenciones) -> {
+            for (Retencion retencion : retenciones) {
+                if (!retencion.estaVencida() && retencion.seSolapaCon(fechaInicio, fechaFin)) {
+                    resultado.add(new IntervaloVuelo(retencion.getVueloId(), recursoId,
+                            retencion.getFechaInicio(), retencion.getFechaFin()));
+                }
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Registra una retención en los índices por vuelo y por recurso. Debe invocarse con el monitor tomado.
+     */
+    private void registrar(Retencion retencion) {
+        porVuelo.put(retencion.getVueloId(), retencion);
+        if (retencion.getAeronaveId() != null) {
+            porAeronave.computeIfAbsent(retencion.getAeronaveId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(retencion);
+        }
+        for (Long tripulanteId : retencion.getTripulanteIds()) {
+            porTripulante.computeIfAbsent(tripulanteId, id -> ConcurrentHashMap.newKeySet()).add(retencion);
+        }
+    }
+
+    /**
+     * Quita una retención de los índices por recurso. Debe invocarse con el monitor tomado.
+     */
+    private void quitar(Retencion retencion) {
+        if (retencion == null) {
+            return;
+        }
+        if (retencion.getAeronaveId() != null) {
+            quitarDeIndice(porAeronave, retencion.getAeronaveId(), retencion);
+        }
+        for (Long tripulanteId : retencion.getTripulanteIds()) {
+            quitarDeIndice(porTripulante, tripulanteId, retencion);
+        }
+    }
+
+    private static void quitarDeIndice(Map<Long, Set<Retencion>> indice, Long recursoId, Retencion retencion) {
+        indice.computeIfPresent(recursoId, (id, retenciones) -> {
+            retenciones.remove(retencion);
+            return retenciones.isEmpty() ? null : retenciones;
+        });
+    }
+
+    private void atenderVencimientos() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Retencion vencida = colaExpiracion.take();
+                synchronized (this) {
+                    // Solo se libera si sigue siendo la retención vigente del vuelo
+                    if (porVuelo.remove(vencida.getVueloId(), vencida)) {
+                        quitar(vencida);
+                        expiradas.incrementAndGet();
+                        log.debug("Retención del vuelo {} liberada por vencimiento", vencida.getVueloId());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.paeldav.backend.application.service.retencion;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reserva temporal de una aeronave y/o tripulantes para el horario de un vuelo aprobado,
+ * mientras el cliente completa el pago. Es inmutable: renovarla crea una nueva instancia.
+ *
+ * Implementa {@link Delayed} para que la cola de expiración la entregue exactamente al vencer.
+ */
+@Getter
+public final class Retencion implements Delayed {
+
+    private final Long vueloId;
+    private final String origen;
+    private final String destino;
+    private final Long aeronaveId;
+    private final List<Long> tripulanteIds;
+    private final LocalDateTime fechaInicio;
+    private final LocalDateTime fechaFin;
+    private final LocalDateTime expiraEn;
+
+    /**
+     * Vencimiento en la escala de {@link System#nanoTime()}, inmune a cambios del reloj del sistema.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final long vencimientoNanos;
+
+    Retencion(Long vueloId, String origen, String destino, Long aeronaveId, List<Long> tripulanteIds,
+              LocalDateTime fechaInicio, LocalDateTime fechaFin, LocalDateTime expiraEn, long vencimientoNanos) {
+        this.vueloId = vueloId;
+        this.origen = origen;
+        this.destino = destino;
+        this.aeronaveId = aeronaveId;
+        this.tripulanteIds = List.copyOf(tripulanteIds);
+        this.fechaInicio = fechaInicio;
+        this.fechaFin = fechaFin;
+        this.expiraEn = expiraEn;
+        this.vencimientoNanos = vencimientoNanos;
+    }
+
+    /**
+     * Indica si la retención cubre parte del rango [inicio, fin).
+     */
+    public boolean seSolapaCon(LocalDateTime inicio, LocalDateTime fin) {
+        return fechaInicio.isBefore(fin) && fechaFin.isAfter(inicio);
+    }
+
+    boolean estaVencida() {
+        return System.nanoTime() - vencimientoNanos >= 0;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(vencimientoNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed otro) {
+        if (otro instanceof Retencion retencion) {
+            return Long.compare(vencimientoNanos - retencion.vencimientoNanos, 0);
+        }
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), otro.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
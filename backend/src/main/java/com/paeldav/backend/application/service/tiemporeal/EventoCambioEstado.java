@@ -0,0 +1,57 @@
+package com.paeldav.backend.application.service.tiemporeal;
+
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoPago;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio de estado de un vuelo, aeronave o pago, publicado por los servicios dentro de su transacción
+ * y difundido a los clientes suscritos solo después de confirmarse.
+ */
+@Getter
+@AllArgsConstructor
+public class EventoCambioEstado {
+
+    public enum Recurso {
+        VUELO, AERONAVE, PAGO
+    }
+
+    private final Recurso recurso;
+    private final Long id;
+    private final String estado;
+
+    /**
+     * Vuelo relacionado: el propio vuelo o el vuelo del pago.
+     */
+    private final Long vueloId;
+
+    /**
+     * Aeronave relacionada: la propia aeronave o la asignada al vuelo.
+     */
+    private final Long aeronaveId;
+
+    private final LocalDateTime fecha;
+
+    public static EventoCambioEstado vuelo(Long vueloId, Long aeronaveId, EstadoVuelo estado) {
+        return new EventoCambioEstado(Recurso.VUELO, vueloId, estado.name(), vueloId, aeronaveId, LocalDateTime.now());
+    }
+
+    public static EventoCambioEstado aeronave(Long aeronaveId, EstadoAeronave estado) {
+        return new EventoCambioEstado(Recurso.AERONAVE, aeronaveId, estado.name(), null, aeronaveId, LocalDateTime.now());
+    }
+
+    public static EventoCambioEstado pago(Long pagoId, Long vueloId, EstadoPago estado) {
+        return new EventoCambioEstado(Recurso.PAGO, pagoId, estado.name(), vueloId, null, LocalDateTime.now());
+    }
+
+    /**
+     * Clave de agrupación: dentro de una ráfaga solo se difunde el último estado de cada recurso.
+     */
+    String clave() {
+        return recurso + ":" + id;
+    }
+}
@@ -0,0 +1,84 @@
+package com.paeldav.backend.application.service.tiemporeal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Difunde por STOMP los cambios de estado confirmados de vuelos, aeronaves y pagos.
+ *
+ * Los eventos se reciben al confirmarse la transacción que los publicó, de modo que un cliente nunca
+ * ve un estado que luego se revierte. Para no saturar a los clientes con ráfagas (por ejemplo una
+ * transición masiva), los eventos se acumulan y se envían cada {@code tiemporeal.intervalo-ms}
+ * conservando solo el último estado de cada recurso. Destinos:
+ * <ul>
+ *   <li>{@code /topic/vuelos/{id}}: cambios del vuelo y de sus pagos</li>
+ *   <li>{@code /topic/aeronaves/{id}}: cambios de la aeronave y de los vuelos que tiene asignados</li>
+ *   <li>{@code /topic/tablero}: todos los cambios del intervalo en un solo mensaje</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicadorTiempoReal {
+
+    public static final String DESTINO_VUELOS = "/topic/vuelos/";
+    public static final String DESTINO_AERONAVES = "/topic/aeronaves/";
+    public static final String DESTINO_TABLERO = "/topic/tablero";
+
+    private final SimpMessageSendingOperations mensajeria;
+
+    private final Map<String, EventoCambioEstado> pendientes = new ConcurrentHashMap<>();
+
+    /**
+     * Encola un cambio confirmado; reemplaza el cambio pendiente del mismo recurso.
+     * Sin transacción activa el evento se encola de inmediato.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void registrar(EventoCambioEstado evento) {
+        pendientes.put(evento.clave(), evento);
+    }
+
+    /**
+     * Envía los cambios acumulados desde la última difusión; se ejecuta cada {@code tiemporeal.intervalo-ms}
+     * en el programador compartido.
+     */
+    @Scheduled(initialDelayString = "${tiemporeal.intervalo-ms:250}",
+            fixedDelayString = "${tiemporeal.intervalo-ms:250}")
+    void difundirPendientes() {
+        if (pendientes.isEmpty()) {
+            return;
+        }
+        List<EventoCambioEstado> lote = new ArrayList<>(pendientes.size());
+        for (String clave : pendientes.keySet()) {
+            EventoCambioEstado evento = pendientes.remove(clave);
+            if (evento != null) {
+                lote.add(evento);
+            }
+        }
+
+        try {
+            for (EventoCambioEstado evento : lote) {
+                if (evento.getVueloId() != null) {
+                    mensajeria.convertAndSend(DESTINO_VUELOS + evento.getVueloId(), evento);
+                }
+                if (evento.getAeronaveId() != null) {
+                    mensajeria.convertAndSend(DESTINO_AERONAVES + evento.getAeronaveId(), evento);
+                }
+            }
+            mensajeria.convertAndSend(DESTINO_TABLERO, lote);
+        } catch (RuntimeException e) {
+            // Un fallo de envío no debe detener el programador; los clientes se resincronizan por REST
+            log.warn("No se pudieron difundir {} cambios de estado: {}", lote.size(), e.getMessage());
+        }
+    }
+}
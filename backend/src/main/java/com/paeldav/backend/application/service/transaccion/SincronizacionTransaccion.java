@@ -0,0 +1,62 @@
+package com.paeldav.backend.application.service.transaccion;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Acopla cambios sobre estado en memoria (índices, registros, contadores) al resultado de la
+ * transacción actual, para que nunca reflejen escrituras que la base de datos terminó revirtiendo.
+ *
+ * Sin una transacción con sincronización activa, las acciones de confirmación se ejecutan de inmediato.
+ */
+public final class SincronizacionTransaccion {
+
+    private SincronizacionTransaccion() {
+    }
+
+    /**
+     * Ejecuta la acción después de confirmar la transacción actual, o de inmediato si no hay transacción.
+     */
+    public static void alConfirmar(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+
+    /**
+     * Ejecuta la acción si la transacción actual termina sin confirmarse. Sin transacción no hace nada.
+     */
+    public static void alRevertir(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int estado) {
+                    if (estado != STATUS_COMMITTED) {
+                        accion.run();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Ejecuta la acción al terminar la transacción actual, se confirme o se revierta. Sin transacción no hace nada.
+     */
+    public static void alTerminar(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int estado) {
+                    accion.run();
+                }
+            });
+        }
+    }
+}
@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
  * Incluye mantenimientos preventivos, correctivos, repostajes e inspecciones.
  */
 @Entity
-@Table(name = "mantenimientos")
+@Table(name = "mantenimientos", indexes = {
+        @Index(name = "idx_mantenimientos_aeronave_inicio", columnList = "aeronave_id, fecha_inicio")
+})
 @Getter
 @Setter
 @NoArgsConstructor
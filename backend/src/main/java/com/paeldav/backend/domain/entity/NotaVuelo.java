@@ -0,0 +1,59 @@
+package com.paeldav.backend.domain.entity;
+
+import com.paeldav.backend.domain.enums.TipoNotaVuelo;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que registra una nota sobre un vuelo.
+ * Las notas solo se agregan: nunca se modifican ni se concatenan sobre el vuelo.
+ */
+@Entity
+@Immutable
+@Table(name = "notas_vuelo", indexes = {
+        @Index(name = "idx_notas_vuelo_vuelo_id", columnList = "vuelo_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotaVuelo {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "El vuelo es obligatorio")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "vuelo_id", nullable = false, updatable = false)
+    private Vuelo vuelo;
+
+    @NotNull(message = "La fecha es obligatoria")
+    @Column(name = "fecha", nullable = false, updatable = false)
+    private LocalDateTime fecha;
+
+    @NotNull(message = "El tipo de nota es obligatorio")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false, updatable = false)
+    private TipoNotaVuelo tipo;
+
+    @Column(name = "autor", updatable = false)
+    private String autor;
+
+    @NotBlank(message = "El texto de la nota es obligatorio")
+    @Column(name = "texto", nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String texto;
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.fecha == null) {
+            this.fecha = LocalDateTime.now();
+        }
+    }
+}
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
  * Separada de mantenimiento para control específico de combustible.
  */
 @Entity
-@Table(name = "repostajes")
+@Table(name = "repostajes", indexes = {
+        @Index(name = "idx_repostajes_aeronave_fecha", columnList = "aeronave_id, fecha_repostaje")
+})
 @Getter
 @Setter
 @NoArgsConstructor
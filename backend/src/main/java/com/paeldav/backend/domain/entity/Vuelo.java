@@ -15,7 +15,16 @@ import java.util.List;
  * Contiene información de la solicitud, asignaciones y seguimiento del vuelo.
  */
 @Entity
-@Table(name = "vuelos")
+@Table(name = "vuelos", indexes = {
+        @Index(name = "idx_vuelos_salida_id", columnList = "fecha_salida_programada, id"),
+        @Index(name = "idx_vuelos_estado_salida_id", columnList = "estado, fecha_salida_programada, id"),
+        @Index(name = "idx_vuelos_estado_llegada_id", columnList = "estado, fecha_llegada_programada, id"),
+        @Index(name = "idx_vuelos_usuario_salida_id", columnList = "usuario_id, fecha_salida_programada, id"),
+        @Index(name = "idx_vuelos_aeronave_salida_id", columnList = "aeronave_id, fecha_salida_programada, id"),
+        @Index(name = "idx_vuelos_ruta_salida_id", columnList = "origen, destino, fecha_salida_programada, id"),
+        @Index(name = "idx_vuelos_destino_salida_id", columnList = "destino, fecha_salida_programada, id"),
+        @Index(name = "idx_vuelos_serie_salida", columnList = "serie_id, fecha_salida_programada")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -87,6 +96,12 @@ public class Vuelo {
     @Column(name = "costo_estimado")
     private Double costoEstimado;
 
+    /**
+     * Identificador de la serie recurrente que generó el vuelo, nulo para vuelos individuales.
+     */
+    @Column(name = "serie_id", length = 36, updatable = false)
+    private String serieId;
+
     @OneToMany(mappedBy = "vuelo", cascade = CascadeType.ALL)
     private List<Incidencia> incidencias;
 
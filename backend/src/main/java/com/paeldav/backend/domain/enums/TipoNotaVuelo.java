@@ -0,0 +1,10 @@
+package com.paeldav.backend.domain.enums;
+
+/**
+ * Tipos de nota registrados sobre un vuelo.
+ */
+public enum TipoNotaVuelo {
+    GENERAL,                // Nota libre de un operador
+    ASIGNACION_AERONAVE,    // Observación al asignar la aeronave
+    ASIGNACION_TRIPULACION  // Observación al asignar la tripulación
+}
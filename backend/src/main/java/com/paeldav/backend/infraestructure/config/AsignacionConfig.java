@@ -0,0 +1,24 @@
+package com.paeldav.backend.infraestructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configuración del motor de asignación automática de aeronaves y tripulación.
+ */
+@Configuration
+public class AsignacionConfig {
+
+    /**
+     * Pool fork-join dedicado al motor de asignación, para no competir con el pool común.
+     * Con paralelismo 0 se usa un hilo por procesador disponible.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool poolAsignacion(@Value("${asignacion.automatica.paralelismo:0}") int paralelismo) {
+        int hilos = paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(hilos);
+    }
+}
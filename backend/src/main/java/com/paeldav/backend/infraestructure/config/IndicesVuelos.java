@@ -0,0 +1,65 @@
+package com.paeldav.backend.infraestructure.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Índices parciales de {@code vuelos} que JPA no puede declarar con {@code @Index}.
+ *
+ * Complementan los índices compuestos de la entidad para las búsquedas más frecuentes:
+ * <ul>
+ *   <li>{@code idx_vuelos_activos_salida_id}: vuelos activos por salida; mucho menor que el índice
+ *       completo porque excluye el histórico completado y cancelado</li>
+ *   <li>{@code idx_vuelos_sin_aeronave_salida}: vuelos pendientes de asignar aeronave</li>
+ *   <li>{@code idx_vuelos_costo_salida}: búsquedas por rango de costo; solo indexa los vuelos cotizados</li>
+ * </ul>
+ * Se crean con {@code CONCURRENTLY} para no bloquear escrituras sobre una tabla ya poblada.
+ * Solo aplican a PostgreSQL; con otros motores (H2 en pruebas) no se crean.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndicesVuelos {
+
+    private static final List<String> DDL = List.of(
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vuelos_activos_salida_id "
+                    + "ON vuelos (fecha_salida_programada, id) "
+                    + "WHERE estado IN ('SOLICITADO', 'CONFIRMADO', 'EN_CURSO')",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vuelos_sin_aeronave_salida "
+                    + "ON vuelos (fecha_salida_programada, id) WHERE aeronave_id IS NULL",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vuelos_costo_salida "
+                    + "ON vuelos (costo_estimado, fecha_salida_programada) WHERE costo_estimado IS NOT NULL"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Crea los índices parciales si no existen. CREATE INDEX CONCURRENTLY no admite transacciones,
+     * por lo que cada sentencia se ejecuta por separado en modo autocommit.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void instalar() {
+        String motor = jdbcTemplate.execute((ConnectionCallback<String>) conexion ->
+                conexion.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(motor)) {
+            log.info("Motor {} sin soporte de índices parciales; se usarán solo los índices de la entidad", motor);
+            return;
+        }
+
+        for (String sentencia : DDL) {
+            try {
+                jdbcTemplate.execute(sentencia);
+            } catch (RuntimeException e) {
+                log.warn("No se pudo crear un índice parcial de vuelos: {}", e.getMessage());
+            }
+        }
+        log.info("Índices parciales de búsqueda de vuelos verificados");
+    }
+}
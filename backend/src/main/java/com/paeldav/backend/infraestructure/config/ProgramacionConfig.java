@@ -0,0 +1,33 @@
+package com.paeldav.backend.infraestructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Programador compartido de las tareas periódicas en segundo plano (motor de estados, reconciliaciones,
+ * escrituras diferidas y difusión en tiempo real), en lugar de un hilo propio por componente.
+ */
+@Configuration
+@EnableScheduling
+public class ProgramacionConfig {
+
+    /**
+     * Pool de las tareas {@code @Scheduled} y de las que se programan directamente. Es el programador por
+     * defecto para inyección, distinto del que crea el broker STOMP para sus latidos. Al cerrar la
+     * aplicación espera a que terminen las tareas en curso antes de que los componentes escriban lo pendiente.
+     */
+    @Bean
+    @Primary
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${programacion.hilos:4}") int hilos) {
+        ThreadPoolTaskScheduler programador = new ThreadPoolTaskScheduler();
+        programador.setPoolSize(hilos);
+        programador.setThreadNamePrefix("programador-");
+        programador.setWaitForTasksToCompleteOnShutdown(true);
+        programador.setAwaitTerminationSeconds(30);
+        return programador;
+    }
+}
@@ -0,0 +1,203 @@
+package com.paeldav.backend.infraestructure.config;
+
+import com.paeldav.backend.application.service.agenda.ReglasRotacion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Restricciones de exclusión que impiden en la base de datos la doble reserva de aeronaves y tripulantes.
+ *
+ * En PostgreSQL se agrega a {@code vuelos} una columna generada {@code rango_programado} (tsrange)
+ * con una restricción EXCLUDE USING gist sobre (aeronave_id, rango) para los vuelos activos. La
+ * tripulación se replica por triggers en {@code agenda_tripulantes}, con una restricción equivalente
+ * sobre (tripulante_id, rango). Así dos transacciones concurrentes no pueden confirmar asignaciones
+ * solapadas aunque ambas hayan pasado la validación de la aplicación.
+ *
+ * La restricción de aeronaves extiende cada vuelo con la menor rotación configurada, que cumple cualquier
+ * modelo; la rotación propia de cada modelo y el reposicionamiento por ruta solo los valida la aplicación.
+ * El valor aplicado queda en el comentario de la restricción, que se recrea si la configuración cambia.
+ *
+ * Con otros motores (H2 en pruebas), o si la restricción no se puede instalar, los servicios de asignación
+ * toman además bloqueos pesimistas sobre las filas de los recursos, que también serializan a otros nodos.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestriccionesAgenda {
+
+    public static final String RESTRICCION_AERONAVE = "ex_vuelos_aeronave_rango";
+    public static final String RESTRICCION_TRIPULANTE = "ex_agenda_tripulantes_rango";
+
+    private static final String ESTADOS_ACTIVOS = "('SOLICITADO', 'CONFIRMADO', 'EN_CURSO')";
+
+    /**
+     * Sentencias de la restricción de aeronaves; el rango de cada vuelo se extiende {@code %2$d} minutos
+     * tras la llegada. La restricción se recrea si su comentario no coincide con la rotación vigente.
+     */
+    private static final String DDL_AERONAVES_RANGO = """
+            DO $$
+            BEGIN
+                IF EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conname = 'ex_vuelos_aeronave_rango'
+                           AND obj_description(c.oid, 'pg_constraint') IS DISTINCT FROM 'rotacion:%2$d') THEN
+                    ALTER TABLE vuelos DROP CONSTRAINT ex_vuelos_aeronave_rango;
+                END IF;
+                IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'ex_vuelos_aeronave_rango') THEN
+                    ALTER TABLE vuelos ADD CONSTRAINT ex_vuelos_aeronave_rango
+                        EXCLUDE USING gist (aeronave_id WITH =, tsrange(fecha_salida_programada,
+                            fecha_llegada_programada + interval '%2$d minutes', '[)') WITH &&)
+                        WHERE (aeronave_id IS NOT NULL AND estado IN %1$s);
+                    COMMENT ON CONSTRAINT ex_vuelos_aeronave_rango ON vuelos IS 'rotacion:%2$d';
+                END IF;
+            END $$
+            """;
+
+    private static final List<String> DDL_TRIPULANTES = List.of(
+            """
+            CREATE TABLE IF NOT EXISTS agenda_tripulantes (
+                vuelo_id BIGINT NOT NULL REFERENCES vuelos (id) ON DELETE CASCADE,
+                tripulante_id BIGINT NOT NULL REFERENCES tripulantes (id) ON DELETE CASCADE,
+                rango_programado tsrange NOT NULL,
+                PRIMARY KEY (vuelo_id, tripulante_id)
+            )
+            """,
+            """
+            CREATE OR REPLACE FUNCTION sincronizar_agenda_tripulantes() RETURNS trigger AS $$
+            BEGIN
+                IF TG_TABLE_NAME = 'vuelo_tripulacion' THEN
+                    IF TG_OP = 'DELETE' THEN
+                        DELETE FROM agenda_tripulantes
+                        WHERE vuelo_id = OLD.vuelo_id AND tripulante_id = OLD.tripulante_id;
+                        RETURN OLD;
+                    END IF;
+                    INSERT INTO agenda_tripulantes (vuelo_id, tripulante_id, rango_programado)
+                    SELECT v.id, NEW.tripulante_id, v.rango_programado
+                    FROM vuelos v
+                    WHERE v.id = NEW.vuelo_id AND v.estado IN %1$s
+                    ON CONFLICT (vuelo_id, tripulante_id) DO NOTHING;
+                    RETURN NEW;
+                END IF;
+
+                DELETE FROM agenda_tripulantes WHERE vuelo_id = NEW.id;
+                IF NEW.estado IN %1$s THEN
+                    INSERT INTO agenda_tripulantes (vuelo_id, tripulante_id, rango_programado)
+                    SELECT NEW.id, vt.tripulante_id, NEW.rango_programado
+                    FROM vuelo_tripulacion vt
+                    WHERE vt.vuelo_id = NEW.id
+                    ON CONFLICT (vuelo_id, tripulante_id) DO NOTHING;
+                END IF;
+                RETURN NEW;
+            END $$ LANGUAGE plpgsql
+            """.formatted(ESTADOS_ACTIVOS),
+            "DROP TRIGGER IF EXISTS trg_agenda_tripulacion ON vuelo_tripulacion",
+            "CREATE TRIGGER trg_agenda_tripulacion AFTER INSERT OR DELETE ON vuelo_tripulacion "
+                    + "FOR EACH ROW EXECUTE FUNCTION sincronizar_agenda_tripulantes()",
+            "DROP TRIGGER IF EXISTS trg_agenda_vuelo ON vuelos",
+            """
+            CREATE TRIGGER trg_agenda_vuelo AFTER UPDATE ON vuelos FOR EACH ROW
+            WHEN (OLD.fecha_salida_programada IS DISTINCT FROM NEW.fecha_salida_programada
+                  OR OLD.fecha_llegada_programada IS DISTINCT FROM NEW.fecha_llegada_programada
+                  OR OLD.estado IS DISTINCT FROM NEW.estado)
+            EXECUTE FUNCTION sincronizar_agenda_tripulantes()
+            """,
+            """
+            INSERT INTO agenda_tripulantes (vuelo_id, tripulante_id, rango_programado)
+            SELECT v.id, vt.tripulante_id, v.rango_programado
+            FROM vuelos v JOIN vuelo_tripulacion vt ON vt.vuelo_id = v.id
+            WHERE v.estado IN %s
+            ON CONFLICT (vuelo_id, tripulante_id) DO NOTHING
+            """.formatted(ESTADOS_ACTIVOS),
+            """
+            DO $$
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'ex_agenda_tripulantes_rango') THEN
+                    ALTER TABLE agenda_tripulantes ADD CONSTRAINT ex_agenda_tripulantes_rango
+                        EXCLUDE USING gist (tripulante_id WITH =, rango_programado WITH &&);
+                END IF;
+            END $$
+            """
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReglasRotacion reglasRotacion;
+
+    private volatile boolean aeronavesActivas = false;
+    private volatile boolean tripulantesActivas = false;
+
+    /**
+     * Crea (de forma idempotente) las columnas, tablas, triggers y restricciones de exclusión.
+     * Se ejecuta antes que los demás listeners de arranque para que la agenda en memoria
+     * se cargue ya con las restricciones vigentes.
+     */
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void instalar() {
+        String motor = jdbcTemplate.execute((ConnectionCallback<String>) conexion ->
+                conexion.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(motor)) {
+            log.info("Motor {} sin soporte de restricciones de exclusión; se usarán bloqueos pesimistas", motor);
+            return;
+        }
+
+        aeronavesActivas = ejecutar("aeronaves", ddlAeronaves());
+        tripulantesActivas = aeronavesActivas && ejecutar("tripulantes", DDL_TRIPULANTES);
+    }
+
+    /**
+     * Indica si la base de datos impide por sí misma la doble reserva de aeronaves.
+     */
+    public boolean aeronavesProtegidas() {
+        return aeronavesActivas;
+    }
+
+    /**
+     * Indica si la base de datos impide por sí misma la doble reserva de tripulantes.
+     */
+    public boolean tripulantesProtegidos() {
+        return tripulantesActivas;
+    }
+
+    /**
+     * Determina si una violación de integridad proviene de alguna de las restricciones de agenda.
+     */
+    public static boolean esConflictoDeAgenda(DataIntegrityViolationException e) {
+        String mensaje = e.getMostSpecificCause().getMessage();
+        return mensaje != null
+                && (mensaje.contains(RESTRICCION_AERONAVE) || mensaje.contains(RESTRICCION_TRIPULANTE));
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private List<String> ddlAeronaves() {
+        return List.of(
+                "CREATE EXTENSION IF NOT EXISTS btree_gist",
+                // La tripulación no tiene rotación: sus triggers copian el rango programado sin extender
+                "ALTER TABLE vuelos ADD COLUMN IF NOT EXISTS rango_programado tsrange "
+                        + "GENERATED ALWAYS AS (tsrange(fecha_salida_programada, fecha_llegada_programada, '[)')) STORED",
+                DDL_AERONAVES_RANGO.formatted(ESTADOS_ACTIVOS, reglasRotacion.rotacionMinima().toMinutes())
+        );
+    }
+
+    private boolean ejecutar(String recurso, List<String> sentencias) {
+        try {
+            transactionTemplate.executeWithoutResult(estado -> sentencias.forEach(jdbcTemplate::execute));
+            log.info("Restricción de exclusión de agenda de {} activa", recurso);
+            return true;
+        } catch (RuntimeException e) {
+            // Típicamente por solapamientos ya existentes o falta de permisos para crear la extensión
+            log.warn("No se pudo instalar la restricción de agenda de {}; se usarán bloqueos pesimistas: {}",
+                    recurso, e.getMessage());
+            return false;
+        }
+    }
+}
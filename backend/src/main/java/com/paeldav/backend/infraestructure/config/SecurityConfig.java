@@ -37,7 +37,11 @@ public class SecurityConfig {
                         .requestMatchers("/api/password/forgot").permitAll()
                         .requestMatchers("/api/password/reset").permitAll()
                         .requestMatchers("/api/password/validate-token").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMINISTRADOR")
+                        // El handshake de WebSocket no lleva el JWT; se valida en el CONNECT de STOMP
+                        // y cada SUBSCRIBE se autoriza por destino en AutenticacionStompInterceptor
+                        .requestMatchers("/ws/**").permitAll()
                         .requestMatchers("/error").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -1,4 +1,45 @@
 package com.paeldav.backend.infraestructure.config;
 
-public class WebSocketConfig {
+import com.paeldav.backend.infraestructure.security.AutenticacionStompInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * Canal STOMP sobre WebSocket para difundir cambios de estado en tiempo real.
+ *
+ * Los clientes se conectan a {@code /ws} enviando el JWT en la cabecera {@code Authorization}
+ * del frame CONNECT y se suscriben a los destinos {@code /topic/...} de
+ * {@link com.paeldav.backend.application.service.tiemporeal.PublicadorTiempoReal}.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final AutenticacionStompInterceptor autenticacionStomp;
+
+    @Value("${app.frontend.url}")
+    private String frontendUrl;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOriginPatterns(frontendUrl);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(autenticacionStomp);
+    }
 }
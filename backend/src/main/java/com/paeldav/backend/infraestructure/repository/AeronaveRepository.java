@@ -1,16 +1,35 @@
 package com.paeldav.backend.infraestructure.repository;
 
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.domain.entity.Aeronave;
 import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.ConteoEstadoAeronave;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AeronaveRepository extends JpaRepository<Aeronave, Long> {
 
+    /**
+     * Proyección directa de las columnas de {@link AeronaveDTO}. Las consultas de solo lectura
+     * la usan para no cargar entidades administradas en el contexto de persistencia.
+     */
+    String SELECT_DTO = "SELECT new com.paeldav.backend.application.dto.aeronave.AeronaveDTO(" +
+            "a.id, a.matricula, a.modelo, a.fabricante, a.capacidadPasajeros, a.capacidadTripulacion, " +
+            "a.autonomiaKm, a.velocidadCruceroKmh, a.fechaFabricacion, a.fechaUltimaRevision, " +
+            "a.horasVueloTotales, a.estado, a.especificacionesTecnicas) FROM Aeronave a ";
+
     Optional<Aeronave> findByMatricula(String matricula);
 
     boolean existsByMatricula(String matricula);
@@ -20,4 +39,68 @@ public interface AeronaveRepository extends JpaRepository<Aeronave, Long> {
     List<Aeronave> findByModelo(String modelo);
 
     List<Aeronave> findByCapacidadPasajerosGreaterThanEqual(Integer capacidad);
+
+    /**
+     * Bloquea (SELECT ... FOR UPDATE) la fila de la aeronave para serializar asignaciones concurrentes.
+     * Respaldo cuando la base de datos no tiene la restricción de exclusión de agenda.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Aeronave a WHERE a.id = :id")
+    Optional<Aeronave> bloquearPorId(@Param("id") Long id);
+
+    @Query(SELECT_DTO + "ORDER BY a.id")
+    List<AeronaveDTO> findAllComoDTO();
+
+    @Query(SELECT_DTO + "WHERE a.id = :id")
+    Optional<AeronaveDTO> findComoDTOById(@Param("id") Long id);
+
+    @Query(SELECT_DTO + "WHERE a.matricula = :matricula")
+    Optional<AeronaveDTO> findComoDTOByMatricula(@Param("matricula") String matricula);
+
+    @Query(SELECT_DTO + "WHERE a.id IN :ids ORDER BY a.id")
+    List<AeronaveDTO> findComoDTOByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_DTO + "WHERE a.estado = :estado ORDER BY a.id")
+    List<AeronaveDTO> findComoDTOByEstado(@Param("estado") EstadoAeronave estado);
+
+    @Query(SELECT_DTO + "WHERE a.modelo = :modelo ORDER BY a.id")
+    List<AeronaveDTO> findComoDTOByModelo(@Param("modelo") String modelo);
+
+    @Query(SELECT_DTO + "WHERE a.capacidadPasajeros >= :capacidad ORDER BY a.id")
+    List<AeronaveDTO> findComoDTOByCapacidadMinima(@Param("capacidad") Integer capacidad);
+
+    /**
+     * Suma horas de vuelo a una aeronave con una sola sentencia atómica, sin leer la entidad.
+     *
+     * @return cantidad de aeronaves actualizadas (0 si no existe)
+     */
+    @Modifying
+    @Query("UPDATE Aeronave a SET a.horasVueloTotales = COALESCE(a.horasVueloTotales, 0) + :horas WHERE a.id = :id")
+    int incrementarHorasVuelo(@Param("id") Long id, @Param("horas") double horas);
+
+    /**
+     * Cuenta las aeronaves agrupadas por estado. Los estados sin aeronaves no aparecen.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.ConteoEstadoAeronave(" +
+           "a.estado, COUNT(a)) FROM Aeronave a GROUP BY a.estado")
+    List<ConteoEstadoAeronave> contarPorEstado();
+
+    /**
+     * Obtiene las aeronaves en el estado indicado, con capacidad suficiente y sin vuelos activos
+     * que se solapen con el rango. El filtro se resuelve con un anti-join (NOT EXISTS)
+     * y las filas se proyectan directamente al DTO.
+     */
+    @Query(SELECT_DTO + "WHERE a.estado = :estado " +
+           "AND a.capacidadPasajeros >= :capacidadMinima " +
+           "AND NOT EXISTS (SELECT 1 FROM Vuelo v WHERE v.aeronave = a " +
+           "AND v.estado IN :estadosActivos " +
+           "AND v.fechaSalidaProgramada < :fechaFin " +
+           "AND v.fechaLlegadaProgramada > :fechaInicio) " +
+           "ORDER BY a.id")
+    List<AeronaveDTO> findDisponiblesSinVuelosEnRango(
+            @Param("estado") EstadoAeronave estado,
+            @Param("capacidadMinima") int capacidadMinima,
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin,
+            @Param("estadosActivos") List<EstadoVuelo> estadosActivos);
 }
@@ -0,0 +1,30 @@
+package com.paeldav.backend.infraestructure.repository;
+
+import com.paeldav.backend.application.dto.vuelo.FiltroVuelosDTO;
+import com.paeldav.backend.application.dto.vuelo.VueloDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Búsqueda de vuelos por cualquier combinación de criterios, implementada con una consulta dinámica.
+ */
+public interface BusquedaVuelos {
+
+    /**
+     * Obtiene una página de vuelos que cumplen los criterios del filtro, ordenada por
+     * (fechaSalidaProgramada, id) con paginación por clave: en lugar de saltar filas con OFFSET,
+     * continúa después del último vuelo de la página anterior.
+     * Solo los criterios informados forman parte de la consulta; el cursor nulo indica la primera página.
+     * Las filas se proyectan directamente a {@link VueloDTO} (con usuario y aeronave en la misma
+     * consulta) sin cargar entidades; la tripulación se obtiene aparte con
+     * {@link VueloRepository#findTripulacionIdsByVueloIdIn(java.util.Collection)}.
+     *
+     * @param filtro criterios de búsqueda
+     * @param cursorSalida salida programada del último vuelo de la página anterior
+     * @param cursorId ID del último vuelo de la página anterior
+     * @param limite cantidad máxima de vuelos a retornar
+     * @return vuelos de la página
+     */
+    List<VueloDTO> buscarPagina(FiltroVuelosDTO filtro, LocalDateTime cursorSalida, Long cursorId, int limite);
+}
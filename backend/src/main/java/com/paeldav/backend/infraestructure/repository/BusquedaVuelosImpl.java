@@ -0,0 +1,107 @@
+package com.paeldav.backend.infraestructure.repository;
+
+import com.paeldav.backend.application.dto.vuelo.FiltroVuelosDTO;
+import com.paeldav.backend.application.dto.vuelo.VueloDTO;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Usuario;
+import com.paeldav.backend.domain.entity.Vuelo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Construye la búsqueda de vuelos con Criteria API agregando solo los predicados de los criterios
+ * informados. A diferencia de una consulta fija con {@code (:x IS NULL OR ...)}, cada combinación
+ * produce una sentencia propia que el planificador puede resolver con el índice adecuado:
+ * <ul>
+ *   <li>usuario, aeronave o estado: índices compuestos (columna, fecha_salida_programada, id)</li>
+ *   <li>origen y/o destino: índices (origen, destino, ...) y (destino, ...)</li>
+ *   <li>solo rango de fechas: índice (fecha_salida_programada, id)</li>
+ * </ul>
+ * Pasajeros y costo se evalúan como filtros residuales sobre las filas ya acotadas por esos índices
+ * (en PostgreSQL el rango de costo cuenta además con un índice parcial, ver {@code IndicesVuelos}).
+ */
+public class BusquedaVuelosImpl implements BusquedaVuelos {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<VueloDTO> buscarPagina(FiltroVuelosDTO filtro, LocalDateTime cursorSalida, Long cursorId, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VueloDTO> consulta = cb.createQuery(VueloDTO.class);
+        Root<Vuelo> vuelo = consulta.from(Vuelo.class);
+        Join<Vuelo, Usuario> usuario = vuelo.join("usuario");
+        Join<Vuelo, Aeronave> aeronave = vuelo.join("aeronave", JoinType.LEFT);
+        Path<LocalDateTime> salida = vuelo.get("fechaSalidaProgramada");
+        Path<Long> id = vuelo.get("id");
+
+        consulta.select(cb.construct(VueloDTO.class,
+                id,
+                usuario.get("id"),
+                cb.concat(cb.concat(usuario.<String>get("nombre"), " "), usuario.<String>get("apellido")),
+                aeronave.get("id"),
+                aeronave.get("matricula"),
+                vuelo.get("origen"),
+                vuelo.get("destino"),
+                salida,
+                vuelo.get("fechaLlegadaProgramada"),
+                vuelo.get("fechaSalidaReal"),
+                vuelo.get("fechaLlegadaReal"),
+                vuelo.get("numeroPasajeros"),
+                vuelo.get("estado"),
+                vuelo.get("proposito"),
+                vuelo.get("fechaSolicitud"),
+                vuelo.get("costoEstimado")));
+
+        List<Predicate> predicados = new ArrayList<>();
+        if (filtro.getEstado() != null) {
+            predicados.add(cb.equal(vuelo.get("estado"), filtro.getEstado()));
+        }
+        if (filtro.getUsuarioId() != null) {
+            predicados.add(cb.equal(usuario.get("id"), filtro.getUsuarioId()));
+        }
+        if (filtro.getAeronaveId() != null) {
+            predicados.add(cb.equal(aeronave.get("id"), filtro.getAeronaveId()));
+        }
+        if (filtro.getOrigen() != null) {
+            predicados.add(cb.equal(vuelo.get("origen"), filtro.getOrigen()));
+        }
+        if (filtro.getDestino() != null) {
+            predicados.add(cb.equal(vuelo.get("destino"), filtro.getDestino()));
+        }
+        if (filtro.getDesde() != null) {
+            predicados.add(cb.greaterThanOrEqualTo(salida, filtro.getDesde()));
+        }
+        if (filtro.getHasta() != null) {
+            predicados.add(cb.lessThan(salida, filtro.getHasta()));
+        }
+        if (filtro.getPasajerosMinimo() != null) {
+            predicados.add(cb.greaterThanOrEqualTo(vuelo.<Integer>get("numeroPasajeros"), filtro.getPasajerosMinimo()));
+        }
+        if (filtro.getPasajerosMaximo() != null) {
+            predicados.add(cb.lessThanOrEqualTo(vuelo.<Integer>get("numeroPasajeros"), filtro.getPasajerosMaximo()));
+        }
+        if (filtro.getCostoMinimo() != null) {
+            predicados.add(cb.greaterThanOrEqualTo(vuelo.<Double>get("costoEstimado"), filtro.getCostoMinimo()));
+        }
+        if (filtro.getCostoMaximo() != null) {
+            predicados.add(cb.lessThanOrEqualTo(vuelo.<Double>get("costoEstimado"), filtro.getCostoMaximo()));
+        }
+        if (cursorSalida != null && cursorId != null) {
+            predicados.add(cb.or(
+                    cb.greaterThan(salida, cursorSalida),
+                    cb.and(cb.equal(salida, cursorSalida), cb.greaterThan(id, cursorId))));
+        }
+
+        consulta.where(predicados.toArray(Predicate[]::new))
+                .orderBy(cb.asc(salida), cb.asc(id));
+        return entityManager.createQuery(consulta)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+}
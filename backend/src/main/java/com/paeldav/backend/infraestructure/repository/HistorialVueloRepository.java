@@ -2,6 +2,7 @@ package com.paeldav.backend.infraestructure.repository;
 
 import com.paeldav.backend.domain.entity.HistorialVuelo;
 import com.paeldav.backend.domain.enums.EstadoVuelo;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,8 +15,9 @@ import java.util.List;
 public interface HistorialVueloRepository extends JpaRepository<HistorialVuelo, Long> {
 
     /**
-     * Obtiene el historial de un vuelo ordenado por fecha descendente.
+     * Obtiene el historial de un vuelo ordenado por fecha descendente, con el usuario responsable ya cargado.
      */
+    @EntityGraph(attributePaths = "usuarioResponsable")
     List<HistorialVuelo> findByVueloIdOrderByFechaCambioDesc(Long vueloId);
 
     /**
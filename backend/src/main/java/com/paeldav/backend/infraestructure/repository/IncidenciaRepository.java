@@ -1,6 +1,7 @@
 package com.paeldav.backend.infraestructure.repository;
 
 import com.paeldav.backend.domain.entity.Incidencia;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +15,13 @@ public interface IncidenciaRepository extends JpaRepository<Incidencia, Long> {
 
     List<Incidencia> findByVueloId(Long vueloId);
 
+    /**
+     * Obtiene las incidencias de un vuelo con el vuelo, quien reporta y quien resuelve cargados
+     * en la misma consulta, de modo que se pueden mapear fuera de una transacción.
+     */
+    @EntityGraph(attributePaths = {"vuelo", "reportadoPor.usuario", "resueltoPor"})
+    List<Incidencia> findConDetalleByVueloIdOrderByFechaReporteDesc(Long vueloId);
+
     List<Incidencia> findByResuelta(Boolean resuelta);
 
     @Query("SELECT i FROM Incidencia i WHERE i.fechaReporte BETWEEN :inicio AND :fin")
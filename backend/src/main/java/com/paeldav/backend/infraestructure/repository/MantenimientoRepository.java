@@ -2,12 +2,15 @@ package com.paeldav.backend.infraestructure.repository;
 
 import com.paeldav.backend.domain.entity.Mantenimiento;
 import com.paeldav.backend.domain.enums.TipoMantenimiento;
+import com.paeldav.backend.infraestructure.repository.projection.HorasInspeccionAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesMantenimientosAeronave;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,6 +18,49 @@ public interface MantenimientoRepository extends JpaRepository<Mantenimiento, Lo
 
     List<Mantenimiento> findByAeronaveId(Long aeronaveId);
 
+    /**
+     * Obtiene los mantenimientos de una aeronave iniciados dentro del rango (ambos extremos incluidos),
+     * en orden de inicio. Con los límites en null se obtienen todos.
+     */
+    @Query("SELECT m FROM Mantenimiento m WHERE m.aeronave.id = :aeronaveId " +
+           "AND (:desde IS NULL OR m.fechaInicio >= :desde) " +
+           "AND (:hasta IS NULL OR m.fechaInicio <= :hasta) " +
+           "ORDER BY m.fechaInicio, m.id")
+    List<Mantenimiento> findByAeronaveIdEnRango(
+            @Param("aeronaveId") Long aeronaveId,
+            @Param("desde") LocalDateTime desde,
+            @Param("hasta") LocalDateTime hasta);
+
+    /**
+     * Calcula en la base de datos los totales de los mantenimientos de una aeronave iniciados dentro del
+     * rango: cantidad, preventivos, correctivos y costo. Con los límites en null se consideran todos.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.TotalesMantenimientosAeronave(" +
+           "COUNT(m), " +
+           "SUM(CASE WHEN m.tipo = com.paeldav.backend.domain.enums.TipoMantenimiento.PREVENTIVO THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN m.tipo = com.paeldav.backend.domain.enums.TipoMantenimiento.CORRECTIVO THEN 1 ELSE 0 END), " +
+           "SUM(m.costo)) " +
+           "FROM Mantenimiento m WHERE m.aeronave.id = :aeronaveId " +
+           "AND (:desde IS NULL OR m.fechaInicio >= :desde) " +
+           "AND (:hasta IS NULL OR m.fechaInicio <= :hasta)")
+    TotalesMantenimientosAeronave calcularTotalesPorAeronave(
+            @Param("aeronaveId") Long aeronaveId,
+            @Param("desde") LocalDateTime desde,
+            @Param("hasta") LocalDateTime hasta);
+
+    /**
+     * Obtiene, para cada aeronave indicada, las horas de vuelo registradas en su última inspección
+     * completada de los tipos indicados. Las aeronaves sin inspecciones no aparecen.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.HorasInspeccionAeronave(" +
+           "m.aeronave.id, MAX(m.horasVueloAeronave)) " +
+           "FROM Mantenimiento m WHERE m.aeronave.id IN :aeronaveIds AND m.tipo IN :tipos " +
+           "AND m.completado = true AND m.horasVueloAeronave IS NOT NULL " +
+           "GROUP BY m.aeronave.id")
+    List<HorasInspeccionAeronave> findHorasUltimaInspeccion(
+            @Param("aeronaveIds") Collection<Long> aeronaveIds,
+            @Param("tipos") List<TipoMantenimiento> tipos);
+
     List<Mantenimiento> findByTipo(TipoMantenimiento tipo);
 
     List<Mantenimiento> findByAeronaveIdAndTipo(Long aeronaveId, TipoMantenimiento tipo);
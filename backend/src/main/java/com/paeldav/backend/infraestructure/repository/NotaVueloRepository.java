@@ -0,0 +1,31 @@
+package com.paeldav.backend.infraestructure.repository;
+
+import com.paeldav.backend.application.dto.vuelo.NotaVueloDTO;
+import com.paeldav.backend.domain.entity.NotaVuelo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio para la entidad NotaVuelo. Las notas solo se insertan y se leen por páginas.
+ */
+@Repository
+public interface NotaVueloRepository extends JpaRepository<NotaVuelo, Long> {
+
+    /**
+     * Obtiene las notas de un vuelo de la más reciente a la más antigua, anteriores al cursor
+     * (nulo para empezar). Recorre el índice (vuelo_id, id) sin cargar entidades.
+     */
+    @Query("SELECT new com.paeldav.backend.application.dto.vuelo.NotaVueloDTO(" +
+           "n.id, n.vuelo.id, n.fecha, n.tipo, n.autor, n.texto) " +
+           "FROM NotaVuelo n WHERE n.vuelo.id = :vueloId AND (:cursorId IS NULL OR n.id < :cursorId) " +
+           "ORDER BY n.id DESC")
+    List<NotaVueloDTO> findPaginaByVueloId(
+            @Param("vueloId") Long vueloId,
+            @Param("cursorId") Long cursorId,
+            Pageable pagina);
+}
@@ -1,13 +1,16 @@
 package com.paeldav.backend.infraestructure.repository;
 
+import com.paeldav.backend.application.dto.pago.PagoDTO;
 import com.paeldav.backend.domain.entity.Pago;
 import com.paeldav.backend.domain.enums.EstadoPago;
+import com.paeldav.backend.infraestructure.repository.projection.TotalPagosVuelo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +21,15 @@ import java.util.Optional;
 @Repository
 public interface PagoRepository extends JpaRepository<Pago, Long> {
 
+    /**
+     * Proyección directa de las columnas de {@link PagoDTO}. Las consultas de solo lectura
+     * la usan para no cargar entidades administradas en el contexto de persistencia.
+     */
+    String SELECT_DTO = "SELECT new com.paeldav.backend.application.dto.pago.PagoDTO(" +
+            "p.id, v.id, u.id, u.nombre, p.monto, p.estado, p.referenciaMercadoPago, p.numeroPreferencia, " +
+            "p.fechaPago, p.fechaCreacion, p.metodoPago, p.emailCliente, p.observaciones) " +
+            "FROM Pago p LEFT JOIN p.vuelo v LEFT JOIN p.usuario u ";
+
     /**
      * Obtiene un pago por su referencia de MercadoPago.
      *
@@ -50,6 +62,33 @@ public interface PagoRepository extends JpaRepository<Pago, Long> {
      */
     List<Pago> findByEstado(EstadoPago estado);
 
+    /**
+     * Obtiene los pagos de un vuelo proyectados directamente a DTO.
+     *
+     * @param vueloId ID del vuelo
+     * @return lista de DTOs de pagos del vuelo
+     */
+    @Query(SELECT_DTO + "WHERE v.id = :vueloId ORDER BY p.id")
+    List<PagoDTO> findComoDTOByVueloId(@Param("vueloId") Long vueloId);
+
+    /**
+     * Obtiene los pagos de un usuario proyectados directamente a DTO.
+     *
+     * @param usuarioId ID del usuario
+     * @return lista de DTOs de pagos del usuario
+     */
+    @Query(SELECT_DTO + "WHERE u.id = :usuarioId ORDER BY p.id")
+    List<PagoDTO> findComoDTOByUsuarioId(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * Obtiene los pagos en un estado proyectados directamente a DTO.
+     *
+     * @param estado estado del pago
+     * @return lista de DTOs de pagos con el estado especificado
+     */
+    @Query(SELECT_DTO + "WHERE p.estado = :estado ORDER BY p.id")
+    List<PagoDTO> findComoDTOByEstado(@Param("estado") EstadoPago estado);
+
     /**
      * Obtiene todos los pagos confirmados de un vuelo.
      *
@@ -83,6 +122,18 @@ public interface PagoRepository extends JpaRepository<Pago, Long> {
     @Query("SELECT SUM(p.monto) FROM Pago p WHERE p.vuelo.id = :vueloId AND p.estado = 'CONFIRMADO'")
     Double getTotalConfirmedAmountForFlight(@Param("vueloId") Long vueloId);
 
+    /**
+     * Obtiene el total de pagos confirmados de varios vuelos en una sola consulta agrupada.
+     * Los vuelos sin pagos confirmados no aparecen en el resultado.
+     *
+     * @param vueloIds IDs de los vuelos
+     * @return total pagado por vuelo
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.TotalPagosVuelo(" +
+           "p.vuelo.id, SUM(p.monto)) FROM Pago p " +
+           "WHERE p.vuelo.id IN :vueloIds AND p.estado = 'CONFIRMADO' GROUP BY p.vuelo.id")
+    List<TotalPagosVuelo> sumarConfirmadosPorVuelos(@Param("vueloIds") Collection<Long> vueloIds);
+
     /**
      * Obtiene un pago por su número de preferencia de MercadoPago.
      *
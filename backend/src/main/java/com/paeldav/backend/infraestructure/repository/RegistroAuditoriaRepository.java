@@ -1,8 +1,11 @@
 package com.paeldav.backend.infraestructure.repository;
 
+import com.paeldav.backend.application.dto.registroauditoria.RegistroAuditoriaDTO;
 import com.paeldav.backend.domain.entity.RegistroAuditoria;
 import com.paeldav.backend.domain.enums.TipoEventoAuditoria;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -11,6 +14,13 @@ import java.util.List;
 @Repository
 public interface RegistroAuditoriaRepository extends JpaRepository<RegistroAuditoria, Long> {
 
+    /**
+     * Proyección de lectura de registros de auditoría directamente a DTO, sin cargar entidades administradas.
+     */
+    String SELECT_DTO = "SELECT new com.paeldav.backend.application.dto.registroauditoria.RegistroAuditoriaDTO(" +
+            "r.id, r.usuarioId, r.tipoEvento, r.timestamp, r.directorIP, r.navegador, r.resultado, r.detallesError) " +
+            "FROM RegistroAuditoria r ";
+
     List<RegistroAuditoria> findByUsuarioId(Long usuarioId);
 
     List<RegistroAuditoria> findByTipoEvento(TipoEventoAuditoria tipoEvento);
@@ -24,4 +34,52 @@ public interface RegistroAuditoriaRepository extends JpaRepository<RegistroAudit
     List<RegistroAuditoria> findByResultadoFalse();
 
     List<RegistroAuditoria> findByTipoEventoAndResultadoFalse(TipoEventoAuditoria tipoEvento);
+
+    /**
+     * Obtiene los eventos de un usuario proyectados directamente a DTO.
+     */
+    @Query(SELECT_DTO + "WHERE r.usuarioId = :usuarioId ORDER BY r.id")
+    List<RegistroAuditoriaDTO> findComoDTOByUsuarioId(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * Obtiene los eventos de un tipo proyectados directamente a DTO.
+     */
+    @Query(SELECT_DTO + "WHERE r.tipoEvento = :tipoEvento ORDER BY r.id")
+    List<RegistroAuditoriaDTO> findComoDTOByTipoEvento(@Param("tipoEvento") TipoEventoAuditoria tipoEvento);
+
+    /**
+     * Obtiene los eventos ocurridos en el rango (ambos extremos incluidos) proyectados directamente a DTO.
+     */
+    @Query(SELECT_DTO + "WHERE r.timestamp BETWEEN :inicio AND :fin ORDER BY r.id")
+    List<RegistroAuditoriaDTO> findComoDTOByTimestampBetween(
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fin") LocalDateTime fin);
+
+    /**
+     * Obtiene los eventos de un usuario ocurridos en el rango proyectados directamente a DTO.
+     */
+    @Query(SELECT_DTO + "WHERE r.usuarioId = :usuarioId AND r.timestamp BETWEEN :inicio AND :fin ORDER BY r.id")
+    List<RegistroAuditoriaDTO> findComoDTOByUsuarioIdAndTimestampBetween(
+            @Param("usuarioId") Long usuarioId,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fin") LocalDateTime fin);
+
+    /**
+     * Obtiene los eventos fallidos proyectados directamente a DTO.
+     */
+    @Query(SELECT_DTO + "WHERE r.resultado = false ORDER BY r.id")
+    List<RegistroAuditoriaDTO> findComoDTOByResultadoFalse();
+
+    /**
+     * Obtiene los eventos fallidos de un tipo proyectados directamente a DTO.
+     */
+    @Query(SELECT_DTO + "WHERE r.tipoEvento = :tipoEvento AND r.resultado = false ORDER BY r.id")
+    List<RegistroAuditoriaDTO> findComoDTOByTipoEventoAndResultadoFalse(
+            @Param("tipoEvento") TipoEventoAuditoria tipoEvento);
+
+    /**
+     * Obtiene todos los eventos proyectados directamente a DTO.
+     */
+    @Query(SELECT_DTO + "ORDER BY r.id")
+    List<RegistroAuditoriaDTO> findAllComoDTO();
 }
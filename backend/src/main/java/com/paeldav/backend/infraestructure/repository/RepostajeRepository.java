@@ -1,6 +1,7 @@
 package com.paeldav.backend.infraestructure.repository;
 
 import com.paeldav.backend.domain.entity.Repostaje;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesRepostajesAeronave;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +15,33 @@ public interface RepostajeRepository extends JpaRepository<Repostaje, Long> {
 
     List<Repostaje> findByAeronaveId(Long aeronaveId);
 
+    /**
+     * Obtiene los repostajes de una aeronave realizados dentro del rango (ambos extremos incluidos),
+     * en orden de fecha. Con los límites en null se obtienen todos.
+     */
+    @Query("SELECT r FROM Repostaje r WHERE r.aeronave.id = :aeronaveId " +
+           "AND (:desde IS NULL OR r.fechaRepostaje >= :desde) " +
+           "AND (:hasta IS NULL OR r.fechaRepostaje <= :hasta) " +
+           "ORDER BY r.fechaRepostaje, r.id")
+    List<Repostaje> findByAeronaveIdEnRango(
+            @Param("aeronaveId") Long aeronaveId,
+            @Param("desde") LocalDateTime desde,
+            @Param("hasta") LocalDateTime hasta);
+
+    /**
+     * Calcula en la base de datos los totales de los repostajes de una aeronave realizados dentro del
+     * rango: cantidad, litros y costo. Con los límites en null se consideran todos.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.TotalesRepostajesAeronave(" +
+           "COUNT(r), SUM(r.cantidadLitros), SUM(r.costoTotal)) " +
+           "FROM Repostaje r WHERE r.aeronave.id = :aeronaveId " +
+           "AND (:desde IS NULL OR r.fechaRepostaje >= :desde) " +
+           "AND (:hasta IS NULL OR r.fechaRepostaje <= :hasta)")
+    TotalesRepostajesAeronave calcularTotalesPorAeronave(
+            @Param("aeronaveId") Long aeronaveId,
+            @Param("desde") LocalDateTime desde,
+            @Param("hasta") LocalDateTime hasta);
+
     List<Repostaje> findByVueloId(Long vueloId);
 
     List<Repostaje> findByRealizadoPorId(Long personalId);
@@ -1,12 +1,19 @@
 package com.paeldav.backend.infraestructure.repository;
 
+import com.paeldav.backend.application.dto.tripulante.TripulanteDTO;
 import com.paeldav.backend.domain.entity.Tripulante;
 import com.paeldav.backend.domain.enums.EstadoTripulante;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +31,73 @@ public interface TripulanteRepository extends JpaRepository<Tripulante, Long> {
     List<Tripulante> findDisponibles(@Param("estado") EstadoTripulante estado);
 
     Optional<Tripulante> findByUsuarioId(Long usuarioId);
+
+    /**
+     * Cambia en una sola sentencia el estado de la tripulación de varios vuelos,
+     * solo para los tripulantes que están en el estado esperado.
+     *
+     * @return cantidad de tripulantes actualizados
+     */
+    @Modifying
+    @Query("UPDATE Tripulante t SET t.estado = :nuevoEstado WHERE t.estado = :estadoActual AND t.id IN " +
+           "(SELECT vt.id FROM Vuelo v JOIN v.tripulacion vt WHERE v.id IN :vueloIds)")
+    int actualizarEstadoPorVuelos(
+            @Param("vueloIds") Collection<Long> vueloIds,
+            @Param("estadoActual") EstadoTripulante estadoActual,
+            @Param("nuevoEstado") EstadoTripulante nuevoEstado);
+
+    /**
+     * Suma horas de vuelo a un tripulante, tanto al total como al mes en curso, con una sola
+     * sentencia atómica y sin leer la entidad.
+     *
+     * @return cantidad de tripulantes actualizados (0 si no existe)
+     */
+    @Modifying
+    @Query("UPDATE Tripulante t SET t.horasVueloTotales = COALESCE(t.horasVueloTotales, 0) + :horas, " +
+           "t.horasVueloMes = COALESCE(t.horasVueloMes, 0) + :horas WHERE t.id = :id")
+    int incrementarHorasVuelo(@Param("id") Long id, @Param("horas") double horas);
+
+    /**
+     * Carga en una sola consulta un grupo de tripulantes junto con su usuario.
+     */
+    @Query("SELECT t FROM Tripulante t LEFT JOIN FETCH t.usuario WHERE t.id IN :ids")
+    List<Tripulante> findAllConUsuarioByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Bloquea (SELECT ... FOR UPDATE) las filas de los tripulantes en orden de ID para serializar
+     * asignaciones concurrentes sin riesgo de interbloqueo. Respaldo cuando la base de datos
+     * no tiene la restricción de exclusión de agenda.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Tripulante t WHERE t.id IN :ids ORDER BY t.id")
+    List<Tripulante> bloquearPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Carga todos los tripulantes junto con su usuario, ordenados por ID.
+     */
+    @Query("SELECT t FROM Tripulante t LEFT JOIN FETCH t.usuario ORDER BY t.id")
+    List<Tripulante> findAllConUsuario();
+
+    /**
+     * Obtiene los tripulantes en el estado indicado sin vuelos activos que se solapen con el rango.
+     * El filtro se resuelve con un anti-join (NOT EXISTS) y las filas se proyectan directamente al DTO.
+     * Si soloPilotos es true, solo se retornan pilotos.
+     */
+    @Query("SELECT new com.paeldav.backend.application.dto.tripulante.TripulanteDTO(" +
+           "t.id, u.id, CONCAT(u.nombre, ' ', u.apellido), u.email, t.numeroLicencia, t.tipoLicencia, " +
+           "t.fechaExpedicionLicencia, t.fechaVencimientoLicencia, t.horasVueloTotales, t.horasVueloMes, " +
+           "t.estado, t.esPiloto, t.certificaciones, t.observaciones) " +
+           "FROM Tripulante t JOIN t.usuario u WHERE t.estado = :estado " +
+           "AND (:soloPilotos = false OR t.esPiloto = true) " +
+           "AND NOT EXISTS (SELECT 1 FROM Vuelo v JOIN v.tripulacion vt WHERE vt = t " +
+           "AND v.estado IN :estadosActivos " +
+           "AND v.fechaSalidaProgramada < :fechaFin " +
+           "AND v.fechaLlegadaProgramada > :fechaInicio) " +
+           "ORDER BY t.id")
+    List<TripulanteDTO> findDisponiblesSinVuelosEnRango(
+            @Param("estado") EstadoTripulante estado,
+            @Param("soloPilotos") boolean soloPilotos,
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin,
+            @Param("estadosActivos") List<EstadoVuelo> estadosActivos);
 }
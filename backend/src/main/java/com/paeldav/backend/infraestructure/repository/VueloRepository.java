@@ -2,23 +2,71 @@ package com.paeldav.backend.infraestructure.repository;
 
 import com.paeldav.backend.domain.entity.Vuelo;
 import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.ConflictoTripulanteVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.IntervaloVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesVuelosAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TripulanteVuelo;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface VueloRepository extends JpaRepository<Vuelo, Long> {
+public interface VueloRepository extends JpaRepository<Vuelo, Long>, BusquedaVuelos {
 
     List<Vuelo> findByEstado(EstadoVuelo estado);
 
     List<Vuelo> findByUsuarioId(Long usuarioId);
 
+    /**
+     * Indica si el vuelo pertenece al usuario con el email indicado.
+     */
+    boolean existsByIdAndUsuarioEmail(Long id, String email);
+
     List<Vuelo> findByAeronaveId(Long aeronaveId);
 
+    /**
+     * Obtiene los vuelos de una aeronave con salida programada dentro del rango (ambos extremos incluidos),
+     * en orden de salida. Con los límites en null se obtienen todos.
+     */
+    @Query("SELECT v FROM Vuelo v WHERE v.aeronave.id = :aeronaveId " +
+           "AND (:desde IS NULL OR v.fechaSalidaProgramada >= :desde) " +
+           "AND (:hasta IS NULL OR v.fechaSalidaProgramada <= :hasta) " +
+           "ORDER BY v.fechaSalidaProgramada, v.id")
+    List<Vuelo> findByAeronaveIdEnRango(
+            @Param("aeronaveId") Long aeronaveId,
+            @Param("desde") LocalDateTime desde,
+            @Param("hasta") LocalDateTime hasta);
+
+    /**
+     * Calcula en la base de datos los totales de los vuelos de una aeronave con salida programada dentro
+     * del rango: cantidad, completados, cancelados y minutos entre la salida y la llegada reales.
+     * Con los límites en null se consideran todos los vuelos.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.TotalesVuelosAeronave(" +
+           "COUNT(v), " +
+           "SUM(CASE WHEN v.estado = com.paeldav.backend.domain.enums.EstadoVuelo.COMPLETADO THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN v.estado = com.paeldav.backend.domain.enums.EstadoVuelo.CANCELADO THEN 1 ELSE 0 END), " +
+           "SUM((v.fechaLlegadaReal - v.fechaSalidaReal) BY MINUTE)) " +
+           "FROM Vuelo v WHERE v.aeronave.id = :aeronaveId " +
+           "AND (:desde IS NULL OR v.fechaSalidaProgramada >= :desde) " +
+           "AND (:hasta IS NULL OR v.fechaSalidaProgramada <= :hasta)")
+    TotalesVuelosAeronave calcularTotalesPorAeronave(
+            @Param("aeronaveId") Long aeronaveId,
+            @Param("desde") LocalDateTime desde,
+            @Param("hasta") LocalDateTime hasta);
+
     @Query("SELECT v FROM Vuelo v WHERE v.fechaSalidaProgramada BETWEEN :inicio AND :fin")
     List<Vuelo> findByFechaSalidaBetween(@Param("inicio") LocalDateTime inicio, @Param("fin") LocalDateTime fin);
 
@@ -30,6 +78,70 @@ public interface VueloRepository extends JpaRepository<Vuelo, Long> {
 
     List<Vuelo> findByEstadoIn(List<EstadoVuelo> estados);
 
+    /**
+     * Obtiene, en orden de salida, los vuelos en el estado indicado cuya salida programada ya llegó,
+     * continuando después del cursor (nulo para empezar). Recorre el índice (estado, salida, id) y
+     * bloquea las filas omitiendo las que otro nodo ya tiene bloqueadas.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT v FROM Vuelo v WHERE v.estado = :estado AND v.fechaSalidaProgramada <= :hasta " +
+           "AND (:cursorFecha IS NULL OR v.fechaSalidaProgramada > :cursorFecha " +
+           "     OR (v.fechaSalidaProgramada = :cursorFecha AND v.id > :cursorId)) " +
+           "ORDER BY v.fechaSalidaProgramada ASC, v.id ASC")
+    List<Vuelo> findConSalidaVencida(
+            @Param("estado") EstadoVuelo estado,
+            @Param("hasta") LocalDateTime hasta,
+            @Param("cursorFecha") LocalDateTime cursorFecha,
+            @Param("cursorId") Long cursorId,
+            Pageable pagina);
+
+    /**
+     * Equivalente a {@link #findConSalidaVencida} sobre la llegada programada,
+     * con el índice (estado, llegada, id).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT v FROM Vuelo v WHERE v.estado = :estado AND v.fechaLlegadaProgramada <= :hasta " +
+           "AND (:cursorFecha IS NULL OR v.fechaLlegadaProgramada > :cursorFecha " +
+           "     OR (v.fechaLlegadaProgramada = :cursorFecha AND v.id > :cursorId)) " +
+           "ORDER BY v.fechaLlegadaProgramada ASC, v.id ASC")
+    List<Vuelo> findConLlegadaVencida(
+            @Param("estado") EstadoVuelo estado,
+            @Param("hasta") LocalDateTime hasta,
+            @Param("cursorFecha") LocalDateTime cursorFecha,
+            @Param("cursorId") Long cursorId,
+            Pageable pagina);
+
+    /**
+     * Próxima salida programada posterior a la fecha entre los vuelos en el estado indicado.
+     */
+    @Query("SELECT MIN(v.fechaSalidaProgramada) FROM Vuelo v WHERE v.estado = :estado " +
+           "AND v.fechaSalidaProgramada > :desde")
+    LocalDateTime findProximaSalida(@Param("estado") EstadoVuelo estado, @Param("desde") LocalDateTime desde);
+
+    /**
+     * Próxima llegada programada posterior a la fecha entre los vuelos en el estado indicado.
+     */
+    @Query("SELECT MIN(v.fechaLlegadaProgramada) FROM Vuelo v WHERE v.estado = :estado " +
+           "AND v.fechaLlegadaProgramada > :desde")
+    LocalDateTime findProximaLlegada(@Param("estado") EstadoVuelo estado, @Param("desde") LocalDateTime desde);
+
+    /**
+     * Obtiene varios vuelos por ID con su aeronave cargada en la misma consulta.
+     */
+    @EntityGraph(attributePaths = "aeronave")
+    @Query("SELECT v FROM Vuelo v WHERE v.id IN :vueloIds")
+    List<Vuelo> findConAeronaveByIdIn(@Param("vueloIds") Collection<Long> vueloIds);
+
+    /**
+     * Obtiene en una sola consulta los IDs de la tripulación de varios vuelos.
+     * Evita inicializar la colección de cada vuelo por separado al mapear listados.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.TripulanteVuelo(v.id, t.id) " +
+           "FROM Vuelo v JOIN v.tripulacion t WHERE v.id IN :vueloIds")
+    List<TripulanteVuelo> findTripulacionIdsByVueloIdIn(@Param("vueloIds") Collection<Long> vueloIds);
+
     /**
      * Busca vuelos de una aeronave que se solapan con un rango de tiempo.
      * Detecta conflictos cuando: fechaSalida < finRango AND fechaLlegada > inicioRango
@@ -57,6 +169,23 @@ public interface VueloRepository extends JpaRepository<Vuelo, Long> {
             @Param("fechaFin") LocalDateTime fechaFin,
             @Param("estadosActivos") List<EstadoVuelo> estadosActivos);
 
+    /**
+     * Busca en una sola consulta los solapamientos de varios tripulantes con vuelos activos.
+     * Retorna un registro por cada par (tripulante, vuelo) en conflicto.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.ConflictoTripulanteVuelo(" +
+           "t.id, v.id, v.origen, v.destino, v.fechaSalidaProgramada, v.fechaLlegadaProgramada, v.estado) " +
+           "FROM Vuelo v JOIN v.tripulacion t WHERE t.id IN :tripulanteIds " +
+           "AND v.estado IN :estadosActivos " +
+           "AND v.fechaSalidaProgramada < :fechaFin " +
+           "AND v.fechaLlegadaProgramada > :fechaInicio " +
+           "ORDER BY t.id, v.fechaSalidaProgramada")
+    List<ConflictoTripulanteVuelo> findConflictosTripulantesEnRango(
+            @Param("tripulanteIds") Collection<Long> tripulanteIds,
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin,
+            @Param("estadosActivos") List<EstadoVuelo> estadosActivos);
+
     /**
      * Busca todas las aeronaves que NO tienen vuelos en el rango especificado.
      */
@@ -78,4 +207,93 @@ public interface VueloRepository extends JpaRepository<Vuelo, Long> {
             @Param("fechaInicio") LocalDateTime fechaInicio,
             @Param("fechaFin") LocalDateTime fechaFin,
             @Param("estadosActivos") List<EstadoVuelo> estadosActivos);
+
+    /**
+     * Obtiene horario, ruta y modelo de aeronave de todos los vuelos activos con aeronave asignada.
+     * Usado para cargar el índice de agenda en memoria.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave(" +
+           "v.id, a.id, a.modelo, v.origen, v.destino, v.fechaSalidaProgramada, v.fechaLlegadaProgramada) " +
+           "FROM Vuelo v JOIN v.aeronave a WHERE v.estado IN :estadosActivos")
+    List<TramoVueloAeronave> findTramosAeronaveActivos(
+            @Param("estadosActivos") List<EstadoVuelo> estadosActivos);
+
+    /**
+     * Obtiene los vuelos de las aeronaves indicadas en los estados dados, ordenados por aeronave y salida.
+     * Usado para proyectar las horas de vuelo de un grupo de aeronaves.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave(" +
+           "v.id, a.id, a.modelo, v.origen, v.destino, v.fechaSalidaProgramada, v.fechaLlegadaProgramada) " +
+           "FROM Vuelo v JOIN v.aeronave a WHERE a.id IN :aeronaveIds AND v.estado IN :estados " +
+           "ORDER BY a.id, v.fechaSalidaProgramada, v.id")
+    List<TramoVueloAeronave> findTramosPorAeronaves(
+            @Param("aeronaveIds") Collection<Long> aeronaveIds,
+            @Param("estados") List<EstadoVuelo> estados);
+
+    /**
+     * Obtiene horario, ruta y modelo de los vuelos activos de una aeronave que se solapan con el rango,
+     * ordenados por salida. Usado para validar una serie completa contra la agenda en una sola consulta.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave(" +
+           "v.id, a.id, a.modelo, v.origen, v.destino, v.fechaSalidaProgramada, v.fechaLlegadaProgramada) " +
+           "FROM Vuelo v JOIN v.aeronave a WHERE a.id = :aeronaveId AND v.estado IN :estadosActivos " +
+           "AND v.fechaSalidaProgramada < :fechaFin " +
+           "AND v.fechaLlegadaProgramada > :fechaInicio " +
+           "ORDER BY v.fechaSalidaProgramada")
+    List<TramoVueloAeronave> findTramosAeronaveEnRango(
+            @Param("aeronaveId") Long aeronaveId,
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin,
+            @Param("estadosActivos") List<EstadoVuelo> estadosActivos);
+
+    /**
+     * Obtiene horario, ruta y modelo de los vuelos activos de todas las aeronaves que se solapan con el rango,
+     * ordenados por aeronave y salida. Usado para validar la rotación de varias aeronaves en una sola consulta
+     * y para construir la matriz de ocupación y las ventanas disponibles de la flota.
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave(" +
+           "v.id, a.id, a.modelo, v.origen, v.destino, v.fechaSalidaProgramada, v.fechaLlegadaProgramada) " +
+           "FROM Vuelo v JOIN v.aeronave a WHERE v.estado IN :estadosActivos " +
+           "AND v.fechaSalidaProgramada < :fechaFin " +
+           "AND v.fechaLlegadaProgramada > :fechaInicio " +
+           "ORDER BY a.id, v.fechaSalidaProgramada, v.id")
+    List<TramoVueloAeronave> findTramosAeronavesEnRango(
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin,
+            @Param("estadosActivos") List<EstadoVuelo> estadosActivos);
+
+    /**
+     * Obtiene los IDs de los vuelos de una serie en orden de salida.
+     */
+    @Query("SELECT v.id FROM Vuelo v WHERE v.serieId = :serieId ORDER BY v.fechaSalidaProgramada")
+    List<Long> findIdsBySerieId(@Param("serieId") String serieId);
+
+    /**
+     * Obtiene el horario de los vuelos activos de cada tripulante que se solapan con el rango.
+     * Retorna un registro por cada par (vuelo, tripulante).
+     */
+    @Query("SELECT new com.paeldav.backend.infraestructure.repository.projection.IntervaloVuelo(" +
+           "v.id, t.id, v.fechaSalidaProgramada, v.fechaLlegadaProgramada) " +
+           "FROM Vuelo v JOIN v.tripulacion t WHERE v.estado IN :estadosActivos " +
+           "AND v.fechaSalidaProgramada < :fechaFin " +
+           "AND v.fechaLlegadaProgramada > :fechaInicio")
+    List<IntervaloVuelo> findIntervalosTripulacionEnRango(
+            @Param("fechaInicio") LocalDateTime fechaInicio,
+            @Param("fechaFin") LocalDateTime fechaFin,
+            @Param("estadosActivos") List<EstadoVuelo> estadosActivos);
+
+    /**
+     * Obtiene los vuelos pendientes de asignación (sin aeronave o sin tripulación)
+     * con salida en el rango, junto con su aeronave y tripulación actuales.
+     */
+    @Query("SELECT DISTINCT v FROM Vuelo v LEFT JOIN FETCH v.aeronave LEFT JOIN FETCH v.tripulacion " +
+           "WHERE v.estado IN :estados " +
+           "AND v.fechaSalidaProgramada >= :desde " +
+           "AND v.fechaSalidaProgramada < :hasta " +
+           "AND (v.aeronave IS NULL OR v.tripulacion IS EMPTY) " +
+           "ORDER BY v.fechaSalidaProgramada")
+    List<Vuelo> findPendientesDeAsignacion(
+            @Param("estados") List<EstadoVuelo> estados,
+            @Param("desde") LocalDateTime desde,
+            @Param("hasta") LocalDateTime hasta);
 }
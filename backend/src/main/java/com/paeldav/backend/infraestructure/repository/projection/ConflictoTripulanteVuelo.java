@@ -0,0 +1,24 @@
+package com.paeldav.backend.infraestructure.repository.projection;
+
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de un solapamiento entre un tripulante y un vuelo activo.
+ * Permite validar la agenda de toda una tripulación con una sola consulta.
+ */
+@Getter
+@AllArgsConstructor
+public class ConflictoTripulanteVuelo {
+
+    private Long tripulanteId;
+    private Long vueloId;
+    private String origen;
+    private String destino;
+    private LocalDateTime fechaSalida;
+    private LocalDateTime fechaLlegada;
+    private EstadoVuelo estado;
+}
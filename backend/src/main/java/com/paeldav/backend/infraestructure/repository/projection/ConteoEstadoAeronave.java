@@ -0,0 +1,17 @@
+package com.paeldav.backend.infraestructure.repository.projection;
+
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Proyección de la cantidad de aeronaves en un estado.
+ * Permite contar toda la flota con una sola consulta agrupada.
+ */
+@Getter
+@AllArgsConstructor
+public class ConteoEstadoAeronave {
+
+    private EstadoAeronave estado;
+    private Long cantidad;
+}
@@ -0,0 +1,19 @@
+package com.paeldav.backend.infraestructure.repository.projection;
+
+import lombok.Getter;
+
+/**
+ * Horas de vuelo registradas en la última inspección completada de una aeronave.
+ * El máximo llega con el tipo numérico del dialecto y se convierte a double.
+ */
+@Getter
+public class HorasInspeccionAeronave {
+
+    private final Long aeronaveId;
+    private final double horas;
+
+    public HorasInspeccionAeronave(Long aeronaveId, Number horas) {
+        this.aeronaveId = aeronaveId;
+        this.horas = horas != null ? horas.doubleValue() : 0.0;
+    }
+}
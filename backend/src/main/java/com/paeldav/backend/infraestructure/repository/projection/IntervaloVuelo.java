@@ -0,0 +1,20 @@
+package com.paeldav.backend.infraestructure.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección liviana del horario programado de un vuelo para un recurso
+ * (aeronave o tripulante), sin hidratar la entidad Vuelo.
+ */
+@Getter
+@AllArgsConstructor
+public class IntervaloVuelo {
+
+    private Long vueloId;
+    private Long recursoId;
+    private LocalDateTime fechaSalida;
+    private LocalDateTime fechaLlegada;
+}
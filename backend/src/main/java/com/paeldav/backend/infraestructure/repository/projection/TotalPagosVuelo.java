@@ -0,0 +1,16 @@
+package com.paeldav.backend.infraestructure.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Proyección del total de pagos confirmados de un vuelo.
+ * Permite sumar los pagos de muchos vuelos con una sola consulta agrupada.
+ */
+@Getter
+@AllArgsConstructor
+public class TotalPagosVuelo {
+
+    private Long vueloId;
+    private Double total;
+}
@@ -0,0 +1,24 @@
+package com.paeldav.backend.infraestructure.repository.projection;
+
+import lombok.Getter;
+
+/**
+ * Totales de los mantenimientos de una aeronave, calculados con una sola consulta agregada.
+ * Las sumas sin filas llegan como null y se toman como cero.
+ */
+@Getter
+public class TotalesMantenimientosAeronave {
+
+    private final long totalMantenimientos;
+    private final long preventivos;
+    private final long correctivos;
+    private final double costoTotal;
+
+    public TotalesMantenimientosAeronave(Number totalMantenimientos, Number preventivos, Number correctivos,
+                                         Number costoTotal) {
+        this.totalMantenimientos = totalMantenimientos != null ? totalMantenimientos.longValue() : 0;
+        this.preventivos = preventivos != null ? preventivos.longValue() : 0;
+        this.correctivos = correctivos != null ? correctivos.longValue() : 0;
+        this.costoTotal = costoTotal != null ? costoTotal.doubleValue() : 0.0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.paeldav.backend.infraestructure.repository.projection;
+
+import lombok.Getter;
+
+/**
+ * Totales de los repostajes de una aeronave, calculados con una sola consulta agregada.
+ * Las sumas sin filas llegan como null y se toman como cero.
+ */
+@Getter
+public class TotalesRepostajesAeronave {
+
+    private final long totalRepostajes;
+    private final double litros;
+    private final double costoTotal;
+
+    public TotalesRepostajesAeronave(Number totalRepostajes, Number litros, Number costoTotal) {
+        this.totalRepostajes = totalRepostajes != null ? totalRepostajes.longValue() : 0;
+        this.litros = litros != null ? litros.doubleValue() : 0.0;
+        this.costoTotal = costoTotal != null ? costoTotal.doubleValue() : 0.0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.paeldav.backend.infraestructure.repository.projection;
+
+import lombok.Getter;
+
+/**
+ * Totales de los vuelos de una aeronave, calculados con una sola consulta agregada.
+ *
+ * El constructor recibe {@link Number} porque el tipo de COUNT y SUM depende del dialecto;
+ * las sumas sin filas llegan como null y se toman como cero.
+ */
+@Getter
+public class TotalesVuelosAeronave {
+
+    private final long totalVuelos;
+    private final long vuelosCompletados;
+    private final long vuelosCancelados;
+    private final double minutosVuelo;
+
+    public TotalesVuelosAeronave(Number totalVuelos, Number vuelosCompletados, Number vuelosCancelados,
+                                 Number minutosVuelo) {
+        this.totalVuelos = totalVuelos != null ? totalVuelos.longValue() : 0;
+        this.vuelosCompletados = vuelosCompletados != null ? vuelosCompletados.longValue() : 0;
+        this.vuelosCancelados = vuelosCancelados != null ? vuelosCancelados.longValue() : 0;
+        this.minutosVuelo = minutosVuelo != null ? minutosVuelo.doubleValue() : 0.0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.paeldav.backend.infraestructure.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección liviana de un vuelo con aeronave asignada: horario, ruta y modelo de la aeronave,
+ * lo necesario para evaluar rotación y reposicionamiento sin hidratar las entidades.
+ */
+@Getter
+@AllArgsConstructor
+public class TramoVueloAeronave {
+
+    private Long vueloId;
+    private Long aeronaveId;
+    private String modelo;
+    private String origen;
+    private String destino;
+    private LocalDateTime fechaSalida;
+    private LocalDateTime fechaLlegada;
+}
@@ -0,0 +1,16 @@
+package com.paeldav.backend.infraestructure.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Proyección de la asignación de un tripulante a un vuelo.
+ * Permite cargar los IDs de la tripulación de muchos vuelos con una sola consulta.
+ */
+@Getter
+@AllArgsConstructor
+public class TripulanteVuelo {
+
+    private Long vueloId;
+    private Long tripulanteId;
+}
@@ -0,0 +1,140 @@
+package com.paeldav.backend.infraestructure.security;
+
+import com.paeldav.backend.application.service.base.SesionService;
+import com.paeldav.backend.application.service.tiemporeal.PublicadorTiempoReal;
+import com.paeldav.backend.domain.enums.RolUsuario;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Autentica las conexiones STOMP con el mismo JWT y sesión activa que las peticiones HTTP
+ * y autoriza cada suscripción según el destino.
+ *
+ * El navegador no puede enviar cabeceras en el handshake de WebSocket, por lo que el token
+ * se valida en el frame CONNECT; sin token válido la conexión se rechaza. En cada SUBSCRIBE:
+ * <ul>
+ *   <li>{@code /topic/tablero}: solo administradores y operadores de logística</li>
+ *   <li>{@code /topic/aeronaves/{id}}: administradores, operadores de logística y ayudantes de mantenimiento</li>
+ *   <li>{@code /topic/vuelos/{id}}: el usuario que solicitó el vuelo o un administrador u operador de logística</li>
+ * </ul>
+ * Cualquier otro destino se rechaza. Los clientes solo reciben mensajes: los frames SEND también se rechazan.
+ */
+@Component
+@RequiredArgsConstructor
+public class AutenticacionStompInterceptor implements ChannelInterceptor {
+
+    private static final Set<RolUsuario> ROLES_OPERACION =
+            Set.of(RolUsuario.ADMINISTRADOR, RolUsuario.OPERADOR_LOGISTICA);
+    private static final Set<RolUsuario> ROLES_FLOTA =
+            Set.of(RolUsuario.ADMINISTRADOR, RolUsuario.OPERADOR_LOGISTICA, RolUsuario.AYUDANTE_MANTENIMIENTO);
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final SesionService sesionService;
+    private final VueloRepository vueloRepository;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> autenticar(accessor);
+            case SUBSCRIBE -> autorizarSuscripcion(accessor);
+            case SEND -> throw new AccessDeniedException("Los clientes no pueden publicar mensajes");
+            default -> {
+                // DISCONNECT, UNSUBSCRIBE, ACK y demás frames no requieren autorización
+            }
+        }
+        return message;
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void autenticar(StompHeaderAccessor accessor) {
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new BadCredentialsException("Token de autenticación requerido");
+        }
+        String jwt = authHeader.substring(7);
+
+        try {
+            String userEmail = jwtService.extractUsername(jwt);
+            if (userEmail != null && sesionService.validarSesion(jwt)) {
+                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+                if (jwtService.isTokenValid(jwt, userDetails)) {
+                    accessor.setUser(new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities()));
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            throw new BadCredentialsException("Token de autenticación inválido", e);
+        }
+        throw new BadCredentialsException("Token de autenticación inválido");
+    }
+
+    private void autorizarSuscripcion(StompHeaderAccessor accessor) {
+        if (!(accessor.getUser() instanceof Authentication autenticacion) || !autenticacion.isAuthenticated()) {
+            throw new AccessDeniedException("Suscripción sin autenticar");
+        }
+        String destino = accessor.getDestination();
+        if (destino == null) {
+            throw new AccessDeniedException("Suscripción sin destino");
+        }
+
+        boolean permitido;
+        if (destino.equals(PublicadorTiempoReal.DESTINO_TABLERO)) {
+            permitido = tieneRol(autenticacion, ROLES_OPERACION);
+        } else if (destino.startsWith(PublicadorTiempoReal.DESTINO_AERONAVES)) {
+            permitido = idDestino(destino, PublicadorTiempoReal.DESTINO_AERONAVES) != null
+                    && tieneRol(autenticacion, ROLES_FLOTA);
+        } else if (destino.startsWith(PublicadorTiempoReal.DESTINO_VUELOS)) {
+            Long vueloId = idDestino(destino, PublicadorTiempoReal.DESTINO_VUELOS);
+            permitido = vueloId != null && (tieneRol(autenticacion, ROLES_OPERACION)
+                    || vueloRepository.existsByIdAndUsuarioEmail(vueloId, autenticacion.getName()));
+        } else {
+            permitido = false;
+        }
+
+        if (!permitido) {
+            throw new AccessDeniedException("Sin permiso para suscribirse a " + destino);
+        }
+    }
+
+    private boolean tieneRol(Authentication autenticacion, Set<RolUsuario> roles) {
+        return autenticacion.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(autoridad -> roles.stream().anyMatch(rol -> autoridad.equals("ROLE_" + rol.name())));
+    }
+
+    /**
+     * Extrae el ID numérico al final del destino, o null si el destino no tiene esa forma.
+     */
+    private Long idDestino(String destino, String prefijo) {
+        try {
+            return Long.valueOf(destino.substring(prefijo.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -4,8 +4,11 @@ import com.paeldav.backend.application.dto.aeronave.AeronaveCreateDTO;
 import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.application.dto.aeronave.AeronaveUpdateDTO;
 import com.paeldav.backend.application.dto.aeronave.HistorialUsoAeronaveDTO;
+import com.paeldav.backend.application.dto.aeronave.ResumenUsoAeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.ResumenDisponibilidadFlotaDTO;
+import com.paeldav.backend.application.dto.mantenimiento.PronosticoMantenimientoDTO;
 import com.paeldav.backend.application.service.base.AeronaveService;
+import com.paeldav.backend.application.service.base.MantenimientoService;
 import com.paeldav.backend.domain.enums.EstadoAeronave;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +30,7 @@ import java.util.List;
 public class AeronaveController {
 
     private final AeronaveService aeronaveService;
+    private final MantenimientoService mantenimientoService;
 
     /**
      * Registra una nueva aeronave en el sistema.
@@ -193,11 +197,13 @@ public class AeronaveController {
     /**
      * Obtiene el resumen de disponibilidad de toda la flota.
      *
+     * @param incluirListas si se incluyen las listas de aeronaves disponibles y bloqueadas (por defecto true)
      * @return ResponseEntity con el resumen de disponibilidad
      */
     @GetMapping("/disponibilidad/resumen")
-    public ResponseEntity<ResumenDisponibilidadFlotaDTO> obtenerResumenDisponibilidadFlota() {
-        ResumenDisponibilidadFlotaDTO resumen = aeronaveService.consultarResumenDisponibilidadFlota();
+    public ResponseEntity<ResumenDisponibilidadFlotaDTO> obtenerResumenDisponibilidadFlota(
+            @RequestParam(defaultValue = "true") boolean incluirListas) {
+        ResumenDisponibilidadFlotaDTO resumen = aeronaveService.consultarResumenDisponibilidadFlota(incluirListas);
         return ResponseEntity.ok(resumen);
     }
 
@@ -251,4 +257,43 @@ public class AeronaveController {
         }
         return ResponseEntity.ok(historial);
     }
+
+    /**
+     * Obtiene los totales de uso de una aeronave, sin las listas de detalle.
+     *
+     * @param id ID de la aeronave
+     * @param fechaDesde fecha de inicio del período (opcional)
+     * @param fechaHasta fecha de fin del período (opcional)
+     * @return ResponseEntity con el resumen de uso de la aeronave
+     */
+    @GetMapping("/{id}/historial-uso/resumen")
+    public ResponseEntity<ResumenUsoAeronaveDTO> obtenerResumenUso(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fechaDesde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fechaHasta) {
+        return ResponseEntity.ok(aeronaveService.obtenerResumenUso(id, fechaDesde, fechaHasta));
+    }
+
+    /**
+     * Obtiene el pronóstico de la próxima inspección de toda la flota, de la aeronave más urgente
+     * a la menos urgente.
+     *
+     * @return ResponseEntity con la lista de pronósticos
+     */
+    @GetMapping("/pronostico-mantenimiento")
+    public ResponseEntity<List<PronosticoMantenimientoDTO>> obtenerPronosticoMantenimientoFlota() {
+        return ResponseEntity.ok(mantenimientoService.obtenerPronosticoFlota());
+    }
+
+    /**
+     * Obtiene el pronóstico de la próxima inspección de una aeronave.
+     * Incluye la fecha estimada en que se alcanza el umbral y los vuelos programados que lo exceden.
+     *
+     * @param id ID de la aeronave
+     * @return ResponseEntity con el pronóstico de la aeronave
+     */
+    @GetMapping("/{id}/pronostico-mantenimiento")
+    public ResponseEntity<PronosticoMantenimientoDTO> obtenerPronosticoMantenimiento(@PathVariable Long id) {
+        return ResponseEntity.ok(mantenimientoService.obtenerPronosticoAeronave(id));
+    }
 }
@@ -0,0 +1,62 @@
+package com.paeldav.backend.presentation.controller;
+
+import com.paeldav.backend.application.dto.asignacion.AceptarPropuestaDTO;
+import com.paeldav.backend.application.dto.asignacion.PropuestaAsignacionDTO;
+import com.paeldav.backend.application.service.base.AsignacionAutomaticaService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Controlador REST para la asignación automática de aeronaves y tripulación
+ * a los vuelos pendientes.
+ */
+@RestController
+@RequestMapping("/api/asignacion-automatica")
+@RequiredArgsConstructor
+public class AsignacionAutomaticaController {
+
+    private final AsignacionAutomaticaService asignacionAutomaticaService;
+
+    /**
+     * Genera una propuesta de asignación para los vuelos pendientes con salida en el rango.
+     * Por defecto se ejecuta en modo simulación y no modifica ningún vuelo.
+     *
+     * @param desde inicio del rango de salidas
+     * @param hasta fin del rango de salidas
+     * @param tripulantesPorVuelo tripulantes por vuelo, incluido el piloto (opcional)
+     * @param simulacion si es false, la propuesta se aplica de inmediato (por defecto true)
+     * @return propuesta con asignaciones, vuelos sin asignar y reporte de tiempos
+     */
+    @PostMapping("/propuesta")
+    @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'OPERADOR_LOGISTICA')")
+    public ResponseEntity<PropuestaAsignacionDTO> generarPropuesta(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime desde,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime hasta,
+            @RequestParam(required = false) Integer tripulantesPorVuelo,
+            @RequestParam(defaultValue = "true") boolean simulacion) {
+
+        PropuestaAsignacionDTO propuesta = asignacionAutomaticaService.generarPropuesta(
+                desde, hasta, tripulantesPorVuelo, simulacion);
+        return ResponseEntity.ok(propuesta);
+    }
+
+    /**
+     * Aplica en bloque las asignaciones aceptadas de una propuesta.
+     *
+     * @param dto asignaciones aceptadas
+     * @return resultado de la aplicación de cada asignación
+     */
+    @PostMapping("/aceptar")
+    @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'OPERADOR_LOGISTICA')")
+    public ResponseEntity<PropuestaAsignacionDTO> aceptarPropuesta(
+            @Valid @RequestBody AceptarPropuestaDTO dto) {
+        PropuestaAsignacionDTO resultado = asignacionAutomaticaService.aceptarPropuesta(dto);
+        return ResponseEntity.ok(resultado);
+    }
+}
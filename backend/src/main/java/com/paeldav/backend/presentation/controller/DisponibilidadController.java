@@ -3,7 +3,10 @@ package com.paeldav.backend.presentation.controller;
 import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.DisponibilidadAeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.DisponibilidadTripulanteDTO;
+import com.paeldav.backend.application.dto.disponibilidad.MatrizOcupacionDTO;
 import com.paeldav.backend.application.dto.disponibilidad.ResultadoValidacionDTO;
+import com.paeldav.backend.application.dto.disponibilidad.RetencionDTO;
+import com.paeldav.backend.application.dto.disponibilidad.VentanaDisponibleDTO;
 import com.paeldav.backend.application.dto.tripulante.TripulanteDTO;
 import com.paeldav.backend.application.service.base.DisponibilidadOperativaService;
 import lombok.RequiredArgsConstructor;
@@ -122,4 +125,61 @@ public class DisponibilidadController {
                 aeronaveId, tripulantesIds, fechaInicio, fechaFin);
         return ResponseEntity.ok(resultado);
     }
+
+    /**
+     * Obtiene la matriz de ocupación por franjas de toda la flota en un rango de fechas.
+     * Cada recurso incluye un bitset en Base64 con una posición por franja.
+     *
+     * @param fechaInicio inicio del rango
+     * @param fechaFin fin del rango (máximo 31 días)
+     * @param minutosPorFranja tamaño de la franja: 15, 30 o 60 minutos (por defecto 60)
+     * @param incluirTripulacion si es true, incluye también la ocupación de la tripulación
+     * @return matriz de ocupación de aeronaves y, opcionalmente, tripulantes
+     */
+    @GetMapping("/ocupacion")
+    public ResponseEntity<MatrizOcupacionDTO> consultarMatrizOcupacion(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fechaInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fechaFin,
+            @RequestParam(defaultValue = "60") int minutosPorFranja,
+            @RequestParam(defaultValue = "false") boolean incluirTripulacion) {
+
+        MatrizOcupacionDTO matriz = disponibilidadService.consultarMatrizOcupacion(
+                fechaInicio, fechaFin, minutosPorFranja, incluirTripulacion);
+        return ResponseEntity.ok(matriz);
+    }
+
+    /**
+     * Busca las primeras ventanas en las que hay una aeronave y una tripulación completa libres.
+     *
+     * @param desde inicio del horizonte de búsqueda
+     * @param hasta fin del horizonte de búsqueda (máximo 31 días)
+     * @param duracionMinutos duración requerida en minutos
+     * @param capacidadMinima capacidad mínima de pasajeros (opcional)
+     * @param tamanoTripulacion número de tripulantes requeridos, incluido el piloto (opcional, por defecto 1)
+     * @param maxResultados número máximo de ventanas (por defecto 5)
+     * @return ventanas disponibles ordenadas por inicio
+     */
+    @GetMapping("/ventanas")
+    public ResponseEntity<List<VentanaDisponibleDTO>> buscarVentanasDisponibles(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime desde,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime hasta,
+            @RequestParam int duracionMinutos,
+            @RequestParam(required = false) Integer capacidadMinima,
+            @RequestParam(required = false) Integer tamanoTripulacion,
+            @RequestParam(defaultValue = "5") int maxResultados) {
+
+        List<VentanaDisponibleDTO> ventanas = disponibilidadService.buscarVentanasDisponibles(
+                desde, hasta, duracionMinutos, capacidadMinima, tamanoTripulacion, maxResultados);
+        return ResponseEntity.ok(ventanas);
+    }
+
+    /**
+     * Lista las retenciones temporales de recursos vigentes (vuelos aprobados pendientes de pago).
+     *
+     * @return retenciones vigentes ordenadas por vencimiento
+     */
+    @GetMapping("/retenciones")
+    public ResponseEntity<List<RetencionDTO>> obtenerRetencionesVigentes() {
+        return ResponseEntity.ok(disponibilidadService.obtenerRetencionesVigentes());
+    }
 }
@@ -1,6 +1,8 @@
 package com.paeldav.backend.presentation.controller;
 
 import com.paeldav.backend.application.dto.vuelo.*;
+import com.paeldav.backend.application.service.base.DetalleVueloService;
+import com.paeldav.backend.application.service.base.SerieVuelosService;
 import com.paeldav.backend.application.service.base.VueloService;
 import com.paeldav.backend.domain.enums.EstadoVuelo;
 import jakarta.validation.Valid;
@@ -21,6 +23,8 @@ import java.util.List;
 public class VueloController {
 
     private final VueloService vueloService;
+    private final DetalleVueloService detalleVueloService;
+    private final SerieVuelosService serieVuelosService;
 
     /**
      * Crea un nuevo vuelo.
@@ -48,14 +52,21 @@ public class VueloController {
     }
 
     /**
-     * Obtiene todos los vuelos del sistema.
+     * Busca vuelos paginados por fecha de salida. Todos los criterios son opcionales y se combinan:
+     * estado, aeronaveId, usuarioId, origen, destino, desde/hasta (salida programada, fin exclusivo),
+     * pasajerosMinimo/pasajerosMaximo y costoMinimo/costoMaximo.
      *
-     * @return ResponseEntity con la lista de todos los vuelos
+     * @param filtro criterios de búsqueda tomados de los parámetros de la consulta
+     * @param cursor cursor devuelto por la página anterior (opcional)
+     * @param limite cantidad máxima de vuelos por página (opcional)
+     * @return ResponseEntity con la página de vuelos y el cursor de la siguiente
      */
     @GetMapping
-    public ResponseEntity<List<VueloDTO>> obtenerTodosVuelos() {
-        List<VueloDTO> vuelos = vueloService.obtenerTodosVuelos();
-        return ResponseEntity.ok(vuelos);
+    public ResponseEntity<PaginaVuelosDTO> obtenerTodosVuelos(
+            FiltroVuelosDTO filtro,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(vueloService.obtenerTodosVuelos(filtro, cursor, limite));
     }
 
     /**
@@ -85,6 +96,19 @@ public class VueloController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Libera la retención temporal de recursos de un vuelo aprobado pendiente de pago.
+     *
+     * @param id ID del vuelo
+     * @return 204 No Content si se liberó, 404 Not Found si el vuelo no tenía retención vigente
+     */
+    @DeleteMapping("/{id}/retencion")
+    public ResponseEntity<Void> liberarRetencion(@PathVariable Long id) {
+        return vueloService.liberarRetencion(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
     /**
      * Cambia el estado de un vuelo.
      *
@@ -104,13 +128,16 @@ public class VueloController {
      * Obtiene todos los vuelos en un estado específico.
      *
      * @param estado estado de vuelo a filtrar
-     * @return ResponseEntity con la lista de vuelos en el estado especificado
+     * @param cursor cursor devuelto por la página anterior (opcional)
+     * @param limite cantidad máxima de vuelos por página (opcional)
+     * @return ResponseEntity con la página de vuelos en el estado especificado
      */
     @GetMapping("/estado/{estado}")
-    public ResponseEntity<List<VueloDTO>> obtenerVuelosPorEstado(
-            @PathVariable EstadoVuelo estado) {
-        List<VueloDTO> vuelos = vueloService.obtenerVuelosPorEstado(estado);
-        return ResponseEntity.ok(vuelos);
+    public ResponseEntity<PaginaVuelosDTO> obtenerVuelosPorEstado(
+            @PathVariable EstadoVuelo estado,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(vueloService.obtenerVuelosPorEstado(estado, cursor, limite));
     }
 
     // ==================== APROBACIÓN Y RECHAZO ====================
@@ -145,6 +172,34 @@ public class VueloController {
         return ResponseEntity.ok(vueloDTO);
     }
 
+    /**
+     * Cambia en bloque el estado de varios vuelos, por ejemplo para aprobar o rechazar solicitudes.
+     *
+     * @param dto DTO con los IDs de los vuelos, el estado destino y el motivo
+     * @return ResponseEntity con el resultado de cada vuelo
+     */
+    @PostMapping("/transiciones")
+    public ResponseEntity<ResultadoTransicionMasivaDTO> aplicarTransicionMasiva(
+            @Valid @RequestBody TransicionMasivaDTO dto) {
+        return ResponseEntity.ok(vueloService.aplicarTransicionMasiva(dto));
+    }
+
+    /**
+     * Crea una serie de vuelos recurrentes a partir de una regla semanal, validando todas las
+     * ocurrencias contra la agenda de la aeronave y la tripulación indicadas.
+     *
+     * @param dto regla de recurrencia, datos del vuelo y recursos preferidos
+     * @return ResponseEntity con el resultado por ocurrencia (201 Created si se creó algún vuelo,
+     *         409 Conflict si los conflictos impidieron crear la serie)
+     */
+    @PostMapping("/series")
+    public ResponseEntity<ResultadoSerieVuelosDTO> crearSerie(
+            @Valid @RequestBody SerieVuelosCreateDTO dto) {
+        ResultadoSerieVuelosDTO resultado = serieVuelosService.crearSerie(dto);
+        HttpStatus estado = resultado.getCreadas() > 0 ? HttpStatus.CREATED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(estado).body(resultado);
+    }
+
     // ==================== ASIGNACIÓN DE RECURSOS ====================
 
     /**
@@ -179,6 +234,19 @@ public class VueloController {
 
     // ==================== HISTORIAL Y CONSULTAS ====================
 
+    /**
+     * Obtiene en una sola llamada el vuelo con su historial, pagos, total confirmado,
+     * pasajeros e incidencias. Las secciones que no responden a tiempo se listan en
+     * {@code seccionesIncompletas}.
+     *
+     * @param id ID del vuelo
+     * @return ResponseEntity con el detalle del vuelo
+     */
+    @GetMapping("/{id}/detalle")
+    public ResponseEntity<DetalleVueloDTO> obtenerDetalleVuelo(@PathVariable Long id) {
+        return ResponseEntity.ok(detalleVueloService.obtenerDetalle(id));
+    }
+
     /**
      * Obtiene el historial de cambios de un vuelo.
      *
@@ -192,16 +260,49 @@ public class VueloController {
         return ResponseEntity.ok(historial);
     }
 
+    /**
+     * Agrega una nota a un vuelo.
+     *
+     * @param id ID del vuelo
+     * @param dto texto de la nota
+     * @return ResponseEntity con la nota registrada (201 Created)
+     */
+    @PostMapping("/{id}/notas")
+    public ResponseEntity<NotaVueloDTO> agregarNota(
+            @PathVariable Long id,
+            @Valid @RequestBody NotaVueloCreateDTO dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(vueloService.agregarNota(id, dto));
+    }
+
+    /**
+     * Obtiene las notas de un vuelo, de la más reciente a la más antigua.
+     *
+     * @param id ID del vuelo
+     * @param cursor cursor devuelto por la página anterior (opcional)
+     * @param limite cantidad máxima de notas por página (opcional)
+     * @return ResponseEntity con la página de notas y el cursor de la siguiente
+     */
+    @GetMapping("/{id}/notas")
+    public ResponseEntity<PaginaNotasVueloDTO> obtenerNotas(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(vueloService.obtenerNotas(id, cursor, limite));
+    }
+
     /**
      * Obtiene todos los vuelos de un usuario específico.
      *
      * @param usuarioId ID del usuario
-     * @return ResponseEntity con la lista de vuelos del usuario
+     * @param cursor cursor devuelto por la página anterior (opcional)
+     * @param limite cantidad máxima de vuelos por página (opcional)
+     * @return ResponseEntity con la página de vuelos del usuario
      */
     @GetMapping("/usuario/{usuarioId}")
-    public ResponseEntity<List<VueloDTO>> obtenerVuelosPorUsuario(
-            @PathVariable Long usuarioId) {
-        List<VueloDTO> vuelos = vueloService.obtenerVuelosPorUsuario(usuarioId);
-        return ResponseEntity.ok(vuelos);
+    public ResponseEntity<PaginaVuelosDTO> obtenerVuelosPorUsuario(
+            @PathVariable Long usuarioId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(vueloService.obtenerVuelosPorUsuario(usuarioId, cursor, limite));
     }
 }
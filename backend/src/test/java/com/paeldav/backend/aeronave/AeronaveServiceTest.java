@@ -4,6 +4,7 @@ import com.paeldav.backend.application.dto.aeronave.AeronaveCreateDTO;
 import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.application.dto.aeronave.AeronaveUpdateDTO;
 import com.paeldav.backend.application.dto.aeronave.HistorialUsoAeronaveDTO;
+import com.paeldav.backend.application.dto.aeronave.ResumenUsoAeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.ResumenDisponibilidadFlotaDTO;
 import com.paeldav.backend.application.dto.mantenimiento.MantenimientoDTO;
 import com.paeldav.backend.application.dto.repostaje.RepostajeDTO;
@@ -12,6 +13,10 @@ import com.paeldav.backend.application.mapper.AeronaveMapper;
 import com.paeldav.backend.application.mapper.MantenimientoMapper;
 import com.paeldav.backend.application.mapper.RepostajeMapper;
 import com.paeldav.backend.application.mapper.VueloMapper;
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
+import com.paeldav.backend.application.service.mantenimiento.PronosticoMantenimiento;
+import com.paeldav.backend.application.service.flota.ContadorEstadosFlota;
+import com.paeldav.backend.application.service.horas.AcumuladorHorasVuelo;
 import com.paeldav.backend.application.service.impl.AeronaveServiceImpl;
 import com.paeldav.backend.domain.entity.Aeronave;
 import com.paeldav.backend.domain.entity.Mantenimiento;
@@ -25,6 +30,10 @@ import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
 import com.paeldav.backend.infraestructure.repository.MantenimientoRepository;
 import com.paeldav.backend.infraestructure.repository.RepostajeRepository;
 import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.ConteoEstadoAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesMantenimientosAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesRepostajesAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesVuelosAeronave;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -33,6 +42,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -75,6 +85,21 @@ class AeronaveServiceTest {
     @Mock
     private RepostajeMapper repostajeMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @Mock
+    private ContadorEstadosFlota contadorEstados;
+
+    @Mock
+    private AcumuladorHorasVuelo acumuladorHoras;
+
+    @Mock
+    private CacheAeronaves cacheAeronaves;
+
+    @Mock
+    private PronosticoMantenimiento pronosticoMantenimiento;
+
     @InjectMocks
     private AeronaveServiceImpl aeronaveService;
 
@@ -212,8 +237,7 @@ class AeronaveServiceTest {
         @DisplayName("Obtener aeronave por ID existente")
         void obtenerAeronavePorId_ConIdExistente_RetornaAeronave() {
             // Arrange
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
-            when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTOTest);
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(aeronaveDTOTest));
 
             // Act
             AeronaveDTO resultado = aeronaveService.obtenerAeronavePorId(1L);
@@ -222,14 +246,14 @@ class AeronaveServiceTest {
             assertNotNull(resultado);
             assertEquals(1L, resultado.getId());
             assertEquals("HK-1234", resultado.getMatricula());
-            verify(aeronaveRepository).findById(1L);
+            verify(cacheAeronaves).buscarPorId(1L);
         }
 
         @Test
         @DisplayName("Obtener aeronave por ID inexistente lanza excepción")
         void obtenerAeronavePorId_ConIdInexistente_LanzaExcepcion() {
             // Arrange
-            when(aeronaveRepository.findById(999L)).thenReturn(Optional.empty());
+            when(cacheAeronaves.buscarPorId(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
             AeronaveNoEncontradaException exception = assertThrows(
@@ -243,8 +267,7 @@ class AeronaveServiceTest {
         @DisplayName("Obtener aeronave por matrícula")
         void obtenerAeronavePorMatricula_ConMatriculaExistente_RetornaAeronave() {
             // Arrange
-            when(aeronaveRepository.findByMatricula("HK-1234")).thenReturn(Optional.of(aeronaveTest));
-            when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTOTest);
+            when(cacheAeronaves.buscarPorMatricula("HK-1234")).thenReturn(Optional.of(aeronaveDTOTest));
 
             // Act
             AeronaveDTO resultado = aeronaveService.obtenerAeronavePorMatricula("HK-1234");
@@ -252,35 +275,25 @@ class AeronaveServiceTest {
             // Assert
             assertNotNull(resultado);
             assertEquals("HK-1234", resultado.getMatricula());
-            verify(aeronaveRepository).findByMatricula("HK-1234");
+            verify(cacheAeronaves).buscarPorMatricula("HK-1234");
         }
 
         @Test
         @DisplayName("Obtener todas las aeronaves")
         void obtenerTodasAeronaves_RetornaListaCompleta() {
             // Arrange
-            Aeronave aeronave2 = Aeronave.builder()
-                    .id(2L)
-                    .matricula("HK-5678")
-                    .modelo("Beechcraft King Air")
-                    .capacidadPasajeros(8)
-                    .capacidadTripulacion(2)
-                    .estado(EstadoAeronave.DISPONIBLE)
-                    .build();
-
-            List<Aeronave> aeronaves = Arrays.asList(aeronaveTest, aeronave2);
             List<AeronaveDTO> aeronavesDTO = Arrays.asList(aeronaveDTOTest);
 
-            when(aeronaveRepository.findAll()).thenReturn(aeronaves);
-            when(aeronaveMapper.toDTOList(aeronaves)).thenReturn(aeronavesDTO);
+            when(aeronaveRepository.findAllComoDTO()).thenReturn(aeronavesDTO);
 
             // Act
             List<AeronaveDTO> resultado = aeronaveService.obtenerTodasAeronaves();
 
             // Assert
             assertNotNull(resultado);
-            verify(aeronaveRepository).findAll();
-            verify(aeronaveMapper).toDTOList(aeronaves);
+            assertEquals(aeronavesDTO, resultado);
+            verify(aeronaveRepository, never()).findAll();
+            verifyNoInteractions(aeronaveMapper);
         }
     }
 
@@ -371,6 +384,8 @@ class AeronaveServiceTest {
             assertNotNull(resultado);
             assertEquals(EstadoAeronave.EN_MANTENIMIENTO, aeronaveTest.getEstado());
             verify(aeronaveRepository).save(aeronaveTest);
+            verify(contadorEstados).registrarCambio(EstadoAeronave.DISPONIBLE, EstadoAeronave.EN_MANTENIMIENTO);
+            verify(cacheAeronaves).invalidar(1L);
         }
 
         @Test
@@ -399,20 +414,20 @@ class AeronaveServiceTest {
         @DisplayName("Validar capacidad con datos dentro del límite")
         void validarCapacidadOperativa_DentroDelLimite_Exitoso() {
             // Arrange
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(aeronaveDTOTest));
 
             // Act & Assert
             assertDoesNotThrow(() ->
                     aeronaveService.validarCapacidadOperativa(1L, 10, 2)
             );
-            verify(aeronaveRepository).findById(1L);
+            verify(cacheAeronaves).buscarPorId(1L);
         }
 
         @Test
         @DisplayName("Validar capacidad máxima de pasajeros")
         void validarCapacidadOperativa_CapacidadMaximaPasajeros_Exitoso() {
             // Arrange
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(aeronaveDTOTest));
 
             // Act & Assert
             assertDoesNotThrow(() ->
@@ -424,7 +439,7 @@ class AeronaveServiceTest {
         @DisplayName("Validar capacidad de pasajeros insuficiente lanza excepción")
         void validarCapacidadOperativa_CapacidadPasajerosInsuficiente_LanzaExcepcion() {
             // Arrange
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(aeronaveDTOTest));
 
             // Act & Assert
             CapacidadInsuficienteException exception = assertThrows(
@@ -439,7 +454,7 @@ class AeronaveServiceTest {
         @DisplayName("Validar capacidad de tripulación insuficiente lanza excepción")
         void validarCapacidadOperativa_CapacidadTripulacionInsuficiente_LanzaExcepcion() {
             // Arrange
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(aeronaveDTOTest));
 
             // Act & Assert
             CapacidadInsuficienteException exception = assertThrows(
@@ -454,7 +469,7 @@ class AeronaveServiceTest {
         @DisplayName("Validar capacidad con aeronave inexistente lanza excepción")
         void validarCapacidadOperativa_AeronaveInexistente_LanzaExcepcion() {
             // Arrange
-            when(aeronaveRepository.findById(999L)).thenReturn(Optional.empty());
+            when(cacheAeronaves.buscarPorId(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
             AeronaveNoEncontradaException exception = assertThrows(
@@ -475,64 +490,56 @@ class AeronaveServiceTest {
         @DisplayName("Obtener aeronaves por estado DISPONIBLE")
         void obtenerAerronavesPorEstado_ConEstadoDisponible_RetornaAeronaves() {
             // Arrange
-            List<Aeronave> aeronaves = Arrays.asList(aeronaveTest);
             List<AeronaveDTO> aeronavesDTO = Arrays.asList(aeronaveDTOTest);
 
-            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE)).thenReturn(aeronaves);
-            when(aeronaveMapper.toDTOList(aeronaves)).thenReturn(aeronavesDTO);
+            when(aeronaveRepository.findComoDTOByEstado(EstadoAeronave.DISPONIBLE)).thenReturn(aeronavesDTO);
 
             // Act
             List<AeronaveDTO> resultado = aeronaveService.obtenerAerronavesPorEstado(EstadoAeronave.DISPONIBLE);
 
             // Assert
             assertNotNull(resultado);
-            verify(aeronaveRepository).findByEstado(EstadoAeronave.DISPONIBLE);
+            verify(aeronaveRepository).findComoDTOByEstado(EstadoAeronave.DISPONIBLE);
         }
 
         @Test
         @DisplayName("Obtener aeronaves por modelo")
         void obtenerAerronavesPorModelo_ConModeloExistente_RetornaAeronaves() {
             // Arrange
-            List<Aeronave> aeronaves = Arrays.asList(aeronaveTest);
             List<AeronaveDTO> aeronavesDTO = Arrays.asList(aeronaveDTOTest);
 
-            when(aeronaveRepository.findByModelo("Cessna 208")).thenReturn(aeronaves);
-            when(aeronaveMapper.toDTOList(aeronaves)).thenReturn(aeronavesDTO);
+            when(aeronaveRepository.findComoDTOByModelo("Cessna 208")).thenReturn(aeronavesDTO);
 
             // Act
             List<AeronaveDTO> resultado = aeronaveService.obtenerAerronavesPorModelo("Cessna 208");
 
             // Assert
             assertNotNull(resultado);
-            verify(aeronaveRepository).findByModelo("Cessna 208");
+            verify(aeronaveRepository).findComoDTOByModelo("Cessna 208");
         }
 
         @Test
         @DisplayName("Obtener aeronaves por capacidad mínima")
         void obtenerAerronavesPorCapacidad_ConCapacidad10_RetornaAeronaves() {
             // Arrange
-            List<Aeronave> aeronaves = Arrays.asList(aeronaveTest);
             List<AeronaveDTO> aeronavesDTO = Arrays.asList(aeronaveDTOTest);
 
-            when(aeronaveRepository.findByCapacidadPasajerosGreaterThanEqual(10))
-                    .thenReturn(aeronaves);
-            when(aeronaveMapper.toDTOList(aeronaves)).thenReturn(aeronavesDTO);
+            when(aeronaveRepository.findComoDTOByCapacidadMinima(10))
+                    .thenReturn(aeronavesDTO);
 
             // Act
             List<AeronaveDTO> resultado = aeronaveService.obtenerAerronavesPorCapacidad(10);
 
             // Assert
             assertNotNull(resultado);
-            verify(aeronaveRepository).findByCapacidadPasajerosGreaterThanEqual(10);
+            verify(aeronaveRepository).findComoDTOByCapacidadMinima(10);
         }
 
         @Test
         @DisplayName("Obtener aeronaves sin resultados retorna lista vacía")
         void obtenerAerronavesPorEstado_SinResultados_RetornaListaVacia() {
             // Arrange
-            when(aeronaveRepository.findByEstado(EstadoAeronave.FUERA_DE_SERVICIO))
-                    .thenReturn(Collections.emptyList());
-            when(aeronaveMapper.toDTOList(Collections.emptyList()))
+            when(aeronaveRepository.findComoDTOByEstado(EstadoAeronave.FUERA_DE_SERVICIO))
                     .thenReturn(Collections.emptyList());
 
             // Act
@@ -563,6 +570,8 @@ class AeronaveServiceTest {
             // Assert
             assertEquals(EstadoAeronave.FUERA_DE_SERVICIO, aeronaveTest.getEstado());
             verify(aeronaveRepository).save(aeronaveTest);
+            verify(contadorEstados).registrarCambio(EstadoAeronave.DISPONIBLE, EstadoAeronave.FUERA_DE_SERVICIO);
+            verify(cacheAeronaves).invalidar(1L);
         }
 
         @Test
@@ -602,68 +611,68 @@ class AeronaveServiceTest {
     class IncrementarHorasVueloTests {
 
         @Test
-        @DisplayName("Incrementar horas de vuelo exitosamente")
-        void incrementarHorasVuelo_ConHorasValidas_Exitoso() {
+        @DisplayName("Incrementar horas de vuelo con un UPDATE atómico, sin leer la aeronave")
+        void incrementarHorasVuelo_ConHorasValidas_ActualizaAtomicamente() {
             // Arrange
-            Double horasActuales = aeronaveTest.getHorasVueloTotales();
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(aeronaveRepository.incrementarHorasVuelo(1L, 10.0)).thenReturn(1);
 
             // Act
             aeronaveService.incrementarHorasVuelo(1L, 10.0);
 
             // Assert
-            assertEquals(horasActuales + 10.0, aeronaveTest.getHorasVueloTotales());
-            verify(aeronaveRepository).save(aeronaveTest);
+            verify(aeronaveRepository).incrementarHorasVuelo(1L, 10.0);
+            verify(aeronaveRepository, never()).findById(any());
+            verify(aeronaveRepository, never()).save(any());
+            verify(acumuladorHoras, never()).acumularAeronave(any(), anyDouble());
+            verify(cacheAeronaves).invalidar(1L);
+            verify(pronosticoMantenimiento).actualizarAeronave(1L);
         }
 
         @Test
-        @DisplayName("Incrementar horas inicia desde cero si es null")
-        void incrementarHorasVuelo_SiHorasVueloEsNull_IniciaDesdeCero() {
+        @DisplayName("Con escritura diferida el incremento se acumula en memoria")
+        void incrementarHorasVuelo_ConEscrituraDiferida_Acumula() {
             // Arrange
-            aeronaveTest.setHorasVueloTotales(null);
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(acumuladorHoras.estaHabilitado()).thenReturn(true);
+            when(aeronaveRepository.existsById(1L)).thenReturn(true);
 
             // Act
             aeronaveService.incrementarHorasVuelo(1L, 5.0);
 
             // Assert
-            assertEquals(5.0, aeronaveTest.getHorasVueloTotales());
-            verify(aeronaveRepository).save(aeronaveTest);
+            verify(acumuladorHoras).acumularAeronave(1L, 5.0);
+            verify(aeronaveRepository, never()).incrementarHorasVuelo(any(), anyDouble());
+            verify(aeronaveRepository, never()).save(any());
         }
 
         @Test
         @DisplayName("Incrementar horas con valor negativo lanza excepción")
         void incrementarHorasVuelo_ConValorNegativo_LanzaExcepcion() {
-            // Arrange
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
-
             // Act & Assert
             IllegalArgumentException exception = assertThrows(
                     IllegalArgumentException.class,
                     () -> aeronaveService.incrementarHorasVuelo(1L, -5.0)
             );
             assertEquals("Las horas de vuelo a agregar deben ser positivas", exception.getMessage());
+            verify(aeronaveRepository, never()).incrementarHorasVuelo(any(), anyDouble());
         }
 
         @Test
         @DisplayName("Incrementar horas con cero lanza excepción")
         void incrementarHorasVuelo_ConCero_LanzaExcepcion() {
-            // Arrange
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
-
             // Act & Assert
             IllegalArgumentException exception = assertThrows(
                     IllegalArgumentException.class,
                     () -> aeronaveService.incrementarHorasVuelo(1L, 0.0)
             );
             assertEquals("Las horas de vuelo a agregar deben ser positivas", exception.getMessage());
+            verify(aeronaveRepository, never()).incrementarHorasVuelo(any(), anyDouble());
         }
 
         @Test
         @DisplayName("Incrementar horas con aeronave inexistente lanza excepción")
         void incrementarHorasVuelo_AeronaveInexistente_LanzaExcepcion() {
             // Arrange
-            when(aeronaveRepository.findById(999L)).thenReturn(Optional.empty());
+            when(aeronaveRepository.incrementarHorasVuelo(999L, 5.0)).thenReturn(0);
 
             // Act & Assert
             AeronaveNoEncontradaException exception = assertThrows(
@@ -672,6 +681,19 @@ class AeronaveServiceTest {
             );
             assertEquals("Aeronave no encontrada con ID: 999", exception.getMessage());
         }
+
+        @Test
+        @DisplayName("Con escritura diferida, una aeronave inexistente no acumula horas")
+        void incrementarHorasVuelo_EscrituraDiferidaAeronaveInexistente_LanzaExcepcion() {
+            // Arrange
+            when(acumuladorHoras.estaHabilitado()).thenReturn(true);
+            when(aeronaveRepository.existsById(999L)).thenReturn(false);
+
+            // Act & Assert
+            assertThrows(AeronaveNoEncontradaException.class,
+                    () -> aeronaveService.incrementarHorasVuelo(999L, 5.0));
+            verify(acumuladorHoras, never()).acumularAeronave(any(), anyDouble());
+        }
     }
 
     // ==================== TRANSICIONES DE ESTADO OPERATIVO TESTS ====================
@@ -810,6 +832,8 @@ class AeronaveServiceTest {
             assertNotNull(resultado);
             assertEquals(EstadoAeronave.FUERA_DE_SERVICIO, aeronaveTest.getEstado());
             verify(aeronaveRepository).save(aeronaveTest);
+            verify(contadorEstados).registrarCambio(EstadoAeronave.DISPONIBLE, EstadoAeronave.FUERA_DE_SERVICIO);
+            verify(cacheAeronaves).invalidar(1L);
         }
 
         @Test
@@ -891,6 +915,8 @@ class AeronaveServiceTest {
             assertNotNull(resultado);
             assertEquals(EstadoAeronave.DISPONIBLE, aeronaveTest.getEstado());
             verify(aeronaveRepository).save(aeronaveTest);
+            verify(contadorEstados).registrarCambio(EstadoAeronave.FUERA_DE_SERVICIO, EstadoAeronave.DISPONIBLE);
+            verify(cacheAeronaves).invalidar(1L);
         }
 
         @Test
@@ -971,41 +997,22 @@ class AeronaveServiceTest {
     @DisplayName("Consulta Resumen Disponibilidad Flota Tests")
     class ConsultaResumenDisponibilidadFlotaTests {
 
+        private void contadoresCargados(long disponibles, long enVuelo, long enMantenimiento, long fueraDeServicio) {
+            when(contadorEstados.estaCargado()).thenReturn(true);
+            when(contadorEstados.cantidad(EstadoAeronave.DISPONIBLE)).thenReturn(disponibles);
+            when(contadorEstados.cantidad(EstadoAeronave.EN_VUELO)).thenReturn(enVuelo);
+            when(contadorEstados.cantidad(EstadoAeronave.EN_MANTENIMIENTO)).thenReturn(enMantenimiento);
+            when(contadorEstados.cantidad(EstadoAeronave.FUERA_DE_SERVICIO)).thenReturn(fueraDeServicio);
+        }
+
         @Test
         @DisplayName("Consultar resumen con flota mixta")
         void consultarResumen_ConFlotaMixta_RetornaResumenCorrecto() {
             // Arrange
-            Aeronave aeronave2 = Aeronave.builder()
-                    .id(2L)
-                    .matricula("HK-5678")
-                    .modelo("King Air 350")
-                    .capacidadPasajeros(8)
-                    .capacidadTripulacion(2)
-                    .estado(EstadoAeronave.EN_MANTENIMIENTO)
-                    .build();
-
-            Aeronave aeronave3 = Aeronave.builder()
-                    .id(3L)
-                    .matricula("HK-9012")
-                    .modelo("Pilatus PC-12")
-                    .capacidadPasajeros(9)
-                    .capacidadTripulacion(2)
-                    .estado(EstadoAeronave.FUERA_DE_SERVICIO)
-                    .build();
-
-            List<Aeronave> todasAeronaves = Arrays.asList(aeronaveTest, aeronave2, aeronave3);
-
-            when(aeronaveRepository.findAll()).thenReturn(todasAeronaves);
-            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE))
-                    .thenReturn(Collections.singletonList(aeronaveTest));
-            when(aeronaveRepository.findByEstado(EstadoAeronave.FUERA_DE_SERVICIO))
-                    .thenReturn(Collections.singletonList(aeronave3));
-            when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTOTest);
-            when(aeronaveMapper.toDTO(aeronave3)).thenReturn(AeronaveDTO.builder()
-                    .id(3L).matricula("HK-9012").estado(EstadoAeronave.FUERA_DE_SERVICIO).build());
+            contadoresCargados(1, 0, 1, 1);
 
             // Act
-            ResumenDisponibilidadFlotaDTO resumen = aeronaveService.consultarResumenDisponibilidadFlota();
+            ResumenDisponibilidadFlotaDTO resumen = aeronaveService.consultarResumenDisponibilidadFlota(false);
 
             // Assert
             assertNotNull(resumen);
@@ -1015,15 +1022,17 @@ class AeronaveServiceTest {
             assertEquals(1, resumen.getAeronavesFueraDeServicio());
             assertEquals(0, resumen.getAeronavesEnVuelo());
             assertNotNull(resumen.getFechaConsulta());
-            assertNotNull(resumen.getContadorPorEstado());
+            assertEquals(3, resumen.getContadorPorEstado().size());
+            assertFalse(resumen.getContadorPorEstado().containsKey("EN_VUELO"));
+            verifyNoInteractions(aeronaveRepository);
         }
 
         @Test
         @DisplayName("Consultar resumen con flota vacía")
         void consultarResumen_ConFlotaVacia_RetornaResumenVacio() {
             // Arrange
-            when(aeronaveRepository.findAll()).thenReturn(Collections.emptyList());
-            when(aeronaveRepository.findByEstado(any())).thenReturn(Collections.emptyList());
+            contadoresCargados(0, 0, 0, 0);
+            when(aeronaveRepository.findComoDTOByEstado(any())).thenReturn(Collections.emptyList());
 
             // Act
             ResumenDisponibilidadFlotaDTO resumen = aeronaveService.consultarResumenDisponibilidadFlota();
@@ -1040,21 +1049,10 @@ class AeronaveServiceTest {
         @DisplayName("Consultar resumen calcula porcentaje de disponibilidad correcto")
         void consultarResumen_CalculaPorcentajeCorrectamente() {
             // Arrange - 2 de 4 aeronaves disponibles = 50%
-            Aeronave disponible1 = Aeronave.builder().id(1L).estado(EstadoAeronave.DISPONIBLE).build();
-            Aeronave disponible2 = Aeronave.builder().id(2L).estado(EstadoAeronave.DISPONIBLE).build();
-            Aeronave enVuelo = Aeronave.builder().id(3L).estado(EstadoAeronave.EN_VUELO).build();
-            Aeronave bloqueada = Aeronave.builder().id(4L).estado(EstadoAeronave.FUERA_DE_SERVICIO).build();
-
-            when(aeronaveRepository.findAll())
-                    .thenReturn(Arrays.asList(disponible1, disponible2, enVuelo, bloqueada));
-            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE))
-                    .thenReturn(Arrays.asList(disponible1, disponible2));
-            when(aeronaveRepository.findByEstado(EstadoAeronave.FUERA_DE_SERVICIO))
-                    .thenReturn(Collections.singletonList(bloqueada));
-            when(aeronaveMapper.toDTO(any(Aeronave.class))).thenReturn(aeronaveDTOTest);
+            contadoresCargados(2, 1, 0, 1);
 
             // Act
-            ResumenDisponibilidadFlotaDTO resumen = aeronaveService.consultarResumenDisponibilidadFlota();
+            ResumenDisponibilidadFlotaDTO resumen = aeronaveService.consultarResumenDisponibilidadFlota(false);
 
             // Assert
             assertEquals(50.0, resumen.getPorcentajeDisponibilidad());
@@ -1064,21 +1062,12 @@ class AeronaveServiceTest {
         @DisplayName("Consultar resumen incluye listas de aeronaves disponibles y bloqueadas")
         void consultarResumen_IncluyeListasAeronaves() {
             // Arrange
-            aeronaveTest.setEstado(EstadoAeronave.DISPONIBLE);
-            Aeronave bloqueada = Aeronave.builder()
-                    .id(2L)
-                    .matricula("HK-BLOQ")
-                    .estado(EstadoAeronave.FUERA_DE_SERVICIO)
-                    .build();
-
-            when(aeronaveRepository.findAll()).thenReturn(Arrays.asList(aeronaveTest, bloqueada));
-            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE))
-                    .thenReturn(Collections.singletonList(aeronaveTest));
-            when(aeronaveRepository.findByEstado(EstadoAeronave.FUERA_DE_SERVICIO))
-                    .thenReturn(Collections.singletonList(bloqueada));
-            when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTOTest);
-            when(aeronaveMapper.toDTO(bloqueada)).thenReturn(AeronaveDTO.builder()
-                    .id(2L).matricula("HK-BLOQ").estado(EstadoAeronave.FUERA_DE_SERVICIO).build());
+            contadoresCargados(1, 0, 0, 1);
+            when(aeronaveRepository.findComoDTOByEstado(EstadoAeronave.DISPONIBLE))
+                    .thenReturn(Collections.singletonList(aeronaveDTOTest));
+            when(aeronaveRepository.findComoDTOByEstado(EstadoAeronave.FUERA_DE_SERVICIO))
+                    .thenReturn(Collections.singletonList(AeronaveDTO.builder()
+                            .id(2L).matricula("HK-BLOQ").estado(EstadoAeronave.FUERA_DE_SERVICIO).build()));
 
             // Act
             ResumenDisponibilidadFlotaDTO resumen = aeronaveService.consultarResumenDisponibilidadFlota();
@@ -1088,6 +1077,28 @@ class AeronaveServiceTest {
             assertEquals(1, resumen.getListaAerronavesBloqueadas().size());
             assertEquals("HK-1234", resumen.getListaAeronavesDisponibles().get(0).getMatricula());
             assertEquals("HK-BLOQ", resumen.getListaAerronavesBloqueadas().get(0).getMatricula());
+            verify(aeronaveRepository, never()).findAll();
+            verifyNoInteractions(aeronaveMapper);
+        }
+
+        @Test
+        @DisplayName("Consultar resumen sin contadores cargados cuenta en la base de datos")
+        void consultarResumen_SinContadoresCargados_CuentaEnBaseDeDatos() {
+            // Arrange
+            when(contadorEstados.estaCargado()).thenReturn(false);
+            when(aeronaveRepository.contarPorEstado()).thenReturn(List.of(
+                    new ConteoEstadoAeronave(EstadoAeronave.DISPONIBLE, 3L),
+                    new ConteoEstadoAeronave(EstadoAeronave.EN_VUELO, 1L)));
+
+            // Act
+            ResumenDisponibilidadFlotaDTO resumen = aeronaveService.consultarResumenDisponibilidadFlota(false);
+
+            // Assert
+            assertEquals(4, resumen.getTotalAeronaves());
+            assertEquals(3, resumen.getAeronavesDisponibles());
+            assertEquals(1, resumen.getAeronavesEnVuelo());
+            assertEquals(75.0, resumen.getPorcentajeDisponibilidad());
+            verify(contadorEstados, never()).cantidad(any());
         }
     }
 
@@ -1101,45 +1112,13 @@ class AeronaveServiceTest {
         @DisplayName("Obtener historial de uso completo de aeronave")
         void obtenerHistorialUso_ConDatosCompletos_RetornaHistorialCompleto() {
             // Arrange
-            Vuelo vuelo1 = Vuelo.builder()
-                    .id(1L)
-                    .aeronave(aeronaveTest)
-                    .estado(EstadoVuelo.COMPLETADO)
-                    .fechaSalidaProgramada(LocalDateTime.now().minusDays(5))
-                    .fechaSalidaReal(LocalDateTime.now().minusDays(5))
-                    .fechaLlegadaReal(LocalDateTime.now().minusDays(5).plusHours(2))
-                    .build();
-
-            Vuelo vuelo2 = Vuelo.builder()
-                    .id(2L)
-                    .aeronave(aeronaveTest)
-                    .estado(EstadoVuelo.CANCELADO)
-                    .fechaSalidaProgramada(LocalDateTime.now().minusDays(3))
-                    .build();
-
+            Vuelo vuelo1 = Vuelo.builder().id(1L).aeronave(aeronaveTest).estado(EstadoVuelo.COMPLETADO).build();
+            Vuelo vuelo2 = Vuelo.builder().id(2L).aeronave(aeronaveTest).estado(EstadoVuelo.CANCELADO).build();
             Mantenimiento mantenimiento1 = Mantenimiento.builder()
-                    .id(1L)
-                    .aeronave(aeronaveTest)
-                    .tipo(TipoMantenimiento.PREVENTIVO)
-                    .fechaInicio(LocalDateTime.now().minusDays(10))
-                    .costo(500.0)
-                    .build();
-
+                    .id(1L).aeronave(aeronaveTest).tipo(TipoMantenimiento.PREVENTIVO).build();
             Mantenimiento mantenimiento2 = Mantenimiento.builder()
-                    .id(2L)
-                    .aeronave(aeronaveTest)
-                    .tipo(TipoMantenimiento.CORRECTIVO)
-                    .fechaInicio(LocalDateTime.now().minusDays(2))
-                    .costo(1500.0)
-                    .build();
-
-            Repostaje repostaje1 = Repostaje.builder()
-                    .id(1L)
-                    .aeronave(aeronaveTest)
-                    .cantidadLitros(200.0)
-                    .costoTotal(400.0)
-                    .fechaRepostaje(LocalDateTime.now().minusDays(5))
-                    .build();
+                    .id(2L).aeronave(aeronaveTest).tipo(TipoMantenimiento.CORRECTIVO).build();
+            Repostaje repostaje1 = Repostaje.builder().id(1L).aeronave(aeronaveTest).cantidadLitros(200.0).build();
 
             List<Vuelo> vuelos = Arrays.asList(vuelo1, vuelo2);
             List<Mantenimiento> mantenimientos = Arrays.asList(mantenimiento1, mantenimiento2);
@@ -1153,12 +1132,18 @@ class AeronaveServiceTest {
 
             when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
             when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTOTest);
-            when(vueloRepository.findByAeronaveId(1L)).thenReturn(vuelos);
-            when(mantenimientoRepository.findByAeronaveId(1L)).thenReturn(mantenimientos);
-            when(repostajeRepository.findByAeronaveId(1L)).thenReturn(repostajes);
+            when(vueloRepository.findByAeronaveIdEnRango(1L, null, null)).thenReturn(vuelos);
+            when(mantenimientoRepository.findByAeronaveIdEnRango(1L, null, null)).thenReturn(mantenimientos);
+            when(repostajeRepository.findByAeronaveIdEnRango(1L, null, null)).thenReturn(repostajes);
             when(vueloMapper.toDTOList(vuelos)).thenReturn(Arrays.asList(vueloDTO1, vueloDTO2));
             when(mantenimientoMapper.toDTOList(mantenimientos)).thenReturn(Arrays.asList(mantenimientoDTO1, mantenimientoDTO2));
             when(repostajeMapper.toDTOList(repostajes)).thenReturn(Collections.singletonList(repostajeDTO1));
+            when(vueloRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesVuelosAeronave(2L, 1L, 1L, 120L));
+            when(mantenimientoRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesMantenimientosAeronave(2L, 1L, 1L, 2000.0));
+            when(repostajeRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesRepostajesAeronave(1L, 200.0, 400.0));
 
             // Act
             HistorialUsoAeronaveDTO historial = aeronaveService.obtenerHistorialUso(1L);
@@ -1167,6 +1152,9 @@ class AeronaveServiceTest {
             assertNotNull(historial);
             assertNotNull(historial.getAeronave());
             assertEquals("HK-1234", historial.getAeronave().getMatricula());
+            assertEquals(2, historial.getVuelos().size());
+            assertEquals(2, historial.getMantenimientos().size());
+            assertEquals(1, historial.getRepostajes().size());
 
             // Verificar estadísticas de vuelos
             assertEquals(2, historial.getTotalVuelos());
@@ -1190,10 +1178,9 @@ class AeronaveServiceTest {
             assertNull(historial.getFechaHasta());
             assertNotNull(historial.getFechaGeneracion());
 
-            verify(aeronaveRepository).findById(1L);
-            verify(vueloRepository).findByAeronaveId(1L);
-            verify(mantenimientoRepository).findByAeronaveId(1L);
-            verify(repostajeRepository).findByAeronaveId(1L);
+            verify(vueloRepository, never()).findByAeronaveId(anyLong());
+            verify(mantenimientoRepository, never()).findByAeronaveId(anyLong());
+            verify(repostajeRepository, never()).findByAeronaveId(anyLong());
         }
 
         @Test
@@ -1202,12 +1189,18 @@ class AeronaveServiceTest {
             // Arrange
             when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
             when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTOTest);
-            when(vueloRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
-            when(mantenimientoRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
-            when(repostajeRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
+            when(vueloRepository.findByAeronaveIdEnRango(1L, null, null)).thenReturn(Collections.emptyList());
+            when(mantenimientoRepository.findByAeronaveIdEnRango(1L, null, null)).thenReturn(Collections.emptyList());
+            when(repostajeRepository.findByAeronaveIdEnRango(1L, null, null)).thenReturn(Collections.emptyList());
             when(vueloMapper.toDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
             when(mantenimientoMapper.toDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
             when(repostajeMapper.toDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
+            when(vueloRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesVuelosAeronave(0L, null, null, null));
+            when(mantenimientoRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesMantenimientosAeronave(0L, null, null, null));
+            when(repostajeRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesRepostajesAeronave(0L, null, null));
 
             // Act
             HistorialUsoAeronaveDTO historial = aeronaveService.obtenerHistorialUso(1L);
@@ -1219,7 +1212,9 @@ class AeronaveServiceTest {
             assertEquals(0, historial.getVuelosCancelados());
             assertEquals(0.0, historial.getTotalHorasVuelo());
             assertEquals(0, historial.getTotalMantenimientos());
+            assertEquals(0.0, historial.getCostoTotalMantenimientos());
             assertEquals(0, historial.getTotalRepostajes());
+            assertEquals(0.0, historial.getTotalLitrosCombustible());
             assertTrue(historial.getVuelos().isEmpty());
             assertTrue(historial.getMantenimientos().isEmpty());
             assertTrue(historial.getRepostajes().isEmpty());
@@ -1240,41 +1235,26 @@ class AeronaveServiceTest {
         }
 
         @Test
-        @DisplayName("Obtener historial de uso con rango de fechas")
+        @DisplayName("Obtener historial de uso con rango de fechas filtra en las consultas")
         void obtenerHistorialUso_ConRangoDeFechas_FiltraCorrectamente() {
             // Arrange
             LocalDateTime fechaDesde = LocalDateTime.now().minusDays(7);
             LocalDateTime fechaHasta = LocalDateTime.now();
 
-            Vuelo vueloDentroRango = Vuelo.builder()
-                    .id(1L)
-                    .aeronave(aeronaveTest)
-                    .estado(EstadoVuelo.COMPLETADO)
-                    .fechaSalidaProgramada(LocalDateTime.now().minusDays(3))
-                    .fechaSalidaReal(LocalDateTime.now().minusDays(3))
-                    .fechaLlegadaReal(LocalDateTime.now().minusDays(3).plusHours(1))
-                    .build();
-
-            Vuelo vueloFueraRango = Vuelo.builder()
-                    .id(2L)
-                    .aeronave(aeronaveTest)
-                    .estado(EstadoVuelo.COMPLETADO)
-                    .fechaSalidaProgramada(LocalDateTime.now().minusDays(15))
-                    .build();
-
-            List<Vuelo> todosVuelos = Arrays.asList(vueloDentroRango, vueloFueraRango);
-            List<Vuelo> vuelosFiltrados = Collections.singletonList(vueloDentroRango);
-
-            VueloDTO vueloDTO = VueloDTO.builder().id(1L).estado(EstadoVuelo.COMPLETADO).build();
-
             when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
             when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTOTest);
-            when(vueloRepository.findByAeronaveId(1L)).thenReturn(todosVuelos);
-            when(mantenimientoRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
-            when(repostajeRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
-            when(vueloMapper.toDTOList(anyList())).thenReturn(Collections.singletonList(vueloDTO));
+            when(vueloRepository.findByAeronaveIdEnRango(1L, fechaDesde, fechaHasta)).thenReturn(Collections.emptyList());
+            when(mantenimientoRepository.findByAeronaveIdEnRango(1L, fechaDesde, fechaHasta)).thenReturn(Collections.emptyList());
+            when(repostajeRepository.findByAeronaveIdEnRango(1L, fechaDesde, fechaHasta)).thenReturn(Collections.emptyList());
+            when(vueloMapper.toDTOList(anyList())).thenReturn(Collections.singletonList(VueloDTO.builder().id(1L).build()));
             when(mantenimientoMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
             when(repostajeMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
+            when(vueloRepository.calcularTotalesPorAeronave(1L, fechaDesde, fechaHasta))
+                    .thenReturn(new TotalesVuelosAeronave(1L, 1L, 0L, 60L));
+            when(mantenimientoRepository.calcularTotalesPorAeronave(1L, fechaDesde, fechaHasta))
+                    .thenReturn(new TotalesMantenimientosAeronave(0L, null, null, null));
+            when(repostajeRepository.calcularTotalesPorAeronave(1L, fechaDesde, fechaHasta))
+                    .thenReturn(new TotalesRepostajesAeronave(0L, null, null));
 
             // Act
             HistorialUsoAeronaveDTO historial = aeronaveService.obtenerHistorialUso(1L, fechaDesde, fechaHasta);
@@ -1282,107 +1262,71 @@ class AeronaveServiceTest {
             // Assert
             assertNotNull(historial);
             assertEquals(1, historial.getTotalVuelos());
+            assertEquals(1.0, historial.getTotalHorasVuelo());
             assertEquals(fechaDesde, historial.getFechaDesde());
             assertEquals(fechaHasta, historial.getFechaHasta());
         }
 
         @Test
-        @DisplayName("Obtener historial de uso calcula horas de vuelo correctamente")
+        @DisplayName("Obtener historial de uso redondea las horas de vuelo a dos decimales")
         void obtenerHistorialUso_CalculaHorasVueloCorrectamente() {
             // Arrange
-            LocalDateTime salidaVuelo1 = LocalDateTime.now().minusDays(2).withHour(10).withMinute(0);
-            LocalDateTime llegadaVuelo1 = LocalDateTime.now().minusDays(2).withHour(12).withMinute(30);
-
-            Vuelo vuelo = Vuelo.builder()
-                    .id(1L)
-                    .aeronave(aeronaveTest)
-                    .estado(EstadoVuelo.COMPLETADO)
-                    .fechaSalidaProgramada(salidaVuelo1)
-                    .fechaSalidaReal(salidaVuelo1)
-                    .fechaLlegadaReal(llegadaVuelo1)
-                    .build();
-
             when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
             when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTOTest);
-            when(vueloRepository.findByAeronaveId(1L)).thenReturn(Collections.singletonList(vuelo));
-            when(mantenimientoRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
-            when(repostajeRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
-            when(vueloMapper.toDTOList(anyList())).thenReturn(Collections.singletonList(VueloDTO.builder().id(1L).build()));
+            when(vueloMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
             when(mantenimientoMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
             when(repostajeMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
+            when(vueloRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesVuelosAeronave(2L, 2L, 0L, 170L));
+            when(mantenimientoRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesMantenimientosAeronave(0L, null, null, null));
+            when(repostajeRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesRepostajesAeronave(0L, null, null));
 
             // Act
             HistorialUsoAeronaveDTO historial = aeronaveService.obtenerHistorialUso(1L);
 
             // Assert
-            // 2 horas y 30 minutos = 2.5 horas
-            assertEquals(2.5, historial.getTotalHorasVuelo());
+            // 170 minutos = 2.8333 horas
+            assertEquals(2.83, historial.getTotalHorasVuelo());
         }
 
         @Test
-        @DisplayName("Obtener historial de uso cuenta tipos de mantenimiento correctamente")
-        void obtenerHistorialUso_CuentaTiposMantenimientoCorrectamente() {
+        @DisplayName("Obtener resumen de uso no carga las listas de detalle")
+        void obtenerResumenUso_NoCargaListas() {
             // Arrange
-            Mantenimiento preventivo1 = Mantenimiento.builder()
-                    .id(1L).aeronave(aeronaveTest).tipo(TipoMantenimiento.PREVENTIVO)
-                    .fechaInicio(LocalDateTime.now().minusDays(5)).costo(100.0).build();
-            Mantenimiento preventivo2 = Mantenimiento.builder()
-                    .id(2L).aeronave(aeronaveTest).tipo(TipoMantenimiento.PREVENTIVO)
-                    .fechaInicio(LocalDateTime.now().minusDays(3)).costo(150.0).build();
-            Mantenimiento correctivo1 = Mantenimiento.builder()
-                    .id(3L).aeronave(aeronaveTest).tipo(TipoMantenimiento.CORRECTIVO)
-                    .fechaInicio(LocalDateTime.now().minusDays(1)).costo(500.0).build();
-
-            List<Mantenimiento> mantenimientos = Arrays.asList(preventivo1, preventivo2, correctivo1);
-
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
-            when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTOTest);
-            when(vueloRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
-            when(mantenimientoRepository.findByAeronaveId(1L)).thenReturn(mantenimientos);
-            when(repostajeRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
-            when(vueloMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
-            when(mantenimientoMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
-            when(repostajeMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
-
-            // Act
-            HistorialUsoAeronaveDTO historial = aeronaveService.obtenerHistorialUso(1L);
+            LocalDateTime fechaDesde = LocalDateTime.now().minusDays(30);
+            when(aeronaveRepository.existsById(1L)).thenReturn(true);
+            when(vueloRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesVuelosAeronave(0L, null, null, null));
+            when(mantenimientoRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesMantenimientosAeronave(0L, null, null, null));
+            when(repostajeRepository.calcularTotalesPorAeronave(1L, null, null))
+                    .thenReturn(new TotalesRepostajesAeronave(2L, 350.0, 750.0));
+
+            // Act - con una sola fecha se considera el historial completo
+            ResumenUsoAeronaveDTO resumen = aeronaveService.obtenerResumenUso(1L, fechaDesde, null);
 
             // Assert
-            assertEquals(3, historial.getTotalMantenimientos());
-            assertEquals(2, historial.getMantenimientosPreventivos());
-            assertEquals(1, historial.getMantenimientosCorrectivos());
-            assertEquals(750.0, historial.getCostoTotalMantenimientos());
+            assertEquals(1L, resumen.getAeronaveId());
+            assertEquals(2, resumen.getTotalRepostajes());
+            assertEquals(350.0, resumen.getTotalLitrosCombustible());
+            assertEquals(750.0, resumen.getCostoTotalCombustible());
+            assertNull(resumen.getFechaDesde());
+            verify(vueloRepository, never()).findByAeronaveIdEnRango(any(), any(), any());
+            verifyNoInteractions(vueloMapper, mantenimientoMapper, repostajeMapper);
         }
 
         @Test
-        @DisplayName("Obtener historial de uso suma combustible correctamente")
-        void obtenerHistorialUso_SumaCombustibleCorrectamente() {
+        @DisplayName("Obtener resumen de uso con aeronave inexistente lanza excepción")
+        void obtenerResumenUso_AeronaveInexistente_LanzaExcepcion() {
             // Arrange
-            Repostaje repostaje1 = Repostaje.builder()
-                    .id(1L).aeronave(aeronaveTest).cantidadLitros(150.0).costoTotal(300.0)
-                    .fechaRepostaje(LocalDateTime.now().minusDays(3)).build();
-            Repostaje repostaje2 = Repostaje.builder()
-                    .id(2L).aeronave(aeronaveTest).cantidadLitros(200.0).costoTotal(450.0)
-                    .fechaRepostaje(LocalDateTime.now().minusDays(1)).build();
-
-            List<Repostaje> repostajes = Arrays.asList(repostaje1, repostaje2);
-
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
-            when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTOTest);
-            when(vueloRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
-            when(mantenimientoRepository.findByAeronaveId(1L)).thenReturn(Collections.emptyList());
-            when(repostajeRepository.findByAeronaveId(1L)).thenReturn(repostajes);
-            when(vueloMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
-            when(mantenimientoMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
-            when(repostajeMapper.toDTOList(anyList())).thenReturn(Collections.emptyList());
+            when(aeronaveRepository.existsById(999L)).thenReturn(false);
 
-            // Act
-            HistorialUsoAeronaveDTO historial = aeronaveService.obtenerHistorialUso(1L);
-
-            // Assert
-            assertEquals(2, historial.getTotalRepostajes());
-            assertEquals(350.0, historial.getTotalLitrosCombustible());
-            assertEquals(750.0, historial.getCostoTotalCombustible());
+            // Act & Assert
+            assertThrows(AeronaveNoEncontradaException.class,
+                    () -> aeronaveService.obtenerResumenUso(999L, null, null));
+            verifyNoInteractions(vueloRepository, mantenimientoRepository, repostajeRepository);
         }
     }
 }
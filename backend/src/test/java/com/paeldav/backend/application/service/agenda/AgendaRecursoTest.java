@@ -0,0 +1,69 @@
+package com.paeldav.backend.application.service.agenda;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AgendaRecurso Tests")
+class AgendaRecursoTest {
+
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private AgendaRecurso agenda;
+
+    @BeforeEach
+    void setUp() {
+        agenda = new AgendaRecurso(1L);
+    }
+
+    private LocalDateTime hora(int hora) {
+        return base.plusHours(hora);
+    }
+
+    @Test
+    @DisplayName("Agenda vacía siempre está libre")
+    void estaLibre_SinOcupacion_RetornaTrue() {
+        assertTrue(agenda.estaLibre(hora(0), hora(24)));
+        assertTrue(agenda.finesDeOcupacion().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Detecta ocupación y respeta intervalos semiabiertos")
+    void estaLibre_ConOcupacion_RespetaLimites() {
+        agenda.ocupar(hora(10), hora(12));
+
+        assertTrue(agenda.estaLibre(hora(8), hora(10)));
+        assertFalse(agenda.estaLibre(hora(9), hora(11)));
+        assertFalse(agenda.estaLibre(hora(11), hora(13)));
+        assertTrue(agenda.estaLibre(hora(12), hora(14)));
+    }
+
+    @Test
+    @DisplayName("Fusiona tramos solapados y contiguos")
+    void finesDeOcupacion_TramosSolapados_SeFusionan() {
+        agenda.ocupar(hora(14), hora(16));
+        agenda.ocupar(hora(10), hora(12));
+        agenda.ocupar(hora(11), hora(13));
+        agenda.ocupar(hora(13), hora(14));
+        agenda.ocupar(hora(20), hora(21));
+
+        assertEquals(List.of(hora(16), hora(21)), agenda.finesDeOcupacion());
+        assertFalse(agenda.estaLibre(hora(12), hora(13)));
+        assertTrue(agenda.estaLibre(hora(16), hora(20)));
+    }
+
+    @Test
+    @DisplayName("La ocupación indefinida bloquea todo lo posterior y no genera fin")
+    void ocuparDesde_BloqueaIndefinidamente() {
+        agenda.ocuparDesde(hora(48));
+
+        assertTrue(agenda.estaLibre(hora(0), hora(48)));
+        assertFalse(agenda.estaLibre(hora(100), hora(101)));
+        assertTrue(agenda.finesDeOcupacion().isEmpty());
+    }
+}
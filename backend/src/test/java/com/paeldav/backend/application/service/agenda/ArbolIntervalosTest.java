@@ -0,0 +1,103 @@
+package com.paeldav.backend.application.service.agenda;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ArbolIntervalos Tests")
+class ArbolIntervalosTest {
+
+    private ArbolIntervalos arbol;
+
+    @BeforeEach
+    void setUp() {
+        arbol = new ArbolIntervalos();
+    }
+
+    @Test
+    @DisplayName("Detecta solapamiento parcial")
+    void haySolapamiento_SolapamientoParcial_RetornaTrue() {
+        arbol.insertar(1L, 600, 840);
+
+        assertTrue(arbol.haySolapamiento(720, 960, ArbolIntervalos.SIN_EXCLUSION));
+    }
+
+    @Test
+    @DisplayName("Intervalos consecutivos no se solapan")
+    void haySolapamiento_IntervalosConsecutivos_RetornaFalse() {
+        arbol.insertar(1L, 600, 840);
+
+        assertFalse(arbol.haySolapamiento(840, 960, ArbolIntervalos.SIN_EXCLUSION));
+        assertFalse(arbol.haySolapamiento(480, 600, ArbolIntervalos.SIN_EXCLUSION));
+    }
+
+    @Test
+    @DisplayName("Ignora el vuelo excluido")
+    void haySolapamiento_VueloExcluido_RetornaFalse() {
+        arbol.insertar(1L, 600, 840);
+
+        assertFalse(arbol.haySolapamiento(600, 840, 1L));
+    }
+
+    @Test
+    @DisplayName("Eliminar un vuelo libera su intervalo")
+    void eliminar_VueloRegistrado_LiberaIntervalo() {
+        arbol.insertar(1L, 600, 840);
+        arbol.insertar(2L, 900, 1000);
+
+        assertTrue(arbol.eliminar(1L));
+        assertFalse(arbol.eliminar(1L));
+        assertFalse(arbol.haySolapamiento(600, 840, ArbolIntervalos.SIN_EXCLUSION));
+        assertEquals(1, arbol.tamano());
+    }
+
+    @Test
+    @DisplayName("Reinsertar un vuelo reemplaza su intervalo anterior")
+    void insertar_VueloExistente_ReemplazaIntervalo() {
+        arbol.insertar(1L, 600, 840);
+        arbol.insertar(1L, 1200, 1300);
+
+        assertFalse(arbol.haySolapamiento(600, 840, ArbolIntervalos.SIN_EXCLUSION));
+        assertTrue(arbol.haySolapamiento(1250, 1260, ArbolIntervalos.SIN_EXCLUSION));
+        assertEquals(1, arbol.tamano());
+    }
+
+    @Test
+    @DisplayName("Coincide con búsqueda lineal en inserciones y eliminaciones aleatorias")
+    void buscarSolapamientos_OperacionesAleatorias_CoincideConBusquedaLineal() {
+        Random random = new Random(42);
+        List<long[]> intervalos = new ArrayList<>();
+
+        for (long id = 1; id <= 2000; id++) {
+            long inicio = random.nextInt(100_000);
+            long fin = inicio + 1 + random.nextInt(600);
+            arbol.insertar(id, inicio, fin);
+            intervalos.add(new long[]{id, inicio, fin});
+        }
+        for (int i = 0; i < 700; i++) {
+            long[] eliminado = intervalos.remove(random.nextInt(intervalos.size()));
+            assertTrue(arbol.eliminar(eliminado[0]));
+        }
+
+        for (int i = 0; i < 500; i++) {
+            long inicio = random.nextInt(100_000);
+            long fin = inicio + 1 + random.nextInt(900);
+
+            List<Long> esperados = intervalos.stream()
+                    .filter(iv -> iv[1] < fin && iv[2] > inicio)
+                    .map(iv -> iv[0])
+                    .sorted()
+                    .toList();
+            List<Long> obtenidos = arbol.buscarSolapamientos(inicio, fin).stream().sorted().toList();
+
+            assertEquals(esperados, obtenidos);
+            assertEquals(!esperados.isEmpty(), arbol.haySolapamiento(inicio, fin, ArbolIntervalos.SIN_EXCLUSION));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.paeldav.backend.application.service.agenda;
+
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("IndiceAgendaAeronaves Tests")
+class IndiceAgendaAeronavesTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 8, 0);
+
+    private VueloRepository vueloRepository;
+    private IndiceAgendaAeronaves indice;
+
+    @BeforeEach
+    void setUp() {
+        vueloRepository = mock(VueloRepository.class);
+        ReglasRotacion reglas = new ReglasRotacion(30, "King Air 350:60", 120, "Bogotá/Cartagena:90");
+        indice = new IndiceAgendaAeronaves(vueloRepository, reglas);
+
+        // Aeronave 1 (King Air 350): Bogotá → Cartagena de 08:00 a 09:30
+        when(vueloRepository.findTramosAeronaveActivos(anyList())).thenReturn(List.of(
+                new TramoVueloAeronave(10L, 1L, "King Air 350", "Bogotá", "Cartagena",
+                        BASE, BASE.plusMinutes(90))));
+        indice.cargar();
+    }
+
+    private static TramoAgenda tramo(String origen, String destino, int salidaMinutos, int llegadaMinutos) {
+        return new TramoAgenda(origen, destino, BASE.plusMinutes(salidaMinutos), BASE.plusMinutes(llegadaMinutos));
+    }
+
+    @Test
+    @DisplayName("La rotación del modelo queda precalculada en el intervalo ocupado")
+    void haySolapamiento_DuranteRotacion_RetornaTrue() {
+        assertTrue(indice.estaCargado());
+        assertTrue(indice.haySolapamiento(1L, BASE.plusMinutes(120), BASE.plusMinutes(180), null));
+        assertFalse(indice.haySolapamiento(1L, BASE.plusMinutes(150), BASE.plusMinutes(180), null));
+    }
+
+    @Test
+    @DisplayName("Un vuelo desde el destino anterior solo requiere la rotación")
+    void hayConflictoOperativo_MismaCiudad_RespetaRotacion() {
+        assertTrue(indice.hayConflictoOperativo(1L, "King Air 350", tramo("Cartagena", "Cali", 140, 200), null));
+        assertFalse(indice.hayConflictoOperativo(1L, "King Air 350", tramo("Cartagena", "Cali", 150, 200), null));
+    }
+
+    @Test
+    @DisplayName("Un vuelo desde otra ciudad requiere además el reposicionamiento")
+    void hayConflictoOperativo_OtraCiudad_SumaReposicionamiento() {
+        // Cartagena → Bogotá: 60 de rotación + 90 de reposicionamiento tras las 09:30
+        assertTrue(indice.hayConflictoOperativo(1L, "King Air 350", tramo("Bogotá", "Cali", 200, 260), null));
+        assertFalse(indice.hayConflictoOperativo(1L, "King Air 350", tramo("Bogotá", "Cali", 240, 300), null));
+    }
+
+    @Test
+    @DisplayName("Un vuelo anterior debe dejar tiempo para llegar al origen del vuelo existente")
+    void hayConflictoOperativo_VueloPosteriorExistente_EvaluaReposicionamiento() {
+        // Cali → Medellín llegando 07:00; Medellín → Bogotá usa el reposicionamiento por defecto (120)
+        assertTrue(indice.hayConflictoOperativo(1L, "King Air 350", tramo("Cali", "Medellín", -120, -60), null));
+        assertFalse(indice.hayConflictoOperativo(1L, "King Air 350", tramo("Cali", "Medellín", -300, -180), null));
+    }
+
+    @Test
+    @DisplayName("El propio vuelo se excluye y los cambios de estado actualizan el índice")
+    void actualizarVuelo_Cancelado_LiberaAeronave() {
+        TramoAgenda solapado = tramo("Bogotá", "Cartagena", 30, 60);
+        assertFalse(indice.hayConflictoOperativo(1L, "King Air 350", solapado, 10L));
+        assertTrue(indice.hayConflictoOperativo(1L, "King Air 350", solapado, null));
+
+        Vuelo cancelado = Vuelo.builder()
+                .id(10L)
+                .aeronave(Aeronave.builder().id(1L).modelo("King Air 350").build())
+                .origen("Bogotá")
+                .destino("Cartagena")
+                .fechaSalidaProgramada(BASE)
+                .fechaLlegadaProgramada(BASE.plusMinutes(90))
+                .estado(EstadoVuelo.CANCELADO)
+                .build();
+        indice.actualizarVuelo(cancelado);
+
+        assertFalse(indice.hayConflictoOperativo(1L, "King Air 350", solapado, null));
+    }
+}
@@ -0,0 +1,51 @@
+package com.paeldav.backend.application.service.agenda;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LineaTiempoRecurso Tests")
+class LineaTiempoRecursoTest {
+
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private LineaTiempoRecurso linea;
+
+    @BeforeEach
+    void setUp() {
+        linea = new LineaTiempoRecurso();
+    }
+
+    private LocalDateTime hora(int hora) {
+        return base.plusHours(hora);
+    }
+
+    @Test
+    @DisplayName("Reservas en cualquier orden se fusionan y bloquean su horario")
+    void ocupar_DesordenadoYSolapado_BloqueaHorario() {
+        linea.ocupar(hora(14), hora(16));
+        linea.ocupar(hora(8), hora(10));
+        linea.ocupar(hora(9), hora(15));
+
+        assertFalse(linea.estaLibre(hora(10), hora(11)));
+        assertFalse(linea.estaLibre(hora(15), hora(17)));
+        assertTrue(linea.estaLibre(hora(16), hora(18)));
+        assertTrue(linea.estaLibre(hora(6), hora(8)));
+    }
+
+    @Test
+    @DisplayName("Calcula el tiempo ocioso desde el último compromiso")
+    void tiempoOciosoAntes_ConCompromisoPrevio_RetornaHueco() {
+        linea.ocupar(hora(8), hora(10));
+        linea.ocupar(hora(20), hora(22));
+
+        assertEquals(Duration.ofHours(3), linea.tiempoOciosoAntes(hora(13)));
+        assertEquals(Duration.ZERO, linea.tiempoOciosoAntes(hora(9)));
+        assertNull(linea.tiempoOciosoAntes(hora(7)));
+    }
+}
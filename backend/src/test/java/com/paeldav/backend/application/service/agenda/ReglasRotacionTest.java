@@ -0,0 +1,78 @@
+package com.paeldav.backend.application.service.agenda;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReglasRotacion Tests")
+class ReglasRotacionTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 8, 0);
+
+    private final ReglasRotacion reglas = new ReglasRotacion(
+            30, "King Air 350:45; Cessna 208:20", 120, "Bogotá/Cartagena:90;Medellin/Bogota:50");
+
+    private static TramoAgenda tramo(String origen, String destino, int salidaMinutos, int llegadaMinutos) {
+        return new TramoAgenda(origen, destino, BASE.plusMinutes(salidaMinutos), BASE.plusMinutes(llegadaMinutos));
+    }
+
+    @Test
+    @DisplayName("La rotación depende del modelo y usa el valor por defecto si no está configurado")
+    void rotacion_PorModelo_UsaConfiguracionODefecto() {
+        assertEquals(Duration.ofMinutes(45), reglas.rotacion("king air 350"));
+        assertEquals(Duration.ofMinutes(20), reglas.rotacion("Cessna 208"));
+        assertEquals(Duration.ofMinutes(30), reglas.rotacion("Learjet 45"));
+        assertEquals(Duration.ofMinutes(30), reglas.rotacion(null));
+        assertEquals(Duration.ofMinutes(20), reglas.rotacionMinima());
+        assertEquals(Duration.ofMinutes(45), reglas.rotacionMaxima());
+    }
+
+    @Test
+    @DisplayName("El reposicionamiento es simétrico, ignora tildes y es cero en la misma ciudad")
+    void reposicionamiento_PorRuta_SimetricoYSinTildes() {
+        assertEquals(Duration.ofMinutes(90), reglas.reposicionamiento("Cartagena", "Bogota"));
+        assertEquals(Duration.ofMinutes(50), reglas.reposicionamiento("Bogotá", "Medellín"));
+        assertEquals(Duration.ofMinutes(120), reglas.reposicionamiento("Cali", "Bogotá"));
+        assertEquals(Duration.ZERO, reglas.reposicionamiento("Cartagena ", "cartagena"));
+        assertEquals(Duration.ofMinutes(120), reglas.reposicionamientoMaximo());
+    }
+
+    @Test
+    @DisplayName("Vuelos consecutivos en la misma ciudad requieren el tiempo de rotación")
+    void hayConflicto_MismaCiudad_RespetaRotacion() {
+        TramoAgenda anterior = tramo("Bogotá", "Cartagena", 0, 90);
+
+        assertTrue(reglas.hayConflicto("King Air 350", anterior, tramo("Cartagena", "Bogotá", 130, 220)));
+        assertFalse(reglas.hayConflicto("King Air 350", anterior, tramo("Cartagena", "Bogotá", 135, 220)));
+        // El orden de los argumentos no importa
+        assertTrue(reglas.hayConflicto("King Air 350", tramo("Cartagena", "Bogotá", 130, 220), anterior));
+    }
+
+    @Test
+    @DisplayName("Si el siguiente vuelo sale de otra ciudad se suma el reposicionamiento")
+    void hayConflicto_OtraCiudad_SumaReposicionamiento() {
+        TramoAgenda anterior = tramo("Medellín", "Cartagena", 0, 60);
+
+        // Cartagena → Bogotá: 30 de rotación + 90 de reposicionamiento
+        assertTrue(reglas.hayConflicto(null, anterior, tramo("Bogotá", "Cali", 170, 230)));
+        assertFalse(reglas.hayConflicto(null, anterior, tramo("Bogotá", "Cali", 180, 230)));
+    }
+
+    @Test
+    @DisplayName("Vuelos solapados siempre están en conflicto")
+    void hayConflicto_Solapados_RetornaTrue() {
+        assertTrue(reglas.hayConflicto("Cessna 208", tramo("Bogotá", "Cali", 0, 60), tramo("Bogotá", "Cali", 30, 90)));
+    }
+
+    @Test
+    @DisplayName("Una configuración mal formada se rechaza al iniciar")
+    void constructor_ConfiguracionInvalida_LanzaExcepcion() {
+        assertThrows(IllegalArgumentException.class, () -> new ReglasRotacion(30, "King Air 350", 120, ""));
+        assertThrows(IllegalArgumentException.class, () -> new ReglasRotacion(30, "", 120, "Bogotá:90"));
+        assertThrows(IllegalArgumentException.class, () -> new ReglasRotacion(-1, "", 120, ""));
+    }
+}
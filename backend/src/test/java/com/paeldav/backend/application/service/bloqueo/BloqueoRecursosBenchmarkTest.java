@@ -0,0 +1,118 @@
+package com.paeldav.backend.application.service.bloqueo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mide el rendimiento de las asignaciones concurrentes con lock striping frente a un único bloqueo global
+ * (una sola franja), con recursos disjuntos y con una aeronave compartida por todos los asignadores.
+ *
+ * La sección crítica simula la validación y escritura de una asignación con una espera fija. Se ejecuta
+ * con {@code ./gradlew benchmark}; el build por defecto la excluye. Se registran asignaciones por segundo
+ * y el p99 de la espera por el bloqueo.
+ */
+@Tag("benchmark")
+@DisplayName("BloqueoRecursos - Benchmark de Contención")
+class BloqueoRecursosBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BloqueoRecursosBenchmarkTest.class);
+
+    private static final int ASIGNADORES = 16;
+    private static final int ITERACIONES = 300;
+    private static final long SECCION_CRITICA_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    @Test
+    @DisplayName("Con recursos disjuntos el striping escala y el bloqueo global serializa")
+    void striping_RecursosDisjuntos_SuperaAlBloqueoGlobal() throws Exception {
+        // Arrange
+        BloqueoRecursosLocal global = new BloqueoRecursosLocal(1, 60_000);
+        BloqueoRecursosLocal franjas = new BloqueoRecursosLocal(1024, 60_000);
+
+        // Act
+        Resultado globalDisjuntos = medir("global/disjuntos", global, hilo -> 1_000L + hilo);
+        Resultado franjasDisjuntos = medir("franjas/disjuntos", franjas, hilo -> 1_000L + hilo);
+        medir("global/compartida", global, hilo -> 7L);
+        medir("franjas/compartida", franjas, hilo -> 7L);
+
+        // Assert: 16 asignadores sin recursos en común deberían acercarse a 16 veces el bloqueo global
+        assertTrue(franjasDisjuntos.asignacionesPorSegundo > 4 * globalDisjuntos.asignacionesPorSegundo,
+                () -> String.format("franjas %.0f/s vs global %.0f/s",
+                        franjasDisjuntos.asignacionesPorSegundo, globalDisjuntos.asignacionesPorSegundo));
+    }
+
+    /**
+     * Ejecuta ASIGNADORES hilos que asignan ITERACIONES veces la aeronave indicada para cada hilo.
+     */
+    private Resultado medir(String escenario, BloqueoRecursosLocal bloqueo, IntFunction<Long> aeronavePorHilo)
+            throws Exception {
+        long[][] esperas = new long[ASIGNADORES][ITERACIONES];
+        CountDownLatch inicio = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(ASIGNADORES);
+        List<Future<?>> tareas = new ArrayList<>();
+        for (int i = 0; i < ASIGNADORES; i++) {
+            int hilo = i;
+            List<Long> aeronaves = List.of(aeronavePorHilo.apply(hilo));
+            tareas.add(executor.submit(() -> {
+                inicio.await();
+                for (int j = 0; j < ITERACIONES; j++) {
+                    int iteracion = j;
+                    enTransaccion(() -> {
+                        long antes = System.nanoTime();
+                        bloqueo.bloquear(aeronaves, List.of());
+                        esperas[hilo][iteracion] = System.nanoTime() - antes;
+                        LockSupport.parkNanos(SECCION_CRITICA_NANOS);
+                    });
+                }
+                return null;
+            }));
+        }
+
+        long desde = System.nanoTime();
+        inicio.countDown();
+        for (Future<?> tarea : tareas) {
+            tarea.get(5, TimeUnit.MINUTES);
+        }
+        long duracion = System.nanoTime() - desde;
+        executor.shutdown();
+
+        long[] todas = Arrays.stream(esperas).flatMapToLong(Arrays::stream).sorted().toArray();
+        Resultado resultado = new Resultado(
+                todas.length / (duracion / 1e9),
+                TimeUnit.NANOSECONDS.toMicros(todas[(int) Math.ceil(todas.length * 0.99) - 1]));
+        log.info("{}: {} asignaciones/s, p99 de espera {} µs",
+                escenario, Math.round(resultado.asignacionesPorSegundo), resultado.p99EsperaMicros);
+        return resultado;
+    }
+
+    private static void enTransaccion(Runnable trabajo) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            trabajo.run();
+        } finally {
+            List<TransactionSynchronization> sincronizaciones = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            sincronizaciones.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        }
+    }
+
+    private record Resultado(double asignacionesPorSegundo, long p99EsperaMicros) {
+    }
+}
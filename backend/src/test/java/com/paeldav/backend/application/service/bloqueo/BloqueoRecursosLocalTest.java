@@ -0,0 +1,198 @@
+package com.paeldav.backend.application.service.bloqueo;
+
+import com.paeldav.backend.exception.ConflictoDisponibilidadException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BloqueoRecursosLocal Tests")
+class BloqueoRecursosLocalTest {
+
+    private static final int ASIGNADORES = 64;
+    private static final int ITERACIONES = 200;
+
+    private final BloqueoRecursosLocal bloqueo = new BloqueoRecursosLocal(256, 5000);
+
+    /**
+     * Simula una transacción en el hilo actual: ejecuta el trabajo y luego la completa.
+     */
+    private static void enTransaccion(Runnable trabajo) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            trabajo.run();
+        } finally {
+            List<TransactionSynchronization> sincronizaciones = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            sincronizaciones.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        }
+    }
+
+    private static void esperarTodos(ExecutorService executor, List<Future<?>> tareas) throws Exception {
+        for (Future<?> tarea : tareas) {
+            tarea.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("El número de franjas se redondea a potencia de dos")
+    void constructor_FranjasNoPotenciaDeDos_Redondea() {
+        assertEquals(1024, new BloqueoRecursosLocal(1000, 100).cantidadFranjas());
+        assertEquals(1, new BloqueoRecursosLocal(1, 100).cantidadFranjas());
+    }
+
+    @Test
+    @DisplayName("Bloquear fuera de una transacción lanza excepción")
+    void bloquear_SinTransaccion_LanzaExcepcion() {
+        assertThrows(IllegalStateException.class, () -> bloqueo.bloquear(List.of(1L), List.of()));
+    }
+
+    @Test
+    @DisplayName("64 asignadores sobre la misma aeronave quedan serializados")
+    void bloquear_MismaAeronaveConcurrente_Serializa() throws Exception {
+        // Arrange
+        int[] contador = {0};
+        CountDownLatch inicio = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(ASIGNADORES);
+        List<Future<?>> tareas = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < ASIGNADORES; i++) {
+            tareas.add(executor.submit(() -> {
+                inicio.await();
+                for (int j = 0; j < ITERACIONES; j++) {
+                    enTransaccion(() -> {
+                        bloqueo.bloquear(List.of(7L), List.of());
+                        contador[0]++;
+                    });
+                }
+                return null;
+            }));
+        }
+        inicio.countDown();
+        esperarTodos(executor, tareas);
+
+        // Assert
+        assertEquals(ASIGNADORES * ITERACIONES, contador[0]);
+    }
+
+    @Test
+    @DisplayName("Recursos distintos no se bloquean entre sí")
+    void bloquear_RecursosDistintos_NoEspera() throws Exception {
+        // Arrange
+        CountDownLatch bloqueada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Thread otro = new Thread(() -> enTransaccion(() -> {
+            bloqueo.bloquear(List.of(1L), List.of());
+            bloqueada.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        otro.start();
+        assertTrue(bloqueada.await(5, TimeUnit.SECONDS));
+
+        try {
+            // Act & Assert
+            assertTimeoutPreemptively(Duration.ofSeconds(1),
+                    () -> enTransaccion(() -> bloqueo.bloquear(List.of(2L), List.of(1L))));
+        } finally {
+            liberar.countDown();
+            otro.join();
+        }
+    }
+
+    @Test
+    @DisplayName("Un recurso ocupado más allá del tiempo de espera lanza excepción de conflicto")
+    void bloquear_RecursoOcupado_LanzaExcepcionTrasEspera() throws Exception {
+        // Arrange
+        BloqueoRecursosLocal conEsperaCorta = new BloqueoRecursosLocal(256, 50);
+        CountDownLatch bloqueada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Thread otro = new Thread(() -> enTransaccion(() -> {
+            conEsperaCorta.bloquear(List.of(), List.of(3L));
+            bloqueada.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        otro.start();
+        assertTrue(bloqueada.await(5, TimeUnit.SECONDS));
+
+        try {
+            // Act & Assert
+            assertThrows(ConflictoDisponibilidadException.class,
+                    () -> enTransaccion(() -> conEsperaCorta.bloquear(List.of(), List.of(3L))));
+        } finally {
+            liberar.countDown();
+            otro.join();
+        }
+
+        // Tras liberarse, el recurso vuelve a estar disponible
+        assertDoesNotThrow(() -> enTransaccion(() -> conEsperaCorta.bloquear(List.of(), List.of(3L))));
+    }
+
+    @Test
+    @DisplayName("64 asignadores con recursos solapados en orden aleatorio no se interbloquean")
+    void bloquear_ContencionConOrdenAleatorio_SinInterbloqueos() throws Exception {
+        // Arrange
+        AtomicInteger asignaciones = new AtomicInteger();
+        AtomicInteger rechazos = new AtomicInteger();
+        CountDownLatch inicio = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(ASIGNADORES);
+        List<Future<?>> tareas = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < ASIGNADORES; i++) {
+            tareas.add(executor.submit(() -> {
+                inicio.await();
+                ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+                for (int j = 0; j < ITERACIONES; j++) {
+                    List<Long> aeronaves = new ArrayList<>();
+                    List<Long> tripulantes = new ArrayList<>();
+                    for (int k = 0; k < 3; k++) {
+                        aeronaves.add(aleatorio.nextLong(1, 20));
+                        tripulantes.add(aleatorio.nextLong(1, 40));
+                    }
+                    Collections.shuffle(aeronaves);
+                    Collections.shuffle(tripulantes);
+                    try {
+                        enTransaccion(() -> {
+                            bloqueo.bloquear(aeronaves, tripulantes);
+                            asignaciones.incrementAndGet();
+                        });
+                    } catch (ConflictoDisponibilidadException e) {
+                        rechazos.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        inicio.countDown();
+        esperarTodos(executor, tareas);
+
+        // Assert
+        assertEquals(0, rechazos.get());
+        assertEquals(ASIGNADORES * ITERACIONES, asignaciones.get());
+    }
+}
@@ -0,0 +1,123 @@
+package com.paeldav.backend.application.service.flota;
+
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara las búsquedas de aeronave de los caminos que leen a través de la caché (validación de
+ * capacidad operativa y retención de recursos al aprobar una solicitud) con la caché habilitada y
+ * deshabilitada.
+ *
+ * La asignación en firme ({@code asignarAeronave}) no se mide aquí: carga la entidad con estado
+ * autoritativo y la bloquea para asociarla al vuelo, por lo que la caché no cambia su rendimiento.
+ *
+ * Lo verificable de forma determinista es la cantidad de sentencias enviadas a la base de datos.
+ * Las validaciones por segundo se registran en el log como referencia, sin aserciones, porque
+ * dependen de la máquina y del JIT.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@DisplayName("Caché de Aeronaves - Rendimiento Tests")
+class CacheAeronavesRendimientoTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheAeronavesRendimientoTest.class);
+
+    private static final int FLOTA = 50;
+    private static final int CALENTAMIENTO = 500;
+    private static final int VALIDACIONES = 5_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AeronaveRepository aeronaveRepository;
+
+    private Statistics estadisticas;
+    private final List<Long> aeronaveIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < FLOTA; i++) {
+            Aeronave aeronave = Aeronave.builder()
+                    .matricula("HK-" + (1000 + i)).modelo("Citation").fabricante("Cessna")
+                    .capacidadPasajeros(8).capacidadTripulacion(2).horasVueloTotales(0.0)
+                    .estado(EstadoAeronave.DISPONIBLE)
+                    .build();
+            entityManager.persist(aeronave);
+            aeronaveIds.add(aeronave.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        estadisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Con la caché cargada las validaciones de aeronave no consultan la base de datos")
+    void validaciones_ConCache_NoConsultanBaseDeDatos() {
+        // Act
+        long sinCache = medir("validaciones/sin-cache", nuevaCache(false));
+        long conCache = medir("validaciones/con-cache", nuevaCache(true));
+
+        // Assert
+        assertEquals(VALIDACIONES, sinCache);
+        assertEquals(0, conCache);
+    }
+
+    private CacheAeronaves nuevaCache(boolean habilitada) {
+        CacheAeronaves cache = new CacheAeronaves(aeronaveRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "habilitado", habilitada);
+        return cache;
+    }
+
+    /**
+     * Simula la validación de aeronave (existencia, estado y capacidad) repartida sobre toda la flota
+     * y registra validaciones por segundo. Retorna las sentencias ejecutadas
+     * en la medición; el calentamiento recorre la flota completa, por lo que con la caché queda cargada.
+     */
+    private long medir(String nombre, CacheAeronaves cache) {
+        for (int i = 0; i < CALENTAMIENTO; i++) {
+            validarAeronave(cache, i);
+        }
+        estadisticas.clear();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < VALIDACIONES; i++) {
+            validarAeronave(cache, i);
+        }
+        long nanos = System.nanoTime() - inicio;
+        long sentencias = estadisticas.getPrepareStatementCount();
+
+        log.info("{}: {} validaciones, {} validaciones/s, {} sentencias", nombre, VALIDACIONES,
+                VALIDACIONES * 1_000_000_000L / Math.max(1, nanos), sentencias);
+        return sentencias;
+    }
+
+    private void validarAeronave(CacheAeronaves cache, int i) {
+        AeronaveDTO aeronave = cache.buscarPorId(aeronaveIds.get(i % FLOTA)).orElseThrow();
+        assertEquals(EstadoAeronave.DISPONIBLE, aeronave.getEstado());
+        assertTrue(aeronave.getCapacidadPasajeros() >= 4);
+    }
+}
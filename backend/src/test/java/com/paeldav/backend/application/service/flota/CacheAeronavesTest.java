@@ -0,0 +1,208 @@
+package com.paeldav.backend.application.service.flota;
+
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CacheAeronaves Tests")
+class CacheAeronavesTest {
+
+    private AeronaveRepository aeronaveRepository;
+    private SimpleMeterRegistry registro;
+    private CacheAeronaves cache;
+
+    @BeforeEach
+    void setUp() {
+        aeronaveRepository = mock(AeronaveRepository.class);
+        registro = new SimpleMeterRegistry();
+        cache = new CacheAeronaves(aeronaveRepository, registro);
+
+        when(aeronaveRepository.findComoDTOById(1L)).thenAnswer(inv -> Optional.of(aeronave(1L, "HK-1000")));
+    }
+
+    @Test
+    @DisplayName("La segunda lectura por ID se resuelve desde la caché")
+    void buscarPorId_SegundaLectura_EsAcierto() {
+        // Act
+        cache.buscarPorId(1L);
+        Optional<AeronaveDTO> resultado = cache.buscarPorId(1L);
+
+        // Assert
+        assertEquals("HK-1000", resultado.orElseThrow().getMatricula());
+        verify(aeronaveRepository, times(1)).findComoDTOById(1L);
+        assertEquals(1.0, contador("cache.gets", "hit"));
+        assertEquals(1.0, contador("cache.gets", "miss"));
+        assertEquals(1.0, registro.get("cache.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Una aeronave cargada por ID también se encuentra por matrícula")
+    void buscarPorMatricula_CargadaPorId_EsAcierto() {
+        // Arrange
+        cache.buscarPorId(1L);
+
+        // Act
+        Optional<AeronaveDTO> resultado = cache.buscarPorMatricula("HK-1000");
+
+        // Assert
+        assertEquals(1L, resultado.orElseThrow().getId());
+        verify(aeronaveRepository, never()).findComoDTOByMatricula(any());
+    }
+
+    @Test
+    @DisplayName("Modificar el DTO entregado no altera la copia guardada")
+    void buscarPorId_EntregaCopias() {
+        // Arrange
+        cache.buscarPorId(1L).orElseThrow().setEstado(EstadoAeronave.EN_VUELO);
+
+        // Act
+        AeronaveDTO resultado = cache.buscarPorId(1L).orElseThrow();
+
+        // Assert
+        assertEquals(EstadoAeronave.DISPONIBLE, resultado.getEstado());
+    }
+
+    @Test
+    @DisplayName("Invalidar obliga a consultar de nuevo la base de datos")
+    void invalidar_RecargaDesdeBaseDeDatos() {
+        // Arrange
+        cache.buscarPorId(1L);
+
+        // Act
+        cache.invalidar(1L);
+        cache.buscarPorId(1L);
+
+        // Assert
+        verify(aeronaveRepository, times(2)).findComoDTOById(1L);
+        assertEquals(1, cache.tamano());
+    }
+
+    @Test
+    @DisplayName("Al superar la capacidad se desaloja la aeronave usada hace más tiempo")
+    void buscarPorId_SuperaCapacidad_DesalojaLaMenosReciente() {
+        // Arrange
+        ReflectionTestUtils.setField(cache, "capacidad", 2);
+        when(aeronaveRepository.findComoDTOById(2L)).thenAnswer(inv -> Optional.of(aeronave(2L, "HK-2000")));
+        when(aeronaveRepository.findComoDTOById(3L)).thenAnswer(inv -> Optional.of(aeronave(3L, "HK-3000")));
+        cache.buscarPorId(1L);
+        cache.buscarPorId(2L);
+        cache.buscarPorId(1L);
+
+        // Act
+        cache.buscarPorId(3L);
+        cache.buscarPorId(1L);
+        cache.buscarPorId(2L);
+
+        // Assert
+        verify(aeronaveRepository, times(1)).findComoDTOById(1L);
+        verify(aeronaveRepository, times(2)).findComoDTOById(2L);
+        assertEquals(2, cache.tamano());
+        assertEquals(2.0, registro.get("cache.evictions").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Una entrada vencida se vuelve a cargar aunque nadie la haya invalidado")
+    void buscarPorId_EntradaVencida_RecargaDesdeBaseDeDatos() {
+        // Arrange - un cambio hecho en otro nodo no invalida la caché local
+        long[] ahora = {0};
+        cache.reloj = () -> ahora[0];
+        ReflectionTestUtils.setField(cache, "expiracionSegundos", 30L);
+        cache.buscarPorId(1L);
+        ahora[0] = TimeUnit.SECONDS.toNanos(29);
+        cache.buscarPorId(1L);
+
+        // Act
+        ahora[0] = TimeUnit.SECONDS.toNanos(30);
+        cache.buscarPorId(1L);
+        cache.buscarPorMatricula("HK-1000");
+
+        // Assert
+        verify(aeronaveRepository, times(2)).findComoDTOById(1L);
+        verify(aeronaveRepository, never()).findComoDTOByMatricula(any());
+    }
+
+    @Test
+    @DisplayName("Dentro de una transacción la entrada se invalida otra vez al terminar")
+    void invalidar_EnTransaccion_InvalidaAlTerminar() {
+        // Arrange - una lectura dentro de la transacción guarda el valor aún sin confirmar
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> sincronizaciones;
+        try {
+            cache.invalidar(1L);
+            cache.buscarPorId(1L);
+            sincronizaciones = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1, cache.tamano());
+
+        // Act
+        sincronizaciones.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals(0, cache.tamano());
+    }
+
+    @Test
+    @DisplayName("Una carga que se cruza con una invalidación no se guarda")
+    void buscarPorId_InvalidadaDuranteLaCarga_NoGuarda() {
+        // Arrange - otro hilo modifica la aeronave mientras se consulta
+        when(aeronaveRepository.findComoDTOById(1L)).thenAnswer(inv -> {
+            cache.invalidar(1L);
+            return Optional.of(aeronave(1L, "HK-1000"));
+        });
+
+        // Act
+        Optional<AeronaveDTO> resultado = cache.buscarPorId(1L);
+
+        // Assert
+        assertTrue(resultado.isPresent());
+        assertEquals(0, cache.tamano());
+    }
+
+    @Test
+    @DisplayName("Deshabilitada, cada lectura consulta la base de datos")
+    void buscarPorId_Deshabilitada_ConsultaSiempre() {
+        // Arrange
+        ReflectionTestUtils.setField(cache, "habilitado", false);
+
+        // Act
+        cache.buscarPorId(1L);
+        cache.buscarPorId(1L);
+
+        // Assert
+        verify(aeronaveRepository, times(2)).findComoDTOById(1L);
+        assertEquals(0, cache.tamano());
+        assertEquals(0.0, contador("cache.gets", "miss"));
+    }
+
+    private double contador(String nombre, String resultado) {
+        return registro.get(nombre).tag("cache", CacheAeronaves.NOMBRE).tag("result", resultado)
+                .functionCounter().count();
+    }
+
+    private static AeronaveDTO aeronave(Long id, String matricula) {
+        return AeronaveDTO.builder()
+                .id(id)
+                .matricula(matricula)
+                .modelo("Citation")
+                .capacidadPasajeros(8)
+                .capacidadTripulacion(2)
+                .estado(EstadoAeronave.DISPONIBLE)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.paeldav.backend.application.service.flota;
+
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.projection.ConteoEstadoAeronave;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ContadorEstadosFlota Tests")
+class ContadorEstadosFlotaTest {
+
+    private AeronaveRepository aeronaveRepository;
+    private ContadorEstadosFlota contador;
+
+    @BeforeEach
+    void setUp() {
+        aeronaveRepository = mock(AeronaveRepository.class);
+        contador = new ContadorEstadosFlota(aeronaveRepository);
+
+        when(aeronaveRepository.contarPorEstado()).thenReturn(List.of(
+                new ConteoEstadoAeronave(EstadoAeronave.DISPONIBLE, 5L),
+                new ConteoEstadoAeronave(EstadoAeronave.EN_MANTENIMIENTO, 2L)));
+        contador.reconciliar();
+    }
+
+    @Test
+    @DisplayName("La reconciliación carga los conteos agrupados de la base de datos")
+    void reconciliar_CargaConteos() {
+        assertTrue(contador.estaCargado());
+        assertEquals(5, contador.cantidad(EstadoAeronave.DISPONIBLE));
+        assertEquals(2, contador.cantidad(EstadoAeronave.EN_MANTENIMIENTO));
+        assertEquals(0, contador.cantidad(EstadoAeronave.EN_VUELO));
+    }
+
+    @Test
+    @DisplayName("Altas y cambios de estado mueven los contadores")
+    void registrarCambio_MueveContadores() {
+        // Act
+        contador.registrarAlta(EstadoAeronave.DISPONIBLE);
+        contador.registrarCambio(EstadoAeronave.DISPONIBLE, EstadoAeronave.EN_VUELO);
+        contador.registrarCambio(EstadoAeronave.EN_MANTENIMIENTO, EstadoAeronave.EN_MANTENIMIENTO);
+
+        // Assert
+        assertEquals(5, contador.cantidad(EstadoAeronave.DISPONIBLE));
+        assertEquals(1, contador.cantidad(EstadoAeronave.EN_VUELO));
+        assertEquals(2, contador.cantidad(EstadoAeronave.EN_MANTENIMIENTO));
+    }
+
+    @Test
+    @DisplayName("Dentro de una transacción el cambio se aplica solo al confirmarla")
+    void registrarCambio_EnTransaccion_AplicaAlConfirmar() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> sincronizaciones;
+        try {
+            contador.registrarCambio(EstadoAeronave.DISPONIBLE, EstadoAeronave.FUERA_DE_SERVICIO);
+            assertEquals(0, contador.cantidad(EstadoAeronave.FUERA_DE_SERVICIO));
+            sincronizaciones = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Act
+        sincronizaciones.forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(4, contador.cantidad(EstadoAeronave.DISPONIBLE));
+        assertEquals(1, contador.cantidad(EstadoAeronave.FUERA_DE_SERVICIO));
+    }
+
+    @Test
+    @DisplayName("La reconciliación corrige la desviación respecto a la base de datos")
+    void reconciliar_ConDesviacion_Corrige() {
+        // Arrange - una aeronave disponible pasó a EN_VUELO sin pasar por los servicios
+        when(aeronaveRepository.contarPorEstado()).thenReturn(List.of(
+                new ConteoEstadoAeronave(EstadoAeronave.DISPONIBLE, 4L),
+                new ConteoEstadoAeronave(EstadoAeronave.EN_VUELO, 1L),
+                new ConteoEstadoAeronave(EstadoAeronave.EN_MANTENIMIENTO, 2L)));
+
+        // Act
+        contador.reconciliar();
+
+        // Assert
+        assertEquals(4, contador.cantidad(EstadoAeronave.DISPONIBLE));
+        assertEquals(1, contador.cantidad(EstadoAeronave.EN_VUELO));
+        assertEquals(2, contador.cantidad(EstadoAeronave.EN_MANTENIMIENTO));
+    }
+
+    @Test
+    @DisplayName("Si la reconciliación falla se conservan los contadores")
+    void reconciliar_ConError_ConservaContadores() {
+        // Arrange
+        when(aeronaveRepository.contarPorEstado()).thenThrow(new IllegalStateException("sin conexión"));
+
+        // Act
+        contador.reconciliar();
+
+        // Assert
+        assertTrue(contador.estaCargado());
+        assertEquals(5, contador.cantidad(EstadoAeronave.DISPONIBLE));
+    }
+}
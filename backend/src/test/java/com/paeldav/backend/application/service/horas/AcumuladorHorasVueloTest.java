@@ -0,0 +1,164 @@
+package com.paeldav.backend.application.service.horas;
+
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
+import com.paeldav.backend.application.service.mantenimiento.PronosticoMantenimiento;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AcumuladorHorasVuelo Tests")
+class AcumuladorHorasVueloTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private CacheAeronaves cacheAeronaves;
+    private PronosticoMantenimiento pronosticoMantenimiento;
+    private AcumuladorHorasVuelo acumulador;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        cacheAeronaves = mock(CacheAeronaves.class);
+        pronosticoMantenimiento = mock(PronosticoMantenimiento.class);
+        acumulador = new AcumuladorHorasVuelo(jdbcTemplate, transactionTemplate, cacheAeronaves,
+                pronosticoMantenimiento);
+    }
+
+    @Test
+    @DisplayName("Varios incrementos de una aeronave se escriben en una sola fila del lote")
+    @SuppressWarnings("unchecked")
+    void vaciar_AgrupaIncrementosPorAeronave() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            acumulador.acumularAeronave(1L, 1.5);
+        }
+        acumulador.acumularAeronave(2L, 2.0);
+
+        // Act
+        int actualizados = acumulador.vaciar();
+
+        // Assert
+        ArgumentCaptor<List<Object[]>> filas = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(AcumuladorHorasVuelo.SQL_INCREMENTAR_AERONAVE), filas.capture());
+        assertEquals(2, actualizados);
+        assertEquals(2, filas.getValue().size());
+        assertTrue(filas.getValue().stream().anyMatch(f -> f[1].equals(1L) && f[0].equals(15.0)));
+        assertEquals(0.0, acumulador.pendientesAeronave(1L));
+        verify(cacheAeronaves).invalidar(1L);
+        verify(cacheAeronaves).invalidar(2L);
+        verify(pronosticoMantenimiento).actualizarAeronave(1L);
+        verify(pronosticoMantenimiento).actualizarAeronave(2L);
+    }
+
+    @Test
+    @DisplayName("Las horas de un tripulante se suman al total y al mes en curso")
+    @SuppressWarnings("unchecked")
+    void vaciar_Tripulante_ActualizaTotalYMes() {
+        // Arrange
+        acumulador.acumularTripulante(7L, 3.0);
+        acumulador.acumularTripulante(7L, 1.0);
+
+        // Act
+        acumulador.vaciar();
+
+        // Assert
+        ArgumentCaptor<List<Object[]>> filas = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(AcumuladorHorasVuelo.SQL_INCREMENTAR_TRIPULANTE), filas.capture());
+        assertArrayEquals(new Object[]{4.0, 4.0, 7L}, filas.getValue().get(0));
+    }
+
+    @Test
+    @DisplayName("Sin horas pendientes no se abre transacción ni se escribe nada")
+    void vaciar_SinPendientes_NoEscribe() {
+        // Act
+        int actualizados = acumulador.vaciar();
+
+        // Assert
+        assertEquals(0, actualizados);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Si el lote falla se reintenta fila por fila: lo transitorio vuelve al acumulador y lo inválido se descarta")
+    void vaciar_LoteConError_ReintentaFilaPorFila() {
+        // Arrange
+        acumulador.acumularAeronave(1L, 4.0);
+        acumulador.acumularAeronave(2L, 1.0);
+        acumulador.acumularAeronave(3L, 2.0);
+        when(jdbcTemplate.batchUpdate(eq(AcumuladorHorasVuelo.SQL_INCREMENTAR_AERONAVE), anyList()))
+                .thenThrow(new DataIntegrityViolationException("valor fuera de rango"));
+        when(jdbcTemplate.update(AcumuladorHorasVuelo.SQL_INCREMENTAR_AERONAVE, 4.0, 1L))
+                .thenThrow(new QueryTimeoutException("tiempo de espera agotado"));
+        when(jdbcTemplate.update(AcumuladorHorasVuelo.SQL_INCREMENTAR_AERONAVE, 2.0, 3L))
+                .thenThrow(new DataIntegrityViolationException("valor fuera de rango"));
+
+        // Act
+        int actualizados = acumulador.vaciar();
+
+        // Assert
+        assertEquals(1, actualizados);
+        assertEquals(4.0, acumulador.pendientesAeronave(1L));
+        assertEquals(0.0, acumulador.pendientesAeronave(2L));
+        assertEquals(0.0, acumulador.pendientesAeronave(3L));
+        verify(cacheAeronaves).invalidar(2L);
+        verify(pronosticoMantenimiento).actualizarAeronave(2L);
+        verifyNoMoreInteractions(cacheAeronaves, pronosticoMantenimiento);
+    }
+
+    @Test
+    @DisplayName("Dentro de una transacción las horas se acumulan solo al confirmarse")
+    void acumularAeronave_EnTransaccion_AcumulaAlConfirmar() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> sincronizaciones;
+        try {
+            acumulador.acumularAeronave(1L, 3.0);
+            sincronizaciones = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(0.0, acumulador.pendientesAeronave(1L));
+
+        // Act
+        sincronizaciones.forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(3.0, acumulador.pendientesAeronave(1L));
+    }
+
+    @Test
+    @DisplayName("Al detener se escriben las horas pendientes")
+    void detener_EscribePendientes() {
+        // Arrange
+        acumulador.acumularAeronave(1L, 2.5);
+
+        // Act
+        acumulador.detener();
+
+        // Assert
+        verify(jdbcTemplate).batchUpdate(eq(AcumuladorHorasVuelo.SQL_INCREMENTAR_AERONAVE), anyList());
+        assertEquals(0.0, acumulador.pendientesAeronave(1L));
+    }
+}
@@ -0,0 +1,87 @@
+package com.paeldav.backend.application.service.horas;
+
+import com.paeldav.backend.application.service.base.AeronaveService;
+import com.paeldav.backend.application.service.base.TripulanteService;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Tripulante;
+import com.paeldav.backend.domain.entity.Vuelo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegistroHorasVuelo Tests")
+class RegistroHorasVueloTest {
+
+    private static final LocalDateTime SALIDA = LocalDateTime.of(2026, 7, 1, 8, 0);
+
+    @Mock
+    private AeronaveService aeronaveService;
+
+    @Mock
+    private TripulanteService tripulanteService;
+
+    @InjectMocks
+    private RegistroHorasVuelo registroHoras;
+
+    @Test
+    @DisplayName("Sin horarios reales se suman las horas programadas a la aeronave y a cada tripulante")
+    void registrarVueloCompletado_SinHorariosReales_UsaProgramados() {
+        // Arrange
+        Vuelo vuelo = vuelo(SALIDA.plusMinutes(90));
+
+        // Act
+        registroHoras.registrarVueloCompletado(vuelo);
+
+        // Assert
+        verify(aeronaveService).incrementarHorasVuelo(10L, 1.5);
+        verify(tripulanteService).incrementarHorasVuelo(20L, 1.5);
+        verify(tripulanteService).incrementarHorasVuelo(21L, 1.5);
+    }
+
+    @Test
+    @DisplayName("Con salida y llegada reales se suma la duración real")
+    void registrarVueloCompletado_ConHorariosReales_UsaReales() {
+        // Arrange
+        Vuelo vuelo = vuelo(SALIDA.plusHours(1));
+        vuelo.setFechaSalidaReal(SALIDA.plusMinutes(15));
+        vuelo.setFechaLlegadaReal(SALIDA.plusHours(2).plusMinutes(15));
+
+        // Act
+        registroHoras.registrarVueloCompletado(vuelo);
+
+        // Assert
+        verify(aeronaveService).incrementarHorasVuelo(10L, 2.0);
+    }
+
+    @Test
+    @DisplayName("Un vuelo sin duración positiva no suma horas")
+    void registrarVueloCompletado_SinDuracion_NoRegistra() {
+        // Arrange
+        Vuelo vuelo = vuelo(SALIDA);
+
+        // Act
+        registroHoras.registrarVueloCompletado(vuelo);
+
+        // Assert
+        verifyNoInteractions(aeronaveService, tripulanteService);
+    }
+
+    private static Vuelo vuelo(LocalDateTime llegada) {
+        return Vuelo.builder()
+                .id(1L)
+                .aeronave(Aeronave.builder().id(10L).build())
+                .tripulacion(List.of(Tripulante.builder().id(20L).build(), Tripulante.builder().id(21L).build()))
+                .fechaSalidaProgramada(SALIDA)
+                .fechaLlegadaProgramada(llegada)
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.paeldav.backend.application.service.impl;
+
+import com.paeldav.backend.application.dto.pago.PagoDTO;
+import com.paeldav.backend.application.dto.vuelo.DetalleVueloDTO;
+import com.paeldav.backend.application.dto.vuelo.HistorialVueloDTO;
+import com.paeldav.backend.application.dto.vuelo.VueloDTO;
+import com.paeldav.backend.application.mapper.IncidenciaMapper;
+import com.paeldav.backend.application.mapper.PasajeroVueloMapper;
+import com.paeldav.backend.application.service.base.PagoService;
+import com.paeldav.backend.application.service.base.VueloService;
+import com.paeldav.backend.exception.VueloNoEncontradoException;
+import com.paeldav.backend.infraestructure.repository.IncidenciaRepository;
+import com.paeldav.backend.infraestructure.repository.PasajeroVueloRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DetalleVueloService Tests")
+class DetalleVueloServiceImplTest {
+
+    private static final Long VUELO_ID = 1L;
+
+    @Mock
+    private VueloService vueloService;
+
+    @Mock
+    private PagoService pagoService;
+
+    @Mock
+    private PasajeroVueloRepository pasajeroVueloRepository;
+
+    @Mock
+    private IncidenciaRepository incidenciaRepository;
+
+    @Mock
+    private PasajeroVueloMapper pasajeroVueloMapper;
+
+    @Mock
+    private IncidenciaMapper incidenciaMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private DetalleVueloServiceImpl detalleVueloService;
+
+    @BeforeEach
+    void setUp() {
+        detalleVueloService.iniciar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        detalleVueloService.detener();
+    }
+
+    @Test
+    @DisplayName("Compone todas las secciones consultándolas en paralelo")
+    void obtenerDetalle_TodasLasSecciones_ConsultaEnParalelo() {
+        // Arrange
+        VueloDTO vuelo = VueloDTO.builder().id(VUELO_ID).build();
+        List<HistorialVueloDTO> historial = List.of(new HistorialVueloDTO());
+        List<PagoDTO> pagos = List.of(new PagoDTO());
+        // Historial y pagos solo terminan si ambos están en curso al mismo tiempo
+        CountDownLatch ambasEnCurso = new CountDownLatch(2);
+        when(vueloService.obtenerVueloPorId(VUELO_ID)).thenReturn(vuelo);
+        when(vueloService.obtenerHistorialVuelo(VUELO_ID)).thenAnswer(invocacion -> esperarA(ambasEnCurso, historial));
+        when(pagoService.obtenerPagosPorVuelo(VUELO_ID)).thenAnswer(invocacion -> esperarA(ambasEnCurso, pagos));
+        when(pagoService.obtenerTotalPagosConfirmados(VUELO_ID)).thenReturn(1500.0);
+
+        // Act
+        DetalleVueloDTO detalle = detalleVueloService.obtenerDetalle(VUELO_ID);
+
+        // Assert
+        assertSame(vuelo, detalle.getVuelo());
+        assertSame(historial, detalle.getHistorial());
+        assertSame(pagos, detalle.getPagos());
+        assertEquals(1500.0, detalle.getTotalPagosConfirmados());
+        assertNotNull(detalle.getPasajeros());
+        assertNotNull(detalle.getIncidencias());
+        assertTrue(detalle.getSeccionesIncompletas().isEmpty());
+        verify(pasajeroVueloRepository).findByVueloId(VUELO_ID);
+        verify(incidenciaRepository).findConDetalleByVueloIdOrderByFechaReporteDesc(VUELO_ID);
+    }
+
+    @Test
+    @DisplayName("Una sección que excede el tiempo máximo queda incompleta y su tarea se interrumpe")
+    void obtenerDetalle_SeccionLenta_QuedaIncompletaEInterrumpida() throws InterruptedException {
+        // Arrange
+        ReflectionTestUtils.setField(detalleVueloService, "tiempoMaximoMs", 200L);
+        CountDownLatch nunca = new CountDownLatch(1);
+        CountDownLatch interrumpida = new CountDownLatch(1);
+        when(vueloService.obtenerVueloPorId(VUELO_ID)).thenReturn(VueloDTO.builder().id(VUELO_ID).build());
+        when(pagoService.obtenerPagosPorVuelo(VUELO_ID)).thenAnswer(invocacion -> {
+            try {
+                nunca.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrumpida.countDown();
+                throw e;
+            }
+            return List.of();
+        });
+        when(pagoService.obtenerTotalPagosConfirmados(VUELO_ID)).thenReturn(0.0);
+
+        // Act
+        long inicio = System.nanoTime();
+        DetalleVueloDTO detalle = detalleVueloService.obtenerDetalle(VUELO_ID);
+        long milisegundos = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        // Assert
+        assertEquals(List.of(DetalleVueloServiceImpl.SECCION_PAGOS), detalle.getSeccionesIncompletas());
+        assertNull(detalle.getPagos());
+        assertNotNull(detalle.getVuelo());
+        assertEquals(0.0, detalle.getTotalPagosConfirmados());
+        assertTrue(milisegundos < 2000, "No debe esperar a la sección lenta: " + milisegundos + " ms");
+        assertTrue(interrumpida.await(1, TimeUnit.SECONDS), "La tarea de la sección vencida debe interrumpirse");
+    }
+
+    @Test
+    @DisplayName("Las consultas de detalle no usan más conexiones que las permitidas")
+    void obtenerDetalle_LimitaConsultasConcurrentes() {
+        // Arrange
+        ReflectionTestUtils.setField(detalleVueloService, "consultasConcurrentes", 2);
+        detalleVueloService.iniciar();
+        AtomicInteger enCurso = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        Answer<Object> lenta = invocacion -> {
+            maximo.accumulateAndGet(enCurso.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            enCurso.decrementAndGet();
+            return null;
+        };
+        when(vueloService.obtenerVueloPorId(VUELO_ID)).thenAnswer(lenta);
+        when(vueloService.obtenerHistorialVuelo(VUELO_ID)).thenAnswer(lenta);
+        when(pagoService.obtenerPagosPorVuelo(VUELO_ID)).thenAnswer(lenta);
+        when(pagoService.obtenerTotalPagosConfirmados(VUELO_ID)).thenAnswer(lenta);
+        when(pasajeroVueloRepository.findByVueloId(VUELO_ID)).thenAnswer(lenta);
+        when(incidenciaRepository.findConDetalleByVueloIdOrderByFechaReporteDesc(VUELO_ID)).thenAnswer(lenta);
+
+        // Act
+        DetalleVueloDTO detalle = detalleVueloService.obtenerDetalle(VUELO_ID);
+
+        // Assert
+        assertTrue(detalle.getSeccionesIncompletas().isEmpty());
+        assertTrue(maximo.get() <= 2, "Consultas simultáneas: " + maximo.get());
+    }
+
+    @Test
+    @DisplayName("Una sección que falla queda incompleta")
+    void obtenerDetalle_SeccionConError_QuedaIncompleta() {
+        // Arrange
+        when(vueloService.obtenerVueloPorId(VUELO_ID)).thenReturn(VueloDTO.builder().id(VUELO_ID).build());
+        when(pasajeroVueloRepository.findByVueloId(VUELO_ID)).thenThrow(new IllegalStateException("Sin conexión"));
+
+        // Act
+        DetalleVueloDTO detalle = detalleVueloService.obtenerDetalle(VUELO_ID);
+
+        // Assert
+        assertEquals(List.of(DetalleVueloServiceImpl.SECCION_PASAJEROS), detalle.getSeccionesIncompletas());
+        assertNull(detalle.getPasajeros());
+    }
+
+    @Test
+    @DisplayName("Obtener el detalle de un vuelo inexistente lanza excepción")
+    void obtenerDetalle_VueloNoExiste_LanzaExcepcion() {
+        // Arrange
+        when(vueloService.obtenerVueloPorId(VUELO_ID))
+                .thenThrow(new VueloNoEncontradoException("Vuelo no encontrado con ID: " + VUELO_ID));
+
+        // Act & Assert
+        assertThrows(VueloNoEncontradoException.class, () -> detalleVueloService.obtenerDetalle(VUELO_ID));
+    }
+
+    private static <T> T esperarA(CountDownLatch latch, T resultado) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(1, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Las secciones no se ejecutaron en paralelo");
+        }
+        return resultado;
+    }
+}
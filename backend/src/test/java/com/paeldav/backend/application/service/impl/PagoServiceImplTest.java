@@ -14,16 +14,19 @@ import com.paeldav.backend.exception.VueloNoEncontradoException;
 import com.paeldav.backend.infraestructure.repository.PagoRepository;
 import com.paeldav.backend.infraestructure.repository.UsuarioRepository;
 import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.TotalPagosVuelo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,6 +54,9 @@ class PagoServiceImplTest {
     @Mock
     private PagoMapper pagoMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventos;
+
     @InjectMocks
     private PagoServiceImpl pagoService;
 
@@ -178,9 +184,7 @@ class PagoServiceImplTest {
     @DisplayName("Debe obtener pagos por vuelo")
     void testObtenerPagosPorVuelo() {
         // Arrange
-        List<Pago> pagos = Arrays.asList(testPago);
-        when(pagoRepository.findByVueloId(1L)).thenReturn(pagos);
-        when(pagoMapper.toDTOList(pagos)).thenReturn(Arrays.asList(
+        when(pagoRepository.findComoDTOByVueloId(1L)).thenReturn(Arrays.asList(
                 PagoDTO.builder().id(1L).vueloId(1L).build()
         ));
 
@@ -190,7 +194,8 @@ class PagoServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(pagoRepository).findByVueloId(1L);
+        verify(pagoRepository).findComoDTOByVueloId(1L);
+        verify(pagoMapper, never()).toDTOList(any());
     }
 
     @Test
@@ -291,6 +296,22 @@ class PagoServiceImplTest {
         verify(pagoRepository).getTotalConfirmedAmountForFlight(1L);
     }
 
+    @Test
+    @DisplayName("Debe obtener los totales de varios vuelos con una sola consulta")
+    void testObtenerTotalesPagosConfirmados() {
+        // Arrange
+        when(pagoRepository.sumarConfirmadosPorVuelos(List.of(1L, 2L)))
+                .thenReturn(List.of(new TotalPagosVuelo(1L, 100000.0)));
+
+        // Act
+        Map<Long, Double> result = pagoService.obtenerTotalesPagosConfirmados(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(Map.of(1L, 100000.0, 2L, 0.0), result);
+        verify(pagoRepository, times(1)).sumarConfirmadosPorVuelos(any());
+        verify(pagoRepository, never()).getTotalConfirmedAmountForFlight(any());
+    }
+
     @Test
     @DisplayName("Debe verificar si tiene pago confirmado")
     void testTienePagoConfirmado_True() {
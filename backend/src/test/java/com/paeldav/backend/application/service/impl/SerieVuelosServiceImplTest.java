@@ -0,0 +1,240 @@
+package com.paeldav.backend.application.service.impl;
+
+import com.paeldav.backend.application.dto.vuelo.OcurrenciaSerieDTO;
+import com.paeldav.backend.application.dto.vuelo.ResultadoSerieVuelosDTO;
+import com.paeldav.backend.application.dto.vuelo.SerieVuelosCreateDTO;
+import com.paeldav.backend.application.service.agenda.IndiceAgendaAeronaves;
+import com.paeldav.backend.application.service.agenda.ReglasRotacion;
+import com.paeldav.backend.application.service.agenda.TramoAgenda;
+import com.paeldav.backend.application.service.bloqueo.BloqueoRecursos;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Tripulante;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoTripulante;
+import com.paeldav.backend.exception.AsignacionInvalidaException;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
+import com.paeldav.backend.infraestructure.repository.UsuarioRepository;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SerieVuelosService Tests")
+class SerieVuelosServiceImplTest {
+
+    // Lunes
+    private static final LocalDate INICIO = LocalDate.of(2026, 3, 2);
+
+    @Mock
+    private VueloRepository vueloRepository;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private AeronaveRepository aeronaveRepository;
+
+    @Mock
+    private TripulanteRepository tripulanteRepository;
+
+    @Spy
+    private ReglasRotacion reglasRotacion = new ReglasRotacion(30, "", 120, "");
+
+    @Mock
+    private BloqueoRecursos bloqueoRecursos;
+
+    @Mock
+    private RegistroRetenciones registroRetenciones;
+
+    @Mock
+    private IndiceAgendaAeronaves indiceAgenda;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @InjectMocks
+    private SerieVuelosServiceImpl serieVuelosService;
+
+    private SerieVuelosCreateDTO dto;
+    private Aeronave aeronave;
+
+    @BeforeEach
+    void setUp() {
+        dto = SerieVuelosCreateDTO.builder()
+                .usuarioId(1L)
+                .origen("Bogotá")
+                .destino("Medellín")
+                .numeroPasajeros(6)
+                .fechaInicio(INICIO)
+                .fechaFin(INICIO.plusWeeks(4).minusDays(1))
+                .diasSemana(Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY))
+                .horaSalida(LocalTime.of(7, 0))
+                .duracionMinutos(60)
+                .build();
+        aeronave = Aeronave.builder()
+                .id(10L).matricula("HK-1000").modelo("Citation")
+                .capacidadPasajeros(8).estado(EstadoAeronave.DISPONIBLE)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Generar Ocurrencias Tests")
+    class GenerarOcurrenciasTests {
+
+        @Test
+        @DisplayName("Genera una ocurrencia por día indicado respetando el intervalo de semanas")
+        void generarOcurrencias_CadaDosSemanas_GeneraOcurrenciasOrdenadas() {
+            // Arrange
+            dto.setIntervaloSemanas(2);
+
+            // Act
+            List<TramoAgenda> tramos = serieVuelosService.generarOcurrencias(dto);
+
+            // Assert
+            assertEquals(4, tramos.size());
+            assertEquals(INICIO.atTime(7, 0), tramos.get(0).getSalida());
+            assertEquals(INICIO.plusDays(4).atTime(7, 0), tramos.get(1).getSalida());
+            assertEquals(INICIO.plusWeeks(2).atTime(7, 0), tramos.get(2).getSalida());
+            assertEquals(INICIO.plusWeeks(2).atTime(8, 0), tramos.get(2).getLlegada());
+        }
+
+        @Test
+        @DisplayName("Ocurrencias que se solapan entre sí lanzan excepción")
+        void generarOcurrencias_DuracionMayorAlIntervalo_LanzaExcepcion() {
+            // Arrange
+            dto.setDiasSemana(Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY));
+            dto.setDuracionMinutos(25 * 60);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> serieVuelosService.generarOcurrencias(dto));
+        }
+    }
+
+    @Nested
+    @DisplayName("Crear Serie Tests")
+    class CrearSerieTests {
+
+        @Test
+        @DisplayName("Crear una serie sin conflictos inserta todos los vuelos en un solo lote")
+        void crearSerie_SinConflictos_InsertaEnLote() {
+            // Arrange
+            dto.setAeronaveId(10L);
+            dto.setCostoEstimado(4500.0);
+            when(usuarioRepository.existsById(1L)).thenReturn(true);
+            when(aeronaveRepository.findById(10L)).thenReturn(Optional.of(aeronave));
+            when(vueloRepository.findTramosAeronaveEnRango(eq(10L), any(), any(), anyList())).thenReturn(List.of());
+            when(vueloRepository.findIdsBySerieId(anyString()))
+                    .thenReturn(List.of(101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L));
+
+            // Act
+            ResultadoSerieVuelosDTO resultado = serieVuelosService.crearSerie(dto);
+
+            // Assert
+            assertEquals(8, resultado.getTotalOcurrencias());
+            assertEquals(8, resultado.getCreadas());
+            assertEquals(0, resultado.getConConflicto());
+            assertNotNull(resultado.getSerieId());
+            assertEquals(108L, resultado.getOcurrencias().get(7).getVueloId());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass((Class<List<Object[]>>) (Class<?>) List.class);
+            verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO vuelos"), captor.capture());
+            assertEquals(8, captor.getValue().size());
+            assertEquals(10L, captor.getValue().get(0)[1]);
+            assertEquals(4500.0, captor.getValue().get(0)[10]);
+            verify(vueloRepository, times(1)).findTramosAeronaveEnRango(eq(10L), any(), any(), anyList());
+            verify(indiceAgenda, times(8)).actualizarVuelo(any());
+        }
+
+        @Test
+        @DisplayName("Un conflicto con la agenda de la aeronave impide crear la serie y se reporta")
+        void crearSerie_ConConflicto_NoCreaNingunVuelo() {
+            // Arrange
+            dto.setAeronaveId(10L);
+            LocalDateTime salidaOcupada = INICIO.plusDays(4).atTime(7, 30);
+            when(usuarioRepository.existsById(1L)).thenReturn(true);
+            when(aeronaveRepository.findById(10L)).thenReturn(Optional.of(aeronave));
+            when(vueloRepository.findTramosAeronaveEnRango(eq(10L), any(), any(), anyList())).thenReturn(List.of(
+                    new TramoVueloAeronave(50L, 10L, "Citation", "Cali", "Bogotá", salidaOcupada, salidaOcupada.plusHours(1))));
+
+            // Act
+            ResultadoSerieVuelosDTO resultado = serieVuelosService.crearSerie(dto);
+
+            // Assert
+            assertEquals(0, resultado.getCreadas());
+            assertEquals(1, resultado.getConConflicto());
+            assertNull(resultado.getSerieId());
+            OcurrenciaSerieDTO enConflicto = resultado.getOcurrencias().get(1);
+            assertEquals(50L, enConflicto.getConflictos().get(0).getVueloId());
+            verifyNoInteractions(jdbcTemplate);
+        }
+
+        @Test
+        @DisplayName("Con omitirConflictos se crean solo las ocurrencias libres")
+        void crearSerie_OmitirConflictos_CreaOcurrenciasLibres() {
+            // Arrange
+            dto.setAeronaveId(10L);
+            dto.setOmitirConflictos(true);
+            LocalDateTime salidaOcupada = INICIO.plusDays(4).atTime(7, 30);
+            when(usuarioRepository.existsById(1L)).thenReturn(true);
+            when(aeronaveRepository.findById(10L)).thenReturn(Optional.of(aeronave));
+            when(vueloRepository.findTramosAeronaveEnRango(eq(10L), any(), any(), anyList())).thenReturn(List.of(
+                    new TramoVueloAeronave(50L, 10L, "Citation", "Cali", "Bogotá", salidaOcupada, salidaOcupada.plusHours(1))));
+            when(vueloRepository.findIdsBySerieId(anyString()))
+                    .thenReturn(List.of(101L, 102L, 103L, 104L, 105L, 106L, 107L));
+
+            // Act
+            ResultadoSerieVuelosDTO resultado = serieVuelosService.crearSerie(dto);
+
+            // Assert
+            assertEquals(7, resultado.getCreadas());
+            assertEquals(101L, resultado.getOcurrencias().get(0).getVueloId());
+            assertNull(resultado.getOcurrencias().get(1).getVueloId());
+            assertEquals(102L, resultado.getOcurrencias().get(2).getVueloId());
+        }
+
+        @Test
+        @DisplayName("Una tripulación sin piloto lanza excepción sin insertar vuelos")
+        void crearSerie_TripulacionSinPiloto_LanzaExcepcion() {
+            // Arrange
+            dto.setTripulanteIds(List.of(20L));
+            Tripulante auxiliar = Tripulante.builder()
+                    .id(20L).numeroLicencia("LIC-20").esPiloto(false).estado(EstadoTripulante.DISPONIBLE)
+                    .build();
+            when(usuarioRepository.existsById(1L)).thenReturn(true);
+            when(tripulanteRepository.findAllConUsuarioByIdIn(List.of(20L))).thenReturn(List.of(auxiliar));
+
+            // Act & Assert
+            assertThrows(AsignacionInvalidaException.class, () -> serieVuelosService.crearSerie(dto));
+            verifyNoInteractions(jdbcTemplate);
+        }
+    }
+}
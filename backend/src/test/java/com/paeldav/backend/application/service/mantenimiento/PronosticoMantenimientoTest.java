@@ -0,0 +1,281 @@
+package com.paeldav.backend.application.service.mantenimiento;
+
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
+import com.paeldav.backend.application.dto.mantenimiento.PronosticoMantenimientoDTO;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.MantenimientoRepository;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.HorasInspeccionAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PronosticoMantenimiento Tests")
+class PronosticoMantenimientoTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 8, 0);
+
+    private static AeronaveDTO aeronave(Long id, String modelo, double horas) {
+        return AeronaveDTO.builder().id(id).matricula("HK-" + id).modelo(modelo).horasVueloTotales(horas).build();
+    }
+
+    private static TramoVueloAeronave tramo(Long vueloId, Long aeronaveId, int salidaHoras, int duracionHoras) {
+        return new TramoVueloAeronave(vueloId, aeronaveId, "King Air 350", "Bogotá", "Cartagena",
+                BASE.plusHours(salidaHoras), BASE.plusHours(salidaHoras + duracionHoras));
+    }
+
+    @Nested
+    @DisplayName("Proyección de horas")
+    class ProyeccionTests {
+
+        @Test
+        @DisplayName("El umbral se interpola dentro del vuelo que lo alcanza y se marcan los vuelos que lo exceden")
+        void proyectar_VueloAlcanzaUmbral_InterpolaFechaYMarcaVuelos() {
+            // Arrange: 95 h con inspección cada 100 h; vuelos de 3 h, 4 h y 2 h
+            List<TramoVueloAeronave> vuelos = List.of(tramo(10L, 1L, 0, 3), tramo(11L, 1L, 24, 4), tramo(12L, 1L, 48, 2));
+
+            // Act
+            PronosticoMantenimientoDTO pronostico = PronosticoMantenimiento.proyectar(
+                    aeronave(1L, "King Air 350", 95.0), 0.0, 100.0, vuelos, BASE);
+
+            // Assert: tras el primer vuelo quedan 2 h, que se alcanzan a las 2 h del segundo
+            assertFalse(pronostico.getInspeccionVencida());
+            assertEquals(100.0, pronostico.getHorasUmbral());
+            assertEquals(5.0, pronostico.getHorasRestantes());
+            assertEquals(9.0, pronostico.getHorasProgramadas());
+            assertEquals(104.0, pronostico.getHorasProyectadas());
+            assertEquals(11L, pronostico.getVueloQueAlcanzaUmbralId());
+            assertEquals(BASE.plusHours(26), pronostico.getFechaEstimadaUmbral());
+            assertEquals(List.of(11L, 12L), pronostico.getVuelosQueExcedenLimite());
+        }
+
+        @Test
+        @DisplayName("Con la inspección vencida todos los vuelos programados exceden el límite")
+        void proyectar_InspeccionVencida_MarcaTodosLosVuelos() {
+            // Act
+            PronosticoMantenimientoDTO pronostico = PronosticoMantenimiento.proyectar(
+                    aeronave(1L, "King Air 350", 155.0), 50.0, 100.0,
+                    List.of(tramo(10L, 1L, 0, 1), tramo(11L, 1L, 24, 1)), BASE);
+
+            // Assert
+            assertTrue(pronostico.getInspeccionVencida());
+            assertEquals(-5.0, pronostico.getHorasRestantes());
+            assertNull(pronostico.getFechaEstimadaUmbral());
+            assertNull(pronostico.getVueloQueAlcanzaUmbralId());
+            assertEquals(List.of(10L, 11L), pronostico.getVuelosQueExcedenLimite());
+        }
+
+        @Test
+        @DisplayName("Si los vuelos programados no alcanzan el umbral no hay fecha estimada")
+        void proyectar_SinAlcanzarUmbral_SinFechaEstimada() {
+            // Act
+            PronosticoMantenimientoDTO pronostico = PronosticoMantenimiento.proyectar(
+                    aeronave(1L, "King Air 350", 10.0), 0.0, 100.0, List.of(tramo(10L, 1L, 0, 2)), BASE);
+
+            // Assert
+            assertFalse(pronostico.getInspeccionVencida());
+            assertEquals(12.0, pronostico.getHorasProyectadas());
+            assertNull(pronostico.getFechaEstimadaUmbral());
+            assertTrue(pronostico.getVuelosQueExcedenLimite().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Pronóstico de la flota")
+    class FlotaTests {
+
+        private AeronaveRepository aeronaveRepository;
+        private MantenimientoRepository mantenimientoRepository;
+        private VueloRepository vueloRepository;
+        private PronosticoMantenimiento pronostico;
+
+        @BeforeEach
+        void setUp() {
+            aeronaveRepository = mock(AeronaveRepository.class);
+            mantenimientoRepository = mock(MantenimientoRepository.class);
+            vueloRepository = mock(VueloRepository.class);
+            IntervalosInspeccion intervalos = new IntervalosInspeccion(100, "King Air 350:200; Cessna 208:50");
+            pronostico = new PronosticoMantenimiento(
+                    aeronaveRepository, mantenimientoRepository, vueloRepository, intervalos);
+
+            // Aeronave 1 (King Air 350): 260 h, última inspección a las 50 h → umbral 250, vencida
+            // Aeronave 2 (Cessna 208): 40 h, vuelo 10 de 20 h → alcanza el umbral de 50 h
+            // Aeronave 3 (Learjet 45): 10 h, sin vuelos
+            when(aeronaveRepository.findAllComoDTO()).thenReturn(List.of(
+                    aeronave(1L, "King Air 350", 260.0),
+                    aeronave(2L, "Cessna 208", 40.0),
+                    aeronave(3L, "Learjet 45", 10.0)));
+            when(mantenimientoRepository.findHorasUltimaInspeccion(anyCollection(), anyList()))
+                    .thenReturn(List.of(new HorasInspeccionAeronave(1L, 50)));
+            when(vueloRepository.findTramosPorAeronaves(anyCollection(), anyList()))
+                    .thenReturn(List.of(tramo(10L, 2L, 0, 20)));
+            pronostico.recalcularTodo();
+            clearInvocations(aeronaveRepository, mantenimientoRepository, vueloRepository);
+        }
+
+        private Vuelo vuelo(Long id, Long aeronaveId, EstadoVuelo estado) {
+            return Vuelo.builder()
+                    .id(id)
+                    .aeronave(Aeronave.builder().id(aeronaveId).build())
+                    .fechaSalidaProgramada(BASE)
+                    .fechaLlegadaProgramada(BASE.plusHours(20))
+                    .estado(estado)
+                    .build();
+        }
+
+        @SuppressWarnings("unchecked")
+        private Set<Long> aeronavesRecalculadas() {
+            ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+            verify(aeronaveRepository).findComoDTOByIdIn(ids.capture());
+            return new HashSet<>(ids.getValue());
+        }
+
+        @Test
+        @DisplayName("Usa el intervalo del modelo y ordena por urgencia")
+        void obtenerFlota_IntervaloPorModelo_OrdenaPorUrgencia() {
+            // Act
+            List<PronosticoMantenimientoDTO> flota = pronostico.obtenerFlota();
+
+            // Assert
+            assertEquals(List.of(1L, 2L, 3L), flota.stream().map(PronosticoMantenimientoDTO::getAeronaveId).toList());
+            assertEquals(250.0, flota.get(0).getHorasUmbral());
+            assertTrue(flota.get(0).getInspeccionVencida());
+            assertEquals(BASE.plusHours(10), flota.get(1).getFechaEstimadaUmbral());
+            assertEquals(List.of(10L), flota.get(1).getVuelosQueExcedenLimite());
+            assertEquals(100.0, flota.get(2).getIntervaloHoras());
+            verifyNoInteractions(aeronaveRepository, mantenimientoRepository, vueloRepository);
+        }
+
+        @Test
+        @DisplayName("Un vuelo confirmado solo recalcula su aeronave")
+        void actualizarVuelo_Confirmado_RecalculaSoloSuAeronave() {
+            // Arrange
+            when(aeronaveRepository.findComoDTOByIdIn(anyCollection()))
+                    .thenReturn(List.of(aeronave(3L, "Learjet 45", 10.0)));
+            when(vueloRepository.findTramosPorAeronaves(anyCollection(), anyList()))
+                    .thenReturn(List.of(tramo(20L, 3L, 0, 95)));
+
+            // Act
+            pronostico.actualizarVuelo(vuelo(20L, 3L, EstadoVuelo.CONFIRMADO));
+            PronosticoMantenimientoDTO actualizado = pronostico.obtener(3L).orElseThrow();
+
+            // Assert
+            assertEquals(Set.of(3L), aeronavesRecalculadas());
+            assertEquals(List.of(20L), actualizado.getVuelosQueExcedenLimite());
+            assertTrue(pronostico.obtener(1L).orElseThrow().getInspeccionVencida());
+        }
+
+        @Test
+        @DisplayName("Reasignar un vuelo recalcula la aeronave anterior y la nueva")
+        void actualizarVuelo_Reasignado_RecalculaAmbasAeronaves() {
+            // Arrange
+            when(aeronaveRepository.findComoDTOByIdIn(anyCollection())).thenReturn(List.of(
+                    aeronave(2L, "Cessna 208", 40.0), aeronave(3L, "Learjet 45", 10.0)));
+            when(vueloRepository.findTramosPorAeronaves(anyCollection(), anyList()))
+                    .thenReturn(List.of(tramo(10L, 3L, 0, 20)));
+
+            // Act
+            pronostico.actualizarVuelo(vuelo(10L, 3L, EstadoVuelo.CONFIRMADO));
+            List<PronosticoMantenimientoDTO> flota = pronostico.obtenerFlota();
+
+            // Assert
+            assertEquals(Set.of(2L, 3L), aeronavesRecalculadas());
+            PronosticoMantenimientoDTO anterior = flota.stream().filter(p -> p.getAeronaveId() == 2L).findFirst().orElseThrow();
+            assertNull(anterior.getFechaEstimadaUmbral());
+            assertEquals(0.0, anterior.getHorasProgramadas());
+        }
+
+        @Test
+        @DisplayName("Un vuelo cancelado libera las horas programadas de su aeronave")
+        void actualizarVuelo_Cancelado_RecalculaAeronaveAnterior() {
+            // Arrange
+            when(aeronaveRepository.findComoDTOByIdIn(anyCollection()))
+                    .thenReturn(List.of(aeronave(2L, "Cessna 208", 40.0)));
+            when(vueloRepository.findTramosPorAeronaves(anyCollection(), anyList())).thenReturn(List.of());
+
+            // Act
+            pronostico.actualizarVuelo(vuelo(10L, 2L, EstadoVuelo.CANCELADO));
+            PronosticoMantenimientoDTO actualizado = pronostico.obtener(2L).orElseThrow();
+
+            // Assert
+            assertEquals(Set.of(2L), aeronavesRecalculadas());
+            assertTrue(actualizado.getVuelosQueExcedenLimite().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Si el recálculo falla se conservan los valores anteriores y la aeronave queda pendiente")
+        void obtener_ConError_ConservaValoresYReintenta() {
+            // Arrange
+            when(aeronaveRepository.findComoDTOByIdIn(anyCollection()))
+                    .thenThrow(new IllegalStateException("sin conexión"))
+                    .thenReturn(List.of(aeronave(2L, "Cessna 208", 45.0)));
+            when(vueloRepository.findTramosPorAeronaves(anyCollection(), anyList())).thenReturn(List.of());
+            pronostico.actualizarAeronave(2L);
+
+            // Act
+            PronosticoMantenimientoDTO anterior = pronostico.obtener(2L).orElseThrow();
+            PronosticoMantenimientoDTO reintento = pronostico.obtener(2L).orElseThrow();
+
+            // Assert
+            assertEquals(40.0, anterior.getHorasActuales());
+            assertEquals(45.0, reintento.getHorasActuales());
+            verify(aeronaveRepository, times(2)).findComoDTOByIdIn(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Una aeronave inexistente retorna vacío")
+        void obtener_AeronaveInexistente_RetornaVacio() {
+            // Arrange
+            when(aeronaveRepository.findComoDTOByIdIn(anyCollection())).thenReturn(List.of());
+
+            // Act
+            Optional<PronosticoMantenimientoDTO> resultado = pronostico.obtener(99L);
+
+            // Assert
+            assertTrue(resultado.isEmpty());
+            verify(mantenimientoRepository, never()).findHorasUltimaInspeccion(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Intervalos de inspección")
+    class IntervalosTests {
+
+        @Test
+        @DisplayName("El intervalo depende del modelo, ignora mayúsculas y tildes y usa el valor por defecto")
+        void intervalo_PorModelo_UsaConfiguracionODefecto() {
+            IntervalosInspeccion intervalos = new IntervalosInspeccion(100, "King Air 350:200; Cessna Caravan:150");
+
+            assertEquals(200.0, intervalos.intervalo("king air 350"));
+            assertEquals(150.0, intervalos.intervalo("Céssna Caravan"));
+            assertEquals(100.0, intervalos.intervalo("Learjet 45"));
+            assertEquals(100.0, intervalos.intervalo(null));
+        }
+
+        @Test
+        @DisplayName("Un intervalo no positivo es inválido")
+        void intervalo_NoPositivo_LanzaExcepcion() {
+            assertThrows(IllegalArgumentException.class, () -> new IntervalosInspeccion(0, ""));
+            assertThrows(IllegalArgumentException.class, () -> new IntervalosInspeccion(100, "King Air 350:-5"));
+        }
+    }
+}
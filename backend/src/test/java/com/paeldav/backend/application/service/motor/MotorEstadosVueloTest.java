@@ -0,0 +1,316 @@
+package com.paeldav.backend.application.service.motor;
+
+import com.paeldav.backend.application.service.agenda.IndiceAgendaAeronaves;
+import com.paeldav.backend.application.service.base.PagoService;
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
+import com.paeldav.backend.application.service.horas.RegistroHorasVuelo;
+import com.paeldav.backend.application.service.mantenimiento.PronosticoMantenimiento;
+import com.paeldav.backend.application.service.flota.ContadorEstadosFlota;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.HistorialVuelo;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoTripulante;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.HistorialVueloRepository;
+import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MotorEstadosVuelo Tests")
+class MotorEstadosVueloTest {
+
+    private static final LocalDateTime AHORA = LocalDateTime.of(2026, 7, 1, 12, 0);
+
+    @Mock
+    private VueloRepository vueloRepository;
+
+    @Mock
+    private AeronaveRepository aeronaveRepository;
+
+    @Mock
+    private TripulanteRepository tripulanteRepository;
+
+    @Mock
+    private HistorialVueloRepository historialVueloRepository;
+
+    @Mock
+    private PagoService pagoService;
+
+    @Mock
+    private IndiceAgendaAeronaves indiceAgenda;
+
+    @Mock
+    private RegistroRetenciones registroRetenciones;
+
+    @Mock
+    private ContadorEstadosFlota contadorEstados;
+
+    @Mock
+    private CacheAeronaves cacheAeronaves;
+
+    @Mock
+    private PronosticoMantenimiento pronosticoMantenimiento;
+
+    @Mock
+    private RegistroHorasVuelo registroHoras;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TaskScheduler programador;
+
+    @InjectMocks
+    private MotorEstadosVuelo motor;
+
+    private Aeronave aeronave;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocacion ->
+                invocacion.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        aeronave = Aeronave.builder().id(10L).matricula("HK-1000").build();
+    }
+
+    private Vuelo vuelo(Long id, EstadoVuelo estado, LocalDateTime salida) {
+        return Vuelo.builder()
+                .id(id)
+                .aeronave(aeronave)
+                .origen("Bogotá")
+                .destino("Medellín")
+                .fechaSalidaProgramada(salida)
+                .fechaLlegadaProgramada(salida.plusHours(1))
+                .estado(estado)
+                .costoEstimado(500.0)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Inicio de Vuelos Tests")
+    class InicioTests {
+
+        @Test
+        @DisplayName("Un vuelo confirmado y pagado con salida vencida pasa a EN_CURSO junto con sus recursos")
+        void procesarVencidos_SalidaVencidaPagada_IniciaVuelo() {
+            // Arrange
+            aeronave.setEstado(EstadoAeronave.DISPONIBLE);
+            Vuelo vuelo = vuelo(1L, EstadoVuelo.CONFIRMADO, AHORA.minusMinutes(5));
+            when(vueloRepository.findConSalidaVencida(eq(EstadoVuelo.CONFIRMADO), eq(AHORA), isNull(), isNull(), any()))
+                    .thenReturn(List.of(vuelo));
+            when(pagoService.obtenerTotalesPagosConfirmados(List.of(1L))).thenReturn(Map.of(1L, 500.0));
+            when(aeronaveRepository.findAllById(any())).thenReturn(List.of(aeronave));
+
+            // Act
+            int aplicadas = motor.procesarVencidos(AHORA);
+
+            // Assert
+            assertEquals(1, aplicadas);
+            assertEquals(EstadoVuelo.EN_CURSO, vuelo.getEstado());
+            assertEquals(EstadoAeronave.EN_VUELO, aeronave.getEstado());
+            verify(contadorEstados).registrarCambio(EstadoAeronave.DISPONIBLE, EstadoAeronave.EN_VUELO);
+            verify(cacheAeronaves).invalidar(10L);
+            verify(tripulanteRepository).actualizarEstadoPorVuelos(
+                    List.of(1L), EstadoTripulante.DISPONIBLE, EstadoTripulante.EN_VUELO);
+            verify(indiceAgenda).actualizarVuelo(vuelo);
+            verify(registroRetenciones).liberar(1L);
+            verify(eventos, times(2)).publishEvent(any(Object.class));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<HistorialVuelo>> captor = ArgumentCaptor.forClass((Class<List<HistorialVuelo>>) (Class<?>) List.class);
+            verify(historialVueloRepository).saveAll(captor.capture());
+            HistorialVuelo historial = captor.getValue().get(0);
+            assertEquals(EstadoVuelo.CONFIRMADO, historial.getEstadoAnterior());
+            assertEquals(EstadoVuelo.EN_CURSO, historial.getEstadoNuevo());
+            assertEquals(MotorEstadosVuelo.TIPO_ACCION, historial.getTipoAccion());
+        }
+
+        @Test
+        @DisplayName("Un vuelo sin pagos confirmados permanece CONFIRMADO")
+        void procesarVencidos_SinPago_NoIniciaVuelo() {
+            // Arrange
+            Vuelo vuelo = vuelo(1L, EstadoVuelo.CONFIRMADO, AHORA.minusMinutes(5));
+            when(vueloRepository.findConSalidaVencida(eq(EstadoVuelo.CONFIRMADO), eq(AHORA), isNull(), isNull(), any()))
+                    .thenReturn(List.of(vuelo));
+            when(pagoService.obtenerTotalesPagosConfirmados(List.of(1L))).thenReturn(Map.of(1L, 200.0));
+
+            // Act
+            int aplicadas = motor.procesarVencidos(AHORA);
+
+            // Assert
+            assertEquals(0, aplicadas);
+            assertEquals(EstadoVuelo.CONFIRMADO, vuelo.getEstado());
+            verifyNoInteractions(tripulanteRepository, historialVueloRepository, indiceAgenda, eventos);
+            verify(registroRetenciones, never()).liberar(any());
+        }
+
+        @Test
+        @DisplayName("Recorre los vuelos vencidos en lotes avanzando el cursor")
+        void procesarVencidos_VariosLotes_AvanzaCursor() {
+            // Arrange
+            ReflectionTestUtils.setField(motor, "tamanoLote", 2);
+            Vuelo primero = vuelo(1L, EstadoVuelo.CONFIRMADO, AHORA.minusHours(3));
+            Vuelo segundo = vuelo(2L, EstadoVuelo.CONFIRMADO, AHORA.minusHours(2));
+            Vuelo tercero = vuelo(3L, EstadoVuelo.CONFIRMADO, AHORA.minusHours(1));
+            when(vueloRepository.findConSalidaVencida(eq(EstadoVuelo.CONFIRMADO), eq(AHORA), isNull(), isNull(), any()))
+                    .thenReturn(List.of(primero, segundo));
+            when(vueloRepository.findConSalidaVencida(eq(EstadoVuelo.CONFIRMADO), eq(AHORA),
+                    eq(segundo.getFechaSalidaProgramada()), eq(2L), any()))
+                    .thenReturn(List.of(tercero));
+            when(pagoService.obtenerTotalesPagosConfirmados(anyCollection())).thenAnswer(invocacion ->
+                    invocacion.<Collection<Long>>getArgument(0).stream()
+                            .collect(Collectors.toMap(Function.identity(), id -> 500.0)));
+
+            // Act
+            int aplicadas = motor.procesarVencidos(AHORA);
+
+            // Assert
+            assertEquals(3, aplicadas);
+            verify(transactionTemplate, times(3)).execute(any());
+            verify(historialVueloRepository, times(2)).saveAll(any());
+            // Una consulta de pagos por lote, no por vuelo
+            verify(pagoService, times(2)).obtenerTotalesPagosConfirmados(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Un vuelo ya reportado sin pago no se vuelve a consultar hasta su reintento")
+        void procesarVencidos_SinPagoReportado_EsperaReintento() {
+            // Arrange
+            ReflectionTestUtils.setField(motor, "reintentoPagoSegundos", 300L);
+            Vuelo vuelo = vuelo(1L, EstadoVuelo.CONFIRMADO, AHORA.minusMinutes(5));
+            when(vueloRepository.findConSalidaVencida(eq(EstadoVuelo.CONFIRMADO), any(), isNull(), isNull(), any()))
+                    .thenReturn(List.of(vuelo));
+            when(pagoService.obtenerTotalesPagosConfirmados(List.of(1L)))
+                    .thenReturn(Map.of(1L, 0.0))
+                    .thenReturn(Map.of(1L, 500.0));
+            when(aeronaveRepository.findAllById(any())).thenReturn(List.of(aeronave));
+            motor.procesarVencidos(AHORA);
+
+            // Act
+            int antesDelReintento = motor.procesarVencidos(AHORA.plusMinutes(1));
+            int alReintentar = motor.procesarVencidos(AHORA.plusMinutes(5));
+
+            // Assert
+            assertEquals(0, antesDelReintento);
+            assertEquals(1, alReintentar);
+            assertEquals(EstadoVuelo.EN_CURSO, vuelo.getEstado());
+            verify(pagoService, times(2)).obtenerTotalesPagosConfirmados(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Finalización de Vuelos Tests")
+    class FinalizacionTests {
+
+        @Test
+        @DisplayName("Un vuelo en curso con llegada vencida se completa, libera la aeronave y registra sus horas")
+        void procesarVencidos_LlegadaVencida_CompletaVuelo() {
+            // Arrange
+            aeronave.setEstado(EstadoAeronave.EN_VUELO);
+            Vuelo vuelo = vuelo(1L, EstadoVuelo.EN_CURSO, AHORA.minusHours(2));
+            when(vueloRepository.findConLlegadaVencida(eq(EstadoVuelo.EN_CURSO), eq(AHORA), isNull(), isNull(), any()))
+                    .thenReturn(List.of(vuelo));
+            when(aeronaveRepository.findAllById(any())).thenReturn(List.of(aeronave));
+
+            // Act
+            int aplicadas = motor.procesarVencidos(AHORA);
+
+            // Assert
+            assertEquals(1, aplicadas);
+            assertEquals(EstadoVuelo.COMPLETADO, vuelo.getEstado());
+            assertEquals(EstadoAeronave.DISPONIBLE, aeronave.getEstado());
+            verify(tripulanteRepository).actualizarEstadoPorVuelos(
+                    List.of(1L), EstadoTripulante.EN_VUELO, EstadoTripulante.DISPONIBLE);
+            verify(registroHoras).registrarVueloCompletado(vuelo);
+            verifyNoInteractions(pagoService);
+        }
+
+        @Test
+        @DisplayName("Un vuelo con llegada real posterior a la programada sigue en curso")
+        void procesarVencidos_LlegadaRealPosterior_NoCompleta() {
+            // Arrange
+            Vuelo vuelo = vuelo(1L, EstadoVuelo.EN_CURSO, AHORA.minusHours(2));
+            vuelo.setFechaLlegadaReal(AHORA.plusMinutes(30));
+            when(vueloRepository.findConLlegadaVencida(eq(EstadoVuelo.EN_CURSO), eq(AHORA), isNull(), isNull(), any()))
+                    .thenReturn(List.of(vuelo));
+
+            // Act
+            int aplicadas = motor.procesarVencidos(AHORA);
+
+            // Assert
+            assertEquals(0, aplicadas);
+            assertEquals(EstadoVuelo.EN_CURSO, vuelo.getEstado());
+            verifyNoInteractions(aeronaveRepository, tripulanteRepository, historialVueloRepository, registroHoras);
+        }
+    }
+
+    @Nested
+    @DisplayName("Programación Tests")
+    class ProgramacionTests {
+
+        @Test
+        @DisplayName("El motor corre en el programador compartido y espera hasta el próximo vencimiento")
+        void iniciar_ProgramaCiclosConEsperaCalculada() {
+            // Arrange
+            ArgumentCaptor<Runnable> ciclo = ArgumentCaptor.forClass(Runnable.class);
+            ArgumentCaptor<Trigger> disparador = ArgumentCaptor.forClass(Trigger.class);
+            motor.iniciar();
+            verify(programador).schedule(ciclo.capture(), disparador.capture());
+            Instant fin = Instant.parse("2026-07-01T12:00:00Z");
+
+            // Act - sin vuelos pendientes el siguiente ciclo espera el máximo configurado
+            ciclo.getValue().run();
+            Instant siguiente = disparador.getValue().nextExecution(new SimpleTriggerContext(fin, fin, fin));
+
+            // Assert
+            assertEquals(fin.plusSeconds(60), siguiente);
+            verify(vueloRepository).findProximaSalida(eq(EstadoVuelo.CONFIRMADO), any());
+        }
+
+        @Test
+        @DisplayName("Deshabilitado, el motor no programa ciclos")
+        void iniciar_Deshabilitado_NoPrograma() {
+            // Arrange
+            ReflectionTestUtils.setField(motor, "habilitado", false);
+
+            // Act
+            motor.iniciar();
+
+            // Assert
+            verifyNoInteractions(programador);
+        }
+    }
+}
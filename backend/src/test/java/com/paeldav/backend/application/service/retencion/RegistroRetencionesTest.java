@@ -0,0 +1,261 @@
+package com.paeldav.backend.application.service.retencion;
+
+import com.paeldav.backend.exception.ConflictoDisponibilidadException;
+import com.paeldav.backend.infraestructure.repository.projection.IntervaloVuelo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RegistroRetenciones Tests")
+class RegistroRetencionesTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2026, 3, 1, 8, 0);
+    private static final LocalDateTime FIN = INICIO.plusHours(3);
+
+    private final RegistroRetenciones registro = new RegistroRetenciones(30);
+
+    @AfterEach
+    void tearDown() {
+        registro.detener();
+    }
+
+    /**
+     * Simula una transacción en el hilo actual: ejecuta el trabajo y la completa con el estado indicado.
+     */
+    private static void enTransaccion(int estado, Runnable trabajo) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            trabajo.run();
+        } finally {
+            List<TransactionSynchronization> sincronizaciones = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            if (estado == TransactionSynchronization.STATUS_COMMITTED) {
+                sincronizaciones.forEach(TransactionSynchronization::afterCommit);
+            }
+            sincronizaciones.forEach(s -> s.afterCompletion(estado));
+        }
+    }
+
+    @Test
+    @DisplayName("El tiempo de retención debe ser positivo")
+    void constructor_TtlNoPositivo_LanzaExcepcion() {
+        assertThrows(IllegalArgumentException.class, () -> new RegistroRetenciones(0));
+    }
+
+    @Nested
+    @DisplayName("Retener Tests")
+    class RetenerTests {
+
+        @Test
+        @DisplayName("Retener recursos los marca como ocupados para otros vuelos")
+        void retener_RecursosLibres_QuedanOcupados() {
+            // Act
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(20L, 21L), INICIO, FIN);
+
+            // Assert
+            assertEquals(1, registro.buscarPorAeronave(10L, INICIO, FIN, null).size());
+            assertEquals(1, registro.buscarPorTripulante(21L, INICIO.plusHours(1), FIN.plusHours(1), null).size());
+            assertTrue(registro.buscarPorAeronave(10L, INICIO, FIN, 1L).isEmpty());
+            assertTrue(registro.buscarPorAeronave(10L, FIN, FIN.plusHours(1), null).isEmpty());
+            assertNotNull(registro.obtener(1L));
+        }
+
+        @Test
+        @DisplayName("Retener un recurso ya retenido por otro vuelo en horario solapado lanza excepción")
+        void retener_RecursoRetenidoPorOtroVuelo_LanzaExcepcion() {
+            // Arrange
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(20L), INICIO, FIN);
+
+            // Act & Assert
+            assertThrows(ConflictoDisponibilidadException.class,
+                    () -> registro.retener(2L, "BOG", "CLO", 10L, List.of(), INICIO.plusHours(2), FIN.plusHours(2)));
+            assertThrows(ConflictoDisponibilidadException.class,
+                    () -> registro.retener(2L, "BOG", "CLO", null, List.of(20L), INICIO, FIN));
+            assertNull(registro.obtener(2L));
+        }
+
+        @Test
+        @DisplayName("Retener de nuevo para el mismo vuelo reemplaza la retención anterior")
+        void retener_MismoVuelo_ReemplazaRetencion() {
+            // Arrange
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(), INICIO, FIN);
+
+            // Act
+            registro.retener(1L, "BOG", "MDE", 11L, List.of(), INICIO, FIN);
+
+            // Assert
+            assertTrue(registro.buscarPorAeronave(10L, INICIO, FIN, null).isEmpty());
+            assertEquals(1, registro.buscarPorAeronave(11L, INICIO, FIN, null).size());
+            assertEquals(1, registro.vigentes().size());
+        }
+
+        @Test
+        @DisplayName("Retener sin recursos lanza excepción")
+        void retener_SinRecursos_LanzaExcepcion() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> registro.retener(1L, "BOG", "MDE", null, List.of(), INICIO, FIN));
+        }
+    }
+
+    @Nested
+    @DisplayName("Liberar y Consumir Tests")
+    class LiberarConsumirTests {
+
+        @Test
+        @DisplayName("Liberar una retención deja los recursos disponibles")
+        void liberar_RetencionExistente_LiberaRecursos() {
+            // Arrange
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(20L), INICIO, FIN);
+
+            // Act
+            boolean liberada = registro.liberar(1L);
+
+            // Assert
+            assertTrue(liberada);
+            assertFalse(registro.liberar(1L));
+            assertTrue(registro.buscarPorAeronave(10L, INICIO, FIN, null).isEmpty());
+            assertTrue(registro.buscarPorTripulante(20L, INICIO, FIN, null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Consumir la aeronave conserva la retención de la tripulación")
+        void consumir_SoloAeronave_ConservaTripulacion() {
+            // Arrange
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(20L), INICIO, FIN);
+            LocalDateTime expiraEn = registro.obtener(1L).getExpiraEn();
+
+            // Act
+            registro.consumir(1L, 10L, List.of());
+
+            // Assert
+            Retencion restante = registro.obtener(1L);
+            assertNotNull(restante);
+            assertNull(restante.getAeronaveId());
+            assertEquals(List.of(20L), restante.getTripulanteIds());
+            assertEquals(expiraEn, restante.getExpiraEn());
+            assertTrue(registro.buscarPorAeronave(10L, INICIO, FIN, null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Consumir todos los recursos libera la retención")
+        void consumir_TodosLosRecursos_LiberaRetencion() {
+            // Arrange
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(20L), INICIO, FIN);
+
+            // Act
+            registro.consumir(1L, 10L, List.of(20L));
+
+            // Assert
+            assertNull(registro.obtener(1L));
+            assertTrue(registro.vigentes().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Transacción Tests")
+    class TransaccionTests {
+
+        @Test
+        @DisplayName("Una retención cuya transacción se revierte se deshace y restaura la anterior")
+        void retener_TransaccionRevertida_RestauraAnterior() {
+            // Arrange
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(), INICIO, FIN);
+
+            // Act
+            enTransaccion(TransactionSynchronization.STATUS_ROLLED_BACK,
+                    () -> registro.retener(1L, "BOG", "MDE", 11L, List.of(20L), INICIO, FIN));
+
+            // Assert
+            assertEquals(10L, registro.obtener(1L).getAeronaveId());
+            assertEquals(1, registro.buscarPorAeronave(10L, INICIO, FIN, null).size());
+            assertTrue(registro.buscarPorAeronave(11L, INICIO, FIN, null).isEmpty());
+            assertTrue(registro.buscarPorTripulante(20L, INICIO, FIN, null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Durante la transacción la retención ya bloquea a otros vuelos")
+        void retener_TransaccionEnCurso_BloqueaRecursos() {
+            enTransaccion(TransactionSynchronization.STATUS_COMMITTED, () -> {
+                // Act
+                registro.retener(1L, "BOG", "MDE", 10L, List.of(), INICIO, FIN);
+
+                // Assert
+                assertThrows(ConflictoDisponibilidadException.class,
+                        () -> registro.retener(2L, "BOG", "CLO", 10L, List.of(), INICIO, FIN));
+            });
+            assertNotNull(registro.obtener(1L));
+        }
+
+        @Test
+        @DisplayName("Liberar y consumir solo se aplican si la transacción se confirma")
+        void liberarYConsumir_TransaccionRevertida_ConservaRetencion() {
+            // Arrange
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(20L), INICIO, FIN);
+
+            // Act
+            enTransaccion(TransactionSynchronization.STATUS_ROLLED_BACK, () -> {
+                assertTrue(registro.liberar(1L));
+                registro.consumir(1L, 10L, List.of(20L));
+            });
+            Retencion trasReversion = registro.obtener(1L);
+            enTransaccion(TransactionSynchronization.STATUS_COMMITTED, () -> registro.liberar(1L));
+
+            // Assert
+            assertNotNull(trasReversion);
+            assertEquals(10L, trasReversion.getAeronaveId());
+            assertNull(registro.obtener(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiración Tests")
+    class ExpiracionTests {
+
+        @Test
+        @DisplayName("Una retención vencida deja de bloquear y el barredor la elimina")
+        void retener_TrasVencer_SeLibera() throws InterruptedException {
+            // Arrange
+            registro.iniciar();
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(20L), INICIO, FIN, Duration.ofMillis(50));
+
+            // Act
+            long limite = System.currentTimeMillis() + 5000;
+            while (registro.getExpiradas() == 0 && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+
+            // Assert
+            assertEquals(1, registro.getExpiradas());
+            assertNull(registro.obtener(1L));
+            assertTrue(registro.intervalosAeronaves(INICIO, FIN).isEmpty());
+            assertDoesNotThrow(() -> registro.retener(2L, "BOG", "CLO", 10L, List.of(20L), INICIO, FIN));
+        }
+
+        @Test
+        @DisplayName("Una retención reemplazada no se cuenta como expirada")
+        void retener_Reemplazada_NoExpiraLaNueva() throws InterruptedException {
+            // Arrange
+            registro.iniciar();
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(), INICIO, FIN, Duration.ofMillis(20));
+            registro.retener(1L, "BOG", "MDE", 10L, List.of(), INICIO, FIN, Duration.ofMinutes(5));
+
+            // Act
+            Thread.sleep(200);
+
+            // Assert
+            assertEquals(0, registro.getExpiradas());
+            List<IntervaloVuelo> intervalos = registro.intervalosAeronaves(INICIO, FIN);
+            assertEquals(1, intervalos.size());
+            assertEquals(10L, intervalos.get(0).getRecursoId());
+        }
+    }
+}
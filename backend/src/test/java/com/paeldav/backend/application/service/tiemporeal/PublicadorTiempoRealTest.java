@@ -0,0 +1,71 @@
+package com.paeldav.backend.application.service.tiemporeal;
+
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoPago;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublicadorTiempoReal Tests")
+class PublicadorTiempoRealTest {
+
+    @Mock
+    private SimpMessageSendingOperations mensajeria;
+
+    @Test
+    @DisplayName("Una ráfaga de cambios del mismo vuelo se difunde una sola vez con el último estado")
+    void difundirPendientes_RafagaDelMismoVuelo_EnviaUltimoEstado() {
+        // Arrange
+        PublicadorTiempoReal publicador = new PublicadorTiempoReal(mensajeria);
+        publicador.registrar(EventoCambioEstado.vuelo(1L, 10L, EstadoVuelo.SOLICITADO));
+        publicador.registrar(EventoCambioEstado.vuelo(1L, 10L, EstadoVuelo.CONFIRMADO));
+        publicador.registrar(EventoCambioEstado.vuelo(1L, 10L, EstadoVuelo.EN_CURSO));
+
+        // Act
+        publicador.difundirPendientes();
+
+        // Assert
+        ArgumentCaptor<EventoCambioEstado> evento = ArgumentCaptor.forClass(EventoCambioEstado.class);
+        verify(mensajeria).convertAndSend(eq("/topic/vuelos/1"), evento.capture());
+        assertEquals("EN_CURSO", evento.getValue().getEstado());
+        verify(mensajeria).convertAndSend(eq("/topic/aeronaves/10"), any(EventoCambioEstado.class));
+        verify(mensajeria).convertAndSend(eq("/topic/tablero"), eq(List.of(evento.getValue())));
+    }
+
+    @Test
+    @DisplayName("Cada recurso se difunde a su destino y el tablero recibe todos los cambios juntos")
+    void difundirPendientes_VariosRecursos_EnviaPorDestino() {
+        // Arrange
+        PublicadorTiempoReal publicador = new PublicadorTiempoReal(mensajeria);
+        publicador.registrar(EventoCambioEstado.aeronave(10L, EstadoAeronave.EN_MANTENIMIENTO));
+        publicador.registrar(EventoCambioEstado.pago(5L, 1L, EstadoPago.CONFIRMADO));
+
+        // Act
+        publicador.difundirPendientes();
+        publicador.difundirPendientes();
+
+        // Assert
+        verify(mensajeria).convertAndSend(eq("/topic/aeronaves/10"), any(EventoCambioEstado.class));
+        verify(mensajeria).convertAndSend(eq("/topic/vuelos/1"), any(EventoCambioEstado.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EventoCambioEstado>> tablero =
+                ArgumentCaptor.forClass((Class<List<EventoCambioEstado>>) (Class<?>) List.class);
+        verify(mensajeria, times(1)).convertAndSend(eq("/topic/tablero"), tablero.capture());
+        assertEquals(2, tablero.getValue().size());
+        verify(mensajeria, times(3)).convertAndSend(anyString(), any(Object.class));
+    }
+}
@@ -0,0 +1,389 @@
+package com.paeldav.backend.asignacion;
+
+import com.paeldav.backend.application.dto.asignacion.AceptarPropuestaDTO;
+import com.paeldav.backend.application.dto.asignacion.AsignacionPropuestaDTO;
+import com.paeldav.backend.application.dto.asignacion.PropuestaAsignacionDTO;
+import com.paeldav.backend.application.dto.vuelo.AsignacionAeronaveDTO;
+import com.paeldav.backend.application.dto.vuelo.AsignacionTripulacionDTO;
+import com.paeldav.backend.application.service.agenda.ReglasRotacion;
+import com.paeldav.backend.application.service.base.VueloService;
+import com.paeldav.backend.application.service.impl.AsignacionAutomaticaServiceImpl;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Tripulante;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoTripulante;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.exception.ConflictoDisponibilidadException;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsignacionAutomaticaService Tests")
+class AsignacionAutomaticaServiceTest {
+
+    @Mock
+    private VueloRepository vueloRepository;
+
+    @Mock
+    private AeronaveRepository aeronaveRepository;
+
+    @Mock
+    private TripulanteRepository tripulanteRepository;
+
+    @Mock
+    private VueloService vueloService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final RegistroRetenciones registroRetenciones = new RegistroRetenciones(30);
+    private final AtomicBoolean enTransaccion = new AtomicBoolean();
+
+    private ForkJoinPool pool;
+    private AsignacionAutomaticaServiceImpl asignacionService;
+
+    private final LocalDateTime desde = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private final LocalDateTime hasta = LocalDateTime.of(2030, 1, 2, 0, 0);
+
+    private Aeronave avioneta;
+    private Aeronave jet;
+    private Tripulante piloto1;
+    private Tripulante piloto2;
+    private Tripulante auxiliar;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        asignacionService = new AsignacionAutomaticaServiceImpl(
+                vueloRepository, aeronaveRepository, tripulanteRepository, vueloService,
+                new ReglasRotacion(30, "", 120, ""), registroRetenciones, transactionTemplate, pool);
+
+        avioneta = Aeronave.builder()
+                .id(1L)
+                .matricula("HK-1234")
+                .capacidadPasajeros(12)
+                .capacidadTripulacion(2)
+                .estado(EstadoAeronave.DISPONIBLE)
+                .build();
+
+        jet = Aeronave.builder()
+                .id(2L)
+                .matricula("HK-5678")
+                .capacidadPasajeros(50)
+                .capacidadTripulacion(4)
+                .estado(EstadoAeronave.DISPONIBLE)
+                .build();
+
+        piloto1 = Tripulante.builder()
+                .id(10L)
+                .numeroLicencia("PIL-001")
+                .estado(EstadoTripulante.DISPONIBLE)
+                .esPiloto(true)
+                .build();
+
+        piloto2 = Tripulante.builder()
+                .id(11L)
+                .numeroLicencia("PIL-002")
+                .estado(EstadoTripulante.DISPONIBLE)
+                .esPiloto(true)
+                .build();
+
+        auxiliar = Tripulante.builder()
+                .id(12L)
+                .numeroLicencia("AUX-001")
+                .estado(EstadoTripulante.DISPONIBLE)
+                .esPiloto(false)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private Vuelo vuelo(Long id, int pasajeros, int horaSalida, int horaLlegada) {
+        return Vuelo.builder()
+                .id(id)
+                .origen("Bogotá")
+                .destino("Medellín")
+                .numeroPasajeros(pasajeros)
+                .fechaSalidaProgramada(desde.plusHours(horaSalida))
+                .fechaLlegadaProgramada(desde.plusHours(horaLlegada))
+                .estado(EstadoVuelo.SOLICITADO)
+                .build();
+    }
+
+    private TramoVueloAeronave tramo(Long vueloId, Long aeronaveId, String origen, String destino,
+                                     LocalDateTime salida, LocalDateTime llegada) {
+        return new TramoVueloAeronave(vueloId, aeronaveId, null, origen, destino, salida, llegada);
+    }
+
+    private void prepararEscenario(List<Vuelo> pendientes, List<Aeronave> aeronaves, List<Tripulante> tripulantes,
+                                   List<TramoVueloAeronave> agendaAeronaves) {
+        when(vueloRepository.findPendientesDeAsignacion(anyList(), eq(desde), eq(hasta))).thenReturn(pendientes);
+        when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE)).thenReturn(aeronaves);
+        when(tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE)).thenReturn(tripulantes);
+        when(vueloRepository.findTramosAeronavesEnRango(any(), any(), anyList())).thenReturn(agendaAeronaves);
+        when(vueloRepository.findIntervalosTripulacionEnRango(any(), any(), anyList()))
+                .thenReturn(Collections.emptyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void ejecutarEnTransaccion() {
+        doAnswer(inv -> {
+            enTransaccion.set(true);
+            try {
+                inv.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            } finally {
+                enTransaccion.set(false);
+            }
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Nested
+    @DisplayName("Generar Propuesta Tests")
+    class GenerarPropuestaTests {
+
+        @Test
+        @DisplayName("Simulación propone asignaciones sin solapamientos y no modifica vuelos")
+        void generarPropuesta_Simulacion_ProponeSinSolapamientos() {
+            // Arrange
+            Vuelo manana = vuelo(100L, 8, 8, 10);
+            Vuelo solapado = vuelo(101L, 8, 9, 11);
+            Vuelo grande = vuelo(102L, 40, 12, 13);
+            prepararEscenario(List.of(manana, solapado, grande), List.of(avioneta, jet),
+                    List.of(piloto1, piloto2, auxiliar), Collections.emptyList());
+
+            // Act
+            PropuestaAsignacionDTO propuesta = asignacionService.generarPropuesta(desde, hasta, 2, true);
+
+            // Assert
+            assertTrue(propuesta.isSimulacion());
+            assertEquals(2, propuesta.getAsignaciones().size());
+
+            AsignacionPropuestaDTO primera = propuesta.getAsignaciones().get(0);
+            assertEquals(100L, primera.getVueloId());
+            assertEquals(1L, primera.getAeronaveId());
+            assertEquals(List.of(10L, 12L), primera.getTripulanteIds());
+
+            AsignacionPropuestaDTO segunda = propuesta.getAsignaciones().get(1);
+            assertEquals(102L, segunda.getVueloId());
+            assertEquals(2L, segunda.getAeronaveId());
+            assertEquals(List.of(10L, 12L), segunda.getTripulanteIds());
+
+            assertEquals(1, propuesta.getSinAsignar().size());
+            assertEquals(101L, propuesta.getSinAsignar().get(0).getVueloId());
+            assertTrue(propuesta.getSinAsignar().get(0).getMotivo().contains("Tripulación insuficiente"));
+
+            assertEquals(3, propuesta.getReporte().getVuelosEvaluados());
+            assertEquals(2, propuesta.getReporte().getParalelismo());
+            verifyNoInteractions(vueloService);
+        }
+
+        @Test
+        @DisplayName("Prefiere la aeronave con menor tiempo ocioso antes del vuelo")
+        void generarPropuesta_AeronaveConCompromisoPrevio_MinimizaTiempoOcioso() {
+            // Arrange
+            Vuelo pendiente = vuelo(100L, 8, 8, 10);
+            prepararEscenario(List.of(pendiente), List.of(avioneta, jet), List.of(piloto1),
+                    List.of(tramo(50L, 2L, "Medellín", "Bogotá", desde.plusHours(5), desde.plusHours(7))));
+
+            // Act
+            PropuestaAsignacionDTO propuesta = asignacionService.generarPropuesta(desde, hasta, 1, true);
+
+            // Assert
+            AsignacionPropuestaDTO asignacion = propuesta.getAsignaciones().get(0);
+            assertEquals(2L, asignacion.getAeronaveId());
+            assertEquals(60L, asignacion.getMinutosOciososAeronave());
+            assertEquals(60L, propuesta.getReporte().getMinutosOciososTotales());
+        }
+
+        @Test
+        @DisplayName("Descarta la aeronave que no completa rotación y reposicionamiento antes del vuelo")
+        void generarPropuesta_RotacionInsuficiente_DescartaAeronave() {
+            // Arrange: la avioneta llega a Cali a las 7:45 y necesita 30 min de rotación y 120 de traslado
+            Vuelo pendiente = vuelo(100L, 8, 8, 10);
+            prepararEscenario(List.of(pendiente), List.of(avioneta, jet), List.of(piloto1),
+                    List.of(tramo(50L, 1L, "Medellín", "Cali", desde.plusHours(5), desde.plusMinutes(465))));
+
+            // Act
+            PropuestaAsignacionDTO propuesta = asignacionService.generarPropuesta(desde, hasta, 1, true);
+
+            // Assert
+            assertEquals(2L, propuesta.getAsignaciones().get(0).getAeronaveId());
+        }
+
+        @Test
+        @DisplayName("Respeta la rotación entre vuelos de la misma propuesta")
+        void generarPropuesta_RotacionEntreVuelosPropuestos_NoEncadena() {
+            // Arrange: el segundo vuelo sale de Bogotá 15 min después de que el primero llega a Medellín
+            Vuelo primero = vuelo(100L, 8, 8, 10);
+            Vuelo segundo = Vuelo.builder()
+                    .id(101L).origen("Bogotá").destino("Medellín").numeroPasajeros(8)
+                    .fechaSalidaProgramada(desde.plusMinutes(615)).fechaLlegadaProgramada(desde.plusHours(12))
+                    .estado(EstadoVuelo.SOLICITADO)
+                    .build();
+            prepararEscenario(List.of(primero, segundo), List.of(avioneta), List.of(piloto1, piloto2),
+                    Collections.emptyList());
+
+            // Act
+            PropuestaAsignacionDTO propuesta = asignacionService.generarPropuesta(desde, hasta, 1, true);
+
+            // Assert
+            assertEquals(List.of(100L), propuesta.getAsignaciones().stream()
+                    .map(AsignacionPropuestaDTO::getVueloId).toList());
+            assertEquals(101L, propuesta.getSinAsignar().get(0).getVueloId());
+            assertTrue(propuesta.getSinAsignar().get(0).getMotivo().contains("aeronaves"));
+        }
+
+        @Test
+        @DisplayName("Excluye los recursos retenidos temporalmente para otro vuelo")
+        void generarPropuesta_RecursosRetenidos_NoLosPropone() {
+            // Arrange
+            Vuelo pendiente = vuelo(100L, 8, 8, 10);
+            prepararEscenario(List.of(pendiente), List.of(avioneta, jet), List.of(piloto1, piloto2),
+                    Collections.emptyList());
+            registroRetenciones.retener(999L, "Bogotá", "Cali", 1L, List.of(10L),
+                    desde.plusHours(9), desde.plusHours(11));
+
+            // Act
+            PropuestaAsignacionDTO propuesta = asignacionService.generarPropuesta(desde, hasta, 1, true);
+
+            // Assert
+            AsignacionPropuestaDTO asignacion = propuesta.getAsignaciones().get(0);
+            assertEquals(2L, asignacion.getAeronaveId());
+            assertEquals(List.of(11L), asignacion.getTripulanteIds());
+        }
+
+        @Test
+        @DisplayName("Excluye tripulantes con licencia vencida a la fecha del vuelo")
+        void generarPropuesta_LicenciaVencida_NoAsignaTripulante() {
+            // Arrange
+            piloto1.setFechaVencimientoLicencia(LocalDate.of(2029, 12, 31));
+            Vuelo pendiente = vuelo(100L, 8, 8, 10);
+            prepararEscenario(List.of(pendiente), List.of(avioneta), List.of(piloto1), Collections.emptyList());
+
+            // Act
+            PropuestaAsignacionDTO propuesta = asignacionService.generarPropuesta(desde, hasta, 1, true);
+
+            // Assert
+            assertTrue(propuesta.getAsignaciones().isEmpty());
+            assertTrue(propuesta.getSinAsignar().get(0).getMotivo().contains("pilotos"));
+        }
+
+        @Test
+        @DisplayName("Sin simulación aplica cada asignación y reporta las que fallan")
+        void generarPropuesta_SinSimulacion_AplicaYReportaFallos() {
+            // Arrange
+            Vuelo manana = vuelo(100L, 8, 8, 10);
+            Vuelo tarde = vuelo(101L, 8, 14, 16);
+            prepararEscenario(List.of(manana, tarde), List.of(avioneta), List.of(piloto1), Collections.emptyList());
+            ejecutarEnTransaccion();
+            when(vueloService.asignarTripulacion(eq(101L), any(AsignacionTripulacionDTO.class)))
+                    .thenThrow(new ConflictoDisponibilidadException("El tripulante PIL-001 tiene conflictos de horario"));
+
+            // Act
+            PropuestaAsignacionDTO propuesta = asignacionService.generarPropuesta(desde, hasta, 1, false);
+
+            // Assert
+            assertFalse(propuesta.isSimulacion());
+            assertTrue(propuesta.getAsignaciones().get(0).getAplicada());
+            assertFalse(propuesta.getAsignaciones().get(1).getAplicada());
+            assertTrue(propuesta.getAsignaciones().get(1).getMotivo().contains("conflictos de horario"));
+            assertEquals(1, propuesta.getReporte().getVuelosAsignados());
+            verify(vueloService, times(2)).asignarAeronave(anyLong(), any(AsignacionAeronaveDTO.class));
+            verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        }
+
+        @Test
+        @DisplayName("Aeronave y tripulación de un vuelo se aplican en la misma transacción")
+        void generarPropuesta_SinSimulacion_AplicaAeronaveYTripulacionJuntas() {
+            // Arrange
+            Vuelo pendiente = vuelo(100L, 8, 8, 10);
+            prepararEscenario(List.of(pendiente), List.of(avioneta), List.of(piloto1), Collections.emptyList());
+            ejecutarEnTransaccion();
+            List<Boolean> dentroDeTransaccion = new ArrayList<>();
+            when(vueloService.asignarAeronave(eq(100L), any(AsignacionAeronaveDTO.class))).thenAnswer(inv -> {
+                dentroDeTransaccion.add(enTransaccion.get());
+                return null;
+            });
+            when(vueloService.asignarTripulacion(eq(100L), any(AsignacionTripulacionDTO.class))).thenAnswer(inv -> {
+                dentroDeTransaccion.add(enTransaccion.get());
+                throw new ConflictoDisponibilidadException("El tripulante PIL-001 tiene conflictos de horario");
+            });
+
+            // Act
+            PropuestaAsignacionDTO propuesta = asignacionService.generarPropuesta(desde, hasta, 1, false);
+
+            // Assert: la excepción sale de la transacción, que revierte también la aeronave
+            assertEquals(List.of(true, true), dentroDeTransaccion);
+            verify(transactionTemplate).executeWithoutResult(any());
+            assertFalse(propuesta.getAsignaciones().get(0).getAplicada());
+            assertEquals(0, propuesta.getReporte().getVuelosAsignados());
+        }
+
+        @Test
+        @DisplayName("Rango inválido lanza excepción")
+        void generarPropuesta_RangoInvalido_LanzaExcepcion() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> asignacionService.generarPropuesta(hasta, desde, null, true));
+            verifyNoInteractions(vueloRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Aceptar Propuesta Tests")
+    class AceptarPropuestaTests {
+
+        @Test
+        @DisplayName("Aplica en bloque y separa las asignaciones rechazadas")
+        void aceptarPropuesta_ConFallo_SeparaRechazadas() {
+            // Arrange
+            AsignacionPropuestaDTO valida = AsignacionPropuestaDTO.builder()
+                    .vueloId(100L).aeronaveId(1L).tripulanteIds(List.of(10L)).build();
+            AsignacionPropuestaDTO conflicto = AsignacionPropuestaDTO.builder()
+                    .vueloId(101L).aeronaveId(1L).build();
+            ejecutarEnTransaccion();
+            when(vueloService.asignarAeronave(eq(101L), any(AsignacionAeronaveDTO.class)))
+                    .thenThrow(new ConflictoDisponibilidadException("La aeronave tiene conflictos de horario"));
+
+            // Act
+            PropuestaAsignacionDTO resultado = asignacionService.aceptarPropuesta(
+                    AceptarPropuestaDTO.builder().asignaciones(List.of(valida, conflicto)).build());
+
+            // Assert
+            assertEquals(List.of(valida), resultado.getAsignaciones());
+            assertEquals(List.of(conflicto), resultado.getSinAsignar());
+            verify(vueloService).asignarTripulacion(eq(100L), any(AsignacionTripulacionDTO.class));
+            verify(vueloService, never()).asignarTripulacion(eq(101L), any());
+        }
+    }
+}
@@ -124,62 +124,45 @@ class RegistroAuditoriaServiceTest {
         @Test
         @DisplayName("Obtener eventos por usuario")
         void obtenerAuditoriaPorUsuario_UsuarioExiste_RetornaEventos() {
-            List<RegistroAuditoria> eventos = List.of(registroAuditoria);
-            List<RegistroAuditoriaDTO> eventosDTO = List.of(registroAuditoriaDTO);
-
-            when(registroAuditoriaRepository.findByUsuarioId(1L)).thenReturn(eventos);
-            when(registroAuditoriaMapper.toDTOList(eventos)).thenReturn(eventosDTO);
+            when(registroAuditoriaRepository.findComoDTOByUsuarioId(1L)).thenReturn(List.of(registroAuditoriaDTO));
 
             List<RegistroAuditoriaDTO> resultado = registroAuditoriaService.obtenerAuditoriaPorUsuario(1L);
 
             assertNotNull(resultado);
             assertEquals(1, resultado.size());
-            verify(registroAuditoriaRepository).findByUsuarioId(1L);
+            verify(registroAuditoriaRepository).findComoDTOByUsuarioId(1L);
+            verifyNoInteractions(registroAuditoriaMapper);
         }
 
         @Test
         @DisplayName("Obtener intentos de acceso denegados")
         void obtenerIntentosAccesoDenegados_ConEventosFallidos_RetornaEventosFallidos() {
-            RegistroAuditoria registroFallido = RegistroAuditoria.builder()
-                    .id(2L)
-                    .tipoEvento(TipoEventoAuditoria.CREDENCIALES_INVALIDAS)
-                    .resultado(false)
-                    .build();
-
             RegistroAuditoriaDTO registroFallidoDTO = RegistroAuditoriaDTO.builder()
                     .id(2L)
                     .tipoEvento(TipoEventoAuditoria.CREDENCIALES_INVALIDAS)
                     .resultado(false)
                     .build();
 
-            List<RegistroAuditoria> eventos = List.of(registroFallido);
-            List<RegistroAuditoriaDTO> eventosDTO = List.of(registroFallidoDTO);
-
-            when(registroAuditoriaRepository.findByResultadoFalse()).thenReturn(eventos);
-            when(registroAuditoriaMapper.toDTOList(eventos)).thenReturn(eventosDTO);
+            when(registroAuditoriaRepository.findComoDTOByResultadoFalse()).thenReturn(List.of(registroFallidoDTO));
 
             List<RegistroAuditoriaDTO> resultado = registroAuditoriaService.obtenerIntentosAccesoDenegados();
 
             assertNotNull(resultado);
             assertEquals(1, resultado.size());
             assertFalse(resultado.get(0).getResultado());
-            verify(registroAuditoriaRepository).findByResultadoFalse();
+            verify(registroAuditoriaRepository).findComoDTOByResultadoFalse();
         }
 
         @Test
         @DisplayName("Obtener todos los eventos")
         void obtenerTodosLosEventos_RetornaTodosLosEventos() {
-            List<RegistroAuditoria> eventos = List.of(registroAuditoria);
-            List<RegistroAuditoriaDTO> eventosDTO = List.of(registroAuditoriaDTO);
-
-            when(registroAuditoriaRepository.findAll()).thenReturn(eventos);
-            when(registroAuditoriaMapper.toDTOList(eventos)).thenReturn(eventosDTO);
+            when(registroAuditoriaRepository.findAllComoDTO()).thenReturn(List.of(registroAuditoriaDTO));
 
             List<RegistroAuditoriaDTO> resultado = registroAuditoriaService.obtenerTodosLosEventos();
 
             assertNotNull(resultado);
             assertEquals(1, resultado.size());
-            verify(registroAuditoriaRepository).findAll();
+            verify(registroAuditoriaRepository).findAllComoDTO();
         }
     }
 }
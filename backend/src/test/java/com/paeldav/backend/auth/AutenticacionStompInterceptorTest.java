@@ -0,0 +1,169 @@
+package com.paeldav.backend.auth;
+
+import com.paeldav.backend.application.service.base.SesionService;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.security.AutenticacionStompInterceptor;
+import com.paeldav.backend.infraestructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AutenticacionStompInterceptor Tests")
+class AutenticacionStompInterceptorTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private SesionService sesionService;
+
+    @Mock
+    private VueloRepository vueloRepository;
+
+    @Mock
+    private MessageChannel canal;
+
+    @InjectMocks
+    private AutenticacionStompInterceptor interceptor;
+
+    @Nested
+    @DisplayName("Conexión Tests")
+    class ConexionTests {
+
+        @Test
+        @DisplayName("CONNECT con token válido asocia el usuario a la sesión")
+        void connect_TokenValido_AsociaUsuario() {
+            // Arrange
+            UserDetails usuario = usuario("ana@paeldav.com", "USUARIO");
+            when(jwtService.extractUsername("token")).thenReturn("ana@paeldav.com");
+            when(sesionService.validarSesion("token")).thenReturn(true);
+            when(userDetailsService.loadUserByUsername("ana@paeldav.com")).thenReturn(usuario);
+            when(jwtService.isTokenValid("token", usuario)).thenReturn(true);
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+            accessor.addNativeHeader("Authorization", "Bearer token");
+
+            // Act
+            Message<?> resultado = interceptor.preSend(mensaje(accessor), canal);
+
+            // Assert
+            Principal principal = StompHeaderAccessor.wrap(resultado).getUser();
+            assertNotNull(principal);
+            assertEquals("ana@paeldav.com", principal.getName());
+        }
+
+        @Test
+        @DisplayName("CONNECT sin token se rechaza")
+        void connect_SinToken_Rechaza() {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+
+            assertThrows(BadCredentialsException.class, () -> interceptor.preSend(mensaje(accessor), canal));
+        }
+    }
+
+    @Nested
+    @DisplayName("Suscripción Tests")
+    class SuscripcionTests {
+
+        @Test
+        @DisplayName("El tablero solo admite administradores y operadores de logística")
+        void subscribe_Tablero_SoloOperacion() {
+            assertDoesNotThrow(() -> interceptor.preSend(suscripcion("/topic/tablero", "OPERADOR_LOGISTICA"), canal));
+            assertThrows(AccessDeniedException.class,
+                    () -> interceptor.preSend(suscripcion("/topic/tablero", "USUARIO"), canal));
+            assertThrows(AccessDeniedException.class,
+                    () -> interceptor.preSend(suscripcion("/topic/tablero", "TRIPULACION"), canal));
+        }
+
+        @Test
+        @DisplayName("Un usuario solo puede seguir los vuelos que solicitó")
+        void subscribe_VueloAjeno_Rechaza() {
+            // Arrange
+            when(vueloRepository.existsByIdAndUsuarioEmail(10L, "ana@paeldav.com")).thenReturn(true);
+            when(vueloRepository.existsByIdAndUsuarioEmail(11L, "ana@paeldav.com")).thenReturn(false);
+
+            // Act & Assert
+            assertDoesNotThrow(() -> interceptor.preSend(suscripcion("/topic/vuelos/10", "USUARIO"), canal));
+            assertThrows(AccessDeniedException.class,
+                    () -> interceptor.preSend(suscripcion("/topic/vuelos/11", "USUARIO"), canal));
+        }
+
+        @Test
+        @DisplayName("El personal de operación sigue cualquier vuelo sin consultar el propietario")
+        void subscribe_VueloComoAdministrador_Permite() {
+            assertDoesNotThrow(() -> interceptor.preSend(suscripcion("/topic/vuelos/11", "ADMINISTRADOR"), canal));
+            verify(vueloRepository, never()).existsByIdAndUsuarioEmail(anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("Destinos desconocidos, mal formados o sin autenticar se rechazan")
+        void subscribe_DestinoInvalido_Rechaza() {
+            assertThrows(AccessDeniedException.class,
+                    () -> interceptor.preSend(suscripcion("/topic/pagos", "ADMINISTRADOR"), canal));
+            assertThrows(AccessDeniedException.class,
+                    () -> interceptor.preSend(suscripcion("/topic/vuelos/abc", "ADMINISTRADOR"), canal));
+
+            StompHeaderAccessor sinUsuario = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            sinUsuario.setDestination("/topic/vuelos/10");
+            assertThrows(AccessDeniedException.class, () -> interceptor.preSend(mensaje(sinUsuario), canal));
+        }
+
+        @Test
+        @DisplayName("Los clientes no pueden publicar mensajes")
+        void send_Cualquiera_Rechaza() {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+            accessor.setDestination("/topic/tablero");
+            accessor.setUser(autenticacion("ADMINISTRADOR"));
+
+            assertThrows(AccessDeniedException.class, () -> interceptor.preSend(mensaje(accessor), canal));
+        }
+    }
+
+    private static Message<byte[]> suscripcion(String destino, String rol) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destino);
+        accessor.setUser(autenticacion(rol));
+        return mensaje(accessor);
+    }
+
+    private static Message<byte[]> mensaje(StompHeaderAccessor accessor) {
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static UsernamePasswordAuthenticationToken autenticacion(String rol) {
+        UserDetails usuario = usuario("ana@paeldav.com", rol);
+        return new UsernamePasswordAuthenticationToken(usuario, null, usuario.getAuthorities());
+    }
+
+    private static UserDetails usuario(String email, String rol) {
+        return new User(email, "secreto", List.of(new SimpleGrantedAuthority("ROLE_" + rol)));
+    }
+}
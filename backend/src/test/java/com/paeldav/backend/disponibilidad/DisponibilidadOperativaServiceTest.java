@@ -3,11 +3,16 @@ package com.paeldav.backend.disponibilidad;
 import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.DisponibilidadAeronaveDTO;
 import com.paeldav.backend.application.dto.disponibilidad.DisponibilidadTripulanteDTO;
+import com.paeldav.backend.application.dto.disponibilidad.MatrizOcupacionDTO;
+import com.paeldav.backend.application.dto.disponibilidad.OcupacionRecursoDTO;
 import com.paeldav.backend.application.dto.disponibilidad.ResultadoValidacionDTO;
+import com.paeldav.backend.application.dto.disponibilidad.VentanaDisponibleDTO;
 import com.paeldav.backend.application.dto.tripulante.TripulanteDTO;
-import com.paeldav.backend.application.mapper.AeronaveMapper;
-import com.paeldav.backend.application.mapper.TripulanteMapper;
+import com.paeldav.backend.application.service.agenda.IndiceAgendaAeronaves;
+import com.paeldav.backend.application.service.agenda.ReglasRotacion;
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
 import com.paeldav.backend.application.service.impl.DisponibilidadOperativaServiceImpl;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
 import com.paeldav.backend.domain.entity.Aeronave;
 import com.paeldav.backend.domain.entity.Tripulante;
 import com.paeldav.backend.domain.entity.Usuario;
@@ -19,6 +24,9 @@ import com.paeldav.backend.exception.ConflictoDisponibilidadException;
 import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
 import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
 import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import com.paeldav.backend.infraestructure.repository.projection.ConflictoTripulanteVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.IntervaloVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,10 +34,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -52,10 +64,17 @@ class DisponibilidadOperativaServiceTest {
     private TripulanteRepository tripulanteRepository;
 
     @Mock
-    private AeronaveMapper aeronaveMapper;
+    private IndiceAgendaAeronaves indiceAgenda;
 
     @Mock
-    private TripulanteMapper tripulanteMapper;
+    private RegistroRetenciones registroRetenciones;
+
+    @Mock
+    private CacheAeronaves cacheAeronaves;
+
+    // Sin rotación en tierra: los rangos consultados coinciden con los solicitados
+    @Spy
+    private ReglasRotacion reglasRotacion = new ReglasRotacion(0, "", 0, "");
 
     @InjectMocks
     private DisponibilidadOperativaServiceImpl disponibilidadService;
@@ -118,7 +137,7 @@ class DisponibilidadOperativaServiceTest {
             // Arrange
             when(vueloRepository.findVuelosEnRangoPorAeronave(anyLong(), any(), any(), anyList()))
                     .thenReturn(Collections.emptyList());
-            when(vueloRepository.findVuelosEnRangoPorTripulante(anyLong(), any(), any(), anyList()))
+            when(vueloRepository.findConflictosTripulantesEnRango(anyCollection(), any(), any(), anyList()))
                     .thenReturn(Collections.emptyList());
 
             // Act
@@ -178,7 +197,7 @@ class DisponibilidadOperativaServiceTest {
         @DisplayName("Detecta doble asignación de aeronave")
         void consultarDisponibilidad_AeronaveConVueloAsignado_DetectaConflicto() {
             // Arrange
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(comoDTO(aeronaveTest)));
             when(vueloRepository.findVuelosEnRangoPorAeronave(eq(1L), any(), any(), anyList()))
                     .thenReturn(List.of(vueloExistente));
 
@@ -197,7 +216,7 @@ class DisponibilidadOperativaServiceTest {
         @DisplayName("Aeronave sin vuelos asignados está disponible")
         void consultarDisponibilidad_AeronaveSinVuelos_Disponible() {
             // Arrange
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(comoDTO(aeronaveTest)));
             when(vueloRepository.findVuelosEnRangoPorAeronave(eq(1L), any(), any(), anyList()))
                     .thenReturn(Collections.emptyList());
 
@@ -216,7 +235,7 @@ class DisponibilidadOperativaServiceTest {
         void consultarDisponibilidad_AeronaveEnMantenimiento_NoDisponible() {
             // Arrange
             aeronaveTest.setEstado(EstadoAeronave.EN_MANTENIMIENTO);
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(comoDTO(aeronaveTest)));
             when(vueloRepository.findVuelosEnRangoPorAeronave(eq(1L), any(), any(), anyList()))
                     .thenReturn(Collections.emptyList());
 
@@ -242,7 +261,7 @@ class DisponibilidadOperativaServiceTest {
                     .estado(EstadoVuelo.SOLICITADO)
                     .build();
 
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(comoDTO(aeronaveTest)));
             when(vueloRepository.findVuelosEnRangoPorAeronave(eq(1L), any(), any(), anyList()))
                     .thenReturn(List.of(vueloExistente, vuelo2));
 
@@ -255,6 +274,42 @@ class DisponibilidadOperativaServiceTest {
             assertEquals(2, resultado.getConflictos().size());
             assertTrue(resultado.getMotivoNoDisponible().contains("2 vuelo(s)"));
         }
+
+        @Test
+        @DisplayName("Índice de agenda sin solapamiento evita consultar la base de datos")
+        void consultarDisponibilidad_IndiceSinSolapamiento_NoConsultaBaseDatos() {
+            // Arrange
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(comoDTO(aeronaveTest)));
+            when(indiceAgenda.estaCargado()).thenReturn(true);
+            when(indiceAgenda.haySolapamiento(1L, fechaInicio, fechaFin, null)).thenReturn(false);
+
+            // Act
+            DisponibilidadAeronaveDTO resultado = disponibilidadService.consultarDisponibilidadAeronave(
+                    1L, fechaInicio, fechaFin);
+
+            // Assert
+            assertTrue(resultado.isDisponible());
+            verify(vueloRepository, never()).findVuelosEnRangoPorAeronave(anyLong(), any(), any(), anyList());
+        }
+
+        @Test
+        @DisplayName("Índice de agenda con solapamiento confirma contra la base de datos")
+        void consultarDisponibilidad_IndiceConSolapamiento_ConfirmaEnBaseDatos() {
+            // Arrange
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(comoDTO(aeronaveTest)));
+            when(indiceAgenda.estaCargado()).thenReturn(true);
+            when(indiceAgenda.haySolapamiento(1L, fechaInicio, fechaFin, null)).thenReturn(true);
+            when(vueloRepository.findVuelosEnRangoPorAeronave(eq(1L), any(), any(), anyList()))
+                    .thenReturn(List.of(vueloExistente));
+
+            // Act
+            DisponibilidadAeronaveDTO resultado = disponibilidadService.consultarDisponibilidadAeronave(
+                    1L, fechaInicio, fechaFin);
+
+            // Assert
+            assertFalse(resultado.isDisponible());
+            assertEquals(1, resultado.getConflictos().size());
+        }
     }
 
     @Nested
@@ -331,12 +386,12 @@ class DisponibilidadOperativaServiceTest {
 
             when(vueloRepository.findVuelosEnRangoPorAeronave(anyLong(), any(), any(), anyList()))
                     .thenReturn(Collections.emptyList());
-            when(vueloRepository.findVuelosEnRangoPorTripulante(eq(1L), any(), any(), anyList()))
-                    .thenReturn(List.of(vueloExistente));
-            when(vueloRepository.findVuelosEnRangoPorTripulante(eq(2L), any(), any(), anyList()))
-                    .thenReturn(List.of(vueloExistente));
-            when(tripulanteRepository.findById(1L)).thenReturn(Optional.of(tripulanteTest));
-            when(tripulanteRepository.findById(2L)).thenReturn(Optional.of(copiloto));
+            when(vueloRepository.findConflictosTripulantesEnRango(anyCollection(), any(), any(), anyList()))
+                    .thenReturn(List.of(
+                            conflictoDe(1L, vueloExistente),
+                            conflictoDe(2L, vueloExistente)));
+            when(tripulanteRepository.findAllConUsuarioByIdIn(List.of(1L, 2L)))
+                    .thenReturn(List.of(tripulanteTest, copiloto));
 
             // Act
             ResultadoValidacionDTO resultado = disponibilidadService.validarConflictosAgenda(
@@ -345,6 +400,13 @@ class DisponibilidadOperativaServiceTest {
             // Assert
             assertFalse(resultado.isDisponible());
             assertEquals(2, resultado.getConflictosTripulacion().size());
+            assertTrue(resultado.getConflictosTripulacion().get(1).getDescripcion().contains("María García"));
+            verify(tripulanteRepository, never()).findById(anyLong());
+        }
+
+        private ConflictoTripulanteVuelo conflictoDe(Long tripulanteId, Vuelo vuelo) {
+            return new ConflictoTripulanteVuelo(tripulanteId, vuelo.getId(), vuelo.getOrigen(), vuelo.getDestino(),
+                    vuelo.getFechaSalidaProgramada(), vuelo.getFechaLlegadaProgramada(), vuelo.getEstado());
         }
     }
 
@@ -356,25 +418,16 @@ class DisponibilidadOperativaServiceTest {
         @DisplayName("Consultar aeronaves disponibles filtra las ocupadas")
         void consultarAeronavesDisponibles_FiltraOcupadas() {
             // Arrange
-            Aeronave aeronave2 = Aeronave.builder()
-                    .id(2L)
-                    .matricula("HK-5678")
-                    .modelo("King Air 350")
-                    .capacidadPasajeros(9)
-                    .estado(EstadoAeronave.DISPONIBLE)
-                    .build();
-
             AeronaveDTO aeronaveDTO = AeronaveDTO.builder()
                     .id(2L)
                     .matricula("HK-5678")
                     .modelo("King Air 350")
                     .build();
 
-            when(vueloRepository.findAeronaveIdsConVuelosEnRango(any(), any(), anyList()))
-                    .thenReturn(List.of(1L)); // aeronaveTest está ocupada
-            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE))
-                    .thenReturn(List.of(aeronaveTest, aeronave2));
-            when(aeronaveMapper.toDTO(aeronave2)).thenReturn(aeronaveDTO);
+            // aeronaveTest está ocupada: la consulta anti-join solo retorna HK-5678
+            when(aeronaveRepository.findDisponiblesSinVuelosEnRango(
+                    eq(EstadoAeronave.DISPONIBLE), eq(0), eq(fechaInicio), eq(fechaFin), anyList()))
+                    .thenReturn(List.of(aeronaveDTO));
 
             // Act
             List<AeronaveDTO> disponibles = disponibilidadService.consultarAeronavesDisponibles(
@@ -383,31 +436,22 @@ class DisponibilidadOperativaServiceTest {
             // Assert
             assertEquals(1, disponibles.size());
             assertEquals("HK-5678", disponibles.get(0).getMatricula());
+            verify(aeronaveRepository, never()).findByEstado(any());
         }
 
         @Test
         @DisplayName("Consultar aeronaves disponibles filtra por capacidad mínima")
         void consultarAeronavesDisponibles_FiltraPorCapacidad() {
             // Arrange
-            Aeronave aeronave2 = Aeronave.builder()
-                    .id(2L)
-                    .matricula("HK-5678")
-                    .modelo("King Air 350")
-                    .capacidadPasajeros(9)
-                    .estado(EstadoAeronave.DISPONIBLE)
-                    .build();
-
             AeronaveDTO aeronaveDTO = AeronaveDTO.builder()
                     .id(1L)
                     .matricula("HK-1234")
                     .capacidadPasajeros(12)
                     .build();
 
-            when(vueloRepository.findAeronaveIdsConVuelosEnRango(any(), any(), anyList()))
-                    .thenReturn(Collections.emptyList());
-            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE))
-                    .thenReturn(List.of(aeronaveTest, aeronave2));
-            when(aeronaveMapper.toDTO(aeronaveTest)).thenReturn(aeronaveDTO);
+            when(aeronaveRepository.findDisponiblesSinVuelosEnRango(
+                    eq(EstadoAeronave.DISPONIBLE), eq(10), any(), any(), anyList()))
+                    .thenReturn(List.of(aeronaveDTO));
 
             // Act - Buscar aeronaves con capacidad mínima de 10
             List<AeronaveDTO> disponibles = disponibilidadService.consultarAeronavesDisponibles(
@@ -418,29 +462,41 @@ class DisponibilidadOperativaServiceTest {
             assertEquals("HK-1234", disponibles.get(0).getMatricula());
         }
 
+        @Test
+        @DisplayName("Consultar aeronaves disponibles excluye las retenidas pendientes de pago")
+        void consultarAeronavesDisponibles_ExcluyeRetenidas() {
+            // Arrange
+            AeronaveDTO libre = AeronaveDTO.builder().id(1L).matricula("HK-1234").build();
+            AeronaveDTO retenida = AeronaveDTO.builder().id(2L).matricula("HK-5678").build();
+
+            when(aeronaveRepository.findDisponiblesSinVuelosEnRango(
+                    eq(EstadoAeronave.DISPONIBLE), eq(0), eq(fechaInicio), eq(fechaFin), anyList()))
+                    .thenReturn(List.of(libre, retenida));
+            when(registroRetenciones.intervalosAeronaves(fechaInicio, fechaFin))
+                    .thenReturn(List.of(new IntervaloVuelo(9L, 2L, fechaInicio, fechaFin)));
+
+            // Act
+            List<AeronaveDTO> disponibles = disponibilidadService.consultarAeronavesDisponibles(
+                    fechaInicio, fechaFin, null);
+
+            // Assert
+            assertEquals(1, disponibles.size());
+            assertEquals("HK-1234", disponibles.get(0).getMatricula());
+        }
+
         @Test
         @DisplayName("Consultar tripulantes disponibles filtra solo pilotos")
         void consultarTripulantesDisponibles_FiltraSoloPilotos() {
             // Arrange
-            Tripulante auxiliar = Tripulante.builder()
-                    .id(2L)
-                    .usuario(Usuario.builder().nombre("Ana").apellido("López").build())
-                    .numeroLicencia("AUX-001")
-                    .estado(EstadoTripulante.DISPONIBLE)
-                    .esPiloto(false)
-                    .build();
-
             TripulanteDTO tripulanteDTO = TripulanteDTO.builder()
                     .id(1L)
                     .numeroLicencia("PIL-001")
                     .esPiloto(true)
                     .build();
 
-            when(vueloRepository.findTripulanteIdsConVuelosEnRango(any(), any(), anyList()))
-                    .thenReturn(Collections.emptyList());
-            when(tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE))
-                    .thenReturn(List.of(tripulanteTest, auxiliar));
-            when(tripulanteMapper.toDTO(tripulanteTest)).thenReturn(tripulanteDTO);
+            when(tripulanteRepository.findDisponiblesSinVuelosEnRango(
+                    eq(EstadoTripulante.DISPONIBLE), eq(true), any(), any(), anyList()))
+                    .thenReturn(List.of(tripulanteDTO));
 
             // Act
             List<TripulanteDTO> disponibles = disponibilidadService.consultarTripulantesDisponibles(
@@ -481,7 +537,7 @@ class DisponibilidadOperativaServiceTest {
             // Arrange
             when(vueloRepository.findVuelosEnRangoPorAeronave(anyLong(), any(), any(), anyList()))
                     .thenReturn(Collections.emptyList());
-            when(vueloRepository.findVuelosEnRangoPorTripulante(anyLong(), any(), any(), anyList()))
+            when(vueloRepository.findConflictosTripulantesEnRango(anyCollection(), any(), any(), anyList()))
                     .thenReturn(Collections.emptyList());
 
             // Act & Assert - No debe lanzar excepción
@@ -501,7 +557,7 @@ class DisponibilidadOperativaServiceTest {
             LocalDateTime nuevoInicio = fechaFin; // 14:00
             LocalDateTime nuevoFin = fechaFin.plusHours(2); // 16:00
 
-            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(comoDTO(aeronaveTest)));
             when(vueloRepository.findVuelosEnRangoPorAeronave(eq(1L), eq(nuevoInicio), eq(nuevoFin), anyList()))
                     .thenReturn(Collections.emptyList());
 
@@ -517,7 +573,7 @@ class DisponibilidadOperativaServiceTest {
         @DisplayName("Aeronave no encontrada lanza excepción")
         void consultarDisponibilidad_AeronaveNoExiste_LanzaExcepcion() {
             // Arrange
-            when(aeronaveRepository.findById(999L)).thenReturn(Optional.empty());
+            when(cacheAeronaves.buscarPorId(999L)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThrows(IllegalArgumentException.class,
@@ -546,4 +602,367 @@ class DisponibilidadOperativaServiceTest {
             assertTrue(resultado.isDisponible());
         }
     }
+
+    @Nested
+    @DisplayName("Matriz de Ocupación Tests")
+    class MatrizOcupacionTests {
+
+        private final LocalDateTime inicioMatriz = LocalDateTime.of(2030, 1, 1, 8, 0);
+        private final LocalDateTime finMatriz = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+        @Test
+        @DisplayName("Marca las franjas cubiertas parcial o totalmente por un vuelo")
+        void consultarMatriz_VueloParcial_MarcaFranjasCubiertas() {
+            // Arrange
+            when(vueloRepository.findTramosAeronavesEnRango(eq(inicioMatriz), eq(finMatriz), anyList()))
+                    .thenReturn(List.of(tramo(100L, 1L, "Cessna 208",
+                            LocalDateTime.of(2030, 1, 1, 9, 10), LocalDateTime.of(2030, 1, 1, 10, 0))));
+            when(aeronaveRepository.findAll(any(Sort.class))).thenReturn(List.of(aeronaveTest));
+
+            // Act
+            MatrizOcupacionDTO matriz = disponibilidadService.consultarMatrizOcupacion(
+                    inicioMatriz, finMatriz, 30, false);
+
+            // Assert
+            assertEquals(8, matriz.getTotalFranjas());
+            assertNull(matriz.getTripulantes());
+            OcupacionRecursoDTO ocupacion = matriz.getAeronaves().get(0);
+            assertEquals("HK-1234", ocupacion.getEtiqueta());
+            assertEquals(2, ocupacion.getFranjasOcupadas());
+
+            BitSet franjas = BitSet.valueOf(Base64.getDecoder().decode(ocupacion.getOcupacion()));
+            assertEquals(2, franjas.nextSetBit(0));
+            assertEquals(4, franjas.nextClearBit(2));
+        }
+
+        @Test
+        @DisplayName("Recorta vuelos que exceden el rango y deja vacías las aeronaves sin vuelos")
+        void consultarMatriz_VueloFueraDeRango_RecortaYDejaVacias() {
+            // Arrange
+            Aeronave aeronaveLibre = Aeronave.builder()
+                    .id(2L)
+                    .matricula("HK-5678")
+                    .estado(EstadoAeronave.DISPONIBLE)
+                    .build();
+            when(vueloRepository.findTramosAeronavesEnRango(any(), any(), anyList()))
+                    .thenReturn(List.of(tramo(100L, 1L, "Cessna 208",
+                            LocalDateTime.of(2030, 1, 1, 6, 0), LocalDateTime.of(2030, 1, 1, 20, 0))));
+            when(aeronaveRepository.findAll(any(Sort.class))).thenReturn(List.of(aeronaveTest, aeronaveLibre));
+
+            // Act
+            MatrizOcupacionDTO matriz = disponibilidadService.consultarMatrizOcupacion(
+                    inicioMatriz, finMatriz, 60, false);
+
+            // Assert
+            assertEquals(4, matriz.getAeronaves().get(0).getFranjasOcupadas());
+            assertEquals(0, matriz.getAeronaves().get(1).getFranjasOcupadas());
+            assertEquals("", matriz.getAeronaves().get(1).getOcupacion());
+        }
+
+        @Test
+        @DisplayName("Incluye la ocupación de la tripulación cuando se solicita")
+        void consultarMatriz_ConTripulacion_IncluyeTripulantes() {
+            // Arrange
+            when(vueloRepository.findTramosAeronavesEnRango(any(), any(), anyList()))
+                    .thenReturn(Collections.emptyList());
+            when(vueloRepository.findIntervalosTripulacionEnRango(any(), any(), anyList()))
+                    .thenReturn(List.of(new IntervaloVuelo(100L, 1L, inicioMatriz, inicioMatriz.plusMinutes(15))));
+            when(aeronaveRepository.findAll(any(Sort.class))).thenReturn(List.of(aeronaveTest));
+            when(tripulanteRepository.findAllConUsuario()).thenReturn(List.of(tripulanteTest));
+
+            // Act
+            MatrizOcupacionDTO matriz = disponibilidadService.consultarMatrizOcupacion(
+                    inicioMatriz, finMatriz, 15, true);
+
+            // Assert
+            assertEquals(16, matriz.getTotalFranjas());
+            OcupacionRecursoDTO ocupacion = matriz.getTripulantes().get(0);
+            assertEquals("Juan Pérez", ocupacion.getEtiqueta());
+            assertEquals(1, ocupacion.getFranjasOcupadas());
+            assertEquals("AQ==", ocupacion.getOcupacion());
+        }
+
+        @Test
+        @DisplayName("Tamaño de franja no admitido lanza excepción")
+        void consultarMatriz_FranjaInvalida_LanzaExcepcion() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> disponibilidadService.consultarMatrizOcupacion(inicioMatriz, finMatriz, 20, false));
+            verifyNoInteractions(vueloRepository);
+        }
+
+        @Test
+        @DisplayName("Rango superior a 31 días lanza excepción")
+        void consultarMatriz_RangoExcesivo_LanzaExcepcion() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> disponibilidadService.consultarMatrizOcupacion(
+                            inicioMatriz, inicioMatriz.plusDays(32), 60, false));
+            verifyNoInteractions(vueloRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Búsqueda de Ventanas Disponibles Tests")
+    class VentanasDisponiblesTests {
+
+        private final LocalDateTime desde = LocalDateTime.of(2030, 1, 1, 8, 0);
+        private final LocalDateTime hasta = LocalDateTime.of(2030, 1, 1, 18, 0);
+
+        private Tripulante auxiliar;
+
+        @BeforeEach
+        void setUpVentanas() {
+            auxiliar = Tripulante.builder()
+                    .id(2L)
+                    .numeroLicencia("AUX-001")
+                    .estado(EstadoTripulante.DISPONIBLE)
+                    .esPiloto(false)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Retorna la primera ventana en que aeronave y tripulación quedan libres")
+        void buscarVentanas_RecursosOcupados_RetornaPrimeraVentanaLibre() {
+            // Arrange
+            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE)).thenReturn(List.of(aeronaveTest));
+            when(tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE))
+                    .thenReturn(List.of(tripulanteTest, auxiliar));
+            when(vueloRepository.findTramosAeronavesEnRango(desde, hasta, List.of(
+                    EstadoVuelo.SOLICITADO, EstadoVuelo.CONFIRMADO, EstadoVuelo.EN_CURSO)))
+                    .thenReturn(List.of(tramo(100L, 1L, "Cessna 208", desde, desde.plusHours(3))));
+            when(vueloRepository.findIntervalosTripulacionEnRango(any(), any(), anyList()))
+                    .thenReturn(List.of(new IntervaloVuelo(101L, 1L, desde.plusHours(2), desde.plusHours(5))));
+
+            // Act
+            List<VentanaDisponibleDTO> ventanas = disponibilidadService.buscarVentanasDisponibles(
+                    desde, hasta, 120, 10, 2, 5);
+
+            // Assert
+            assertEquals(1, ventanas.size());
+            VentanaDisponibleDTO ventana = ventanas.get(0);
+            assertEquals(desde.plusHours(5), ventana.getInicio());
+            assertEquals(desde.plusHours(7), ventana.getFin());
+            assertEquals(List.of(1L), ventana.getAeronaveIds());
+            assertEquals(List.of(1L, 2L), ventana.getTripulanteIdsPropuestos());
+        }
+
+        @Test
+        @DisplayName("Las ventanas retornadas no se solapan y respetan el máximo solicitado")
+        void buscarVentanas_RecursosLibres_RetornaVentanasSinSolapamiento() {
+            // Arrange
+            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE)).thenReturn(List.of(aeronaveTest));
+            when(tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE)).thenReturn(List.of(tripulanteTest));
+            when(vueloRepository.findTramosAeronavesEnRango(any(), any(), anyList()))
+                    .thenReturn(List.of(tramo(100L, 1L, "Cessna 208", desde.plusHours(1), desde.plusHours(2))));
+            when(vueloRepository.findIntervalosTripulacionEnRango(any(), any(), anyList()))
+                    .thenReturn(Collections.emptyList());
+
+            // Act
+            List<VentanaDisponibleDTO> ventanas = disponibilidadService.buscarVentanasDisponibles(
+                    desde, hasta, 60, null, null, 2);
+
+            // Assert
+            assertEquals(2, ventanas.size());
+            assertEquals(desde, ventanas.get(0).getInicio());
+            assertEquals(desde.plusHours(2), ventanas.get(1).getInicio());
+        }
+
+        @Test
+        @DisplayName("Con la agenda vacía retorna ventanas consecutivas hasta el máximo solicitado")
+        void buscarVentanas_AgendaVacia_RetornaMaximoSolicitado() {
+            // Arrange
+            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE)).thenReturn(List.of(aeronaveTest));
+            when(tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE)).thenReturn(List.of(tripulanteTest));
+            when(vueloRepository.findTramosAeronavesEnRango(any(), any(), anyList()))
+                    .thenReturn(Collections.emptyList());
+            when(vueloRepository.findIntervalosTripulacionEnRango(any(), any(), anyList()))
+                    .thenReturn(Collections.emptyList());
+
+            // Act
+            List<VentanaDisponibleDTO> ventanas = disponibilidadService.buscarVentanasDisponibles(
+                    desde, hasta, 120, null, null, 4);
+
+            // Assert
+            assertEquals(4, ventanas.size());
+            for (int i = 0; i < ventanas.size(); i++) {
+                assertEquals(desde.plusHours(2L * i), ventanas.get(i).getInicio());
+                assertEquals(desde.plusHours(2L * i + 2), ventanas.get(i).getFin());
+            }
+        }
+
+        @Test
+        @DisplayName("Las ventanas consecutivas se limitan al horizonte de búsqueda")
+        void buscarVentanas_AgendaVacia_NoExcedeHorizonte() {
+            // Arrange
+            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE)).thenReturn(List.of(aeronaveTest));
+            when(tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE)).thenReturn(List.of(tripulanteTest));
+            when(vueloRepository.findTramosAeronavesEnRango(any(), any(), anyList()))
+                    .thenReturn(Collections.emptyList());
+            when(vueloRepository.findIntervalosTripulacionEnRango(any(), any(), anyList()))
+                    .thenReturn(Collections.emptyList());
+
+            // Act: 10 h de horizonte admiten solo 3 ventanas de 3 h
+            List<VentanaDisponibleDTO> ventanas = disponibilidadService.buscarVentanasDisponibles(
+                    desde, hasta, 180, null, null, 10);
+
+            // Assert
+            assertEquals(3, ventanas.size());
+            assertEquals(desde.plusHours(9), ventanas.get(2).getFin());
+        }
+
+        @Test
+        @DisplayName("Sin pilotos disponibles no hay ventanas")
+        void buscarVentanas_SinPilotos_RetornaListaVacia() {
+            // Arrange
+            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE)).thenReturn(List.of(aeronaveTest));
+            when(tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE)).thenReturn(List.of(auxiliar));
+            when(vueloRepository.findTramosAeronavesEnRango(any(), any(), anyList()))
+                    .thenReturn(Collections.emptyList());
+            when(vueloRepository.findIntervalosTripulacionEnRango(any(), any(), anyList()))
+                    .thenReturn(Collections.emptyList());
+
+            // Act
+            List<VentanaDisponibleDTO> ventanas = disponibilidadService.buscarVentanasDisponibles(
+                    desde, hasta, 60, null, null, 5);
+
+            // Assert
+            assertTrue(ventanas.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Duración no positiva lanza excepción")
+        void buscarVentanas_DuracionInvalida_LanzaExcepcion() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> disponibilidadService.buscarVentanasDisponibles(desde, hasta, 0, null, null, 5));
+            verifyNoInteractions(vueloRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rotación en Tierra Tests")
+    class RotacionEnTierraTests {
+
+        private DisponibilidadOperativaServiceImpl servicioConRotacion;
+
+        @BeforeEach
+        void setUpRotacion() {
+            // 30 minutos por defecto y 60 para el King Air
+            servicioConRotacion = new DisponibilidadOperativaServiceImpl(vueloRepository, aeronaveRepository,
+                    tripulanteRepository, indiceAgenda, registroRetenciones, cacheAeronaves,
+                    new ReglasRotacion(30, "King Air 350:60", 0, ""));
+        }
+
+        @Test
+        @DisplayName("Un vuelo que aterriza dentro de la rotación previa al rango genera conflicto")
+        void consultarDisponibilidad_VueloDentroDeRotacion_DetectaConflicto() {
+            // Arrange: el vuelo existente aterriza 20 minutos antes del inicio consultado
+            Vuelo anterior = Vuelo.builder()
+                    .id(101L)
+                    .origen("Cali")
+                    .destino("Bogotá")
+                    .fechaSalidaProgramada(fechaInicio.minusHours(2))
+                    .fechaLlegadaProgramada(fechaInicio.minusMinutes(20))
+                    .estado(EstadoVuelo.CONFIRMADO)
+                    .build();
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(comoDTO(aeronaveTest)));
+            when(indiceAgenda.estaCargado()).thenReturn(true);
+            when(indiceAgenda.haySolapamiento(1L, fechaInicio, fechaFin.plusMinutes(30), null)).thenReturn(true);
+            when(vueloRepository.findVuelosEnRangoPorAeronave(
+                    eq(1L), eq(fechaInicio.minusMinutes(30)), eq(fechaFin.plusMinutes(30)), anyList()))
+                    .thenReturn(List.of(anterior));
+
+            // Act
+            DisponibilidadAeronaveDTO resultado = servicioConRotacion.consultarDisponibilidadAeronave(
+                    1L, fechaInicio, fechaFin);
+
+            // Assert
+            assertFalse(resultado.isDisponible());
+            assertEquals(101L, resultado.getConflictos().get(0).getVueloId());
+        }
+
+        @Test
+        @DisplayName("El listado descarta las aeronaves sin rotación suficiente según su modelo")
+        void consultarAeronavesDisponibles_SinRotacionSuficiente_Descarta() {
+            // Arrange
+            AeronaveDTO cessna = AeronaveDTO.builder().id(1L).matricula("HK-1234").build();
+            AeronaveDTO kingAir = AeronaveDTO.builder().id(2L).matricula("HK-5678").build();
+            when(aeronaveRepository.findDisponiblesSinVuelosEnRango(
+                    eq(EstadoAeronave.DISPONIBLE), eq(0), eq(fechaInicio), eq(fechaFin), anyList()))
+                    .thenReturn(List.of(cessna, kingAir));
+            // El Cessna aterriza 20 minutos antes (rotación 30); el King Air sale 90 minutos después (rotación 60)
+            when(vueloRepository.findTramosAeronavesEnRango(
+                    eq(fechaInicio.minusMinutes(60)), eq(fechaFin.plusMinutes(60)), anyList()))
+                    .thenReturn(List.of(
+                            tramo(100L, 1L, "Cessna 208", fechaInicio.minusHours(1), fechaInicio.minusMinutes(20)),
+                            tramo(101L, 2L, "King Air 350", fechaFin.plusMinutes(90), fechaFin.plusHours(3))));
+
+            // Act
+            List<AeronaveDTO> disponibles = servicioConRotacion.consultarAeronavesDisponibles(
+                    fechaInicio, fechaFin, null);
+
+            // Assert
+            assertEquals(List.of("HK-5678"), disponibles.stream().map(AeronaveDTO::getMatricula).toList());
+        }
+
+        @Test
+        @DisplayName("La matriz marca la rotación de los vuelos que aterrizan antes del inicio")
+        void consultarMatriz_VueloPrevio_MarcaRotacion() {
+            // Arrange: el King Air aterriza a las 7:45 y queda en rotación hasta las 8:45
+            LocalDateTime inicioMatriz = LocalDateTime.of(2030, 1, 1, 8, 0);
+            LocalDateTime finMatriz = LocalDateTime.of(2030, 1, 1, 12, 0);
+            when(vueloRepository.findTramosAeronavesEnRango(
+                    eq(inicioMatriz.minusMinutes(60)), eq(finMatriz), anyList()))
+                    .thenReturn(List.of(tramo(100L, 1L, "King Air 350",
+                            LocalDateTime.of(2030, 1, 1, 6, 30), LocalDateTime.of(2030, 1, 1, 7, 45))));
+            when(aeronaveRepository.findAll(any(Sort.class))).thenReturn(List.of(aeronaveTest));
+
+            // Act
+            MatrizOcupacionDTO matriz = servicioConRotacion.consultarMatrizOcupacion(
+                    inicioMatriz, finMatriz, 30, false);
+
+            // Assert
+            OcupacionRecursoDTO ocupacion = matriz.getAeronaves().get(0);
+            assertEquals(2, ocupacion.getFranjasOcupadas());
+            BitSet franjas = BitSet.valueOf(Base64.getDecoder().decode(ocupacion.getOcupacion()));
+            assertEquals(0, franjas.nextSetBit(0));
+            assertEquals(2, franjas.nextClearBit(0));
+        }
+
+        @Test
+        @DisplayName("Las ventanas dejan la rotación antes y después de los vuelos existentes")
+        void buscarVentanas_VueloExistente_RespetaRotacion() {
+            // Arrange: vuelo de 9:00 a 10:00 en un Cessna, la aeronave queda ocupada de 8:30 a 10:30
+            LocalDateTime desde = LocalDateTime.of(2030, 1, 1, 8, 0);
+            LocalDateTime hasta = LocalDateTime.of(2030, 1, 1, 18, 0);
+            when(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE)).thenReturn(List.of(aeronaveTest));
+            when(tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE)).thenReturn(List.of(tripulanteTest));
+            when(vueloRepository.findTramosAeronavesEnRango(
+                    eq(desde.minusMinutes(60)), eq(hasta.plusMinutes(60)), anyList()))
+                    .thenReturn(List.of(tramo(100L, 1L, "Cessna 208", desde.plusHours(1), desde.plusHours(2))));
+            when(vueloRepository.findIntervalosTripulacionEnRango(any(), any(), anyList()))
+                    .thenReturn(Collections.emptyList());
+
+            // Act
+            List<VentanaDisponibleDTO> ventanas = servicioConRotacion.buscarVentanasDisponibles(
+                    desde, hasta, 60, null, null, 1);
+
+            // Assert
+            assertEquals(1, ventanas.size());
+            assertEquals(LocalDateTime.of(2030, 1, 1, 10, 30), ventanas.get(0).getInicio());
+        }
+    }
+
+    private static TramoVueloAeronave tramo(Long vueloId, Long aeronaveId, String modelo,
+                                            LocalDateTime salida, LocalDateTime llegada) {
+        return new TramoVueloAeronave(vueloId, aeronaveId, modelo, "Bogotá", "Medellín", salida, llegada);
+    }
+
+    private static AeronaveDTO comoDTO(Aeronave aeronave) {
+        return AeronaveDTO.builder()
+                .id(aeronave.getId())
+                .matricula(aeronave.getMatricula())
+                .modelo(aeronave.getModelo())
+                .capacidadPasajeros(aeronave.getCapacidadPasajeros())
+                .estado(aeronave.getEstado())
+                .build();
+    }
 }
@@ -0,0 +1,226 @@
+package com.paeldav.backend.infraestructure.repository;
+
+import com.paeldav.backend.application.dto.vuelo.FiltroVuelosDTO;
+import com.paeldav.backend.application.dto.vuelo.VueloDTO;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.infraestructure.config.IndicesVuelos;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mide la latencia de la búsqueda dinámica de vuelos sobre PostgreSQL con un millón de vuelos,
+ * con los índices compuestos de la entidad y los parciales de {@link IndicesVuelos}.
+ *
+ * Requiere una base PostgreSQL dedicada (ver {@code application-benchmark.properties}); la primera
+ * ejecución siembra los vuelos con {@code generate_series} y las siguientes los reutilizan.
+ * Se ejecuta con {@code ./gradlew benchmark}; el build por defecto la excluye. Para cada combinación
+ * de criterios se registran p50 y p99 de la primera página y de una página intermedia por cursor.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("benchmark")
+@Import(IndicesVuelos.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Búsqueda de Vuelos - Benchmark")
+class BusquedaVuelosBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BusquedaVuelosBenchmarkTest.class);
+
+    private static final int VUELOS = 1_000_000;
+    private static final int USUARIOS = 1_000;
+    private static final int AERONAVES = 200;
+    private static final int CALENTAMIENTO = 50;
+    private static final int ITERACIONES = 500;
+    private static final int TAMANO_PAGINA = 50;
+    private static final long P99_MAXIMO_MILIS = 50;
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 6, 0);
+    private static final int MINUTOS_ENTRE_VUELOS = 7;
+    private static final String[] CIUDADES =
+            {"Bogotá", "Medellín", "Cali", "Cartagena", "Santa Marta", "Pereira", "Leticia", "Bucaramanga"};
+    private static final String CIUDADES_SQL = List.of(CIUDADES).stream()
+            .map(ciudad -> "'" + ciudad + "'")
+            .collect(Collectors.joining(", "));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VueloRepository vueloRepository;
+
+    @Autowired
+    private IndicesVuelos indicesVuelos;
+
+    private final Random aleatorio = new Random(42);
+    private List<Long> aeronaveIds;
+
+    @BeforeAll
+    void sembrar() {
+        jdbcTemplate.update("""
+                INSERT INTO usuarios (nombre, apellido, email, password, rol, fecha_registro, activo)
+                SELECT 'Usuario', g::text, 'benchmark' || g || '@paeldav.com', 'secreto', 'USUARIO', now(), true
+                FROM generate_series(1, ?) g
+                ON CONFLICT (email) DO NOTHING
+                """, USUARIOS);
+        jdbcTemplate.update("""
+                INSERT INTO aeronaves (matricula, modelo, capacidad_pasajeros, capacidad_tripulacion,
+                                       horas_vuelo_totales, estado)
+                SELECT 'HK-B' || g, 'King Air 350', 12, 2, 0, 'DISPONIBLE'
+                FROM generate_series(1, ?) g
+                ON CONFLICT (matricula) DO NOTHING
+                """, AERONAVES);
+
+        Integer existentes = jdbcTemplate.queryForObject("SELECT count(*) FROM vuelos", Integer.class);
+        if (existentes != null && existentes < VUELOS) {
+            long inicio = System.nanoTime();
+            // Un vuelo cada 7 minutos (~13 años); uno de cada seis sin aeronave y uno de cada cinco sin cotizar.
+            // El destino siempre difiere del origen
+            jdbcTemplate.update("""
+                    INSERT INTO vuelos (usuario_id, aeronave_id, origen, destino, fecha_salida_programada,
+                                        fecha_llegada_programada, numero_pasajeros, estado, fecha_solicitud,
+                                        costo_estimado)
+                    SELECT u.ids[1 + g % cardinality(u.ids)],
+                           CASE WHEN g % 6 = 0 THEN NULL ELSE a.ids[1 + g % cardinality(a.ids)] END,
+                           c.nombres[1 + g % 8],
+                           c.nombres[1 + (g % 8 + 1 + (g / 8) % 7) % 8],
+                           ?::timestamp + g * ? * interval '1 minute',
+                           ?::timestamp + g * ? * interval '1 minute' + interval '2 hours',
+                           1 + g % 12,
+                           (ARRAY['SOLICITADO', 'CONFIRMADO', 'EN_CURSO', 'COMPLETADO', 'CANCELADO'])[1 + g % 5],
+                           now(),
+                           CASE WHEN g % 5 = 0 THEN NULL ELSE 1000 + (g % 40) * 250 END
+                    FROM generate_series(?, ?) g,
+                         (SELECT array_agg(id ORDER BY id) ids FROM usuarios) u,
+                         (SELECT array_agg(id ORDER BY id) ids FROM aeronaves) a,
+                         (SELECT ARRAY[{ciudades}] nombres) c
+                    """.replace("{ciudades}", CIUDADES_SQL),
+                    BASE, MINUTOS_ENTRE_VUELOS, BASE, MINUTOS_ENTRE_VUELOS, existentes + 1, VUELOS);
+            log.info("Sembrados {} vuelos en {} s", VUELOS - existentes,
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio));
+        }
+
+        indicesVuelos.instalar();
+        jdbcTemplate.execute("ANALYZE vuelos");
+        aeronaveIds = jdbcTemplate.queryForList("SELECT id FROM aeronaves ORDER BY id", Long.class);
+    }
+
+    @Test
+    @DisplayName("Las combinaciones de criterios frecuentes responden con p99 menor a 50 ms")
+    void buscarPagina_UnMillonDeVuelos_P99MenorA50ms() {
+        // Arrange: cada escenario genera un filtro distinto por iteración para no medir una sola fila caliente
+        Map<String, IntFunction<FiltroVuelosDTO>> escenarios = new LinkedHashMap<>();
+        escenarios.put("ruta+fechas", i -> {
+            LocalDateTime desde = fecha();
+            return FiltroVuelosDTO.builder().origen(ciudad()).destino(ciudad()).desde(desde).hasta(desde.plusDays(30))
+                    .build();
+        });
+        escenarios.put("estado+fechas", i -> {
+            LocalDateTime desde = fecha();
+            return FiltroVuelosDTO.builder().estado(EstadoVuelo.CONFIRMADO).desde(desde).hasta(desde.plusDays(7))
+                    .build();
+        });
+        escenarios.put("aeronave", i -> FiltroVuelosDTO.builder()
+                .aeronaveId(aeronaveIds.get(i % aeronaveIds.size()))
+                .build());
+        escenarios.put("destino+costo", i -> FiltroVuelosDTO.builder()
+                .destino(ciudad()).costoMinimo(2000.0).costoMaximo(4000.0)
+                .build());
+        escenarios.put("pasajeros+costo+fechas", i -> FiltroVuelosDTO.builder()
+                .pasajerosMinimo(4).pasajerosMaximo(8).costoMaximo(5000.0).desde(fecha())
+                .build());
+        escenarios.put("sin criterios", i -> new FiltroVuelosDTO());
+
+        // Act
+        Map<String, Resultado> resultados = new LinkedHashMap<>();
+        escenarios.forEach((nombre, filtros) -> resultados.put(nombre, medir(nombre, filtros)));
+
+        // Assert
+        long maximoMicros = TimeUnit.MILLISECONDS.toMicros(P99_MAXIMO_MILIS);
+        resultados.forEach((nombre, resultado) -> {
+            assertTrue(resultado.p99PrimeraMicros < maximoMicros,
+                    () -> nombre + ": p99 primera página " + resultado.p99PrimeraMicros + " µs");
+            assertTrue(resultado.p99CursorMicros < maximoMicros,
+                    () -> nombre + ": p99 página por cursor " + resultado.p99CursorMicros + " µs");
+        });
+    }
+
+    /**
+     * Mide la primera página y la página siguiente a un cursor tomado del medio de la primera.
+     */
+    private Resultado medir(String nombre, IntFunction<FiltroVuelosDTO> filtros) {
+        List<Long> primera = new ArrayList<>(ITERACIONES);
+        List<Long> siguiente = new ArrayList<>(ITERACIONES);
+        for (int i = 0; i < CALENTAMIENTO + ITERACIONES; i++) {
+            // Los filtros se construyen fuera del tiempo medido
+            FiltroVuelosDTO filtro = filtros.apply(i);
+
+            long inicio = System.nanoTime();
+            List<VueloDTO> pagina = vueloRepository.buscarPagina(filtro, null, null, TAMANO_PAGINA);
+            long duracionPrimera = System.nanoTime() - inicio;
+
+            long duracionSiguiente = 0;
+            if (!pagina.isEmpty()) {
+                VueloDTO cursor = pagina.get(pagina.size() / 2);
+                inicio = System.nanoTime();
+                vueloRepository.buscarPagina(filtro, cursor.getFechaSalidaProgramada(), cursor.getId(), TAMANO_PAGINA);
+                duracionSiguiente = System.nanoTime() - inicio;
+            }
+
+            if (i >= CALENTAMIENTO) {
+                primera.add(duracionPrimera);
+                siguiente.add(duracionSiguiente);
+            }
+        }
+
+        Resultado resultado = new Resultado(percentilMicros(primera, 0.99), percentilMicros(siguiente, 0.99));
+        log.info("{}: primera página p50 {} µs, p99 {} µs; por cursor p50 {} µs, p99 {} µs", nombre,
+                percentilMicros(primera, 0.50), resultado.p99PrimeraMicros,
+                percentilMicros(siguiente, 0.50), resultado.p99CursorMicros);
+        return resultado;
+    }
+
+    private static long percentilMicros(List<Long> duraciones, double percentil) {
+        long[] ordenadas = duraciones.stream().mapToLong(Long::longValue).sorted().toArray();
+        return TimeUnit.NANOSECONDS.toMicros(ordenadas[(int) Math.ceil(ordenadas.length * percentil) - 1]);
+    }
+
+    private String ciudad() {
+        return CIUDADES[aleatorio.nextInt(CIUDADES.length)];
+    }
+
+    /**
+     * Fecha aleatoria dentro del rango sembrado.
+     */
+    private LocalDateTime fecha() {
+        long minutosSembrados = (long) VUELOS * MINUTOS_ENTRE_VUELOS;
+        return BASE.plusMinutes((long) (aleatorio.nextDouble() * minutosSembrados));
+    }
+
+    private record Resultado(long p99PrimeraMicros, long p99CursorMicros) {
+    }
+}
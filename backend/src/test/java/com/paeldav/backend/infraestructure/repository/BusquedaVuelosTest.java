@@ -0,0 +1,190 @@
+package com.paeldav.backend.infraestructure.repository;
+
+import com.paeldav.backend.application.dto.vuelo.FiltroVuelosDTO;
+import com.paeldav.backend.application.dto.vuelo.VueloDTO;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Usuario;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.domain.enums.RolUsuario;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que la búsqueda dinámica de vuelos combina correctamente los criterios informados
+ * y que la paginación por clave recorre todos los resultados sin repetir ni omitir vuelos.
+ *
+ * El tiempo de cada búsqueda se registra en el log como referencia; la latencia representativa
+ * depende de PostgreSQL y sus índices, no de H2.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@DisplayName("Búsqueda de Vuelos Tests")
+class BusquedaVuelosTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BusquedaVuelosTest.class);
+
+    private static final int VUELOS = 1200;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 7, 1, 6, 0);
+    private static final List<String> ORIGENES = List.of("Bogotá", "Medellín", "Cali");
+    private static final List<String> DESTINOS = List.of("Cartagena", "Santa Marta", "Pereira", "Leticia");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private VueloRepository vueloRepository;
+
+    private final List<Vuelo> vuelos = new ArrayList<>();
+    private final List<Aeronave> aeronaves = new ArrayList<>();
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = Usuario.builder()
+                .nombre("Ana").apellido("Gómez").email("ana@paeldav.com").password("secreto")
+                .rol(RolUsuario.USUARIO).activo(true)
+                .build();
+        entityManager.persist(usuario);
+        Usuario otroUsuario = Usuario.builder()
+                .nombre("Luis").apellido("Díaz").email("luis@paeldav.com").password("secreto")
+                .rol(RolUsuario.USUARIO).activo(true)
+                .build();
+        entityManager.persist(otroUsuario);
+
+        for (int i = 0; i < 5; i++) {
+            Aeronave aeronave = Aeronave.builder()
+                    .matricula("HK-" + (2000 + i)).modelo("King Air").capacidadPasajeros(12)
+                    .capacidadTripulacion(2).horasVueloTotales(0.0).estado(EstadoAeronave.DISPONIBLE)
+                    .build();
+            entityManager.persist(aeronave);
+            aeronaves.add(aeronave);
+        }
+
+        EstadoVuelo[] estados = EstadoVuelo.values();
+        for (int i = 0; i < VUELOS; i++) {
+            // Varios vuelos comparten hora de salida para ejercitar el desempate por ID del cursor
+            LocalDateTime salida = BASE.plusHours(i / 3);
+            Vuelo vuelo = Vuelo.builder()
+                    .usuario(i % 4 == 0 ? otroUsuario : usuario)
+                    .aeronave(i % 6 == 0 ? null : aeronaves.get(i % 5))
+                    .origen(ORIGENES.get(i % ORIGENES.size()))
+                    .destino(DESTINOS.get(i % DESTINOS.size()))
+                    .fechaSalidaProgramada(salida).fechaLlegadaProgramada(salida.plusHours(2))
+                    .numeroPasajeros(1 + (i / 3) % 12)
+                    .costoEstimado(i % 5 == 0 ? null : 1000.0 + (i % 40) * 250)
+                    .estado(estados[i % estados.length])
+                    .build();
+            entityManager.persist(vuelo);
+            vuelos.add(vuelo);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Combina ruta, estado, pasajeros y costo en una sola búsqueda")
+    void buscarPagina_CriteriosCombinados_RetornaSoloCoincidencias() {
+        // Arrange
+        FiltroVuelosDTO filtro = FiltroVuelosDTO.builder()
+                .origen("Bogotá").destino("Cartagena").estado(EstadoVuelo.CONFIRMADO)
+                .pasajerosMinimo(4).pasajerosMaximo(10).costoMinimo(2000.0).costoMaximo(8000.0)
+                .build();
+
+        // Act & Assert
+        verificarBusqueda("ruta+estado+pasajeros+costo", filtro, v ->
+                v.getOrigen().equals("Bogotá") && v.getDestino().equals("Cartagena")
+                        && v.getEstado() == EstadoVuelo.CONFIRMADO
+                        && v.getNumeroPasajeros() >= 4 && v.getNumeroPasajeros() <= 10
+                        && v.getCostoEstimado() != null
+                        && v.getCostoEstimado() >= 2000.0 && v.getCostoEstimado() <= 8000.0);
+    }
+
+    @Test
+    @DisplayName("Combina aeronave, usuario y ventana de salida")
+    void buscarPagina_AeronaveUsuarioYFechas_RetornaSoloCoincidencias() {
+        // Arrange
+        Long aeronaveId = aeronaves.get(2).getId();
+        LocalDateTime desde = BASE.plusDays(3);
+        LocalDateTime hasta = BASE.plusDays(9);
+        FiltroVuelosDTO filtro = FiltroVuelosDTO.builder()
+                .aeronaveId(aeronaveId).usuarioId(usuario.getId()).desde(desde).hasta(hasta)
+                .build();
+
+        // Act & Assert
+        verificarBusqueda("aeronave+usuario+fechas", filtro, v ->
+                v.getAeronave() != null && v.getAeronave().getId().equals(aeronaveId)
+                        && v.getUsuario().getId().equals(usuario.getId())
+                        && !v.getFechaSalidaProgramada().isBefore(desde)
+                        && v.getFechaSalidaProgramada().isBefore(hasta));
+    }
+
+    @Test
+    @DisplayName("Solo destino y rango de costo, incluyendo vuelos sin aeronave")
+    void buscarPagina_DestinoYCosto_RetornaSoloCoincidencias() {
+        // Arrange
+        FiltroVuelosDTO filtro = FiltroVuelosDTO.builder().destino("Leticia").costoMaximo(3000.0).build();
+
+        // Act & Assert
+        verificarBusqueda("destino+costo", filtro, v ->
+                v.getDestino().equals("Leticia")
+                        && v.getCostoEstimado() != null && v.getCostoEstimado() <= 3000.0);
+    }
+
+    @Test
+    @DisplayName("Sin criterios retorna todos los vuelos en orden de salida")
+    void buscarPagina_SinCriterios_RetornaTodos() {
+        verificarBusqueda("sin criterios", new FiltroVuelosDTO(), v -> true);
+    }
+
+    /**
+     * Recorre todas las páginas de la búsqueda y compara los IDs obtenidos, en orden,
+     * con los vuelos creados que cumplen el predicado esperado.
+     */
+    private void verificarBusqueda(String nombre, FiltroVuelosDTO filtro, Predicate<Vuelo> esperado) {
+        List<Long> idsEsperados = vuelos.stream()
+                .filter(esperado)
+                .sorted(Comparator.comparing(Vuelo::getFechaSalidaProgramada).thenComparing(Vuelo::getId))
+                .map(Vuelo::getId)
+                .toList();
+
+        List<Long> idsObtenidos = new ArrayList<>();
+        LocalDateTime cursorSalida = null;
+        Long cursorId = null;
+        int paginas = 0;
+        long inicio = System.nanoTime();
+        while (true) {
+            List<VueloDTO> pagina = vueloRepository.buscarPagina(filtro, cursorSalida, cursorId, 50);
+            paginas++;
+            pagina.forEach(v -> idsObtenidos.add(v.getId()));
+            if (pagina.size() < 50) {
+                break;
+            }
+            VueloDTO ultimo = pagina.get(pagina.size() - 1);
+            cursorSalida = ultimo.getFechaSalidaProgramada();
+            cursorId = ultimo.getId();
+        }
+        long micros = (System.nanoTime() - inicio) / 1_000;
+
+        log.info("{}: {} vuelos en {} páginas, {} µs por página", nombre, idsObtenidos.size(), paginas,
+                micros / paginas);
+        assertFalse(idsEsperados.isEmpty(), "El conjunto de datos debe incluir coincidencias");
+        assertEquals(idsEsperados, idsObtenidos);
+    }
+}
@@ -0,0 +1,234 @@
+package com.paeldav.backend.infraestructure.repository;
+
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
+import com.paeldav.backend.application.dto.tripulante.TripulanteDTO;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Tripulante;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoTripulante;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara, sobre PostgreSQL con 500 aeronaves, 5.000 tripulantes y 100.000 vuelos, las consultas anti-join
+ * (NOT EXISTS) de recursos disponibles con el camino anterior: IDs ocupados, carga de todos los recursos
+ * en el estado y filtro en Java con {@code List.contains}.
+ *
+ * Requiere una base PostgreSQL dedicada (ver {@code application-benchmark.properties}); la primera
+ * ejecución siembra los datos con {@code generate_series} y las siguientes los reutilizan. Se ejecuta con
+ * {@code ./gradlew benchmark}; el build por defecto la excluye. Para cada camino se registran p50 y p99
+ * sobre rangos de dos horas elegidos al azar dentro del período sembrado.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Disponibles sin Vuelos en Rango - Benchmark")
+class DisponiblesSinVuelosBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DisponiblesSinVuelosBenchmarkTest.class);
+
+    private static final int AERONAVES = 500;
+    private static final int TRIPULANTES = 5_000;
+    private static final int VUELOS = 100_000;
+    private static final int CALENTAMIENTO = 20;
+    private static final int ITERACIONES = 200;
+
+    /**
+     * Marca de los vuelos sembrados por esta prueba, para no confundirlos con los de otros benchmarks.
+     */
+    private static final String PROPOSITO = "benchmark-disponibles";
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 6, 0);
+    private static final int MINUTOS_ENTRE_VUELOS = 5;
+    private static final List<EstadoVuelo> ESTADOS_ACTIVOS =
+            List.of(EstadoVuelo.SOLICITADO, EstadoVuelo.CONFIRMADO, EstadoVuelo.EN_CURSO);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AeronaveRepository aeronaveRepository;
+
+    @Autowired
+    private TripulanteRepository tripulanteRepository;
+
+    @Autowired
+    private VueloRepository vueloRepository;
+
+    private final Random aleatorio = new Random(42);
+
+    @BeforeAll
+    void sembrar() {
+        jdbcTemplate.update("""
+                INSERT INTO aeronaves (matricula, modelo, capacidad_pasajeros, capacidad_tripulacion,
+                                       horas_vuelo_totales, estado)
+                SELECT 'HK-D' || g, 'King Air 350', 4 + g % 12, 2, 0, 'DISPONIBLE'
+                FROM generate_series(1, ?) g
+                ON CONFLICT (matricula) DO NOTHING
+                """, AERONAVES);
+        jdbcTemplate.update("""
+                INSERT INTO usuarios (nombre, apellido, email, password, rol, fecha_registro, activo)
+                SELECT 'Tripulante', g::text, 'disponibles' || g || '@paeldav.com', 'secreto', 'TRIPULACION',
+                       now(), true
+                FROM generate_series(1, ?) g
+                ON CONFLICT (email) DO NOTHING
+                """, TRIPULANTES);
+        jdbcTemplate.update("""
+                INSERT INTO tripulantes (usuario_id, numero_licencia, horas_vuelo_totales, horas_vuelo_mes,
+                                         estado, es_piloto)
+                SELECT u.id, 'BENCH-D-' || u.id, 0, 0, 'DISPONIBLE', u.id % 3 = 0
+                FROM usuarios u
+                WHERE u.email LIKE 'disponibles%@paeldav.com'
+                ON CONFLICT (numero_licencia) DO NOTHING
+                """);
+
+        Integer existentes = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM vuelos WHERE proposito = ?", Integer.class, PROPOSITO);
+        if (existentes != null && existentes < VUELOS) {
+            long inicio = System.nanoTime();
+            // Un vuelo de tres horas cada 5 minutos (~347 días) rotando por la flota; uno de cada diez cancelado
+            jdbcTemplate.update("""
+                    INSERT INTO vuelos (usuario_id, aeronave_id, origen, destino, fecha_salida_programada,
+                                        fecha_llegada_programada, numero_pasajeros, estado, fecha_solicitud,
+                                        proposito)
+                    SELECT u.id, a.ids[1 + g % cardinality(a.ids)], 'Bogotá', 'Medellín',
+                           ?::timestamp + g * ? * interval '1 minute',
+                           ?::timestamp + g * ? * interval '1 minute' + interval '3 hours',
+                           4, CASE WHEN g % 10 = 0 THEN 'CANCELADO' ELSE 'CONFIRMADO' END, now(), ?
+                    FROM generate_series(?, ?) g,
+                         (SELECT min(id) id FROM usuarios WHERE email LIKE 'disponibles%@paeldav.com') u,
+                         (SELECT array_agg(id ORDER BY id) ids FROM aeronaves WHERE matricula LIKE 'HK-D%') a
+                    """, BASE, MINUTOS_ENTRE_VUELOS, BASE, MINUTOS_ENTRE_VUELOS, PROPOSITO, existentes + 1, VUELOS);
+            // Dos tripulantes por vuelo, rotando por toda la tripulación
+            jdbcTemplate.update("""
+                    INSERT INTO vuelo_tripulacion (vuelo_id, tripulante_id)
+                    SELECT v.id, t.ids[1 + (v.n * 2 + k) % cardinality(t.ids)]
+                    FROM (SELECT id, row_number() OVER (ORDER BY id) n FROM vuelos WHERE proposito = ?) v
+                         CROSS JOIN generate_series(0, 1) k
+                         CROSS JOIN (SELECT array_agg(id ORDER BY id) ids FROM tripulantes
+                                     WHERE numero_licencia LIKE 'BENCH-D-%') t
+                    WHERE NOT EXISTS (SELECT 1 FROM vuelo_tripulacion vt WHERE vt.vuelo_id = v.id)
+                    """, PROPOSITO);
+            log.info("Sembrados {} vuelos en {} s", VUELOS - existentes,
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio));
+        }
+        jdbcTemplate.execute("ANALYZE aeronaves");
+        jdbcTemplate.execute("ANALYZE tripulantes");
+        jdbcTemplate.execute("ANALYZE vuelos");
+        jdbcTemplate.execute("ANALYZE vuelo_tripulacion");
+    }
+
+    @Test
+    @DisplayName("El anti-join de aeronaves devuelve lo mismo que el filtro en Java y responde más rápido")
+    void aeronaves_AntiJoin_MasRapidoQueFiltroEnJava() {
+        // Arrange
+        Function<LocalDateTime, List<Long>> antiJoin = inicio -> aeronaveRepository.findDisponiblesSinVuelosEnRango(
+                        EstadoAeronave.DISPONIBLE, 6, inicio, inicio.plusHours(2), ESTADOS_ACTIVOS)
+                .stream().map(AeronaveDTO::getId).toList();
+        Function<LocalDateTime, List<Long>> filtroEnJava = inicio -> {
+            List<Long> ocupadas = vueloRepository.findAeronaveIdsConVuelosEnRango(
+                    inicio, inicio.plusHours(2), ESTADOS_ACTIVOS);
+            return aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE).stream()
+                    .filter(a -> !ocupadas.contains(a.getId()))
+                    .filter(a -> a.getCapacidadPasajeros() >= 6)
+                    .map(Aeronave::getId)
+                    .sorted()
+                    .toList();
+        };
+
+        // Act & Assert
+        comparar("aeronaves", antiJoin, filtroEnJava);
+    }
+
+    @Test
+    @DisplayName("El anti-join de tripulantes devuelve lo mismo que el filtro en Java y responde más rápido")
+    void tripulantes_AntiJoin_MasRapidoQueFiltroEnJava() {
+        // Arrange
+        Function<LocalDateTime, List<Long>> antiJoin = inicio -> tripulanteRepository.findDisponiblesSinVuelosEnRango(
+                        EstadoTripulante.DISPONIBLE, false, inicio, inicio.plusHours(2), ESTADOS_ACTIVOS)
+                .stream().map(TripulanteDTO::getId).toList();
+        Function<LocalDateTime, List<Long>> filtroEnJava = inicio -> {
+            List<Long> ocupados = vueloRepository.findTripulanteIdsConVuelosEnRango(
+                    inicio, inicio.plusHours(2), ESTADOS_ACTIVOS);
+            return tripulanteRepository.findByEstado(EstadoTripulante.DISPONIBLE).stream()
+                    .filter(t -> !ocupados.contains(t.getId()))
+                    .map(Tripulante::getId)
+                    .sorted()
+                    .toList();
+        };
+
+        // Act & Assert
+        comparar("tripulantes", antiJoin, filtroEnJava);
+    }
+
+    /**
+     * Verifica que ambos caminos coincidan en un rango y que el anti-join tenga menor p50 y p99.
+     */
+    private void comparar(String recurso, Function<LocalDateTime, List<Long>> antiJoin,
+                          Function<LocalDateTime, List<Long>> filtroEnJava) {
+        LocalDateTime muestra = fecha();
+        assertEquals(filtroEnJava.apply(muestra), antiJoin.apply(muestra));
+
+        long[] filtro = medir(filtroEnJava);
+        long[] consulta = medir(antiJoin);
+
+        log.info("{}: filtro en Java p50 {} µs, p99 {} µs; anti-join p50 {} µs, p99 {} µs",
+                recurso, filtro[0], filtro[1], consulta[0], consulta[1]);
+        assertTrue(consulta[0] < filtro[0], () -> recurso + ": p50 anti-join " + consulta[0]
+                + " µs no mejora el filtro en Java " + filtro[0] + " µs");
+        assertTrue(consulta[1] < filtro[1], () -> recurso + ": p99 anti-join " + consulta[1]
+                + " µs no mejora el filtro en Java " + filtro[1] + " µs");
+    }
+
+    /**
+     * p50 y p99 en microsegundos; los rangos se eligen fuera del tiempo medido.
+     */
+    private long[] medir(Function<LocalDateTime, List<Long>> consulta) {
+        List<Long> duraciones = new ArrayList<>(ITERACIONES);
+        for (int i = 0; i < CALENTAMIENTO + ITERACIONES; i++) {
+            LocalDateTime inicio = fecha();
+            long antes = System.nanoTime();
+            consulta.apply(inicio);
+            long duracion = System.nanoTime() - antes;
+            if (i >= CALENTAMIENTO) {
+                duraciones.add(duracion);
+            }
+        }
+        return new long[]{percentilMicros(duraciones, 0.50), percentilMicros(duraciones, 0.99)};
+    }
+
+    private static long percentilMicros(List<Long> duraciones, double percentil) {
+        long[] ordenadas = duraciones.stream().mapToLong(Long::longValue).sorted().toArray();
+        return TimeUnit.NANOSECONDS.toMicros(ordenadas[(int) Math.ceil(ordenadas.length * percentil) - 1]);
+    }
+
+    /**
+     * Inicio aleatorio de un rango dentro del período sembrado.
+     */
+    private LocalDateTime fecha() {
+        long minutosSembrados = (long) VUELOS * MINUTOS_ENTRE_VUELOS;
+        return BASE.plusMinutes((long) (aleatorio.nextDouble() * minutosSembrados));
+    }
+}
@@ -0,0 +1,221 @@
+package com.paeldav.backend.infraestructure.repository;
+
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
+import com.paeldav.backend.application.dto.tripulante.TripulanteDTO;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Tripulante;
+import com.paeldav.backend.domain.entity.Usuario;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoTripulante;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.domain.enums.RolUsuario;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica las consultas anti-join (NOT EXISTS) de aeronaves y tripulantes disponibles en un rango:
+ * solapamiento en los bordes, vuelos cancelados y resultado vacío.
+ *
+ * Incluye una comparación con el camino anterior (IDs ocupados + carga por estado + filtro en Java) en
+ * resultado, sentencias y entidades cargadas. La latencia a escala se mide en
+ * {@link DisponiblesSinVuelosBenchmarkTest}.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@DisplayName("Disponibles sin Vuelos en Rango - Consultas Tests")
+class DisponiblesSinVuelosConsultasTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2026, 5, 1, 10, 0);
+    private static final LocalDateTime FIN = INICIO.plusHours(2);
+    private static final List<EstadoVuelo> ESTADOS_ACTIVOS =
+            List.of(EstadoVuelo.SOLICITADO, EstadoVuelo.CONFIRMADO, EstadoVuelo.EN_CURSO);
+
+    private static final int FLOTA = 200;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AeronaveRepository aeronaveRepository;
+
+    @Autowired
+    private TripulanteRepository tripulanteRepository;
+
+    @Autowired
+    private VueloRepository vueloRepository;
+
+    private Usuario usuario;
+    private Aeronave contigua;
+    private Aeronave cancelada;
+    private Tripulante pilotoContiguo;
+    private Tripulante auxiliar;
+    private int secuencia;
+
+    @BeforeEach
+    void setUp() {
+        usuario = Usuario.builder()
+                .nombre("Ana").apellido("Gómez").email("ana@paeldav.com").password("secreto")
+                .rol(RolUsuario.USUARIO).activo(true)
+                .build();
+        entityManager.persist(usuario);
+
+        // Vuelos que terminan justo al inicio y empiezan justo al fin del rango: no se solapan
+        contigua = aeronave("HK-1000", 8, EstadoAeronave.DISPONIBLE);
+        pilotoContiguo = tripulante(true);
+        vuelo(contigua, EstadoVuelo.CONFIRMADO, INICIO.minusHours(2), INICIO, pilotoContiguo);
+        vuelo(contigua, EstadoVuelo.CONFIRMADO, FIN, FIN.plusHours(1));
+
+        // Un minuto dentro del rango basta para ocuparla
+        Aeronave ocupada = aeronave("HK-2000", 8, EstadoAeronave.DISPONIBLE);
+        Tripulante pilotoOcupado = tripulante(true);
+        vuelo(ocupada, EstadoVuelo.SOLICITADO, FIN.minusMinutes(1), FIN.plusHours(1), pilotoOcupado);
+
+        // Un vuelo cancelado no ocupa la aeronave ni la tripulación
+        cancelada = aeronave("HK-3000", 8, EstadoAeronave.DISPONIBLE);
+        auxiliar = tripulante(false);
+        vuelo(cancelada, EstadoVuelo.CANCELADO, INICIO.plusMinutes(30), INICIO.plusHours(1), auxiliar);
+        vuelo(cancelada, EstadoVuelo.CONFIRMADO, FIN, FIN.plusHours(2));
+
+        // Sin vuelos, pero fuera de estado o de capacidad
+        aeronave("HK-4000", 4, EstadoAeronave.DISPONIBLE);
+        aeronave("HK-5000", 8, EstadoAeronave.EN_MANTENIMIENTO);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Los vuelos que solo tocan los bordes o están cancelados no ocupan la aeronave")
+    void aeronaves_BordesYCancelados_QuedanDisponibles() {
+        // Act
+        List<AeronaveDTO> disponibles = aeronaveRepository.findDisponiblesSinVuelosEnRango(
+                EstadoAeronave.DISPONIBLE, 6, INICIO, FIN, ESTADOS_ACTIVOS);
+
+        // Assert
+        assertEquals(List.of(contigua.getId(), cancelada.getId()),
+                disponibles.stream().map(AeronaveDTO::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Los tripulantes se filtran por solapamiento, cancelación y rol")
+    void tripulantes_BordesCanceladosYRol_FiltraEnLaConsulta() {
+        // Act
+        List<TripulanteDTO> todos = tripulanteRepository.findDisponiblesSinVuelosEnRango(
+                EstadoTripulante.DISPONIBLE, false, INICIO, FIN, ESTADOS_ACTIVOS);
+        List<TripulanteDTO> pilotos = tripulanteRepository.findDisponiblesSinVuelosEnRango(
+                EstadoTripulante.DISPONIBLE, true, INICIO, FIN, ESTADOS_ACTIVOS);
+
+        // Assert
+        assertEquals(List.of(pilotoContiguo.getId(), auxiliar.getId()),
+                todos.stream().map(TripulanteDTO::getId).toList());
+        assertEquals(List.of(pilotoContiguo.getId()), pilotos.stream().map(TripulanteDTO::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Si todas las aeronaves están ocupadas el resultado es vacío")
+    void aeronaves_TodasOcupadas_RetornaVacio() {
+        // Act: en el rango siguiente las tres aeronaves con capacidad tienen vuelos activos
+        List<AeronaveDTO> disponibles = aeronaveRepository.findDisponiblesSinVuelosEnRango(
+                EstadoAeronave.DISPONIBLE, 6, FIN, FIN.plusMinutes(30), ESTADOS_ACTIVOS);
+
+        // Assert
+        assertTrue(disponibles.isEmpty());
+    }
+
+    @Test
+    @DisplayName("El anti-join coincide con el filtrado en Java con una sentencia y sin cargar entidades")
+    void aeronaves_AntiJoin_CoincideConFiltroEnJava() {
+        // Arrange: la mitad de la flota con un vuelo dentro del rango
+        for (int i = 0; i < FLOTA; i++) {
+            Aeronave aeronave = aeronave("HK-" + (10_000 + i), 8, EstadoAeronave.DISPONIBLE);
+            if (i % 2 == 0) {
+                vuelo(aeronave, EstadoVuelo.CONFIRMADO, INICIO.plusMinutes(15), INICIO.plusMinutes(75));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics estadisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // Act
+        Supplier<List<Long>> antiJoin = () -> aeronaveRepository.findDisponiblesSinVuelosEnRango(
+                        EstadoAeronave.DISPONIBLE, 6, INICIO, FIN, ESTADOS_ACTIVOS)
+                .stream().map(AeronaveDTO::getId).toList();
+        Supplier<List<Long>> filtroEnJava = () -> {
+            List<Long> ocupadas = vueloRepository.findAeronaveIdsConVuelosEnRango(INICIO, FIN, ESTADOS_ACTIVOS);
+            return aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE).stream()
+                    .filter(a -> !ocupadas.contains(a.getId()))
+                    .filter(a -> a.getCapacidadPasajeros() >= 6)
+                    .map(Aeronave::getId)
+                    .sorted()
+                    .toList();
+        };
+        estadisticas.clear();
+        List<Long> esperado = filtroEnJava.get();
+        long sentenciasFiltro = estadisticas.getPrepareStatementCount();
+        entityManager.clear();
+        estadisticas.clear();
+        List<Long> obtenido = antiJoin.get();
+        long sentenciasAntiJoin = estadisticas.getPrepareStatementCount();
+        long entidadesAntiJoin = estadisticas.getEntityLoadCount();
+
+        // Assert
+        assertEquals(esperado, obtenido);
+        assertEquals(2 + FLOTA / 2, obtenido.size());
+        assertEquals(2, sentenciasFiltro);
+        assertEquals(1, sentenciasAntiJoin);
+        assertEquals(0, entidadesAntiJoin);
+    }
+
+    private Aeronave aeronave(String matricula, int capacidad, EstadoAeronave estado) {
+        Aeronave aeronave = Aeronave.builder()
+                .matricula(matricula).modelo("Citation").capacidadPasajeros(capacidad).capacidadTripulacion(2)
+                .horasVueloTotales(0.0).estado(estado)
+                .build();
+        entityManager.persist(aeronave);
+        return aeronave;
+    }
+
+    private Tripulante tripulante(boolean piloto) {
+        secuencia++;
+        Usuario cuenta = Usuario.builder()
+                .nombre("Tripulante").apellido(String.valueOf(secuencia))
+                .email("tripulante" + secuencia + "@paeldav.com").password("secreto")
+                .rol(RolUsuario.USUARIO).activo(true)
+                .build();
+        entityManager.persist(cuenta);
+        Tripulante tripulante = Tripulante.builder()
+                .usuario(cuenta).numeroLicencia("LIC-" + secuencia).esPiloto(piloto)
+                .estado(EstadoTripulante.DISPONIBLE)
+                .build();
+        entityManager.persist(tripulante);
+        return tripulante;
+    }
+
+    private void vuelo(Aeronave aeronave, EstadoVuelo estado, LocalDateTime salida, LocalDateTime llegada,
+                       Tripulante... tripulacion) {
+        Vuelo vuelo = Vuelo.builder()
+                .usuario(usuario).aeronave(aeronave).origen("Bogotá").destino("Cali")
+                .fechaSalidaProgramada(salida).fechaLlegadaProgramada(llegada)
+                .numeroPasajeros(4).estado(estado).tripulacion(new ArrayList<>(List.of(tripulacion)))
+                .build();
+        entityManager.persist(vuelo);
+    }
+}
@@ -0,0 +1,138 @@
+package com.paeldav.backend.infraestructure.repository;
+
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Mantenimiento;
+import com.paeldav.backend.domain.entity.Usuario;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.domain.enums.RolUsuario;
+import com.paeldav.backend.domain.enums.TipoMantenimiento;
+import com.paeldav.backend.infraestructure.repository.projection.HorasInspeccionAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TramoVueloAeronave;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica las consultas por grupo de aeronaves usadas por el pronóstico de mantenimiento:
+ * horas de la última inspección completada y vuelos programados en orden de salida.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@DisplayName("Pronóstico de Mantenimiento - Consultas Tests")
+class PronosticoMantenimientoConsultasTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 4, 1, 10, 0);
+    private static final List<TipoMantenimiento> TIPOS_INSPECCION =
+            List.of(TipoMantenimiento.PREVENTIVO, TipoMantenimiento.INSPECCION);
+    private static final List<EstadoVuelo> ESTADOS_PROGRAMADOS = List.of(EstadoVuelo.CONFIRMADO, EstadoVuelo.EN_CURSO);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private VueloRepository vueloRepository;
+
+    @Autowired
+    private MantenimientoRepository mantenimientoRepository;
+
+    private Aeronave aeronave;
+    private Aeronave otra;
+    private Aeronave sinRegistros;
+    private Long vueloTardioId;
+    private Long vueloTempranoId;
+
+    @BeforeEach
+    void setUp() {
+        Usuario usuario = Usuario.builder()
+                .nombre("Ana").apellido("Gómez").email("ana@paeldav.com").password("secreto")
+                .rol(RolUsuario.USUARIO).activo(true)
+                .build();
+        entityManager.persist(usuario);
+
+        aeronave = aeronave("HK-1000");
+        otra = aeronave("HK-2000");
+        sinRegistros = aeronave("HK-3000");
+
+        // Solo cuentan las inspecciones completadas de los tipos indicados y con horas registradas
+        mantenimiento(aeronave, TipoMantenimiento.PREVENTIVO, 100.0, true);
+        mantenimiento(aeronave, TipoMantenimiento.INSPECCION, 250.0, true);
+        mantenimiento(aeronave, TipoMantenimiento.CORRECTIVO, 400.0, true);
+        mantenimiento(aeronave, TipoMantenimiento.PREVENTIVO, 300.0, false);
+        mantenimiento(aeronave, TipoMantenimiento.PREVENTIVO, null, true);
+        mantenimiento(otra, TipoMantenimiento.PREVENTIVO, 80.0, true);
+
+        vueloTardioId = vuelo(usuario, aeronave, EstadoVuelo.EN_CURSO, BASE.plusDays(2));
+        vueloTempranoId = vuelo(usuario, aeronave, EstadoVuelo.CONFIRMADO, BASE);
+        vuelo(usuario, aeronave, EstadoVuelo.SOLICITADO, BASE.plusDays(1));
+        vuelo(usuario, aeronave, EstadoVuelo.COMPLETADO, BASE.minusDays(1));
+        vuelo(usuario, otra, EstadoVuelo.CONFIRMADO, BASE);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Las horas de la última inspección son el máximo de las inspecciones completadas")
+    void findHorasUltimaInspeccion_VariasAeronaves_UnaFilaPorAeronave() {
+        // Act
+        List<HorasInspeccionAeronave> horas = mantenimientoRepository.findHorasUltimaInspeccion(
+                List.of(aeronave.getId(), sinRegistros.getId()), TIPOS_INSPECCION);
+
+        // Assert
+        assertEquals(1, horas.size());
+        assertEquals(aeronave.getId(), horas.get(0).getAeronaveId());
+        assertEquals(250.0, horas.get(0).getHoras());
+    }
+
+    @Test
+    @DisplayName("Los vuelos programados de las aeronaves se obtienen en orden de salida")
+    void findTramosPorAeronaves_FiltraEstadosYOrdenaPorSalida() {
+        // Act
+        List<TramoVueloAeronave> tramos = vueloRepository.findTramosPorAeronaves(
+                List.of(aeronave.getId(), sinRegistros.getId()), ESTADOS_PROGRAMADOS);
+
+        // Assert
+        assertEquals(List.of(vueloTempranoId, vueloTardioId),
+                tramos.stream().map(TramoVueloAeronave::getVueloId).toList());
+        assertTrue(tramos.stream().allMatch(t -> aeronave.getId().equals(t.getAeronaveId())));
+        assertEquals(BASE.plusHours(3), tramos.get(0).getFechaLlegada());
+    }
+
+    private Aeronave aeronave(String matricula) {
+        Aeronave aeronave = Aeronave.builder()
+                .matricula(matricula).modelo("Citation").capacidadPasajeros(8).capacidadTripulacion(2)
+                .horasVueloTotales(0.0).estado(EstadoAeronave.DISPONIBLE)
+                .build();
+        entityManager.persist(aeronave);
+        return aeronave;
+    }
+
+    private Long vuelo(Usuario usuario, Aeronave aeronave, EstadoVuelo estado, LocalDateTime salida) {
+        Vuelo vuelo = Vuelo.builder()
+                .usuario(usuario).aeronave(aeronave).origen("Bogotá").destino("Cali")
+                .fechaSalidaProgramada(salida).fechaLlegadaProgramada(salida.plusHours(3))
+                .numeroPasajeros(4).estado(estado)
+                .build();
+        entityManager.persist(vuelo);
+        return vuelo.getId();
+    }
+
+    private void mantenimiento(Aeronave aeronave, TipoMantenimiento tipo, Double horas, boolean completado) {
+        Mantenimiento mantenimiento = Mantenimiento.builder()
+                .aeronave(aeronave).tipo(tipo).descripcion("Revisión").fechaInicio(BASE).horasVueloAeronave(horas)
+                .completado(completado)
+                .build();
+        entityManager.persist(mantenimiento);
+    }
+}
@@ -0,0 +1,231 @@
+package com.paeldav.backend.infraestructure.repository;
+
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
+import com.paeldav.backend.application.dto.pago.PagoDTO;
+import com.paeldav.backend.application.dto.registroauditoria.RegistroAuditoriaDTO;
+import com.paeldav.backend.application.mapper.AeronaveMapper;
+import com.paeldav.backend.application.mapper.AeronaveMapperImpl;
+import com.paeldav.backend.application.mapper.PagoMapper;
+import com.paeldav.backend.application.mapper.PagoMapperImpl;
+import com.paeldav.backend.application.mapper.RegistroAuditoriaMapper;
+import com.paeldav.backend.application.mapper.RegistroAuditoriaMapperImpl;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Pago;
+import com.paeldav.backend.domain.entity.RegistroAuditoria;
+import com.paeldav.backend.domain.entity.Usuario;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoPago;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.domain.enums.RolUsuario;
+import com.paeldav.backend.domain.enums.TipoEventoAuditoria;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara las consultas de lectura proyectadas a DTO con el camino anterior (entidades + MapStruct).
+ *
+ * Lo verificable de forma determinista es que la proyección no carga entidades en el contexto de
+ * persistencia y produce el mismo resultado. Latencia y memoria asignada por iteración se registran
+ * en el log como referencia, sin aserciones, porque dependen de la máquina y del JIT.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import({AeronaveMapperImpl.class, PagoMapperImpl.class, RegistroAuditoriaMapperImpl.class})
+@DisplayName("Proyecciones de Lectura Tests")
+class ProyeccionesLecturaTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProyeccionesLecturaTest.class);
+
+    private static final int FILAS = 300;
+    private static final int CALENTAMIENTO = 5;
+    private static final int ITERACIONES = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AeronaveRepository aeronaveRepository;
+
+    @Autowired
+    private PagoRepository pagoRepository;
+
+    @Autowired
+    private AeronaveMapper aeronaveMapper;
+
+    @Autowired
+    private PagoMapper pagoMapper;
+
+    @Autowired
+    private RegistroAuditoriaRepository registroAuditoriaRepository;
+
+    @Autowired
+    private RegistroAuditoriaMapper registroAuditoriaMapper;
+
+    private Statistics estadisticas;
+    private Long vueloId;
+
+    @BeforeEach
+    void setUp() {
+        Usuario usuario = Usuario.builder()
+                .nombre("Ana").apellido("Gómez").email("ana@paeldav.com").password("secreto")
+                .rol(RolUsuario.USUARIO).activo(true)
+                .build();
+        entityManager.persist(usuario);
+
+        Aeronave primera = null;
+        for (int i = 0; i < FILAS; i++) {
+            Aeronave aeronave = Aeronave.builder()
+                    .matricula("HK-" + (1000 + i)).modelo("Citation").fabricante("Cessna")
+                    .capacidadPasajeros(8).capacidadTripulacion(2).horasVueloTotales(10.0 * i)
+                    .estado(EstadoAeronave.DISPONIBLE).especificacionesTecnicas("Especificaciones " + i)
+                    .build();
+            entityManager.persist(aeronave);
+            if (primera == null) {
+                primera = aeronave;
+            }
+        }
+
+        LocalDateTime salida = LocalDateTime.of(2026, 6, 1, 8, 0);
+        Vuelo vuelo = Vuelo.builder()
+                .usuario(usuario).aeronave(primera).origen("Bogotá").destino("Cali")
+                .fechaSalidaProgramada(salida).fechaLlegadaProgramada(salida.plusHours(1))
+                .numeroPasajeros(4).estado(EstadoVuelo.CONFIRMADO)
+                .build();
+        entityManager.persist(vuelo);
+        vueloId = vuelo.getId();
+
+        for (int i = 0; i < FILAS; i++) {
+            Pago pago = Pago.builder()
+                    .vuelo(vuelo).usuario(usuario).monto(100.0 + i).estado(EstadoPago.CONFIRMADO)
+                    .referenciaMercadoPago("REF-" + i).metodoPago("tarjeta").emailCliente("ana@paeldav.com")
+                    .build();
+            entityManager.persist(pago);
+        }
+
+        for (int i = 0; i < FILAS; i++) {
+            RegistroAuditoria registro = RegistroAuditoria.builder()
+                    .usuarioId(usuario.getId())
+                    .tipoEvento(i % 2 == 0 ? TipoEventoAuditoria.LOGIN : TipoEventoAuditoria.CREDENCIALES_INVALIDAS)
+                    .directorIP("192.168.1." + (i % 255)).navegador("Mozilla/5.0")
+                    .resultado(i % 2 == 0).detallesError(i % 2 == 0 ? null : "Credenciales inválidas")
+                    .build();
+            entityManager.persist(registro);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        estadisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("El listado de aeronaves proyectado no carga entidades y coincide con el mapeado")
+    void aeronaves_Proyeccion_NoCargaEntidades() {
+        // Act
+        Medicion entidades = medir("aeronaves/entidades",
+                () -> aeronaveMapper.toDTOList(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE)));
+        Medicion proyeccion = medir("aeronaves/proyeccion",
+                () -> aeronaveRepository.findComoDTOByEstado(EstadoAeronave.DISPONIBLE));
+
+        // Assert
+        assertEquals(FILAS, entidades.entidadesCargadas());
+        assertEquals(0, proyeccion.entidadesCargadas());
+        List<AeronaveDTO> esperado = aeronaveMapper.toDTOList(aeronaveRepository.findByEstado(EstadoAeronave.DISPONIBLE));
+        List<AeronaveDTO> obtenido = aeronaveRepository.findComoDTOByEstado(EstadoAeronave.DISPONIBLE);
+        assertEquals(esperado.size(), obtenido.size());
+        assertEquals(esperado.get(FILAS - 1).getMatricula(), obtenido.get(FILAS - 1).getMatricula());
+        assertEquals(esperado.get(FILAS - 1).getEspecificacionesTecnicas(),
+                obtenido.get(FILAS - 1).getEspecificacionesTecnicas());
+    }
+
+    @Test
+    @DisplayName("El listado de pagos proyectado no carga entidades ni asociaciones perezosas")
+    void pagos_Proyeccion_NoCargaEntidades() {
+        // Act
+        Medicion entidades = medir("pagos/entidades",
+                () -> pagoMapper.toDTOList(pagoRepository.findByVueloId(vueloId)));
+        Medicion proyeccion = medir("pagos/proyeccion",
+                () -> pagoRepository.findComoDTOByVueloId(vueloId));
+
+        // Assert
+        assertTrue(entidades.entidadesCargadas() > FILAS, "El camino con entidades carga también el usuario");
+        assertEquals(0, proyeccion.entidadesCargadas());
+        PagoDTO pago = pagoRepository.findComoDTOByVueloId(vueloId).get(0);
+        assertEquals(vueloId, pago.getVueloId());
+        assertEquals("Ana", pago.getUsuarioNombre());
+        assertNull(pago.getUrlPago());
+    }
+
+    @Test
+    @DisplayName("Los listados de auditoría proyectados no cargan entidades y coinciden con los mapeados")
+    void auditoria_Proyeccion_NoCargaEntidades() {
+        // Act
+        Medicion entidades = medir("auditoria/entidades",
+                () -> registroAuditoriaMapper.toDTOList(registroAuditoriaRepository.findAll()));
+        Medicion proyeccion = medir("auditoria/proyeccion",
+                () -> registroAuditoriaRepository.findAllComoDTO());
+
+        // Assert
+        assertEquals(FILAS, entidades.entidadesCargadas());
+        assertEquals(0, proyeccion.entidadesCargadas());
+        List<RegistroAuditoriaDTO> fallidos = registroAuditoriaRepository
+                .findComoDTOByTipoEventoAndResultadoFalse(TipoEventoAuditoria.CREDENCIALES_INVALIDAS);
+        assertEquals(FILAS / 2, fallidos.size());
+        RegistroAuditoriaDTO esperado = registroAuditoriaMapper.toDTO(
+                registroAuditoriaRepository.findById(fallidos.get(0).getId()).orElseThrow());
+        assertEquals(esperado.getTimestamp(), fallidos.get(0).getTimestamp());
+        assertEquals(esperado.getDetallesError(), fallidos.get(0).getDetallesError());
+    }
+
+    /**
+     * Ejecuta la consulta con el contexto de persistencia limpio en cada iteración y registra
+     * latencia media y memoria asignada por iteración. Retorna las entidades cargadas en una ejecución.
+     */
+    private Medicion medir(String nombre, Supplier<List<?>> consulta) {
+        for (int i = 0; i < CALENTAMIENTO; i++) {
+            consulta.get();
+            entityManager.clear();
+        }
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytesInicio = hilos.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < ITERACIONES; i++) {
+            consulta.get();
+            entityManager.clear();
+        }
+        long nanos = (System.nanoTime() - inicio) / ITERACIONES;
+        long bytes = (hilos.getCurrentThreadAllocatedBytes() - bytesInicio) / ITERACIONES;
+
+        estadisticas.clear();
+        consulta.get();
+        long cargadas = estadisticas.getEntityLoadCount();
+        entityManager.clear();
+
+        log.info("{}: {} filas, {} µs/iteración, {} KB asignados/iteración, {} entidades cargadas",
+                nombre, FILAS, nanos / 1_000, bytes / 1_024, cargadas);
+        return new Medicion(nanos, bytes, cargadas);
+    }
+
+    private record Medicion(long nanosPorIteracion, long bytesPorIteracion, long entidadesCargadas) {
+    }
+}
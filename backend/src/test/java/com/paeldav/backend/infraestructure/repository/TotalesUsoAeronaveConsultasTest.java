@@ -0,0 +1,187 @@
+package com.paeldav.backend.infraestructure.repository;
+
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Mantenimiento;
+import com.paeldav.backend.domain.entity.Repostaje;
+import com.paeldav.backend.domain.entity.Usuario;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.domain.enums.RolUsuario;
+import com.paeldav.backend.domain.enums.TipoMantenimiento;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesMantenimientosAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesRepostajesAeronave;
+import com.paeldav.backend.infraestructure.repository.projection.TotalesVuelosAeronave;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica los totales de uso de una aeronave calculados con consultas agregadas,
+ * incluido el filtro por rango de fechas y el caso sin filas.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@DisplayName("Totales de Uso de Aeronave - Consultas Tests")
+class TotalesUsoAeronaveConsultasTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 4, 1, 10, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private VueloRepository vueloRepository;
+
+    @Autowired
+    private MantenimientoRepository mantenimientoRepository;
+
+    @Autowired
+    private RepostajeRepository repostajeRepository;
+
+    private Long aeronaveId;
+    private Long aeronaveSinUsoId;
+
+    @BeforeEach
+    void setUp() {
+        Usuario usuario = Usuario.builder()
+                .nombre("Ana").apellido("Gómez").email("ana@paeldav.com").password("secreto")
+                .rol(RolUsuario.USUARIO).activo(true)
+                .build();
+        entityManager.persist(usuario);
+
+        Aeronave aeronave = aeronave("HK-1000");
+        Aeronave sinUso = aeronave("HK-2000");
+        aeronaveId = aeronave.getId();
+        aeronaveSinUsoId = sinUso.getId();
+
+        // Completado de 2 h 30 min, cancelado sin horas reales y uno completado 20 días después
+        vuelo(usuario, aeronave, EstadoVuelo.COMPLETADO, BASE, 150);
+        vuelo(usuario, aeronave, EstadoVuelo.CANCELADO, BASE.plusDays(1), null);
+        vuelo(usuario, aeronave, EstadoVuelo.COMPLETADO, BASE.plusDays(20), 60);
+
+        mantenimiento(aeronave, TipoMantenimiento.PREVENTIVO, BASE, 100.0);
+        mantenimiento(aeronave, TipoMantenimiento.PREVENTIVO, BASE.plusDays(2), 150.0);
+        mantenimiento(aeronave, TipoMantenimiento.CORRECTIVO, BASE.plusDays(20), 500.0);
+        mantenimiento(aeronave, TipoMantenimiento.INSPECCION, BASE.plusDays(3), null);
+
+        repostaje(aeronave, BASE, 150.0, 300.0);
+        repostaje(aeronave, BASE.plusDays(20), 200.0, 450.0);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Los totales de vuelos cuentan estados y suman las horas reales")
+    void calcularTotalesVuelos_HistorialCompleto() {
+        // Act
+        TotalesVuelosAeronave totales = vueloRepository.calcularTotalesPorAeronave(aeronaveId, null, null);
+
+        // Assert
+        assertEquals(3, totales.getTotalVuelos());
+        assertEquals(2, totales.getVuelosCompletados());
+        assertEquals(1, totales.getVuelosCancelados());
+        assertEquals(210.0, totales.getMinutosVuelo());
+    }
+
+    @Test
+    @DisplayName("Los totales de mantenimientos cuentan por tipo y suman el costo")
+    void calcularTotalesMantenimientos_HistorialCompleto() {
+        // Act
+        TotalesMantenimientosAeronave totales =
+                mantenimientoRepository.calcularTotalesPorAeronave(aeronaveId, null, null);
+
+        // Assert
+        assertEquals(4, totales.getTotalMantenimientos());
+        assertEquals(2, totales.getPreventivos());
+        assertEquals(1, totales.getCorrectivos());
+        assertEquals(750.0, totales.getCostoTotal());
+    }
+
+    @Test
+    @DisplayName("El rango de fechas se aplica en las consultas de totales y de detalle")
+    void calcularTotales_ConRango_FiltraEnLaConsulta() {
+        // Arrange
+        LocalDateTime desde = BASE;
+        LocalDateTime hasta = BASE.plusDays(7);
+
+        // Act
+        TotalesVuelosAeronave vuelos = vueloRepository.calcularTotalesPorAeronave(aeronaveId, desde, hasta);
+        TotalesMantenimientosAeronave mantenimientos =
+                mantenimientoRepository.calcularTotalesPorAeronave(aeronaveId, desde, hasta);
+        TotalesRepostajesAeronave repostajes = repostajeRepository.calcularTotalesPorAeronave(aeronaveId, desde, hasta);
+
+        // Assert
+        assertEquals(2, vuelos.getTotalVuelos());
+        assertEquals(150.0, vuelos.getMinutosVuelo());
+        assertEquals(0, mantenimientos.getCorrectivos());
+        assertEquals(250.0, mantenimientos.getCostoTotal());
+        assertEquals(1, repostajes.getTotalRepostajes());
+        assertEquals(150.0, repostajes.getLitros());
+        assertEquals(300.0, repostajes.getCostoTotal());
+        assertEquals(2, vueloRepository.findByAeronaveIdEnRango(aeronaveId, desde, hasta).size());
+        assertEquals(3, mantenimientoRepository.findByAeronaveIdEnRango(aeronaveId, desde, hasta).size());
+        assertEquals(1, repostajeRepository.findByAeronaveIdEnRango(aeronaveId, desde, hasta).size());
+    }
+
+    @Test
+    @DisplayName("Una aeronave sin registros obtiene totales en cero")
+    void calcularTotales_SinRegistros_RetornaCeros() {
+        // Act
+        TotalesVuelosAeronave vuelos = vueloRepository.calcularTotalesPorAeronave(aeronaveSinUsoId, null, null);
+        TotalesRepostajesAeronave repostajes =
+                repostajeRepository.calcularTotalesPorAeronave(aeronaveSinUsoId, null, null);
+
+        // Assert
+        assertEquals(0, vuelos.getTotalVuelos());
+        assertEquals(0.0, vuelos.getMinutosVuelo());
+        assertEquals(0, repostajes.getTotalRepostajes());
+        assertEquals(0.0, repostajes.getLitros());
+    }
+
+    private Aeronave aeronave(String matricula) {
+        Aeronave aeronave = Aeronave.builder()
+                .matricula(matricula).modelo("Citation").capacidadPasajeros(8).capacidadTripulacion(2)
+                .horasVueloTotales(0.0).estado(EstadoAeronave.DISPONIBLE)
+                .build();
+        entityManager.persist(aeronave);
+        return aeronave;
+    }
+
+    private void vuelo(Usuario usuario, Aeronave aeronave, EstadoVuelo estado, LocalDateTime salida,
+                       Integer minutosReales) {
+        Vuelo vuelo = Vuelo.builder()
+                .usuario(usuario).aeronave(aeronave).origen("Bogotá").destino("Cali")
+                .fechaSalidaProgramada(salida).fechaLlegadaProgramada(salida.plusHours(3))
+                .fechaSalidaReal(minutosReales != null ? salida : null)
+                .fechaLlegadaReal(minutosReales != null ? salida.plusMinutes(minutosReales) : null)
+                .numeroPasajeros(4).estado(estado)
+                .build();
+        entityManager.persist(vuelo);
+    }
+
+    private void mantenimiento(Aeronave aeronave, TipoMantenimiento tipo, LocalDateTime inicio, Double costo) {
+        Mantenimiento mantenimiento = Mantenimiento.builder()
+                .aeronave(aeronave).tipo(tipo).descripcion("Revisión").fechaInicio(inicio).costo(costo)
+                .completado(true)
+                .build();
+        entityManager.persist(mantenimiento);
+    }
+
+    private void repostaje(Aeronave aeronave, LocalDateTime fecha, Double litros, Double costo) {
+        Repostaje repostaje = Repostaje.builder()
+                .aeronave(aeronave).cantidadLitros(litros).tipoCombustible("JET-A1").fechaRepostaje(fecha)
+                .costoTotal(costo)
+                .build();
+        entityManager.persist(repostaje);
+    }
+}
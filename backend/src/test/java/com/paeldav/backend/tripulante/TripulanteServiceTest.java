@@ -0,0 +1,94 @@
+package com.paeldav.backend.tripulante;
+
+import com.paeldav.backend.application.service.horas.AcumuladorHorasVuelo;
+import com.paeldav.backend.application.service.impl.TripulanteServiceImpl;
+import com.paeldav.backend.exception.TripulanteNoEncontradoException;
+import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripulanteService Tests")
+class TripulanteServiceTest {
+
+    @Mock
+    private TripulanteRepository tripulanteRepository;
+
+    @Mock
+    private AcumuladorHorasVuelo acumuladorHoras;
+
+    @InjectMocks
+    private TripulanteServiceImpl tripulanteService;
+
+    // ==================== INCREMENTAR HORAS DE VUELO TESTS ====================
+
+    @Nested
+    @DisplayName("Incrementar Horas de Vuelo Tests")
+    class IncrementarHorasVueloTests {
+
+        @Test
+        @DisplayName("Incrementar horas de vuelo con un UPDATE atómico, sin leer el tripulante")
+        void incrementarHorasVuelo_ConHorasValidas_ActualizaAtomicamente() {
+            // Arrange
+            when(tripulanteRepository.incrementarHorasVuelo(1L, 3.5)).thenReturn(1);
+
+            // Act
+            tripulanteService.incrementarHorasVuelo(1L, 3.5);
+
+            // Assert
+            verify(tripulanteRepository).incrementarHorasVuelo(1L, 3.5);
+            verify(tripulanteRepository, never()).findById(any());
+            verify(acumuladorHoras, never()).acumularTripulante(any(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Con escritura diferida el incremento se acumula en memoria")
+        void incrementarHorasVuelo_ConEscrituraDiferida_Acumula() {
+            // Arrange
+            when(acumuladorHoras.estaHabilitado()).thenReturn(true);
+            when(tripulanteRepository.existsById(1L)).thenReturn(true);
+
+            // Act
+            tripulanteService.incrementarHorasVuelo(1L, 2.0);
+
+            // Assert
+            verify(acumuladorHoras).acumularTripulante(1L, 2.0);
+            verify(tripulanteRepository, never()).incrementarHorasVuelo(any(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Incrementar horas con valor no positivo lanza excepción")
+        void incrementarHorasVuelo_ConValorNoPositivo_LanzaExcepcion() {
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> tripulanteService.incrementarHorasVuelo(1L, 0.0)
+            );
+            assertEquals("Las horas de vuelo a agregar deben ser positivas", exception.getMessage());
+            verifyNoInteractions(tripulanteRepository, acumuladorHoras);
+        }
+
+        @Test
+        @DisplayName("Incrementar horas con tripulante inexistente lanza excepción")
+        void incrementarHorasVuelo_TripulanteInexistente_LanzaExcepcion() {
+            // Arrange
+            when(tripulanteRepository.incrementarHorasVuelo(999L, 5.0)).thenReturn(0);
+
+            // Act & Assert
+            TripulanteNoEncontradoException exception = assertThrows(
+                    TripulanteNoEncontradoException.class,
+                    () -> tripulanteService.incrementarHorasVuelo(999L, 5.0)
+            );
+            assertEquals("Tripulante no encontrado con ID: 999", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.paeldav.backend.vuelo;
+
+import com.paeldav.backend.application.dto.vuelo.FiltroVuelosDTO;
+import com.paeldav.backend.application.dto.vuelo.PaginaVuelosDTO;
+import com.paeldav.backend.application.dto.vuelo.VueloDTO;
+import com.paeldav.backend.application.mapper.HistorialVueloMapper;
+import com.paeldav.backend.application.mapper.VueloMapper;
+import com.paeldav.backend.application.service.agenda.IndiceAgendaAeronaves;
+import com.paeldav.backend.application.service.agenda.ReglasRotacion;
+import com.paeldav.backend.application.service.base.PagoService;
+import com.paeldav.backend.application.service.bloqueo.BloqueoRecursos;
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
+import com.paeldav.backend.application.service.horas.RegistroHorasVuelo;
+import com.paeldav.backend.application.service.impl.VueloServiceImpl;
+import com.paeldav.backend.application.service.mantenimiento.PronosticoMantenimiento;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
+import com.paeldav.backend.domain.entity.Aeronave;
+import com.paeldav.backend.domain.entity.Tripulante;
+import com.paeldav.backend.domain.entity.Usuario;
+import com.paeldav.backend.domain.entity.Vuelo;
+import com.paeldav.backend.domain.enums.EstadoAeronave;
+import com.paeldav.backend.domain.enums.EstadoTripulante;
+import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.domain.enums.RolUsuario;
+import com.paeldav.backend.infraestructure.config.RestriccionesAgenda;
+import com.paeldav.backend.infraestructure.repository.AeronaveRepository;
+import com.paeldav.backend.infraestructure.repository.HistorialVueloRepository;
+import com.paeldav.backend.infraestructure.repository.NotaVueloRepository;
+import com.paeldav.backend.infraestructure.repository.TripulanteRepository;
+import com.paeldav.backend.infraestructure.repository.UsuarioRepository;
+import com.paeldav.backend.infraestructure.repository.VueloRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Verifica que el listado de vuelos de {@link VueloServiceImpl} ejecuta un número fijo de sentencias por
+ * página, sin cargas por cada vuelo (usuario, aeronave o tripulación). El servicio usa el repositorio real;
+ * sus demás dependencias no intervienen en el listado.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@DisplayName("Listado de Vuelos - Consultas Tests")
+class VueloListadoConsultasTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 5, 1, 6, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private VueloRepository vueloRepository;
+
+    private VueloServiceImpl vueloService;
+
+    @BeforeEach
+    void setUp() {
+        vueloService = new VueloServiceImpl(
+                vueloRepository,
+                mock(UsuarioRepository.class),
+                mock(AeronaveRepository.class),
+                mock(TripulanteRepository.class),
+                mock(HistorialVueloRepository.class),
+                mock(PagoService.class),
+                mock(VueloMapper.class),
+                mock(HistorialVueloMapper.class),
+                mock(NotaVueloRepository.class),
+                mock(IndiceAgendaAeronaves.class),
+                mock(ReglasRotacion.class),
+                mock(RestriccionesAgenda.class),
+                mock(BloqueoRecursos.class),
+                mock(RegistroRetenciones.class),
+                mock(CacheAeronaves.class),
+                mock(PronosticoMantenimiento.class),
+                mock(RegistroHorasVuelo.class),
+                mock(JdbcTemplate.class),
+                mock(TransactionTemplate.class),
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    @DisplayName("Una página de 200 vuelos ejecuta las mismas sentencias que una de 50")
+    void obtenerTodosVuelos_PaginaMaxima_SentenciasConstantes() {
+        // Arrange
+        crearVuelos(500);
+        Statistics estadisticas = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        // Act
+        estadisticas.clear();
+        PaginaVuelosDTO cincuenta = vueloService.obtenerTodosVuelos(new FiltroVuelosDTO(), null, 50);
+        long sentenciasCincuenta = estadisticas.getPrepareStatementCount();
+
+        entityManager.clear();
+        estadisticas.clear();
+        PaginaVuelosDTO doscientos = vueloService.obtenerTodosVuelos(new FiltroVuelosDTO(), null, 200);
+        long sentenciasDoscientos = estadisticas.getPrepareStatementCount();
+
+        // Assert
+        assertEquals(50, cincuenta.getVuelos().size());
+        assertEquals(200, doscientos.getVuelos().size());
+        assertEquals(2, sentenciasDoscientos);
+        assertEquals(sentenciasCincuenta, sentenciasDoscientos);
+        VueloDTO ultimo = doscientos.getVuelos().get(199);
+        assertNotNull(ultimo.getUsuarioNombre());
+        assertNotNull(ultimo.getAeronaveMatricula());
+        assertEquals(2, ultimo.getTripulacionIds().size());
+        assertEquals(0, estadisticas.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Recorrer 500 vuelos por cursor ejecuta dos sentencias por página")
+    void obtenerTodosVuelos_RecorridoPorCursor_DosSentenciasPorPagina() {
+        // Arrange
+        crearVuelos(500);
+        Statistics estadisticas = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        // Act
+        List<VueloDTO> todos = new ArrayList<>();
+        int paginas = 0;
+        String cursor = null;
+        do {
+            PaginaVuelosDTO pagina = vueloService.obtenerTodosVuelos(new FiltroVuelosDTO(), cursor, 200);
+            todos.addAll(pagina.getVuelos());
+            cursor = pagina.getSiguienteCursor();
+            paginas++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(3, paginas);
+        assertEquals(500, todos.size());
+        assertEquals(2L * paginas, estadisticas.getPrepareStatementCount());
+        assertEquals(0, estadisticas.getEntityLoadCount());
+    }
+
+    private void crearVuelos(int cantidad) {
+        List<Usuario> usuarios = new ArrayList<>();
+        List<Aeronave> aeronaves = new ArrayList<>();
+        List<Tripulante> tripulantes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Usuario usuario = Usuario.builder()
+                    .nombre("Usuario").apellido(String.valueOf(i))
+                    .email("usuario" + i + "@paeldav.com").password("secreto")
+                    .rol(i < 10 ? RolUsuario.USUARIO : RolUsuario.TRIPULACION).activo(true)
+                    .build();
+            entityManager.persist(usuario);
+            usuarios.add(usuario);
+        }
+        for (int i = 0; i < 10; i++) {
+            Aeronave aeronave = Aeronave.builder()
+                    .matricula("HK-" + (1000 + i)).modelo("Citation").capacidadPasajeros(8)
+                    .capacidadTripulacion(2).horasVueloTotales(0.0).estado(EstadoAeronave.DISPONIBLE)
+                    .build();
+            entityManager.persist(aeronave);
+            aeronaves.add(aeronave);
+
+            Tripulante tripulante = Tripulante.builder()
+                    .usuario(usuarios.get(10 + i)).numeroLicencia("LIC-" + i)
+                    .horasVueloTotales(0.0).horasVueloMes(0.0).esPiloto(true).estado(EstadoTripulante.DISPONIBLE)
+                    .build();
+            entityManager.persist(tripulante);
+            tripulantes.add(tripulante);
+        }
+        for (int i = 0; i < cantidad; i++) {
+            LocalDateTime salida = BASE.plusHours(i);
+            Vuelo vuelo = Vuelo.builder()
+                    .usuario(usuarios.get(i % 10))
+                    .aeronave(aeronaves.get(i % 10))
+                    .tripulacion(new ArrayList<>(List.of(tripulantes.get(i % 10), tripulantes.get((i + 1) % 10))))
+                    .origen("Bogotá").destino("Medellín")
+                    .fechaSalidaProgramada(salida).fechaLlegadaProgramada(salida.plusHours(1))
+                    .numeroPasajeros(4).estado(EstadoVuelo.CONFIRMADO)
+                    .build();
+            entityManager.persist(vuelo);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -1,26 +1,49 @@
 package com.paeldav.backend.vuelo;
 
+import com.paeldav.backend.application.dto.aeronave.AeronaveDTO;
 import com.paeldav.backend.application.dto.vuelo.*;
 import com.paeldav.backend.application.mapper.HistorialVueloMapper;
 import com.paeldav.backend.application.mapper.VueloMapper;
+import com.paeldav.backend.application.service.agenda.IndiceAgendaAeronaves;
+import com.paeldav.backend.application.service.agenda.ReglasRotacion;
+import com.paeldav.backend.application.service.bloqueo.BloqueoRecursos;
+import com.paeldav.backend.application.service.flota.CacheAeronaves;
+import com.paeldav.backend.application.service.horas.RegistroHorasVuelo;
+import com.paeldav.backend.application.service.mantenimiento.PronosticoMantenimiento;
 import com.paeldav.backend.application.service.impl.VueloServiceImpl;
+import com.paeldav.backend.application.service.retencion.RegistroRetenciones;
+import com.paeldav.backend.application.service.retencion.Retencion;
+import com.paeldav.backend.application.service.tiemporeal.EventoCambioEstado;
 import com.paeldav.backend.domain.entity.*;
 import com.paeldav.backend.domain.enums.EstadoAeronave;
 import com.paeldav.backend.domain.enums.EstadoTripulante;
 import com.paeldav.backend.domain.enums.EstadoVuelo;
+import com.paeldav.backend.domain.enums.TipoNotaVuelo;
 import com.paeldav.backend.exception.*;
+import com.paeldav.backend.infraestructure.config.RestriccionesAgenda;
 import com.paeldav.backend.infraestructure.repository.*;
+import com.paeldav.backend.infraestructure.repository.projection.ConflictoTripulanteVuelo;
+import com.paeldav.backend.infraestructure.repository.projection.TripulanteVuelo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -28,7 +51,11 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +83,42 @@ class VueloServiceTest {
     @Mock
     private HistorialVueloMapper historialVueloMapper;
 
+    @Mock
+    private NotaVueloRepository notaVueloRepository;
+
+    @Mock
+    private IndiceAgendaAeronaves indiceAgenda;
+
+    @Spy
+    private ReglasRotacion reglasRotacion = new ReglasRotacion(30, "", 120, "");
+
+    @Mock
+    private RestriccionesAgenda restriccionesAgenda;
+
+    @Mock
+    private BloqueoRecursos bloqueoRecursos;
+
+    @Mock
+    private RegistroRetenciones registroRetenciones;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventos;
+
+    @Mock
+    private CacheAeronaves cacheAeronaves;
+
+    @Mock
+    private PronosticoMantenimiento pronosticoMantenimiento;
+
+    @Mock
+    private RegistroHorasVuelo registroHoras;
+
     @InjectMocks
     private VueloServiceImpl vueloService;
 
@@ -254,27 +317,121 @@ class VueloServiceTest {
         @DisplayName("Obtener todos los vuelos")
         void obtenerTodosVuelos_RetornaListaCompleta() {
             // Arrange
-            Vuelo vuelo2 = Vuelo.builder()
+            VueloDTO vuelo2 = VueloDTO.builder()
                     .id(2L)
-                    .usuario(usuarioTest)
+                    .usuarioId(1L)
                     .origen("Bogotá")
                     .destino("Miami")
                     .estado(EstadoVuelo.CONFIRMADO)
                     .build();
 
-            List<Vuelo> vuelos = Arrays.asList(vueloTest, vuelo2);
-            List<VueloDTO> vuelosDTO = Arrays.asList(vueLoDTOTest);
-
-            when(vueloRepository.findAll()).thenReturn(vuelos);
-            when(vueloMapper.toDTOList(vuelos)).thenReturn(vuelosDTO);
+            when(vueloRepository.buscarPagina(any(), isNull(), isNull(), anyInt())).thenReturn(Arrays.asList(vueLoDTOTest, vuelo2));
 
             // Act
-            List<VueloDTO> resultado = vueloService.obtenerTodosVuelos();
+            PaginaVuelosDTO resultado = vueloService.obtenerTodosVuelos(null, null, null);
 
             // Assert
             assertNotNull(resultado);
-            verify(vueloRepository).findAll();
-            verify(vueloMapper).toDTOList(vuelos);
+            assertEquals(2, resultado.getVuelos().size());
+            assertFalse(resultado.isHayMas());
+            assertNull(resultado.getSiguienteCursor());
+            verifyNoInteractions(vueloMapper);
+        }
+
+        @Test
+        @DisplayName("La tripulación de toda la página se carga con una sola consulta")
+        void obtenerTodosVuelos_CargaTripulacionEnLote() {
+            // Arrange
+            VueloDTO vuelo2 = VueloDTO.builder().id(2L).build();
+            VueloDTO vuelo3 = VueloDTO.builder().id(3L).build();
+            when(vueloRepository.buscarPagina(any(), isNull(), isNull(), anyInt())).thenReturn(List.of(vueLoDTOTest, vuelo2, vuelo3));
+            when(vueloRepository.findTripulacionIdsByVueloIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                    new TripulanteVuelo(1L, 10L), new TripulanteVuelo(1L, 11L), new TripulanteVuelo(2L, 12L)));
+
+            // Act
+            PaginaVuelosDTO resultado = vueloService.obtenerTodosVuelos(null, null, null);
+
+            // Assert
+            verify(vueloRepository, times(1)).findTripulacionIdsByVueloIdIn(anyCollection());
+            assertEquals(List.of(10L, 11L), resultado.getVuelos().get(0).getTripulacionIds());
+            assertEquals(List.of(12L), resultado.getVuelos().get(1).getTripulacionIds());
+            assertTrue(resultado.getVuelos().get(2).getTripulacionIds().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Una página llena devuelve un cursor que continúa tras el último vuelo")
+        void obtenerTodosVuelos_PaginaLlena_RetornaCursorSiguiente() {
+            // Arrange
+            VueloDTO vuelo2 = VueloDTO.builder()
+                    .id(2L)
+                    .fechaSalidaProgramada(vueLoDTOTest.getFechaSalidaProgramada().plusHours(1))
+                    .build();
+            VueloDTO vuelo3 = VueloDTO.builder()
+                    .id(3L)
+                    .fechaSalidaProgramada(vueLoDTOTest.getFechaSalidaProgramada().plusHours(2))
+                    .build();
+            when(vueloRepository.buscarPagina(any(), isNull(), isNull(), anyInt())).thenReturn(new ArrayList<>(List.of(vueLoDTOTest, vuelo2, vuelo3)));
+            when(vueloRepository.buscarPagina(any(), eq(vuelo2.getFechaSalidaProgramada()), eq(2L),
+                    anyInt())).thenReturn(List.of(vuelo3));
+
+            // Act
+            PaginaVuelosDTO primera = vueloService.obtenerTodosVuelos(null, null, 2);
+            PaginaVuelosDTO segunda = vueloService.obtenerTodosVuelos(null, primera.getSiguienteCursor(), 2);
+
+            // Assert
+            assertTrue(primera.isHayMas());
+            assertNotNull(primera.getSiguienteCursor());
+            assertEquals(List.of(vueLoDTOTest, vuelo2), primera.getVuelos());
+            assertFalse(segunda.isHayMas());
+            assertNull(segunda.getSiguienteCursor());
+            assertEquals(List.of(vuelo3), segunda.getVuelos());
+        }
+
+        @Test
+        @DisplayName("Un cursor malformado lanza excepción")
+        void obtenerTodosVuelos_CursorInvalido_LanzaExcepcion() {
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> vueloService.obtenerTodosVuelos(null, "no-es-un-cursor", null));
+            assertEquals("Cursor de paginación inválido", exception.getMessage());
+            verifyNoInteractions(vueloRepository);
+        }
+
+        @Test
+        @DisplayName("Un límite fuera de rango lanza excepción")
+        void obtenerTodosVuelos_LimiteFueraDeRango_LanzaExcepcion() {
+            assertThrows(IllegalArgumentException.class, () -> vueloService.obtenerTodosVuelos(null, null, 0));
+            assertThrows(IllegalArgumentException.class, () -> vueloService.obtenerTodosVuelos(null, null, 201));
+            verifyNoInteractions(vueloRepository);
+        }
+
+        @Test
+        @DisplayName("Un rango de pasajeros o de costo invertido lanza excepción")
+        void obtenerTodosVuelos_RangoInvertido_LanzaExcepcion() {
+            // Arrange
+            FiltroVuelosDTO pasajeros = FiltroVuelosDTO.builder().pasajerosMinimo(10).pasajerosMaximo(5).build();
+            FiltroVuelosDTO costo = FiltroVuelosDTO.builder().costoMinimo(5000.0).costoMaximo(1000.0).build();
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> vueloService.obtenerTodosVuelos(pasajeros, null, null));
+            assertThrows(IllegalArgumentException.class, () -> vueloService.obtenerTodosVuelos(costo, null, null));
+            verifyNoInteractions(vueloRepository);
+        }
+
+        @Test
+        @DisplayName("Los criterios de ciudad se recortan y los vacíos no filtran")
+        void obtenerTodosVuelos_CiudadesConEspacios_SeNormalizan() {
+            // Arrange
+            FiltroVuelosDTO filtro = FiltroVuelosDTO.builder().origen("  Bogotá ").destino(" ").build();
+            when(vueloRepository.buscarPagina(any(), isNull(), isNull(), anyInt())).thenReturn(List.of());
+
+            // Act
+            vueloService.obtenerTodosVuelos(filtro, null, null);
+
+            // Assert
+            verify(vueloRepository).buscarPagina(
+                    argThat(f -> "Bogotá".equals(f.getOrigen()) && f.getDestino() == null),
+                    isNull(), isNull(), eq(51));
         }
     }
 
@@ -425,6 +582,7 @@ class VueloServiceTest {
             // Assert
             assertEquals(EstadoVuelo.COMPLETADO, vueloTest.getEstado());
             verify(vueloRepository).save(vueloTest);
+            verify(registroHoras).registrarVueloCompletado(vueloTest);
         }
 
         @Test
@@ -442,6 +600,7 @@ class VueloServiceTest {
             // Assert
             assertEquals(EstadoVuelo.CANCELADO, vueloTest.getEstado());
             verify(vueloRepository).save(vueloTest);
+            verifyNoInteractions(registroHoras);
         }
 
         @Test
@@ -498,32 +657,31 @@ class VueloServiceTest {
         @DisplayName("Obtener vuelos en estado SOLICITADO")
         void obtenerVuelosPorEstado_ConEstadoSolicitado_RetornaVuelos() {
             // Arrange
-            List<Vuelo> vuelos = Arrays.asList(vueloTest);
-            List<VueloDTO> vuelosDTO = Arrays.asList(vueLoDTOTest);
-            when(vueloRepository.findByEstado(EstadoVuelo.SOLICITADO)).thenReturn(vuelos);
-            when(vueloMapper.toDTOList(vuelos)).thenReturn(vuelosDTO);
+            when(vueloRepository.buscarPagina(argThat(f -> f.getEstado() == EstadoVuelo.SOLICITADO),
+                    isNull(), isNull(), anyInt())).thenReturn(Arrays.asList(vueLoDTOTest));
 
             // Act
-            List<VueloDTO> resultado = vueloService.obtenerVuelosPorEstado(EstadoVuelo.SOLICITADO);
+            PaginaVuelosDTO resultado = vueloService.obtenerVuelosPorEstado(EstadoVuelo.SOLICITADO, null, null);
 
             // Assert
             assertNotNull(resultado);
-            verify(vueloRepository).findByEstado(EstadoVuelo.SOLICITADO);
+            assertEquals(1, resultado.getVuelos().size());
         }
 
         @Test
         @DisplayName("Obtener vuelos con estado sin registros retorna lista vacía")
         void obtenerVuelosPorEstado_SinRegistros_RetornaListaVacia() {
             // Arrange
-            when(vueloRepository.findByEstado(EstadoVuelo.COMPLETADO)).thenReturn(Arrays.asList());
-            when(vueloMapper.toDTOList(Arrays.asList())).thenReturn(Arrays.asList());
+            when(vueloRepository.buscarPagina(argThat(f -> f.getEstado() == EstadoVuelo.COMPLETADO),
+                    isNull(), isNull(), anyInt())).thenReturn(Arrays.asList());
 
             // Act
-            List<VueloDTO> resultado = vueloService.obtenerVuelosPorEstado(EstadoVuelo.COMPLETADO);
+            PaginaVuelosDTO resultado = vueloService.obtenerVuelosPorEstado(EstadoVuelo.COMPLETADO, null, null);
 
             // Assert
             assertNotNull(resultado);
-            assertTrue(resultado.isEmpty());
+            assertTrue(resultado.getVuelos().isEmpty());
+            assertFalse(resultado.isHayMas());
         }
     }
 
@@ -602,6 +760,25 @@ class VueloServiceTest {
             verify(historialVueloRepository).save(any(HistorialVuelo.class));
         }
 
+        @Test
+        @DisplayName("Aprobar solicitud publica el nuevo estado para su difusión en tiempo real")
+        void aprobarSolicitud_PublicaCambioDeEstado() {
+            // Arrange
+            vueloTest.setEstado(EstadoVuelo.SOLICITADO);
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(vueloRepository.save(any(Vuelo.class))).thenReturn(vueloTest);
+
+            // Act
+            vueloService.aprobarSolicitud(1L, null);
+
+            // Assert
+            ArgumentCaptor<EventoCambioEstado> evento = ArgumentCaptor.forClass(EventoCambioEstado.class);
+            verify(eventos).publishEvent(evento.capture());
+            assertEquals(EventoCambioEstado.Recurso.VUELO, evento.getValue().getRecurso());
+            assertEquals(1L, evento.getValue().getVueloId());
+            assertEquals("CONFIRMADO", evento.getValue().getEstado());
+        }
+
         @Test
         @DisplayName("Aprobar solicitud con estado no SOLICITADO lanza excepción")
         void aprobarSolicitud_ConEstadoNoSolicitado_LanzaExcepcion() {
@@ -636,6 +813,50 @@ class VueloServiceTest {
                     historial.getEstadoNuevo() == EstadoVuelo.CONFIRMADO
             ));
         }
+
+        @Test
+        @DisplayName("Aprobar solicitud con recursos propuestos los retiene hasta el pago")
+        void aprobarSolicitud_ConRecursosPropuestos_RetieneRecursos() {
+            // Arrange
+            vueloTest.setEstado(EstadoVuelo.SOLICITADO);
+            SolicitudAprobacionDTO dto = SolicitudAprobacionDTO.builder()
+                    .aeronaveId(1L)
+                    .tripulanteIds(List.of(1L))
+                    .build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(
+                    AeronaveDTO.builder().id(1L).modelo(aeronaveTest.getModelo()).build()));
+            when(vueloRepository.save(any(Vuelo.class))).thenReturn(vueloTest);
+            when(vueloMapper.toDTO(any(Vuelo.class))).thenReturn(vueLoDTOTest);
+
+            // Act
+            vueloService.aprobarSolicitud(1L, dto);
+
+            // Assert
+            verify(registroRetenciones).retener(eq(vueloTest.getId()), any(), any(), eq(1L), eq(List.of(1L)),
+                    eq(vueloTest.getFechaSalidaProgramada()), eq(vueloTest.getFechaLlegadaProgramada()));
+            assertEquals(EstadoVuelo.CONFIRMADO, vueloTest.getEstado());
+        }
+
+        @Test
+        @DisplayName("Aprobar solicitud con recursos retenidos por otro vuelo lanza excepción")
+        void aprobarSolicitud_RecursosRetenidosPorOtroVuelo_LanzaExcepcion() {
+            // Arrange
+            vueloTest.setEstado(EstadoVuelo.SOLICITADO);
+            SolicitudAprobacionDTO dto = SolicitudAprobacionDTO.builder().aeronaveId(1L).build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(cacheAeronaves.buscarPorId(1L)).thenReturn(Optional.of(
+                    AeronaveDTO.builder().id(1L).modelo(aeronaveTest.getModelo()).build()));
+            when(registroRetenciones.retener(any(), any(), any(), any(), any(), any(), any()))
+                    .thenThrow(new ConflictoDisponibilidadException("La aeronave está retenida temporalmente"));
+
+            // Act & Assert
+            assertThrows(ConflictoDisponibilidadException.class, () -> vueloService.aprobarSolicitud(1L, dto));
+            assertEquals(EstadoVuelo.SOLICITADO, vueloTest.getEstado());
+            verify(vueloRepository, never()).save(any(Vuelo.class));
+        }
     }
 
     @Nested
@@ -739,6 +960,35 @@ class VueloServiceTest {
             verify(historialVueloRepository).save(any(HistorialVuelo.class));
         }
 
+        @Test
+        @DisplayName("Las observaciones de la asignación se registran como nota sin modificar el vuelo")
+        void asignarAeronave_ConObservaciones_RegistraNota() {
+            // Arrange
+            vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
+            AsignacionAeronaveDTO dto = AsignacionAeronaveDTO.builder()
+                    .aeronaveId(1L)
+                    .observaciones("  Requiere catering especial ")
+                    .build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(vueloRepository.findVuelosEnRangoPorAeronave(anyLong(), any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
+            when(vueloRepository.save(any(Vuelo.class))).thenReturn(vueloTest);
+            when(vueloMapper.toDTO(any(Vuelo.class))).thenReturn(vueLoDTOTest);
+
+            // Act
+            vueloService.asignarAeronave(1L, dto);
+
+            // Assert
+            ArgumentCaptor<NotaVuelo> captor = ArgumentCaptor.forClass(NotaVuelo.class);
+            verify(notaVueloRepository).save(captor.capture());
+            assertEquals(TipoNotaVuelo.ASIGNACION_AERONAVE, captor.getValue().getTipo());
+            assertEquals("Requiere catering especial", captor.getValue().getTexto());
+            assertSame(vueloTest, captor.getValue().getVuelo());
+            assertEquals("Sin observaciones", vueloTest.getObservaciones());
+        }
+
         @Test
         @DisplayName("Asignar aeronave en mantenimiento lanza excepción")
         void asignarAeronave_ConAeronaveEnMantenimiento_LanzaExcepcion() {
@@ -788,7 +1038,13 @@ class VueloServiceTest {
             vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
             vueloTest.setId(1L);
             
-            Vuelo vueloConflicto = Vuelo.builder().id(2L).build();
+            Vuelo vueloConflicto = Vuelo.builder()
+                    .id(2L)
+                    .origen("Bogotá")
+                    .destino("Cartagena")
+                    .fechaSalidaProgramada(vueloTest.getFechaSalidaProgramada().plusHours(1))
+                    .fechaLlegadaProgramada(vueloTest.getFechaLlegadaProgramada().plusHours(1))
+                    .build();
             AsignacionAeronaveDTO dto = AsignacionAeronaveDTO.builder()
                     .aeronaveId(1L)
                     .build();
@@ -806,6 +1062,218 @@ class VueloServiceTest {
             assertTrue(exception.getMessage().contains("conflictos de horario"));
         }
 
+        @Test
+        @DisplayName("Asignar aeronave sin tiempo de rotación tras el vuelo anterior lanza excepción")
+        void asignarAeronave_SinTiempoDeRotacion_LanzaExcepcion() {
+            // Arrange - el vuelo anterior aterriza en Cartagena 10 minutos antes de la salida
+            vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
+            Vuelo anterior = Vuelo.builder()
+                    .id(2L)
+                    .origen("Bogotá")
+                    .destino("Cartagena")
+                    .fechaSalidaProgramada(vueloTest.getFechaSalidaProgramada().minusHours(2))
+                    .fechaLlegadaProgramada(vueloTest.getFechaSalidaProgramada().minusMinutes(10))
+                    .build();
+            AsignacionAeronaveDTO dto = AsignacionAeronaveDTO.builder()
+                    .aeronaveId(1L)
+                    .build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(vueloRepository.findVuelosEnRangoPorAeronave(eq(1L), any(), any(), any()))
+                    .thenReturn(List.of(anterior));
+
+            // Act & Assert
+            assertThrows(ConflictoDisponibilidadException.class, () -> vueloService.asignarAeronave(1L, dto));
+            // La consulta se amplía con la rotación (30) y el mayor reposicionamiento (120)
+            verify(vueloRepository).findVuelosEnRangoPorAeronave(eq(1L),
+                    eq(vueloTest.getFechaSalidaProgramada().minusMinutes(150)),
+                    eq(vueloTest.getFechaLlegadaProgramada().plusMinutes(150)), any());
+        }
+
+        @Test
+        @DisplayName("Asignar aeronave que debe reposicionarse desde otra ciudad sin tiempo suficiente lanza excepción")
+        void asignarAeronave_SinTiempoDeReposicionamiento_LanzaExcepcion() {
+            // Arrange - el vuelo anterior aterriza en Medellín una hora antes de la salida desde Cartagena
+            vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
+            Vuelo anterior = Vuelo.builder()
+                    .id(2L)
+                    .origen("Bogotá")
+                    .destino("Medellín")
+                    .fechaSalidaProgramada(vueloTest.getFechaSalidaProgramada().minusHours(2))
+                    .fechaLlegadaProgramada(vueloTest.getFechaSalidaProgramada().minusHours(1))
+                    .build();
+            AsignacionAeronaveDTO dto = AsignacionAeronaveDTO.builder()
+                    .aeronaveId(1L)
+                    .build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(vueloRepository.findVuelosEnRangoPorAeronave(eq(1L), any(), any(), any()))
+                    .thenReturn(List.of(anterior));
+
+            // Act & Assert
+            assertThrows(ConflictoDisponibilidadException.class, () -> vueloService.asignarAeronave(1L, dto));
+        }
+
+        @Test
+        @DisplayName("Asignar aeronave con rotación suficiente en la misma ciudad asigna exitosamente")
+        void asignarAeronave_ConRotacionSuficiente_AsignaExitosamente() {
+            // Arrange - el vuelo anterior aterriza en Cartagena una hora antes de la salida
+            vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
+            Vuelo anterior = Vuelo.builder()
+                    .id(2L)
+                    .origen("Bogotá")
+                    .destino("Cartagena")
+                    .fechaSalidaProgramada(vueloTest.getFechaSalidaProgramada().minusHours(2))
+                    .fechaLlegadaProgramada(vueloTest.getFechaSalidaProgramada().minusHours(1))
+                    .build();
+            AsignacionAeronaveDTO dto = AsignacionAeronaveDTO.builder()
+                    .aeronaveId(1L)
+                    .build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(vueloRepository.findVuelosEnRangoPorAeronave(eq(1L), any(), any(), any()))
+                    .thenReturn(List.of(anterior));
+            when(vueloRepository.save(any(Vuelo.class))).thenReturn(vueloTest);
+            when(vueloMapper.toDTO(any(Vuelo.class))).thenReturn(vueLoDTOTest);
+
+            // Act
+            vueloService.asignarAeronave(1L, dto);
+
+            // Assert
+            assertEquals(aeronaveTest, vueloTest.getAeronave());
+        }
+
+        @Test
+        @DisplayName("Asignar aeronave retenida para otro vuelo pendiente de pago lanza excepción")
+        void asignarAeronave_RetenidaPorOtroVuelo_LanzaExcepcion() {
+            // Arrange
+            vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
+            vueloTest.setId(1L);
+            AsignacionAeronaveDTO dto = AsignacionAeronaveDTO.builder()
+                    .aeronaveId(1L)
+                    .build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(registroRetenciones.buscarPorAeronave(eq(1L), any(), any(), eq(1L)))
+                    .thenReturn(List.of(mock(Retencion.class)));
+
+            // Act & Assert
+            ConflictoDisponibilidadException exception = assertThrows(
+                    ConflictoDisponibilidadException.class,
+                    () -> vueloService.asignarAeronave(1L, dto)
+            );
+            assertTrue(exception.getMessage().contains("retenida"));
+            verify(vueloRepository, never()).save(any(Vuelo.class));
+        }
+
+        @Test
+        @DisplayName("Asignar aeronave con índice de agenda sin solapamiento no consulta la base de datos")
+        void asignarAeronave_IndiceSinSolapamiento_NoConsultaBaseDatos() {
+            // Arrange
+            vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
+            AsignacionAeronaveDTO dto = AsignacionAeronaveDTO.builder()
+                    .aeronaveId(1L)
+                    .build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(restriccionesAgenda.aeronavesProtegidas()).thenReturn(true);
+            when(indiceAgenda.estaCargado()).thenReturn(true);
+            when(indiceAgenda.hayConflictoOperativo(eq(1L), any(), any(), eq(1L))).thenReturn(false);
+            when(vueloRepository.save(any(Vuelo.class))).thenReturn(vueloTest);
+            when(vueloMapper.toDTO(any(Vuelo.class))).thenReturn(vueLoDTOTest);
+
+            // Act
+            vueloService.asignarAeronave(1L, dto);
+
+            // Assert
+            verify(vueloRepository, never()).findVuelosEnRangoPorAeronave(anyLong(), any(), any(), any());
+            verify(indiceAgenda).actualizarVuelo(vueloTest);
+        }
+
+        @Test
+        @DisplayName("Asignar aeronave con falso positivo del índice de agenda verifica en base de datos")
+        void asignarAeronave_IndiceConFalsoPositivo_AsignaTrasVerificar() {
+            // Arrange
+            vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
+            AsignacionAeronaveDTO dto = AsignacionAeronaveDTO.builder()
+                    .aeronaveId(1L)
+                    .build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(restriccionesAgenda.aeronavesProtegidas()).thenReturn(true);
+            when(indiceAgenda.estaCargado()).thenReturn(true);
+            when(indiceAgenda.hayConflictoOperativo(eq(1L), any(), any(), eq(1L))).thenReturn(true);
+            when(vueloRepository.findVuelosEnRangoPorAeronave(anyLong(), any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
+            when(vueloRepository.save(any(Vuelo.class))).thenReturn(vueloTest);
+            when(vueloMapper.toDTO(any(Vuelo.class))).thenReturn(vueLoDTOTest);
+
+            // Act
+            VueloDTO resultado = vueloService.asignarAeronave(1L, dto);
+
+            // Assert
+            assertNotNull(resultado);
+            assertEquals(aeronaveTest, vueloTest.getAeronave());
+        }
+
+        @Test
+        @DisplayName("Asignar aeronave sin restricción de exclusión bloquea la aeronave y verifica en base de datos")
+        void asignarAeronave_SinRestriccionExclusion_BloqueaYConsultaBaseDatos() {
+            // Arrange
+            vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
+            AsignacionAeronaveDTO dto = AsignacionAeronaveDTO.builder()
+                    .aeronaveId(1L)
+                    .build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(vueloRepository.findVuelosEnRangoPorAeronave(anyLong(), any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
+            when(vueloRepository.save(any(Vuelo.class))).thenReturn(vueloTest);
+            when(vueloMapper.toDTO(any(Vuelo.class))).thenReturn(vueLoDTOTest);
+
+            // Act
+            vueloService.asignarAeronave(1L, dto);
+
+            // Assert
+            verify(bloqueoRecursos).bloquear(List.of(1L), List.of());
+            verify(aeronaveRepository).bloquearPorId(1L);
+            verify(indiceAgenda, never()).hayConflictoOperativo(anyLong(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Asignar aeronave rechazada por la restricción de exclusión lanza excepción de conflicto")
+        void asignarAeronave_RestriccionExclusionViolada_LanzaExcepcion() {
+            // Arrange
+            vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
+            AsignacionAeronaveDTO dto = AsignacionAeronaveDTO.builder()
+                    .aeronaveId(1L)
+                    .build();
+
+            when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
+            when(aeronaveRepository.findById(1L)).thenReturn(Optional.of(aeronaveTest));
+            when(restriccionesAgenda.aeronavesProtegidas()).thenReturn(true);
+            when(vueloRepository.findVuelosEnRangoPorAeronave(anyLong(), any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
+            when(vueloRepository.save(any(Vuelo.class))).thenReturn(vueloTest);
+            doThrow(new DataIntegrityViolationException(
+                    "conflicting key value violates exclusion constraint \"ex_vuelos_aeronave_rango\""))
+                    .when(vueloRepository).flush();
+
+            // Act & Assert
+            assertThrows(ConflictoDisponibilidadException.class,
+                    () -> vueloService.asignarAeronave(1L, dto));
+            verify(aeronaveRepository, never()).bloquearPorId(anyLong());
+            verify(indiceAgenda, never()).actualizarVuelo(any());
+            verify(historialVueloRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("Asignar aeronave inexistente lanza excepción")
         void asignarAeronave_ConAeronaveInexistente_LanzaExcepcion() {
@@ -841,9 +1309,9 @@ class VueloServiceTest {
                     .build();
 
             when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
-            when(tripulanteRepository.findById(1L)).thenReturn(Optional.of(tripulantePilotoTest));
-            when(tripulanteRepository.findById(2L)).thenReturn(Optional.of(tripulanteAuxiliarTest));
-            when(vueloRepository.findVuelosEnRangoPorTripulante(anyLong(), any(), any(), any()))
+            when(tripulanteRepository.findAllConUsuarioByIdIn(anyCollection()))
+                    .thenReturn(List.of(tripulantePilotoTest, tripulanteAuxiliarTest));
+            when(vueloRepository.findConflictosTripulantesEnRango(anyCollection(), any(), any(), any()))
                     .thenReturn(Collections.emptyList());
             when(vueloRepository.save(any(Vuelo.class))).thenReturn(vueloTest);
             when(vueloMapper.toDTO(any(Vuelo.class))).thenReturn(vueLoDTOTest);
@@ -855,6 +1323,8 @@ class VueloServiceTest {
             assertNotNull(resultado);
             assertEquals(2, vueloTest.getTripulacion().size());
             verify(historialVueloRepository).save(any(HistorialVuelo.class));
+            verify(bloqueoRecursos).bloquear(List.of(), List.of(1L, 2L));
+            verify(tripulanteRepository).bloquearPorIds(List.of(1L, 2L));
         }
 
         @Test
@@ -867,9 +1337,8 @@ class VueloServiceTest {
                     .build();
 
             when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
-            when(tripulanteRepository.findById(2L)).thenReturn(Optional.of(tripulanteAuxiliarTest));
-            when(vueloRepository.findVuelosEnRangoPorTripulante(anyLong(), any(), any(), any()))
-                    .thenReturn(Collections.emptyList());
+            when(tripulanteRepository.findAllConUsuarioByIdIn(anyCollection()))
+                    .thenReturn(List.of(tripulanteAuxiliarTest));
 
             // Act & Assert
             AsignacionInvalidaException exception = assertThrows(
@@ -890,7 +1359,8 @@ class VueloServiceTest {
                     .build();
 
             when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
-            when(tripulanteRepository.findById(1L)).thenReturn(Optional.of(tripulantePilotoTest));
+            when(tripulanteRepository.findAllConUsuarioByIdIn(anyCollection()))
+                    .thenReturn(List.of(tripulantePilotoTest));
 
             // Act & Assert
             AsignacionInvalidaException exception = assertThrows(
@@ -906,15 +1376,17 @@ class VueloServiceTest {
             // Arrange
             vueloTest.setEstado(EstadoVuelo.CONFIRMADO);
             vueloTest.setId(1L);
-            Vuelo vueloConflicto = Vuelo.builder().id(2L).build();
+            ConflictoTripulanteVuelo conflicto = new ConflictoTripulanteVuelo(
+                    1L, 2L, "Bogotá", "Medellín", null, null, EstadoVuelo.CONFIRMADO);
             AsignacionTripulacionDTO dto = AsignacionTripulacionDTO.builder()
                     .tripulanteIds(List.of(1L))
                     .build();
 
             when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
-            when(tripulanteRepository.findById(1L)).thenReturn(Optional.of(tripulantePilotoTest));
-            when(vueloRepository.findVuelosEnRangoPorTripulante(anyLong(), any(), any(), any()))
-                    .thenReturn(List.of(vueloConflicto));
+            when(tripulanteRepository.findAllConUsuarioByIdIn(anyCollection()))
+                    .thenReturn(List.of(tripulantePilotoTest));
+            when(vueloRepository.findConflictosTripulantesEnRango(anyCollection(), any(), any(), any()))
+                    .thenReturn(List.of(conflicto));
 
             // Act & Assert
             ConflictoDisponibilidadException exception = assertThrows(
@@ -935,7 +1407,8 @@ class VueloServiceTest {
                     .build();
 
             when(vueloRepository.findById(1L)).thenReturn(Optional.of(vueloTest));
-            when(tripulanteRepository.findById(1L)).thenReturn(Optional.of(tripulantePilotoTest));
+            when(tripulanteRepository.findAllConUsuarioByIdIn(anyCollection()))
+                    .thenReturn(List.of(tripulantePilotoTest));
 
             // Act & Assert
             AsignacionInvalidaException exception = assertThrows(
@@ -1009,6 +1482,225 @@ class VueloServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Notas Vuelo Tests")
+    class NotasVueloTests {
+
+        @Test
+        @DisplayName("Obtener notas retorna la página y el cursor de la siguiente")
+        void obtenerNotas_ConMasNotas_RetornaCursor() {
+            // Arrange
+            List<NotaVueloDTO> notas = List.of(
+                    NotaVueloDTO.builder().id(30L).build(),
+                    NotaVueloDTO.builder().id(20L).build(),
+                    NotaVueloDTO.builder().id(10L).build());
+            when(vueloRepository.existsById(1L)).thenReturn(true);
+            when(notaVueloRepository.findPaginaByVueloId(eq(1L), isNull(), argThat(p -> p.getPageSize() == 3)))
+                    .thenReturn(notas);
+
+            // Act
+            PaginaNotasVueloDTO pagina = vueloService.obtenerNotas(1L, null, 2);
+
+            // Assert
+            assertEquals(2, pagina.getNotas().size());
+            assertTrue(pagina.isHayMas());
+            assertEquals(20L, pagina.getSiguienteCursor());
+        }
+
+        @Test
+        @DisplayName("Agregar una nota a un vuelo inexistente lanza excepción")
+        void agregarNota_VueloInexistente_LanzaExcepcion() {
+            // Arrange
+            when(vueloRepository.existsById(999L)).thenReturn(false);
+            NotaVueloCreateDTO dto = NotaVueloCreateDTO.builder().texto("Pasajero con movilidad reducida").build();
+
+            // Act & Assert
+            assertThrows(VueloNoEncontradoException.class, () -> vueloService.agregarNota(999L, dto));
+            verify(notaVueloRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Transición Masiva Tests")
+    class TransicionMasivaTests {
+
+        @BeforeEach
+        void setUp() {
+            when(transactionTemplate.execute(any())).thenAnswer(invocacion ->
+                    invocacion.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        }
+
+        @Test
+        @DisplayName("Aplica las transiciones válidas y reporta el error de cada vuelo inválido")
+        void aplicarTransicionMasiva_VuelosMixtos_ResultadoPorVuelo() {
+            // Arrange
+            when(vueloRepository.findConAeronaveByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                    vueloEnEstado(1L, EstadoVuelo.SOLICITADO), vueloEnEstado(2L, EstadoVuelo.COMPLETADO)));
+            TransicionMasivaDTO dto = TransicionMasivaDTO.builder()
+                    .vueloIds(List.of(1L, 2L, 3L, 1L))
+                    .nuevoEstado(EstadoVuelo.CONFIRMADO)
+                    .build();
+
+            // Act
+            ResultadoTransicionMasivaDTO resultado = vueloService.aplicarTransicionMasiva(dto);
+
+            // Assert
+            assertEquals(3, resultado.getTotal());
+            assertEquals(1, resultado.getAplicadas());
+            assertEquals(2, resultado.getFallidas());
+            assertEquals(1, resultado.getLotes());
+            assertTrue(resultado.getResultados().get(0).isAplicada());
+            assertEquals(EstadoVuelo.SOLICITADO, resultado.getResultados().get(0).getEstadoAnterior());
+            assertFalse(resultado.getResultados().get(1).isAplicada());
+            assertEquals("Vuelo no encontrado con ID: 3", resultado.getResultados().get(2).getError());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Object[]>> filas = ArgumentCaptor.forClass((Class<List<Object[]>>) (Class<?>) List.class);
+            verify(jdbcTemplate).batchUpdate(anyString(), filas.capture());
+            assertEquals(1, filas.getValue().size());
+            assertEquals("APROBACION", filas.getValue().get(0)[3]);
+            verify(historialVueloRepository, never()).save(any());
+            verify(registroRetenciones, never()).liberar(anyLong());
+        }
+
+        @Test
+        @DisplayName("Procesa los vuelos en lotes con una transacción e inserción de historial por lote")
+        void aplicarTransicionMasiva_MasVuelosQueElLote_DivideEnLotes() {
+            // Arrange
+            ReflectionTestUtils.setField(vueloService, "tamanoLoteTransiciones", 2);
+            when(vueloRepository.findConAeronaveByIdIn(anyCollection())).thenAnswer(invocacion ->
+                    invocacion.<List<Long>>getArgument(0).stream()
+                            .map(id -> vueloEnEstado(id, EstadoVuelo.CONFIRMADO))
+                            .toList());
+            TransicionMasivaDTO dto = TransicionMasivaDTO.builder()
+                    .vueloIds(List.of(1L, 2L, 3L, 4L, 5L))
+                    .nuevoEstado(EstadoVuelo.CANCELADO)
+                    .build();
+
+            // Act
+            ResultadoTransicionMasivaDTO resultado = vueloService.aplicarTransicionMasiva(dto);
+
+            // Assert
+            assertEquals(5, resultado.getAplicadas());
+            assertEquals(3, resultado.getLotes());
+            verify(transactionTemplate, times(3)).execute(any());
+            verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList());
+            verify(registroRetenciones, times(5)).liberar(anyLong());
+        }
+
+        @Test
+        @DisplayName("Completar vuelos en lote registra las horas de cada vuelo completado")
+        void aplicarTransicionMasiva_Completar_RegistraHoras() {
+            // Arrange
+            Vuelo enCurso = vueloEnEstado(1L, EstadoVuelo.EN_CURSO);
+            Vuelo otroEnCurso = vueloEnEstado(2L, EstadoVuelo.EN_CURSO);
+            when(vueloRepository.findConAeronaveByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                    enCurso, otroEnCurso, vueloEnEstado(3L, EstadoVuelo.CONFIRMADO)));
+            TransicionMasivaDTO dto = TransicionMasivaDTO.builder()
+                    .vueloIds(List.of(1L, 2L, 3L))
+                    .nuevoEstado(EstadoVuelo.COMPLETADO)
+                    .build();
+
+            // Act
+            ResultadoTransicionMasivaDTO resultado = vueloService.aplicarTransicionMasiva(dto);
+
+            // Assert
+            assertEquals(2, resultado.getAplicadas());
+            verify(registroHoras).registrarVueloCompletado(enCurso);
+            verify(registroHoras).registrarVueloCompletado(otroEnCurso);
+            verifyNoMoreInteractions(registroHoras);
+        }
+
+        @Test
+        @DisplayName("Rechazar en lote libera la retención de los vuelos rechazados, igual que el cambio individual")
+        void aplicarTransicionMasiva_Rechazo_LiberaRetenciones() {
+            // Arrange
+            when(vueloRepository.findConAeronaveByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                    vueloEnEstado(1L, EstadoVuelo.SOLICITADO), vueloEnEstado(2L, EstadoVuelo.COMPLETADO)));
+            TransicionMasivaDTO dto = TransicionMasivaDTO.builder()
+                    .vueloIds(List.of(1L, 2L))
+                    .nuevoEstado(EstadoVuelo.CANCELADO)
+                    .motivo("Sin disponibilidad")
+                    .build();
+
+            // Act
+            ResultadoTransicionMasivaDTO resultado = vueloService.aplicarTransicionMasiva(dto);
+
+            // Assert
+            assertEquals(1, resultado.getAplicadas());
+            verify(registroRetenciones).liberar(1L);
+            verify(registroRetenciones, never()).liberar(2L);
+            verify(indiceAgenda).actualizarVuelo(argThat(v -> v.getId().equals(1L)));
+            verify(pronosticoMantenimiento).actualizarVuelo(argThat(v -> v.getId().equals(1L)));
+        }
+
+        @Test
+        @DisplayName("Rechazar solicitudes sin motivo no aplica la transición")
+        void aplicarTransicionMasiva_RechazoSinMotivo_Falla() {
+            // Arrange
+            when(vueloRepository.findConAeronaveByIdIn(List.of(1L)))
+                    .thenReturn(List.of(vueloEnEstado(1L, EstadoVuelo.SOLICITADO)));
+            TransicionMasivaDTO dto = TransicionMasivaDTO.builder()
+                    .vueloIds(List.of(1L))
+                    .nuevoEstado(EstadoVuelo.CANCELADO)
+                    .motivo(" ")
+                    .build();
+
+            // Act
+            ResultadoTransicionMasivaDTO resultado = vueloService.aplicarTransicionMasiva(dto);
+
+            // Assert
+            assertEquals(1, resultado.getFallidas());
+            assertEquals("El motivo del rechazo es obligatorio", resultado.getResultados().get(0).getError());
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        }
+
+        @Test
+        @DisplayName("Si el lote falla al confirmarse se reintenta vuelo por vuelo")
+        void aplicarTransicionMasiva_LoteFalla_ReintentaPorVuelo() {
+            // Arrange
+            when(vueloRepository.findConAeronaveByIdIn(anyCollection())).thenAnswer(invocacion ->
+                    invocacion.<List<Long>>getArgument(0).stream()
+                            .map(id -> vueloEnEstado(id, EstadoVuelo.SOLICITADO))
+                            .toList());
+            when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocacion -> {
+                List<Object[]> filas = invocacion.getArgument(1);
+                if (filas.stream().anyMatch(fila -> fila[0].equals(2L))) {
+                    throw new DataIntegrityViolationException("Violación de integridad");
+                }
+                return new int[filas.size()];
+            });
+            TransicionMasivaDTO dto = TransicionMasivaDTO.builder()
+                    .vueloIds(List.of(1L, 2L))
+                    .nuevoEstado(EstadoVuelo.CONFIRMADO)
+                    .build();
+
+            // Act
+            ResultadoTransicionMasivaDTO resultado = vueloService.aplicarTransicionMasiva(dto);
+
+            // Assert
+            assertEquals(1, resultado.getAplicadas());
+            assertEquals(1, resultado.getFallidas());
+            assertEquals(1L, resultado.getResultados().get(0).getVueloId());
+            assertTrue(resultado.getResultados().get(0).isAplicada());
+            assertEquals("Violación de integridad", resultado.getResultados().get(1).getError());
+            verify(transactionTemplate, times(3)).execute(any());
+        }
+
+        private Vuelo vueloEnEstado(Long id, EstadoVuelo estado) {
+            return Vuelo.builder()
+                    .id(id)
+                    .usuario(usuarioTest)
+                    .origen("Cartagena")
+                    .destino("Bogotá")
+                    .fechaSalidaProgramada(LocalDateTime.now().plusHours(2))
+                    .fechaLlegadaProgramada(LocalDateTime.now().plusHours(4))
+                    .numeroPasajeros(10)
+                    .estado(estado)
+                    .build();
+        }
+    }
+
     @Nested
     @DisplayName("Obtener Vuelos Por Usuario Tests")
     class ObtenerVuelosPorUsuarioTests {
@@ -1017,34 +1709,30 @@ class VueloServiceTest {
         @DisplayName("Obtener vuelos de un usuario")
         void obtenerVuelosPorUsuario_RetornaVuelosDelUsuario() {
             // Arrange
-            List<Vuelo> vuelos = List.of(vueloTest);
-            List<VueloDTO> vuelosDTO = List.of(vueLoDTOTest);
-
-            when(vueloRepository.findByUsuarioId(1L)).thenReturn(vuelos);
-            when(vueloMapper.toDTOList(vuelos)).thenReturn(vuelosDTO);
+            when(vueloRepository.buscarPagina(argThat(f -> Long.valueOf(1L).equals(f.getUsuarioId())),
+                    isNull(), isNull(), anyInt())).thenReturn(List.of(vueLoDTOTest));
 
             // Act
-            List<VueloDTO> resultado = vueloService.obtenerVuelosPorUsuario(1L);
+            PaginaVuelosDTO resultado = vueloService.obtenerVuelosPorUsuario(1L, null, null);
 
             // Assert
             assertNotNull(resultado);
-            assertEquals(1, resultado.size());
-            verify(vueloRepository).findByUsuarioId(1L);
+            assertEquals(1, resultado.getVuelos().size());
         }
 
         @Test
         @DisplayName("Obtener vuelos de usuario sin vuelos retorna lista vacía")
         void obtenerVuelosPorUsuario_SinVuelos_RetornaListaVacia() {
             // Arrange
-            when(vueloRepository.findByUsuarioId(999L)).thenReturn(Collections.emptyList());
-            when(vueloMapper.toDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
+            when(vueloRepository.buscarPagina(argThat(f -> Long.valueOf(999L).equals(f.getUsuarioId())),
+                    isNull(), isNull(), anyInt())).thenReturn(Collections.emptyList());
 
             // Act
-            List<VueloDTO> resultado = vueloService.obtenerVuelosPorUsuario(999L);
+            PaginaVuelosDTO resultado = vueloService.obtenerVuelosPorUsuario(999L, null, null);
 
             // Assert
             assertNotNull(resultado);
-            assertTrue(resultado.isEmpty());
+            assertTrue(resultado.getVuelos().isEmpty());
         }
     }
 }